@@ -11,10 +11,9 @@ import io.github.mohmk10.changeloghub.core.model.ApiSpec;
 import io.github.mohmk10.changeloghub.core.model.Change;
 import io.github.mohmk10.changeloghub.core.model.Changelog;
 import io.github.mohmk10.changeloghub.core.model.Severity;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
 import io.github.mohmk10.changeloghub.core.service.AnalysisService;
 import io.github.mohmk10.changeloghub.core.service.impl.DefaultAnalysisService;
-import io.github.mohmk10.changeloghub.parser.openapi.OpenApiParser;
-import io.github.mohmk10.changeloghub.parser.openapi.impl.DefaultOpenApiParser;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,19 +26,19 @@ public class ComparisonService {
 
     private final ComparisonRepository comparisonRepository;
     private final ObjectMapper objectMapper;
-    private final OpenApiParser openApiParser;
+    private final SpecParserRegistry parserRegistry;
     private final AnalysisService analysisService;
 
     public ComparisonService(ComparisonRepository comparisonRepository, ObjectMapper objectMapper) {
         this.comparisonRepository = comparisonRepository;
         this.objectMapper = objectMapper;
-        this.openApiParser = new DefaultOpenApiParser();
+        this.parserRegistry = SpecParserRegistry.getDefault();
         this.analysisService = new DefaultAnalysisService();
     }
 
     public ComparisonResponse compare(ComparisonRequest request) {
-        ApiSpec oldSpec = openApiParser.parse(request.getOldSpec());
-        ApiSpec newSpec = openApiParser.parse(request.getNewSpec());
+        ApiSpec oldSpec = parserRegistry.parse(request.getOldSpec(), request.getOldSpecName());
+        ApiSpec newSpec = parserRegistry.parse(request.getNewSpec(), request.getNewSpecName());
         Changelog changelog = analysisService.analyze(oldSpec, newSpec);
         return buildResponse(changelog, request.getOldSpecName(), request.getNewSpecName(), request.getFormat());
     }
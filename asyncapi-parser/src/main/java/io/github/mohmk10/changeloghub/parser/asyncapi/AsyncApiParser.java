@@ -6,6 +6,7 @@ import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncApiSpec;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
 
 public interface AsyncApiParser {
 
@@ -21,6 +22,10 @@ public interface AsyncApiParser {
 
     AsyncApiSpec parse(InputStream inputStream) throws AsyncApiParseException;
 
+    Map<String, AsyncApiSpec> parseWorkspace(File directory) throws AsyncApiParseException;
+
+    AsyncApiSpec parseWorkspaceMerged(File directory) throws AsyncApiParseException;
+
     boolean isValid(String content);
 
     String detectVersion(String content);
@@ -0,0 +1,60 @@
+package io.github.mohmk10.changeloghub.parser.asyncapi;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import io.github.mohmk10.changeloghub.core.parser.SpecParser;
+import io.github.mohmk10.changeloghub.parser.asyncapi.mapper.AsyncApiModelMapper;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class AsyncApiSpecParser implements SpecParser {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final Pattern VERSION_PATTERN = Pattern.compile(
+            "[\"']?asyncapi[\"']?\\s*:\\s*[\"']?[23]\\.");
+
+    private final AsyncApiParser parser;
+    private final AsyncApiModelMapper modelMapper;
+
+    public AsyncApiSpecParser() {
+        this(new DefaultAsyncApiParser(), new AsyncApiModelMapper());
+    }
+
+    public AsyncApiSpecParser(AsyncApiParser parser, AsyncApiModelMapper modelMapper) {
+        this.parser = parser;
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public String getName() {
+        return "asyncapi";
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public ApiType getApiType() {
+        return ApiType.ASYNCAPI;
+    }
+
+    @Override
+    public int detect(String prefix, String fileName) {
+        if (VERSION_PATTERN.matcher(prefix).find()) {
+            return STRONG_MATCH;
+        }
+        if (fileName != null && fileName.toLowerCase(Locale.ROOT).contains("asyncapi")) {
+            return WEAK_MATCH;
+        }
+        return NO_MATCH;
+    }
+
+    @Override
+    public ApiSpec parse(String content, String fileName) {
+        return modelMapper.map(parser.parse(content));
+    }
+}
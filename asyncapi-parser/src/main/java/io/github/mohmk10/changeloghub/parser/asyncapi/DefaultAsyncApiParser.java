@@ -3,11 +3,13 @@ package io.github.mohmk10.changeloghub.parser.asyncapi;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.github.mohmk10.changeloghub.core.parser.WorkerPools;
 import io.github.mohmk10.changeloghub.parser.asyncapi.analyzer.*;
 import io.github.mohmk10.changeloghub.parser.asyncapi.exception.AsyncApiParseException;
 import io.github.mohmk10.changeloghub.parser.asyncapi.model.*;
 import io.github.mohmk10.changeloghub.parser.asyncapi.util.AsyncApiConstants;
 import io.github.mohmk10.changeloghub.parser.asyncapi.util.AsyncApiVersion;
+import io.github.mohmk10.changeloghub.parser.asyncapi.util.JsonPointerIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,12 +17,21 @@ import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class DefaultAsyncApiParser implements AsyncApiParser {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultAsyncApiParser.class);
 
+    private static final Set<String> WORKSPACE_EXTENSIONS = Set.of(".yaml", ".yml", ".json");
+    private static final Pattern ASYNCAPI_ROOT_KEY = Pattern.compile("(?m)^\\s*(\\{\\s*)?[\"']?asyncapi[\"']?\\s*:");
+
     private final ObjectMapper yamlMapper;
     private final ObjectMapper jsonMapper;
     private final ChannelAnalyzer channelAnalyzer;
@@ -28,8 +39,15 @@ public class DefaultAsyncApiParser implements AsyncApiParser {
     private final ServerAnalyzer serverAnalyzer;
     private final MessageAnalyzer messageAnalyzer;
     private final SchemaAnalyzer schemaAnalyzer;
+    private final SharedComponentCache componentCache;
+    private final AsyncApiSpecMerger specMerger;
+    private final int parallelism;
 
     public DefaultAsyncApiParser() {
+        this(new SharedComponentCache(), Runtime.getRuntime().availableProcessors());
+    }
+
+    public DefaultAsyncApiParser(SharedComponentCache componentCache, int parallelism) {
         this.yamlMapper = new ObjectMapper(new YAMLFactory());
         this.jsonMapper = new ObjectMapper();
         this.schemaAnalyzer = new SchemaAnalyzer();
@@ -37,17 +55,24 @@ public class DefaultAsyncApiParser implements AsyncApiParser {
         this.operationAnalyzer = new OperationAnalyzer(messageAnalyzer);
         this.channelAnalyzer = new ChannelAnalyzer(operationAnalyzer, messageAnalyzer, schemaAnalyzer);
         this.serverAnalyzer = new ServerAnalyzer();
+        this.componentCache = componentCache;
+        this.specMerger = new AsyncApiSpecMerger();
+        this.parallelism = Math.max(1, parallelism);
     }
 
     @Override
     public AsyncApiSpec parse(String content) throws AsyncApiParseException {
+        return parse(content, null);
+    }
+
+    private AsyncApiSpec parse(String content, Path baseDirectory) throws AsyncApiParseException {
         if (content == null || content.trim().isEmpty()) {
             throw new AsyncApiParseException("Content cannot be null or empty");
         }
 
         try {
             JsonNode rootNode = parseToJsonNode(content);
-            return parseFromJsonNode(rootNode);
+            return parseFromJsonNode(rootNode, baseDirectory);
         } catch (AsyncApiParseException e) {
             throw e;
         } catch (Exception e) {
@@ -69,12 +94,107 @@ public class DefaultAsyncApiParser implements AsyncApiParser {
 
         try {
             String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
-            return parse(content);
+            return parse(content, file.getAbsoluteFile().toPath().getParent());
         } catch (IOException e) {
             throw new AsyncApiParseException("Failed to read file: " + file.getAbsolutePath(), e);
         }
     }
 
+    @Override
+    public Map<String, AsyncApiSpec> parseWorkspace(File directory) throws AsyncApiParseException {
+        if (directory == null || !directory.isDirectory()) {
+            throw new AsyncApiParseException("Workspace directory not found: "
+                    + (directory != null ? directory.getAbsolutePath() : "null"));
+        }
+
+        Path root = directory.getAbsoluteFile().toPath().normalize();
+        List<Path> candidates;
+        try (Stream<Path> paths = Files.walk(root)) {
+            candidates = paths
+                    .filter(Files::isRegularFile)
+                    .filter(DefaultAsyncApiParser::isWorkspaceFile)
+                    .sorted(Comparator.comparing(path -> relativeName(root, path)))
+                    .toList();
+        } catch (IOException e) {
+            throw new AsyncApiParseException("Failed to scan workspace: " + root, e);
+        }
+
+        Map<String, AsyncApiSpec> documents = new LinkedHashMap<>();
+        if (candidates.isEmpty()) {
+            return documents;
+        }
+
+        if (Math.min(parallelism, candidates.size()) <= 1) {
+            for (Path path : candidates) {
+                addWorkspaceDocument(documents, root, path, parseWorkspaceFile(path));
+            }
+        } else {
+            List<Callable<AsyncApiSpec>> tasks = new ArrayList<>(candidates.size());
+            for (Path path : candidates) {
+                tasks.add(() -> parseWorkspaceFile(path));
+            }
+
+            try {
+                List<Future<AsyncApiSpec>> futures = WorkerPools.forParallelism(parallelism).invokeAll(tasks);
+                for (int i = 0; i < futures.size(); i++) {
+                    Path path = candidates.get(i);
+                    try {
+                        addWorkspaceDocument(documents, root, path, futures.get(i).get());
+                    } catch (ExecutionException e) {
+                        if (e.getCause() instanceof AsyncApiParseException parseException) {
+                            throw parseException;
+                        }
+                        throw new AsyncApiParseException("Failed to parse file: " + path, e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AsyncApiParseException("Interrupted while parsing workspace: " + root, e);
+            }
+        }
+
+        logger.info("Parsed {} AsyncAPI documents from workspace {} ({} shared component files cached)",
+                documents.size(), root, componentCache.size());
+        return documents;
+    }
+
+    private static void addWorkspaceDocument(Map<String, AsyncApiSpec> documents, Path root, Path path,
+                                             AsyncApiSpec spec) {
+        if (spec != null) {
+            documents.put(relativeName(root, path), spec);
+        }
+    }
+
+    private AsyncApiSpec parseWorkspaceFile(Path path) throws AsyncApiParseException {
+        String content;
+        try {
+            content = Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new AsyncApiParseException("Failed to read file: " + path, e);
+        }
+        if (!ASYNCAPI_ROOT_KEY.matcher(content).find()) {
+            return null;
+        }
+        JsonNode rootNode = parseToJsonNode(content);
+        if (!rootNode.has(AsyncApiConstants.ASYNCAPI)) {
+            return null;
+        }
+        AsyncApiSpec spec = parseFromJsonNode(rootNode, path.getParent());
+        spec.setSourceFile(path.toString());
+        return spec;
+    }
+
+    @Override
+    public AsyncApiSpec parseWorkspaceMerged(File directory) throws AsyncApiParseException {
+        AsyncApiSpec merged = specMerger.merge(parseWorkspace(directory));
+        merged.setSourceFile(directory.getAbsolutePath());
+        return merged;
+    }
+
+    public SharedComponentCache getComponentCache() {
+        return componentCache;
+    }
+
     @Override
     public AsyncApiSpec parseFile(String filePath) throws AsyncApiParseException {
         if (filePath == null || filePath.trim().isEmpty()) {
@@ -171,22 +291,26 @@ public class DefaultAsyncApiParser implements AsyncApiParser {
     private JsonNode parseToJsonNode(String content) throws AsyncApiParseException {
         String trimmed = content.trim();
 
-        try {
-            return yamlMapper.readTree(content);
-        } catch (Exception yamlEx) {
-            
-            if (trimmed.startsWith("{")) {
+        if (trimmed.startsWith("{")) {
+            try {
+                return jsonMapper.readTree(content);
+            } catch (Exception jsonEx) {
                 try {
-                    return jsonMapper.readTree(content);
-                } catch (Exception jsonEx) {
+                    return yamlMapper.readTree(content);
+                } catch (Exception yamlEx) {
                     throw new AsyncApiParseException("Failed to parse content as YAML or JSON", jsonEx);
                 }
             }
+        }
+
+        try {
+            return yamlMapper.readTree(content);
+        } catch (Exception yamlEx) {
             throw new AsyncApiParseException("Failed to parse YAML content", yamlEx);
         }
     }
 
-    private AsyncApiSpec parseFromJsonNode(JsonNode rootNode) throws AsyncApiParseException {
+    private AsyncApiSpec parseFromJsonNode(JsonNode rootNode, Path baseDirectory) throws AsyncApiParseException {
         
         if (!rootNode.has(AsyncApiConstants.ASYNCAPI)) {
             throw new AsyncApiParseException("Missing required 'asyncapi' field");
@@ -232,7 +356,20 @@ public class DefaultAsyncApiParser implements AsyncApiParser {
             builder.externalDocs(parseExternalDocs(rootNode.get(AsyncApiConstants.EXTERNAL_DOCS)));
         }
 
-        return builder.build();
+        AsyncApiSpec spec = builder.build();
+        new ReferenceResolver(JsonPointerIndex.of(rootNode), schemaAnalyzer, messageAnalyzer,
+                baseDirectory, componentCache).resolve(spec);
+        return spec;
+    }
+
+    private static boolean isWorkspaceFile(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 && WORKSPACE_EXTENSIONS.contains(name.substring(dot));
+    }
+
+    private static String relativeName(Path root, Path path) {
+        return root.relativize(path).toString().replace(File.separatorChar, '/');
     }
 
     private void parseInfo(AsyncApiSpec.Builder builder, JsonNode infoNode) {
@@ -0,0 +1,66 @@
+package io.github.mohmk10.changeloghub.parser.asyncapi.analyzer;
+
+import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncApiSpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+public class AsyncApiSpecMerger {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncApiSpecMerger.class);
+
+    public AsyncApiSpec merge(Map<String, AsyncApiSpec> documents) {
+        AsyncApiSpec merged = new AsyncApiSpec();
+        AsyncApiSpec.Components components = new AsyncApiSpec.Components();
+        Set<String> tagNames = new HashSet<>();
+
+        for (Map.Entry<String, AsyncApiSpec> entry : documents.entrySet()) {
+            String document = entry.getKey();
+            AsyncApiSpec spec = entry.getValue();
+
+            if (merged.getVersion() == null) {
+                merged.setVersion(spec.getVersion());
+                merged.setRawVersion(spec.getRawVersion());
+                merged.setTitle(spec.getTitle());
+                merged.setApiVersion(spec.getApiVersion());
+                merged.setDescription(spec.getDescription());
+                merged.setDefaultContentType(spec.getDefaultContentType());
+            }
+
+            putAll(merged.getServers(), spec.getServers(), "server", document);
+            putAll(merged.getChannels(), spec.getChannels(), "channel", document);
+            putAll(merged.getOperations(), spec.getOperations(), "operation", document);
+
+            AsyncApiSpec.Components specComponents = spec.getComponents();
+            if (specComponents != null) {
+                putAll(components.getSchemas(), specComponents.getSchemas(), "schema", document);
+                putAll(components.getMessages(), specComponents.getMessages(), "message", document);
+                putAll(components.getSecuritySchemes(), specComponents.getSecuritySchemes(), "security scheme", document);
+                putAll(components.getParameters(), specComponents.getParameters(), "parameter", document);
+            }
+
+            for (AsyncApiSpec.Tag tag : spec.getTags()) {
+                if (tagNames.add(tag.getName())) {
+                    merged.getTags().add(tag);
+                }
+            }
+        }
+
+        merged.setComponents(components);
+        return merged;
+    }
+
+    private <T> void putAll(Map<String, T> target, Map<String, T> source, String kind, String document) {
+        if (source == null) {
+            return;
+        }
+        for (Map.Entry<String, T> entry : source.entrySet()) {
+            T existing = target.putIfAbsent(entry.getKey(), entry.getValue());
+            if (existing != null && existing != entry.getValue()) {
+                logger.debug("Keeping first definition of {} '{}', ignoring the one in {}",
+                        kind, entry.getKey(), document);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncMessage;
 import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncSchema;
 import io.github.mohmk10.changeloghub.parser.asyncapi.util.AsyncApiConstants;
+import io.github.mohmk10.changeloghub.parser.asyncapi.util.JsonPointerIndex;
 
 import java.util.*;
 
@@ -123,6 +124,24 @@ public class MessageAnalyzer {
         return AsyncMessage.builder().ref(ref).name(messageName).build();
     }
 
+    public AsyncMessage analyzeMessageRef(String ref, JsonPointerIndex index) {
+        if (ref == null || index == null) {
+            return AsyncMessage.builder().ref(ref).build();
+        }
+
+        String messageName = AsyncApiConstants.extractRefName(ref);
+        JsonNode messageNode = index.get(ref);
+        if (messageNode == null) {
+            return AsyncMessage.builder().ref(ref).name(messageName).build();
+        }
+
+        AsyncMessage resolved = analyzeMessage(messageName, messageNode);
+        if (resolved != null && resolved.getRef() == null) {
+            resolved.setRef(ref);
+        }
+        return resolved;
+    }
+
     public String getContentType(JsonNode messageNode) {
         if (messageNode == null) {
             return null;
@@ -0,0 +1,290 @@
+package io.github.mohmk10.changeloghub.parser.asyncapi.analyzer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.mohmk10.changeloghub.parser.asyncapi.model.*;
+import io.github.mohmk10.changeloghub.parser.asyncapi.util.AsyncApiConstants;
+import io.github.mohmk10.changeloghub.parser.asyncapi.util.JsonPointerIndex;
+
+import java.nio.file.Path;
+import java.util.*;
+
+public class ReferenceResolver {
+
+    private final JsonPointerIndex index;
+    private final SchemaAnalyzer schemaAnalyzer;
+    private final MessageAnalyzer messageAnalyzer;
+    private final Path baseDirectory;
+    private final SharedComponentCache componentCache;
+    private final Map<String, AsyncSchema> knownSchemas = new HashMap<>();
+    private final Map<String, AsyncMessage> knownMessages = new HashMap<>();
+    private final Map<String, AsyncSchema> resolvedSchemas = new HashMap<>();
+    private final Map<String, AsyncMessage> resolvedMessages = new HashMap<>();
+    private final Map<Path, ReferenceResolver> externalDocuments = new HashMap<>();
+    private final Set<String> inProgress = new HashSet<>();
+    private final Set<AsyncSchema> walkedSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int schemaAnalyses;
+
+    public ReferenceResolver(JsonPointerIndex index, SchemaAnalyzer schemaAnalyzer, MessageAnalyzer messageAnalyzer) {
+        this(index, schemaAnalyzer, messageAnalyzer, null, null);
+    }
+
+    public ReferenceResolver(JsonPointerIndex index, SchemaAnalyzer schemaAnalyzer, MessageAnalyzer messageAnalyzer,
+                             Path baseDirectory, SharedComponentCache componentCache) {
+        this.index = index;
+        this.schemaAnalyzer = schemaAnalyzer;
+        this.messageAnalyzer = messageAnalyzer;
+        this.baseDirectory = baseDirectory;
+        this.componentCache = componentCache;
+    }
+
+    public void resolve(AsyncApiSpec spec) {
+        AsyncApiSpec.Components components = spec.getComponents();
+        if (components != null) {
+            if (components.getSchemas() != null) {
+                components.getSchemas().forEach((name, schema) -> knownSchemas.put(
+                        JsonPointerIndex.pointer(AsyncApiConstants.COMPONENTS, AsyncApiConstants.SCHEMAS, name), schema));
+            }
+            if (components.getMessages() != null) {
+                components.getMessages().forEach((name, message) -> knownMessages.put(
+                        JsonPointerIndex.pointer(AsyncApiConstants.COMPONENTS, AsyncApiConstants.MESSAGES, name), message));
+            }
+        }
+        knownSchemas.keySet().forEach(this::resolveSchemaRef);
+        knownMessages.keySet().forEach(this::resolveMessageRef);
+
+        for (AsyncMessage message : spec.getAllMessages()) {
+            resolveMessage(message);
+        }
+
+        for (AsyncOperation operation : spec.getOperations().values()) {
+            for (AsyncMessage message : operation.getAllMessages()) {
+                resolveMessage(message);
+            }
+        }
+
+        for (AsyncChannel channel : spec.getChannels().values()) {
+            for (AsyncChannel.ChannelParameter parameter : channel.getParameters().values()) {
+                resolveSchema(parameter.getSchema());
+            }
+        }
+
+        if (components != null) {
+            if (components.getParameters() != null) {
+                for (AsyncChannel.ChannelParameter parameter : components.getParameters().values()) {
+                    resolveSchema(parameter.getSchema());
+                }
+            }
+        }
+    }
+
+    public void resolveMessage(AsyncMessage message) {
+        if (message == null) {
+            return;
+        }
+        if (isUnresolvedReference(message)) {
+            AsyncMessage target = resolveMessageRef(message.getRef());
+            if (target != null) {
+                fill(message, target);
+            }
+        }
+        resolveSchema(message.getPayload());
+        resolveSchema(message.getHeaders());
+    }
+
+    public void resolveSchema(AsyncSchema schema) {
+        if (schema == null || !walkedSchemas.add(schema)) {
+            return;
+        }
+
+        if (isUnresolvedReference(schema)) {
+            AsyncSchema target = resolveSchemaRef(schema.getRef());
+            if (target != null) {
+                fill(schema, target);
+            }
+            return;
+        }
+
+        for (AsyncSchema property : schema.getProperties().values()) {
+            resolveSchema(property);
+        }
+        resolveSchema(schema.getItems());
+        resolveAll(schema.getAllOf());
+        resolveAll(schema.getOneOf());
+        resolveAll(schema.getAnyOf());
+    }
+
+    public AsyncSchema resolveSchemaRef(String ref) {
+        AsyncSchema cached = resolvedSchemas.get(ref);
+        if (cached != null) {
+            return cached;
+        }
+        if (!JsonPointerIndex.isLocal(ref)) {
+            AsyncSchema external = componentCache != null
+                    ? componentCache.resolveSchema(externalDocument(ref), ref) : null;
+            if (external != null) {
+                resolvedSchemas.put(ref, external);
+            }
+            return external;
+        }
+        if (!inProgress.add(ref)) {
+            return null;
+        }
+
+        try {
+            AsyncSchema schema = knownSchemas.get(ref);
+            if (schema == null) {
+                JsonNode node = index.get(ref);
+                if (node == null) {
+                    return null;
+                }
+                schemaAnalyses++;
+                schema = schemaAnalyzer.analyzeSchema(AsyncApiConstants.extractRefName(ref), node);
+            }
+            if (isUnresolvedReference(schema)) {
+                AsyncSchema target = resolveSchemaRef(schema.getRef());
+                if (target == null) {
+                    return null;
+                }
+                fill(schema, target);
+                walkedSchemas.add(schema);
+            } else {
+                resolveSchema(schema);
+            }
+
+            resolvedSchemas.put(ref, schema);
+            return schema;
+        } finally {
+            inProgress.remove(ref);
+        }
+    }
+
+    public AsyncMessage resolveMessageRef(String ref) {
+        AsyncMessage cached = resolvedMessages.get(ref);
+        if (cached != null) {
+            return cached;
+        }
+        if (!JsonPointerIndex.isLocal(ref)) {
+            AsyncMessage external = componentCache != null
+                    ? componentCache.resolveMessage(externalDocument(ref), ref) : null;
+            if (external != null) {
+                resolvedMessages.put(ref, external);
+            }
+            return external;
+        }
+        if (!inProgress.add(ref)) {
+            return null;
+        }
+
+        try {
+            AsyncMessage message = knownMessages.get(ref);
+            if (message == null) {
+                message = messageAnalyzer.analyzeMessageRef(ref, index);
+            }
+            if (message == null) {
+                return null;
+            }
+            if (isUnresolvedReference(message)) {
+                AsyncMessage target = message.getRef().equals(ref) ? null : resolveMessageRef(message.getRef());
+                if (target == null) {
+                    return null;
+                }
+                fill(message, target);
+            } else {
+                resolveSchema(message.getPayload());
+                resolveSchema(message.getHeaders());
+            }
+
+            resolvedMessages.put(ref, message);
+            return message;
+        } finally {
+            inProgress.remove(ref);
+        }
+    }
+
+    public int getResolvedSchemaCount() {
+        return resolvedSchemas.size();
+    }
+
+    public int getResolvedMessageCount() {
+        return resolvedMessages.size();
+    }
+
+    public int getSchemaAnalysisCount() {
+        return schemaAnalyses;
+    }
+
+    private ReferenceResolver externalDocument(String ref) {
+        Path file = SharedComponentCache.fileOf(baseDirectory, ref);
+        if (file == null) {
+            return null;
+        }
+        if (!externalDocuments.containsKey(file)) {
+            externalDocuments.put(file, componentCache.documentFor(file));
+        }
+        return externalDocuments.get(file);
+    }
+
+    private void resolveAll(List<AsyncSchema> schemas) {
+        if (schemas != null) {
+            for (AsyncSchema schema : schemas) {
+                resolveSchema(schema);
+            }
+        }
+    }
+
+    private boolean isUnresolvedReference(AsyncSchema schema) {
+        return schema != null && schema.getRef() != null && schema.getType() == null
+                && schema.getProperties().isEmpty() && schema.getItems() == null;
+    }
+
+    private boolean isUnresolvedReference(AsyncMessage message) {
+        return message.getRef() != null && message.getPayload() == null && message.getHeaders() == null
+                && message.getMessageId() == null && message.getContentType() == null
+                && message.getTitle() == null && message.getSummary() == null && message.getDescription() == null;
+    }
+
+    private void fill(AsyncSchema schema, AsyncSchema target) {
+        if (schema.getName() == null) {
+            schema.setName(target.getName());
+        }
+        schema.setType(target.getType());
+        schema.setFormat(target.getFormat());
+        schema.setDescription(target.getDescription());
+        schema.setRequiredFields(target.getRequiredFields());
+        schema.setProperties(target.getProperties());
+        schema.setItems(target.getItems());
+        schema.setEnumValues(target.getEnumValues());
+        schema.setDefaultValue(target.getDefaultValue());
+        schema.setDeprecated(target.isDeprecated());
+        schema.setMinimum(target.getMinimum());
+        schema.setMaximum(target.getMaximum());
+        schema.setMinLength(target.getMinLength());
+        schema.setMaxLength(target.getMaxLength());
+        schema.setPattern(target.getPattern());
+        schema.setAdditionalProperties(target.getAdditionalProperties());
+        schema.setAllOf(target.getAllOf());
+        schema.setOneOf(target.getOneOf());
+        schema.setAnyOf(target.getAnyOf());
+        schema.setExtensions(target.getExtensions());
+    }
+
+    private void fill(AsyncMessage message, AsyncMessage target) {
+        if (message.getName() == null) {
+            message.setName(target.getName());
+        }
+        message.setMessageId(target.getMessageId());
+        message.setTitle(target.getTitle());
+        message.setSummary(target.getSummary());
+        message.setDescription(target.getDescription());
+        message.setContentType(target.getContentType());
+        message.setPayload(target.getPayload());
+        message.setHeaders(target.getHeaders());
+        message.setCorrelationId(target.getCorrelationId());
+        message.setSchemaFormat(target.getSchemaFormat());
+        message.setBindings(target.getBindings());
+        message.setExamples(target.getExamples());
+        message.setTags(target.getTags());
+        message.setDeprecated(target.isDeprecated());
+        message.setExtensions(target.getExtensions());
+    }
+}
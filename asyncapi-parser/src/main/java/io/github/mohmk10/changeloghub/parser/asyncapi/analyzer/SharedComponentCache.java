@@ -0,0 +1,195 @@
+package io.github.mohmk10.changeloghub.parser.asyncapi.analyzer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.github.mohmk10.changeloghub.parser.asyncapi.exception.AsyncApiParseException;
+import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncMessage;
+import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncSchema;
+import io.github.mohmk10.changeloghub.parser.asyncapi.util.JsonPointerIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SharedComponentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedComponentCache.class);
+
+    private static final String FRAGMENT_SEPARATOR = "#";
+
+    private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+    private final SchemaAnalyzer schemaAnalyzer;
+    private final MessageAnalyzer messageAnalyzer;
+    private final Map<Path, FileStamp> stamps = new ConcurrentHashMap<>();
+    private final Map<String, ReferenceResolver> documents = new HashMap<>();
+    private final Object resolutionLock = new Object();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SharedComponentCache() {
+        this(new SchemaAnalyzer());
+    }
+
+    public SharedComponentCache(SchemaAnalyzer schemaAnalyzer) {
+        this.schemaAnalyzer = schemaAnalyzer;
+        this.messageAnalyzer = new MessageAnalyzer(schemaAnalyzer);
+    }
+
+    public AsyncSchema resolveSchema(Path baseDirectory, String ref) {
+        return resolveSchema(documentFor(fileOf(baseDirectory, ref)), ref);
+    }
+
+    public AsyncMessage resolveMessage(Path baseDirectory, String ref) {
+        return resolveMessage(documentFor(fileOf(baseDirectory, ref)), ref);
+    }
+
+    public boolean contains(Path file) {
+        FileStamp stamp = stamps.get(file.toAbsolutePath().normalize());
+        if (stamp == null) {
+            return false;
+        }
+        synchronized (documents) {
+            return documents.containsKey(stamp.hash);
+        }
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public void clear() {
+        synchronized (documents) {
+            stamps.clear();
+            documents.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    AsyncSchema resolveSchema(ReferenceResolver document, String ref) {
+        if (document == null) {
+            return null;
+        }
+        synchronized (resolutionLock) {
+            AsyncSchema schema = document.resolveSchemaRef(fragmentOf(ref));
+            return schema != null ? schema.copy() : null;
+        }
+    }
+
+    AsyncMessage resolveMessage(ReferenceResolver document, String ref) {
+        if (document == null) {
+            return null;
+        }
+        synchronized (resolutionLock) {
+            AsyncMessage message = document.resolveMessageRef(fragmentOf(ref));
+            return message != null ? message.copy() : null;
+        }
+    }
+
+    ReferenceResolver documentFor(Path file) {
+        if (file == null) {
+            return null;
+        }
+
+        try {
+            String hash = hashOf(file);
+            ReferenceResolver resolver;
+            synchronized (documents) {
+                resolver = documents.get(hash);
+            }
+            if (resolver != null) {
+                hits.incrementAndGet();
+                return resolver;
+            }
+
+            JsonNode root = yamlMapper.readTree(file.toFile());
+            resolver = new ReferenceResolver(JsonPointerIndex.of(root), schemaAnalyzer, messageAnalyzer,
+                    file.getParent(), this);
+            synchronized (documents) {
+                ReferenceResolver existing = documents.putIfAbsent(hash, resolver);
+                if (existing != null) {
+                    hits.incrementAndGet();
+                    return existing;
+                }
+            }
+            misses.incrementAndGet();
+            return resolver;
+        } catch (IOException e) {
+            throw new AsyncApiParseException("Failed to read referenced file: " + file, e);
+        }
+    }
+
+    static Path fileOf(Path baseDirectory, String ref) {
+        if (baseDirectory == null || ref == null || JsonPointerIndex.isLocal(ref)) {
+            return null;
+        }
+        int separator = ref.indexOf(FRAGMENT_SEPARATOR);
+        String location = separator >= 0 ? ref.substring(0, separator) : ref;
+        if (location.contains("://")) {
+            logger.debug("Skipping remote reference {}", ref);
+            return null;
+        }
+
+        Path file = baseDirectory.resolve(location).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(file)) {
+            logger.debug("Referenced file {} does not exist", file);
+            return null;
+        }
+        return file;
+    }
+
+    private String hashOf(Path file) throws IOException {
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long size = Files.size(file);
+        FileStamp stamp = stamps.get(file);
+        if (stamp != null && stamp.lastModified == lastModified && stamp.size == size) {
+            return stamp.hash;
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String hash = HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file)));
+            stamps.put(file, new FileStamp(lastModified, size, hash));
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String fragmentOf(String ref) {
+        int separator = ref.indexOf(FRAGMENT_SEPARATOR);
+        return separator >= 0 ? ref.substring(separator) : FRAGMENT_SEPARATOR;
+    }
+
+    private static final class FileStamp {
+        private final long lastModified;
+        private final long size;
+        private final String hash;
+
+        private FileStamp(long lastModified, long size, String hash) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.hash = hash;
+        }
+    }
+}
@@ -196,6 +196,28 @@ public class AsyncMessage {
         return messageId;
     }
 
+    public AsyncMessage copy() {
+        Map<AsyncSchema, AsyncSchema> copies = new IdentityHashMap<>();
+        AsyncMessage copy = new AsyncMessage();
+        copy.name = name;
+        copy.messageId = messageId;
+        copy.title = title;
+        copy.summary = summary;
+        copy.description = description;
+        copy.contentType = contentType;
+        copy.payload = payload != null ? payload.copy(copies) : null;
+        copy.headers = headers != null ? headers.copy(copies) : null;
+        copy.correlationId = correlationId;
+        copy.schemaFormat = schemaFormat;
+        copy.bindings = new LinkedHashMap<>(bindings);
+        copy.examples = new ArrayList<>(examples);
+        copy.tags = new ArrayList<>(tags);
+        copy.ref = ref;
+        copy.deprecated = deprecated;
+        copy.extensions = new LinkedHashMap<>(extensions);
+        return copy;
+    }
+
     public static class Builder {
         private final AsyncMessage message = new AsyncMessage();
 
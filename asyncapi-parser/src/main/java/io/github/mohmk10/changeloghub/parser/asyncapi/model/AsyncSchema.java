@@ -244,6 +244,59 @@ public class AsyncSchema {
         return type;
     }
 
+    public AsyncSchema copy() {
+        return copy(new IdentityHashMap<>());
+    }
+
+    AsyncSchema copy(Map<AsyncSchema, AsyncSchema> copies) {
+        AsyncSchema existing = copies.get(this);
+        if (existing != null) {
+            return existing;
+        }
+
+        AsyncSchema copy = new AsyncSchema();
+        copies.put(this, copy);
+        copy.name = name;
+        copy.type = type;
+        copy.format = format;
+        copy.description = description;
+        copy.requiredFields = new ArrayList<>(requiredFields);
+        for (Map.Entry<String, AsyncSchema> property : properties.entrySet()) {
+            copy.properties.put(property.getKey(), copyOf(property.getValue(), copies));
+        }
+        copy.items = copyOf(items, copies);
+        copy.enumValues = new ArrayList<>(enumValues);
+        copy.defaultValue = defaultValue;
+        copy.ref = ref;
+        copy.deprecated = deprecated;
+        copy.minimum = minimum;
+        copy.maximum = maximum;
+        copy.minLength = minLength;
+        copy.maxLength = maxLength;
+        copy.pattern = pattern;
+        copy.additionalProperties = additionalProperties;
+        copy.allOf = copyAll(allOf, copies);
+        copy.oneOf = copyAll(oneOf, copies);
+        copy.anyOf = copyAll(anyOf, copies);
+        copy.extensions = new LinkedHashMap<>(extensions);
+        return copy;
+    }
+
+    private static AsyncSchema copyOf(AsyncSchema schema, Map<AsyncSchema, AsyncSchema> copies) {
+        return schema != null ? schema.copy(copies) : null;
+    }
+
+    private static List<AsyncSchema> copyAll(List<AsyncSchema> schemas, Map<AsyncSchema, AsyncSchema> copies) {
+        if (schemas == null) {
+            return null;
+        }
+        List<AsyncSchema> copied = new ArrayList<>(schemas.size());
+        for (AsyncSchema schema : schemas) {
+            copied.add(copyOf(schema, copies));
+        }
+        return copied;
+    }
+
     public static class Builder {
         private final AsyncSchema schema = new AsyncSchema();
 
@@ -0,0 +1,90 @@
+package io.github.mohmk10.changeloghub.parser.asyncapi.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class JsonPointerIndex {
+
+    private static final String LOCAL_REF_PREFIX = "#";
+
+    private final Map<String, JsonNode> nodes;
+
+    private JsonPointerIndex(Map<String, JsonNode> nodes) {
+        this.nodes = nodes;
+    }
+
+    public static JsonPointerIndex of(JsonNode root) {
+        Map<String, JsonNode> nodes = new HashMap<>();
+        if (root == null) {
+            return new JsonPointerIndex(nodes);
+        }
+
+        Deque<Map.Entry<String, JsonNode>> pending = new ArrayDeque<>();
+        pending.push(Map.entry(LOCAL_REF_PREFIX, root));
+        while (!pending.isEmpty()) {
+            Map.Entry<String, JsonNode> current = pending.pop();
+            String pointer = current.getKey();
+            JsonNode node = current.getValue();
+            nodes.put(pointer, node);
+
+            if (node.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    if (field.getValue().isContainerNode()) {
+                        pending.push(Map.entry(pointer + "/" + escape(field.getKey()), field.getValue()));
+                    }
+                }
+            } else if (node.isArray()) {
+                for (int i = 0; i < node.size(); i++) {
+                    if (node.get(i).isContainerNode()) {
+                        pending.push(Map.entry(pointer + "/" + i, node.get(i)));
+                    }
+                }
+            }
+        }
+
+        return new JsonPointerIndex(nodes);
+    }
+
+    public JsonNode get(String ref) {
+        if (ref == null || !isLocal(ref)) {
+            return null;
+        }
+        JsonNode node = nodes.get(ref);
+        if (node == null && ref.indexOf('%') >= 0) {
+            node = nodes.get(URLDecoder.decode(ref, StandardCharsets.UTF_8));
+        }
+        return node;
+    }
+
+    public boolean contains(String ref) {
+        return get(ref) != null;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public static String pointer(String... segments) {
+        StringBuilder pointer = new StringBuilder(LOCAL_REF_PREFIX);
+        for (String segment : segments) {
+            pointer.append('/').append(escape(segment));
+        }
+        return pointer.toString();
+    }
+
+    public static boolean isLocal(String ref) {
+        return ref != null && ref.startsWith(LOCAL_REF_PREFIX);
+    }
+
+    static String escape(String segment) {
+        if (segment.indexOf('~') < 0 && segment.indexOf('/') < 0) {
+            return segment;
+        }
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+}
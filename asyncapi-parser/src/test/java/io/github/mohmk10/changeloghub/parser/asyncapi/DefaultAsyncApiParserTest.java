@@ -1,13 +1,21 @@
 package io.github.mohmk10.changeloghub.parser.asyncapi;
 
+import io.github.mohmk10.changeloghub.core.model.Change;
+import io.github.mohmk10.changeloghub.parser.asyncapi.comparator.AsyncApiComparator;
 import io.github.mohmk10.changeloghub.parser.asyncapi.exception.AsyncApiParseException;
 import io.github.mohmk10.changeloghub.parser.asyncapi.model.*;
 import io.github.mohmk10.changeloghub.parser.asyncapi.util.AsyncApiVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -265,4 +273,121 @@ class DefaultAsyncApiParserTest {
         assertEquals(2, stats.get("servers"));
         assertTrue(stats.get("messages") > 0);
     }
+
+    @Test
+    @DisplayName("Should parse every AsyncAPI document in a workspace")
+    void testParseWorkspace(@TempDir Path tempDir) throws IOException {
+        Path workspace = writeWorkspace(tempDir.resolve("v1"), true);
+
+        Map<String, AsyncApiSpec> documents = parser.parseWorkspace(workspace.toFile());
+
+        assertEquals(List.of("orders.yaml", "users/users.json"), List.copyOf(documents.keySet()));
+        assertEquals(workspace.resolve("orders.yaml").toString(), documents.get("orders.yaml").getSourceFile());
+
+        AsyncMessage created = documents.get("users/users.json").getChannels().get("user/created")
+                .getPublishOperation().getMessage();
+        assertEquals("UserCreated", created.getName());
+        assertEquals("object", created.getPayload().getType());
+        assertEquals("string", created.getPayload().getProperties().get("id").getType());
+
+        AsyncMessage placed = documents.get("orders.yaml").getChannels().get("order/placed")
+                .getSubscribeOperation().getMessage();
+        assertEquals("object", placed.getPayload().getType());
+        assertEquals("string", placed.getPayload().getProperties().get("id").getType());
+        assertNotSame(created.getPayload().getProperties().get("id"), placed.getPayload().getProperties().get("id"));
+    }
+
+    @Test
+    @DisplayName("Should merge workspace documents into a single spec")
+    void testParseWorkspaceMerged(@TempDir Path tempDir) throws IOException {
+        Path workspace = writeWorkspace(tempDir.resolve("v1"), true);
+
+        AsyncApiSpec merged = parser.parseWorkspaceMerged(workspace.toFile());
+
+        assertEquals("Orders", merged.getTitle());
+        assertEquals(AsyncApiVersion.V2_6, merged.getAsyncApiVersion());
+        assertEquals(2, merged.getChannels().size());
+        assertTrue(merged.getChannels().containsKey("order/placed"));
+        assertTrue(merged.getChannels().containsKey("user/created"));
+        assertEquals(1, merged.getTags().size());
+    }
+
+    @Test
+    @DisplayName("Should reuse shared component files across workspace versions")
+    void testSharedComponentsParsedOnce(@TempDir Path tempDir) throws IOException {
+        Path v1 = writeWorkspace(tempDir.resolve("v1"), true);
+        Path v2 = writeWorkspace(tempDir.resolve("v2"), false);
+
+        AsyncApiSpec oldSpec = parser.parseWorkspaceMerged(v1.toFile());
+        AsyncApiSpec newSpec = parser.parseWorkspaceMerged(v2.toFile());
+
+        assertEquals(1, parser.getComponentCache().size());
+        assertEquals(1, parser.getComponentCache().getMisses());
+        assertTrue(parser.getComponentCache().getHits() >= 3);
+        assertTrue(parser.getComponentCache().contains(v2.resolve("common/components.yaml")));
+
+        List<Change> changes = new AsyncApiComparator().compare(oldSpec, newSpec);
+        assertTrue(changes.stream().anyMatch(change -> change.getPath().contains("order/placed")));
+        assertTrue(changes.stream().noneMatch(change -> change.getPath().contains("user/created")));
+    }
+
+    @Test
+    @DisplayName("Should reject a missing workspace directory")
+    void testParseWorkspaceMissingDirectory(@TempDir Path tempDir) {
+        assertThrows(AsyncApiParseException.class,
+                () -> parser.parseWorkspace(tempDir.resolve("missing").toFile()));
+    }
+
+    private Path writeWorkspace(Path workspace, boolean withPlacedChannel) throws IOException {
+        Files.createDirectories(workspace.resolve("common"));
+        Files.createDirectories(workspace.resolve("users"));
+        Files.writeString(workspace.resolve("common/components.yaml"), """
+                components:
+                  schemas:
+                    User:
+                      type: object
+                      properties:
+                        id:
+                          type: string
+                  messages:
+                    UserCreated:
+                      name: UserCreated
+                      contentType: application/json
+                      payload:
+                        $ref: '#/components/schemas/User'
+                """);
+        Files.writeString(workspace.resolve("users/users.json"), """
+                {
+                  "asyncapi": "2.6.0",
+                  "info": {"title": "Users", "version": "1.0.0"},
+                  "tags": [{"name": "events"}],
+                  "channels": {
+                    "user/created": {
+                      "publish": {
+                        "message": {"$ref": "../common/components.yaml#/components/messages/UserCreated"}
+                      }
+                    }
+                  }
+                }
+                """);
+        String channel = withPlacedChannel ? "order/placed" : "order/shipped";
+        Files.writeString(workspace.resolve("orders.yaml"), """
+                asyncapi: '2.6.0'
+                info:
+                  title: Orders
+                  version: '1.0.0'
+                tags:
+                  - name: events
+                channels:
+                  %s:
+                    subscribe:
+                      message:
+                        name: OrderPlaced
+                        payload:
+                          $ref: 'common/components.yaml#/components/schemas/User'
+                """.formatted(channel));
+        Files.writeString(workspace.resolve("settings.yml"), "name: not-an-asyncapi-document\n");
+        Files.writeString(workspace.resolve("README.md"), "asyncapi: ignored\n");
+        return workspace;
+    }
 }
@@ -0,0 +1,209 @@
+package io.github.mohmk10.changeloghub.parser.asyncapi.analyzer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.github.mohmk10.changeloghub.parser.asyncapi.DefaultAsyncApiParser;
+import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncApiSpec;
+import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncMessage;
+import io.github.mohmk10.changeloghub.parser.asyncapi.model.AsyncSchema;
+import io.github.mohmk10.changeloghub.parser.asyncapi.util.JsonPointerIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceResolverTest {
+
+    private static final String SHARED_PAYLOAD_YAML = """
+            asyncapi: '2.6.0'
+            info:
+              title: Shared Payloads
+              version: '1.0.0'
+            channels:
+              user/created:
+                publish:
+                  message:
+                    $ref: '#/components/messages/UserEvent'
+              user/deleted:
+                publish:
+                  message:
+                    name: UserDeleted
+                    payload:
+                      $ref: '#/components/schemas/User'
+            components:
+              messages:
+                UserEvent:
+                  name: UserEvent
+                  contentType: application/json
+                  payload:
+                    $ref: '#/components/schemas/User'
+                UserEventAlias:
+                  $ref: '#/components/messages/UserEvent'
+              schemas:
+                User:
+                  type: object
+                  properties:
+                    id:
+                      type: string
+                    address:
+                      $ref: '#/components/schemas/Address'
+                Address:
+                  type: object
+                  properties:
+                    city:
+                      type: string
+                TreeNode:
+                  type: object
+                  properties:
+                    children:
+                      type: array
+                      items:
+                        $ref: '#/components/schemas/TreeNode'
+                Left:
+                  type: object
+                  properties:
+                    right:
+                      $ref: '#/components/schemas/Right'
+                Right:
+                  type: object
+                  properties:
+                    left:
+                      $ref: '#/components/schemas/Left'
+                Missing:
+                  $ref: '#/components/schemas/DoesNotExist'
+            """;
+
+    private ObjectMapper yamlMapper;
+    private SchemaAnalyzer schemaAnalyzer;
+    private MessageAnalyzer messageAnalyzer;
+
+    @BeforeEach
+    void setUp() {
+        yamlMapper = new ObjectMapper(new YAMLFactory());
+        schemaAnalyzer = new SchemaAnalyzer();
+        messageAnalyzer = new MessageAnalyzer(schemaAnalyzer);
+    }
+
+    @Test
+    @DisplayName("Should index JSON pointers with escaped segments")
+    void testPointerIndex() throws Exception {
+        JsonNode root = yamlMapper.readTree(SHARED_PAYLOAD_YAML);
+        JsonPointerIndex index = JsonPointerIndex.of(root);
+
+        assertSame(root, index.get("#"));
+        assertSame(root.get("channels").get("user/created"), index.get("#/channels/user~1created"));
+        assertEquals("#/channels/user~1created", JsonPointerIndex.pointer("channels", "user/created"));
+        assertSame(root.get("components").get("schemas").get("User"), index.get("#/components/schemas/User"));
+        assertNull(index.get("#/components/schemas/DoesNotExist"));
+        assertNull(index.get("other.yaml#/components/schemas/User"));
+    }
+
+    @Test
+    @DisplayName("Should resolve message ref in constant time from the pointer index")
+    void testAnalyzeMessageRefWithIndex() throws Exception {
+        JsonPointerIndex index = JsonPointerIndex.of(yamlMapper.readTree(SHARED_PAYLOAD_YAML));
+
+        AsyncMessage message = messageAnalyzer.analyzeMessageRef("#/components/messages/UserEvent", index);
+
+        assertEquals("UserEvent", message.getName());
+        assertEquals("application/json", message.getContentType());
+        assertEquals("#/components/messages/UserEvent", message.getRef());
+    }
+
+    @Test
+    @DisplayName("Should analyze shared payload schemas once and reuse them")
+    void testSharedPayloadResolvedOnce() throws Exception {
+        AsyncApiSpec spec = new DefaultAsyncApiParser().parse(SHARED_PAYLOAD_YAML);
+
+        AsyncMessage created = spec.getChannels().get("user/created").getPublishOperation().getMessage();
+        AsyncMessage deleted = spec.getChannels().get("user/deleted").getPublishOperation().getMessage();
+
+        assertEquals("#/components/messages/UserEvent", created.getRef());
+        assertEquals("application/json", created.getContentType());
+        assertEquals("object", created.getPayload().getType());
+        assertEquals("object", deleted.getPayload().getType());
+        assertEquals("#/components/schemas/User", deleted.getPayload().getRef());
+        assertSame(spec.getComponents().getSchemas().get("User").getProperties().get("address"),
+                deleted.getPayload().getProperties().get("address"));
+        assertEquals("string", deleted.getPayload().getProperties().get("address").getProperties().get("city").getType());
+
+        AsyncMessage alias = spec.getComponents().getMessages().get("UserEventAlias");
+        assertEquals("UserEventAlias", alias.getName());
+        assertEquals("object", alias.getPayload().getType());
+    }
+
+    @Test
+    @DisplayName("Should not analyze component schemas again when they are referenced")
+    void testComponentSchemasNotReanalyzed() throws Exception {
+        DefaultAsyncApiParser parser = new DefaultAsyncApiParser();
+        AsyncApiSpec spec = parser.parse(SHARED_PAYLOAD_YAML);
+        JsonNode root = yamlMapper.readTree(SHARED_PAYLOAD_YAML);
+
+        ReferenceResolver resolver = new ReferenceResolver(JsonPointerIndex.of(root), schemaAnalyzer, messageAnalyzer);
+        resolver.resolve(spec);
+
+        assertEquals(0, resolver.getSchemaAnalysisCount());
+        assertEquals(5, resolver.getResolvedSchemaCount());
+    }
+
+    @Test
+    @DisplayName("Should stop at recursive and mutually recursive references")
+    void testCyclicReferences() throws Exception {
+        AsyncApiSpec spec = new DefaultAsyncApiParser().parse(SHARED_PAYLOAD_YAML);
+
+        AsyncSchema tree = spec.getComponents().getSchemas().get("TreeNode");
+        AsyncSchema children = tree.getProperties().get("children");
+        assertEquals("array", children.getType());
+        assertEquals("#/components/schemas/TreeNode", children.getItems().getRef());
+        assertNull(children.getItems().getType());
+
+        AsyncSchema left = spec.getComponents().getSchemas().get("Left");
+        AsyncSchema right = left.getProperties().get("right");
+        assertEquals("object", right.getType());
+        assertNull(right.getProperties().get("left").getType());
+        assertEquals("#/components/schemas/Left", right.getProperties().get("left").getRef());
+    }
+
+    @Test
+    @DisplayName("Should copy cyclic schemas without sharing nodes with the original")
+    void testCopyCyclicSchema() {
+        AsyncSchema node = AsyncSchema.builder().name("Node").type("object").build();
+        node.getProperties().put("next", node);
+        AsyncMessage message = AsyncMessage.builder().name("NodeEvent").payload(node).build();
+
+        AsyncMessage copy = message.copy();
+
+        assertNotSame(node, copy.getPayload());
+        assertSame(copy.getPayload(), copy.getPayload().getProperties().get("next"));
+        copy.getPayload().setType("string");
+        assertEquals("object", node.getType());
+    }
+
+    @Test
+    @DisplayName("Should leave unresolvable references untouched")
+    void testUnresolvableReference() throws Exception {
+        AsyncApiSpec spec = new DefaultAsyncApiParser().parse(SHARED_PAYLOAD_YAML);
+
+        AsyncSchema missing = spec.getComponents().getSchemas().get("Missing");
+        assertEquals("#/components/schemas/DoesNotExist", missing.getRef());
+        assertNull(missing.getType());
+    }
+
+    @Test
+    @DisplayName("Should resolve channel message refs in order-events.yaml")
+    void testResolveOrderEvents() throws Exception {
+        InputStream is = getClass().getClassLoader().getResourceAsStream("order-events.yaml");
+        AsyncApiSpec spec = new DefaultAsyncApiParser().parse(is);
+
+        AsyncMessage placed = spec.getChannels().get("orders/placed").getPublishOperation().getMessage();
+        AsyncMessage component = spec.getComponents().getMessages().get("OrderPlaced");
+
+        assertEquals("#/components/messages/OrderPlaced", placed.getRef());
+        assertNotNull(placed.getPayload());
+        assertSame(component.getPayload(), placed.getPayload());
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.mohmk10.changeloghub.benchmarks;
+
+import io.github.mohmk10.changeloghub.parser.grpc.analyzer.ProtoFileParser;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtoFileParserBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int messageCount;
+
+    @Param({"40"})
+    private int fieldsPerMessage;
+
+    private ProtoFileParser parser;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        parser = new ProtoFileParser();
+        content = generateProto(messageCount, fieldsPerMessage);
+    }
+
+    @Benchmark
+    public ProtoFile parseGeneratedProto() {
+        return parser.parse(content, "generated.proto");
+    }
+
+    static String generateProto(int messageCount, int fieldsPerMessage) {
+        StringBuilder sb = new StringBuilder("syntax = \"proto3\";\npackage bench.generated;\n\n");
+        for (int m = 0; m < messageCount; m++) {
+            sb.append("// Generated message ").append(m).append('\n');
+            sb.append("message Message").append(m).append(" {\n");
+            sb.append("  message Nested { string value = 1; }\n");
+            sb.append("  reserved 1000 to 1010;\n");
+            for (int f = 0; f < fieldsPerMessage; f++) {
+                if (f % 4 == 0) {
+                    sb.append("  Nested nested_").append(f).append(" = ").append(f + 1).append(";\n");
+                } else if (f % 4 == 1) {
+                    sb.append("  repeated string tags_").append(f).append(" = ").append(f + 1).append(";\n");
+                } else if (f % 4 == 2) {
+                    sb.append("  map<string, int64> counters_").append(f).append(" = ").append(f + 1).append(";\n");
+                } else {
+                    sb.append("  int64 value_").append(f).append(" = ").append(f + 1)
+                            .append(" [deprecated = true];\n");
+                }
+            }
+            sb.append("}\n\n");
+        }
+        sb.append("service GeneratedService {\n");
+        for (int m = 0; m < messageCount; m++) {
+            sb.append("  rpc Call").append(m).append("(Message").append(m)
+                    .append(") returns (Message").append(m).append(");\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
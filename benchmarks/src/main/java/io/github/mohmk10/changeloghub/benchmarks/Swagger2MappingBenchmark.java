@@ -0,0 +1,96 @@
+package io.github.mohmk10.changeloghub.benchmarks;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.parser.openapi.impl.DefaultOpenApiParser;
+import io.github.mohmk10.changeloghub.parser.openapi.impl.SwaggerV2Adapter;
+import io.github.mohmk10.changeloghub.parser.openapi.mapper.OpenApiModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Swagger2MappingBenchmark {
+
+    @Param({"10", "200"})
+    private int pathCount;
+
+    private SwaggerV2Adapter adapter;
+    private OpenApiModelMapper modelMapper;
+    private DefaultOpenApiParser parser;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        adapter = new SwaggerV2Adapter();
+        modelMapper = new OpenApiModelMapper();
+        parser = new DefaultOpenApiParser();
+        content = generateSwagger2(pathCount);
+    }
+
+    @Benchmark
+    public ApiSpec convertThenMap() {
+        return modelMapper.map(adapter.convert(content).orElseThrow());
+    }
+
+    @Benchmark
+    public ApiSpec directMapping() {
+        return adapter.toApiSpec(content).orElseThrow();
+    }
+
+    @Benchmark
+    public ApiSpec cachedParse() {
+        return parser.parse(content);
+    }
+
+    static String generateSwagger2(int pathCount) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("swagger: '2.0'\n");
+        sb.append("info:\n  title: Generated API\n  version: 1.0.0\n");
+        sb.append("basePath: /api\n");
+        sb.append("paths:\n");
+        for (int p = 0; p < pathCount; p++) {
+            sb.append("  /resources").append(p).append("/{id}:\n");
+            sb.append("    parameters:\n");
+            sb.append("      - name: id\n        in: path\n        required: true\n        type: string\n");
+            sb.append("    get:\n");
+            sb.append("      operationId: getResource").append(p).append('\n');
+            sb.append("      parameters:\n");
+            sb.append("        - name: expand\n          in: query\n          type: boolean\n");
+            sb.append("      responses:\n");
+            sb.append("        '200':\n          description: OK\n");
+            sb.append("          schema:\n            $ref: '#/definitions/Resource").append(p).append("'\n");
+            sb.append("        '404':\n          description: Not found\n");
+            sb.append("    put:\n");
+            sb.append("      operationId: updateResource").append(p).append('\n');
+            sb.append("      parameters:\n");
+            sb.append("        - name: body\n          in: body\n          required: true\n");
+            sb.append("          schema:\n            $ref: '#/definitions/Resource").append(p).append("'\n");
+            sb.append("      responses:\n");
+            sb.append("        '204':\n          description: Updated\n");
+        }
+        sb.append("definitions:\n");
+        for (int p = 0; p < pathCount; p++) {
+            sb.append("  Resource").append(p).append(":\n");
+            sb.append("    type: object\n    required: [id]\n    properties:\n");
+            sb.append("      id:\n        type: string\n");
+            sb.append("      name:\n        type: string\n");
+            sb.append("      count:\n        type: integer\n        format: int32\n");
+        }
+        return sb.toString();
+    }
+}
@@ -8,11 +8,12 @@ import io.github.mohmk10.changeloghub.core.generator.ChangelogGenerator;
 import io.github.mohmk10.changeloghub.core.generator.impl.DefaultChangelogGenerator;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
 import io.github.mohmk10.changeloghub.core.model.Changelog;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
 import io.github.mohmk10.changeloghub.core.reporter.ReportFormat;
 import io.github.mohmk10.changeloghub.core.reporter.Reporter;
 import io.github.mohmk10.changeloghub.core.reporter.ReporterFactory;
 import io.github.mohmk10.changeloghub.parser.openapi.OpenApiParser;
-import io.github.mohmk10.changeloghub.parser.openapi.impl.DefaultOpenApiParser;
+import io.github.mohmk10.changeloghub.parser.openapi.OpenApiSpecParser;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
@@ -64,16 +65,19 @@ public class CompareCommand implements Callable<Integer> {
             description = "Quiet mode, minimal output")
     private boolean quiet;
 
-    private final OpenApiParser parser;
+    private final SpecParserRegistry parserRegistry;
     private final ChangelogGenerator changelogGenerator;
 
     public CompareCommand() {
-        this.parser = new DefaultOpenApiParser();
-        this.changelogGenerator = new DefaultChangelogGenerator();
+        this(SpecParserRegistry.getDefault(), new DefaultChangelogGenerator());
     }
 
     public CompareCommand(OpenApiParser parser, ChangelogGenerator changelogGenerator) {
-        this.parser = parser;
+        this(new SpecParserRegistry().register(new OpenApiSpecParser(parser)), changelogGenerator);
+    }
+
+    public CompareCommand(SpecParserRegistry parserRegistry, ChangelogGenerator changelogGenerator) {
+        this.parserRegistry = parserRegistry;
         this.changelogGenerator = changelogGenerator;
     }
 
@@ -133,7 +137,7 @@ public class CompareCommand implements Callable<Integer> {
     private ApiSpec parseFile(File file, String label) throws CliException {
         try {
             String content = Files.readString(file.toPath());
-            return parser.parse(content);
+            return parserRegistry.parse(content, file.getName());
         } catch (IOException e) {
             throw new CliException("Failed to read " + label + " spec file: " + e.getMessage(), e);
         } catch (Exception e) {
@@ -0,0 +1,19 @@
+package io.github.mohmk10.changeloghub.core.exception;
+
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+
+public class UnsupportedSpecException extends RuntimeException {
+
+    public UnsupportedSpecException(String message) {
+        super(message);
+    }
+
+    public static UnsupportedSpecException unrecognizedFormat(String source) {
+        return new UnsupportedSpecException("Unrecognized specification format"
+                + (source != null ? ": " + source : ""));
+    }
+
+    public static UnsupportedSpecException noParserFor(ApiType apiType) {
+        return new UnsupportedSpecException("No parser registered for API type: " + apiType);
+    }
+}
@@ -3,6 +3,7 @@ package io.github.mohmk10.changeloghub.core.model;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -90,6 +91,32 @@ public class ApiSpec {
         this.parsedAt = parsedAt;
     }
 
+    public ApiSpec copy() {
+        List<Endpoint> endpointCopies = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            endpointCopies.add(endpoint.copy());
+        }
+        Map<String, Object> metadataCopy = new LinkedHashMap<>();
+        metadata.forEach((key, value) -> metadataCopy.put(key, copyValue(value)));
+        return new ApiSpec(name, version, type, endpointCopies, metadataCopy, parsedAt);
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>();
+            for (Object item : list) {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, item) -> copy.put(key, copyValue(item)));
+            return copy;
+        }
+        return value;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,8 @@
 package io.github.mohmk10.changeloghub.core.model;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -15,6 +17,7 @@ public class Change {
     private Object oldValue;
     private Object newValue;
     private LocalDateTime detectedAt;
+    private List<String> affectedOperations = new ArrayList<>();
 
     public Change() {
         this.id = UUID.randomUUID().toString();
@@ -111,6 +114,14 @@ public class Change {
         this.detectedAt = detectedAt;
     }
 
+    public List<String> getAffectedOperations() {
+        return affectedOperations;
+    }
+
+    public void setAffectedOperations(List<String> affectedOperations) {
+        this.affectedOperations = affectedOperations != null ? new ArrayList<>(affectedOperations) : new ArrayList<>();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -124,12 +135,14 @@ public class Change {
                 Objects.equals(description, change.description) &&
                 Objects.equals(oldValue, change.oldValue) &&
                 Objects.equals(newValue, change.newValue) &&
-                Objects.equals(detectedAt, change.detectedAt);
+                Objects.equals(detectedAt, change.detectedAt) &&
+                Objects.equals(affectedOperations, change.affectedOperations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, type, category, severity, path, description, oldValue, newValue, detectedAt);
+        return Objects.hash(id, type, category, severity, path, description, oldValue, newValue, detectedAt,
+                affectedOperations);
     }
 
     @Override
@@ -144,6 +157,7 @@ public class Change {
                 ", oldValue=" + oldValue +
                 ", newValue=" + newValue +
                 ", detectedAt=" + detectedAt +
+                ", affectedOperations=" + affectedOperations +
                 '}';
     }
 
@@ -157,6 +171,7 @@ public class Change {
         private Object oldValue;
         private Object newValue;
         private LocalDateTime detectedAt;
+        private List<String> affectedOperations = new ArrayList<>();
 
         public Builder id(String id) {
             this.id = id;
@@ -203,8 +218,15 @@ public class Change {
             return this;
         }
 
+        public Builder affectedOperations(List<String> affectedOperations) {
+            this.affectedOperations = affectedOperations;
+            return this;
+        }
+
         public Change build() {
-            return new Change(id, type, category, severity, path, description, oldValue, newValue, detectedAt);
+            Change change = new Change(id, type, category, severity, path, description, oldValue, newValue, detectedAt);
+            change.setAffectedOperations(affectedOperations);
+            return change;
         }
     }
 }
@@ -168,6 +168,24 @@ public class Endpoint {
         this.deprecated = deprecated;
     }
 
+    public Endpoint copy() {
+        List<Parameter> parameterCopies = new ArrayList<>();
+        for (Parameter parameter : parameters) {
+            parameterCopies.add(new Parameter(parameter.getName(), parameter.getLocation(), parameter.getType(),
+                    parameter.isRequired(), parameter.getDefaultValue(), parameter.getDescription()));
+        }
+        List<Response> responseCopies = new ArrayList<>();
+        for (Response response : responses) {
+            responseCopies.add(new Response(response.getStatusCode(), response.getDescription(),
+                    response.getContentType(), response.getSchemaRef()));
+        }
+        RequestBody requestBodyCopy = requestBody != null
+                ? new RequestBody(requestBody.getContentType(), requestBody.getSchemaRef(), requestBody.isRequired())
+                : null;
+        return new Endpoint(id, path, method, operationId, summary, description, parameterCopies, requestBodyCopy,
+                responseCopies, tags, deprecated);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,28 @@
+package io.github.mohmk10.changeloghub.core.parser;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+
+public interface SpecParser {
+
+    int NO_MATCH = 0;
+    int WEAK_MATCH = 25;
+    int LIKELY_MATCH = 50;
+    int STRONG_MATCH = 100;
+
+    String getName();
+
+    ApiType getApiType();
+
+    int detect(String prefix, String fileName);
+
+    ApiSpec parse(String content, String fileName);
+
+    default int getSchemaVersion() {
+        return 1;
+    }
+
+    default boolean isThreadSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.mohmk10.changeloghub.core.parser;
+
+import io.github.mohmk10.changeloghub.core.exception.UnsupportedSpecException;
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class SpecParserRegistry {
+
+    public static final int DEFAULT_SNIFF_LIMIT = 4096;
+    public static final int DEFAULT_MAX_IDLE = 8;
+
+    private final int sniffLimit;
+    private final int maxIdle;
+    private volatile Map<ApiType, Slot> slots = new EnumMap<>(ApiType.class);
+
+    public SpecParserRegistry() {
+        this(DEFAULT_SNIFF_LIMIT, DEFAULT_MAX_IDLE);
+    }
+
+    public SpecParserRegistry(int sniffLimit, int maxIdle) {
+        this.sniffLimit = Math.max(1, sniffLimit);
+        this.maxIdle = Math.max(1, maxIdle);
+    }
+
+    public static SpecParserRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public static SpecParserRegistry load(ClassLoader classLoader) {
+        SpecParserRegistry registry = new SpecParserRegistry();
+        ServiceLoader.load(SpecParser.class, classLoader).stream()
+                .forEach(provider -> registry.register(provider::get));
+        return registry;
+    }
+
+    public SpecParserRegistry register(SpecParser parser) {
+        return register(parser, null);
+    }
+
+    public SpecParserRegistry register(Supplier<? extends SpecParser> factory) {
+        return register(factory.get(), factory);
+    }
+
+    public Optional<ApiType> detect(String content, String fileName) {
+        return detectSlot(content, fileName).map(slot -> slot.prototype.getApiType());
+    }
+
+    public ApiSpec parse(String content) {
+        return parse(content, null);
+    }
+
+    public ApiSpec parse(String content, String fileName) {
+        Slot slot = detectSlot(content, fileName)
+                .orElseThrow(() -> UnsupportedSpecException.unrecognizedFormat(fileName));
+        return slot.parse(content, fileName);
+    }
+
+    public ApiSpec parse(ApiType apiType, String content, String fileName) {
+        Slot slot = slots.get(apiType);
+        if (slot == null) {
+            throw UnsupportedSpecException.noParserFor(apiType);
+        }
+        return slot.parse(content, fileName);
+    }
+
+    public ApiSpec parseFile(Path file) throws IOException {
+        Path fileName = file.getFileName();
+        return parse(Files.readString(file), fileName != null ? fileName.toString() : null);
+    }
+
+    public boolean supports(ApiType apiType) {
+        return slots.containsKey(apiType);
+    }
+
+    public Set<ApiType> getSupportedTypes() {
+        return Collections.unmodifiableSet(slots.keySet());
+    }
+
+    public Optional<String> getParserName(ApiType apiType) {
+        return Optional.ofNullable(slots.get(apiType)).map(slot -> slot.prototype.getName());
+    }
+
+    public Optional<String> getParserVersion(ApiType apiType) {
+        return Optional.ofNullable(slots.get(apiType))
+                .map(slot -> slot.prototype.getName() + ":" + slot.prototype.getSchemaVersion());
+    }
+
+    public int getInstanceCount(ApiType apiType) {
+        Slot slot = slots.get(apiType);
+        return slot != null ? slot.instances.get() : 0;
+    }
+
+    public int getSniffLimit() {
+        return sniffLimit;
+    }
+
+    private synchronized SpecParserRegistry register(SpecParser parser, Supplier<? extends SpecParser> factory) {
+        Map<ApiType, Slot> updated = new EnumMap<>(ApiType.class);
+        updated.putAll(slots);
+        updated.put(parser.getApiType(), new Slot(parser, factory, maxIdle));
+        slots = updated;
+        return this;
+    }
+
+    private Optional<Slot> detectSlot(String content, String fileName) {
+        if (content == null || content.isBlank()) {
+            return Optional.empty();
+        }
+        String prefix = content.length() > sniffLimit ? content.substring(0, sniffLimit) : content;
+
+        Slot best = null;
+        int bestScore = SpecParser.NO_MATCH;
+        for (Slot slot : slots.values()) {
+            int score = slot.prototype.detect(prefix, fileName);
+            if (score > bestScore) {
+                best = slot;
+                bestScore = score;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static final class Slot {
+        private final SpecParser prototype;
+        private final Supplier<? extends SpecParser> factory;
+        private final int maxIdle;
+        private final Queue<SpecParser> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final AtomicInteger instances = new AtomicInteger(1);
+
+        private Slot(SpecParser prototype, Supplier<? extends SpecParser> factory, int maxIdle) {
+            this.prototype = prototype;
+            this.factory = factory;
+            this.maxIdle = maxIdle;
+            if (!prototype.isThreadSafe() && factory != null) {
+                idle.offer(prototype);
+                idleCount.incrementAndGet();
+            }
+        }
+
+        private ApiSpec parse(String content, String fileName) {
+            if (prototype.isThreadSafe()) {
+                return prototype.parse(content, fileName);
+            }
+            if (factory == null) {
+                synchronized (prototype) {
+                    return prototype.parse(content, fileName);
+                }
+            }
+
+            SpecParser parser = idle.poll();
+            if (parser != null) {
+                idleCount.decrementAndGet();
+            } else {
+                parser = factory.get();
+                instances.incrementAndGet();
+            }
+            try {
+                return parser.parse(content, fileName);
+            } finally {
+                if (idleCount.incrementAndGet() <= maxIdle) {
+                    idle.offer(parser);
+                } else {
+                    idleCount.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final SpecParserRegistry INSTANCE = load(SpecParserRegistry.class.getClassLoader());
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.mohmk10.changeloghub.core.parser;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+public final class WorkerPools {
+
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private WorkerPools() {
+    }
+
+    public static ForkJoinPool forParallelism(int parallelism) {
+        return POOLS.computeIfAbsent(Math.max(1, parallelism), ForkJoinPool::new);
+    }
+}
@@ -3,8 +3,10 @@ package io.github.mohmk10.changeloghub.core.model;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -130,4 +132,29 @@ class ApiSpecTest {
             assertThat(apiSpec.getType()).isEqualTo(type);
         }
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCopyIndependentlyOfOriginal() {
+        Endpoint endpoint = new Endpoint("id", "/api/users", HttpMethod.POST, "createUser", null, null,
+                List.of(new Parameter("trace", ParameterLocation.HEADER, "string", false, null, null)),
+                new RequestBody("application/json", "User", true),
+                List.of(new Response("201", "Created", "application/json", "User")),
+                List.of("users"), false);
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("servers", new ArrayList<>(List.of("https://api.example.com")));
+        ApiSpec original = new ApiSpec("Test API", "1.0.0", ApiType.REST, List.of(endpoint), metadata,
+                LocalDateTime.now());
+
+        ApiSpec copy = original.copy();
+        copy.getEndpoints().get(0).getParameters().get(0).setName("changed");
+        copy.getEndpoints().get(0).getRequestBody().setSchemaRef("Other");
+        ((List<Object>) copy.getMetadata().get("servers")).add("https://other.example.com");
+
+        assertThat(copy).isNotSameAs(original);
+        assertThat(original.getEndpoints().get(0).getParameters().get(0).getName()).isEqualTo("trace");
+        assertThat(original.getEndpoints().get(0).getRequestBody().getSchemaRef()).isEqualTo("User");
+        assertThat((List<Object>) original.getMetadata().get("servers")).containsExactly("https://api.example.com");
+        assertThat(original.copy()).isEqualTo(original);
+    }
 }
@@ -0,0 +1,178 @@
+package io.github.mohmk10.changeloghub.core.parser;
+
+import io.github.mohmk10.changeloghub.core.exception.UnsupportedSpecException;
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpecParserRegistryTest {
+
+    @Test
+    void shouldRouteContentToHighestScoringParser() {
+        SpecParserRegistry registry = new SpecParserRegistry()
+                .register(new StubParser(ApiType.REST, "openapi:", true))
+                .register(new StubParser(ApiType.ASYNCAPI, "asyncapi:", true));
+
+        ApiSpec spec = registry.parse("asyncapi: 3.0.0\ninfo:\n  title: Events\n");
+
+        assertThat(spec.getType()).isEqualTo(ApiType.ASYNCAPI);
+        assertThat(registry.detect("openapi: 3.0.0", null)).contains(ApiType.REST);
+    }
+
+    @Test
+    void shouldOnlySniffBoundedPrefix() {
+        SpecParserRegistry registry = new SpecParserRegistry(16, 1)
+                .register(new StubParser(ApiType.REST, "openapi:", true));
+
+        String content = "x".repeat(64) + "openapi: 3.0.0";
+
+        assertThat(registry.detect(content, null)).isEmpty();
+        assertThat(new SpecParserRegistry().register(new StubParser(ApiType.REST, "openapi:", true))
+                .detect(content, null)).contains(ApiType.REST);
+    }
+
+    @Test
+    void shouldRejectUnrecognizedContent() {
+        SpecParserRegistry registry = new SpecParserRegistry()
+                .register(new StubParser(ApiType.REST, "openapi:", true));
+
+        assertThatThrownBy(() -> registry.parse("just some text", "notes.txt"))
+                .isInstanceOf(UnsupportedSpecException.class)
+                .hasMessageContaining("notes.txt");
+        assertThatThrownBy(() -> registry.parse(ApiType.GRPC, "syntax = \"proto3\";", null))
+                .isInstanceOf(UnsupportedSpecException.class);
+    }
+
+    @Test
+    void shouldParseByExplicitType() {
+        SpecParserRegistry registry = new SpecParserRegistry()
+                .register(new StubParser(ApiType.GRAPHQL, "type Query", true));
+
+        ApiSpec spec = registry.parse(ApiType.GRAPHQL, "anything", "schema.graphql");
+
+        assertThat(spec.getName()).isEqualTo("schema.graphql");
+        assertThat(registry.supports(ApiType.GRAPHQL)).isTrue();
+        assertThat(registry.getParserName(ApiType.GRAPHQL)).contains("stub-GRAPHQL");
+    }
+
+    @Test
+    void shouldReportParserSchemaVersion() {
+        SpecParserRegistry registry = new SpecParserRegistry()
+                .register(new StubParser(ApiType.GRAPHQL, "type Query", true));
+
+        assertThat(registry.getParserVersion(ApiType.GRAPHQL)).contains("stub-GRAPHQL:1");
+        assertThat(registry.getParserVersion(ApiType.GRPC)).isEmpty();
+    }
+
+    @Test
+    void shouldShareThreadSafeParserInstance() {
+        AtomicInteger created = new AtomicInteger();
+        SpecParserRegistry registry = new SpecParserRegistry().register(() -> {
+            created.incrementAndGet();
+            return new StubParser(ApiType.REST, "openapi:", true);
+        });
+
+        for (int i = 0; i < 10; i++) {
+            registry.parse("openapi: 3.0.0", null);
+        }
+
+        assertThat(created).hasValue(1);
+        assertThat(registry.getInstanceCount(ApiType.REST)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPoolNonThreadSafeParsers() throws Exception {
+        CountDownLatch inside = new CountDownLatch(2);
+        SpecParserRegistry registry = new SpecParserRegistry().register(() -> new StubParser(ApiType.REST, "openapi:", false) {
+            @Override
+            public ApiSpec parse(String content, String fileName) {
+                inside.countDown();
+                try {
+                    inside.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.parse(content, fileName);
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<ApiSpec>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> registry.parse("openapi: 3.0.0", null)));
+            }
+            for (Future<ApiSpec> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS).getType()).isEqualTo(ApiType.REST);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(registry.getInstanceCount(ApiType.REST)).isEqualTo(2);
+
+        for (int i = 0; i < 5; i++) {
+            registry.parse("openapi: 3.0.0", null);
+        }
+        assertThat(registry.getInstanceCount(ApiType.REST)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReplaceParserRegisteredForSameType() {
+        SpecParserRegistry registry = new SpecParserRegistry()
+                .register(new StubParser(ApiType.REST, "openapi:", true))
+                .register(new StubParser(ApiType.REST, "swagger:", true));
+
+        assertThat(registry.getSupportedTypes()).containsExactly(ApiType.REST);
+        assertThat(registry.detect("swagger: '2.0'", null)).contains(ApiType.REST);
+        assertThat(registry.detect("openapi: 3.0.0", null)).isEmpty();
+    }
+
+    private static class StubParser implements SpecParser {
+        private final ApiType apiType;
+        private final String marker;
+        private final boolean threadSafe;
+
+        private StubParser(ApiType apiType, String marker, boolean threadSafe) {
+            this.apiType = apiType;
+            this.marker = marker;
+            this.threadSafe = threadSafe;
+        }
+
+        @Override
+        public String getName() {
+            return "stub-" + apiType;
+        }
+
+        @Override
+        public ApiType getApiType() {
+            return apiType;
+        }
+
+        @Override
+        public int detect(String prefix, String fileName) {
+            return prefix.contains(marker) ? STRONG_MATCH : NO_MATCH;
+        }
+
+        @Override
+        public ApiSpec parse(String content, String fileName) {
+            ApiSpec spec = new ApiSpec();
+            spec.setName(fileName);
+            spec.setType(apiType);
+            return spec;
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return threadSafe;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.mohmk10.changeloghub.core.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkerPoolsTest {
+
+    @Test
+    void shouldShareOnePoolPerParallelism() {
+        ForkJoinPool pool = WorkerPools.forParallelism(3);
+
+        assertThat(WorkerPools.forParallelism(3)).isSameAs(pool);
+        assertThat(WorkerPools.forParallelism(2)).isNotSameAs(pool);
+        assertThat(pool.getParallelism()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldClampParallelismToOne() {
+        assertThat(WorkerPools.forParallelism(0).getParallelism()).isEqualTo(1);
+        assertThat(WorkerPools.forParallelism(-4)).isSameAs(WorkerPools.forParallelism(1));
+    }
+}
@@ -4,6 +4,7 @@ import io.github.mohmk10.changeloghub.core.model.Changelog;
 import io.github.mohmk10.changeloghub.git.comparator.GitRefComparator;
 import io.github.mohmk10.changeloghub.git.comparator.GitSpecComparator;
 import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecCommitWalker;
 import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
 import io.github.mohmk10.changeloghub.git.model.*;
 
@@ -11,6 +12,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GitService extends AutoCloseable {
 
@@ -76,6 +78,8 @@ public interface GitService extends AutoCloseable {
 
     List<ChangelogExtractor.SpecChangelog> generateChangelogsForChangedFiles(String oldRef, String newRef);
 
+    Stream<SpecCommitWalker.CommitChangelog> streamCommitChangelogs(String fromRef, String toRef);
+
     GitRefComparator.RefComparison compareRefs(String oldRef, String newRef);
 
     GitSpecComparator.SpecComparison compareSpecs(String oldRef, String newRef);
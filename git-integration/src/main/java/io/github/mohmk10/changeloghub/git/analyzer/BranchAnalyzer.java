@@ -24,14 +24,20 @@ public class BranchAnalyzer {
 
     private final Repository repository;
     private final GitConfig config;
+    private final ReachabilityIndex reachabilityIndex;
 
     public BranchAnalyzer(Repository repository) {
         this(repository, new GitConfig());
     }
 
     public BranchAnalyzer(Repository repository, GitConfig config) {
+        this(repository, config, new ReachabilityIndex(repository));
+    }
+
+    public BranchAnalyzer(Repository repository, GitConfig config, ReachabilityIndex reachabilityIndex) {
         this.repository = repository;
         this.config = config;
+        this.reachabilityIndex = reachabilityIndex;
     }
 
     public List<GitBranch> getLocalBranches() {
@@ -137,11 +143,17 @@ public class BranchAnalyzer {
         try {
             ObjectId targetId = ObjectId.fromString(commitId);
 
+            Map<ObjectId, List<GitBranch>> branchesByTip = new LinkedHashMap<>();
             for (GitBranch branch : getAllBranches()) {
-                if (branchContainsCommit(branch, targetId)) {
-                    result.add(branch);
+                if (branch.getCommitId() != null) {
+                    branchesByTip.computeIfAbsent(ObjectId.fromString(branch.getCommitId()), id -> new ArrayList<>())
+                        .add(branch);
                 }
             }
+
+            for (ObjectId tip : reachabilityIndex.findTipsContaining(targetId, branchesByTip.keySet())) {
+                result.addAll(branchesByTip.get(tip));
+            }
         } catch (Exception e) {
             logger.error("Failed to get branches containing commit: {}", commitId, e);
         }
@@ -154,7 +166,7 @@ public class BranchAnalyzer {
     }
 
     public Optional<String> getMergeBase(String branch1, String branch2) {
-        try (RevWalk revWalk = new RevWalk(repository)) {
+        try {
             ObjectId id1 = resolveRef(branch1);
             ObjectId id2 = resolveRef(branch2);
 
@@ -162,15 +174,7 @@ public class BranchAnalyzer {
                 return Optional.empty();
             }
 
-            RevCommit commit1 = revWalk.parseCommit(id1);
-            RevCommit commit2 = revWalk.parseCommit(id2);
-
-            revWalk.setRevFilter(org.eclipse.jgit.revwalk.filter.RevFilter.MERGE_BASE);
-            revWalk.markStart(commit1);
-            revWalk.markStart(commit2);
-
-            RevCommit mergeBase = revWalk.next();
-            return mergeBase != null ? Optional.of(mergeBase.getName()) : Optional.empty();
+            return reachabilityIndex.getMergeBase(id1, id2).map(ObjectId::getName);
 
         } catch (Exception e) {
             logger.error("Failed to get merge base for {} and {}", branch1, branch2, e);
@@ -189,7 +193,7 @@ public class BranchAnalyzer {
     }
 
     public int[] getAheadBehind(String branch1, String branch2) {
-        try (RevWalk revWalk = new RevWalk(repository)) {
+        try {
             ObjectId id1 = resolveRef(branch1);
             ObjectId id2 = resolveRef(branch2);
 
@@ -197,15 +201,7 @@ public class BranchAnalyzer {
                 return new int[]{0, 0};
             }
 
-            Optional<String> mergeBase = getMergeBase(branch1, branch2);
-            if (mergeBase.isEmpty()) {
-                return new int[]{0, 0};
-            }
-
-            int ahead = countCommitsBetween(mergeBase.get(), branch1);
-            int behind = countCommitsBetween(mergeBase.get(), branch2);
-
-            return new int[]{ahead, behind};
+            return reachabilityIndex.getAheadBehind(id1, id2);
 
         } catch (Exception e) {
             logger.error("Failed to get ahead/behind for {} and {}", branch1, branch2, e);
@@ -213,6 +209,10 @@ public class BranchAnalyzer {
         }
     }
 
+    public ReachabilityIndex getReachabilityIndex() {
+        return reachabilityIndex;
+    }
+
     private List<GitBranch> getBranches(ListBranchCommand.ListMode mode, boolean remote) {
         List<GitBranch> branches = new ArrayList<>();
 
@@ -223,11 +223,13 @@ public class BranchAnalyzer {
             }
 
             List<Ref> refs = command.call();
-            for (Ref ref : refs) {
-                boolean isRemote = ref.getName().startsWith("refs/remotes/");
-                if (remote == isRemote || mode == ListBranchCommand.ListMode.ALL) {
-                    GitBranch branch = parseBranch(ref);
-                    branches.add(branch);
+            try (RevWalk revWalk = new RevWalk(repository)) {
+                for (Ref ref : refs) {
+                    boolean isRemote = ref.getName().startsWith("refs/remotes/");
+                    if (remote == isRemote || mode == ListBranchCommand.ListMode.ALL) {
+                        GitBranch branch = parseBranch(ref, revWalk);
+                        branches.add(branch);
+                    }
                 }
             }
 
@@ -239,6 +241,12 @@ public class BranchAnalyzer {
     }
 
     private GitBranch parseBranch(Ref ref) {
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            return parseBranch(ref, revWalk);
+        }
+    }
+
+    private GitBranch parseBranch(Ref ref, RevWalk revWalk) {
         String name = ref.getName();
         boolean remote = name.startsWith("refs/remotes/");
         String remoteName = null;
@@ -255,7 +263,7 @@ public class BranchAnalyzer {
         LocalDateTime lastCommitDate = null;
 
         if (objectId != null) {
-            try (RevWalk revWalk = new RevWalk(repository)) {
+            try {
                 RevCommit commit = revWalk.parseCommit(objectId);
                 lastCommitDate = LocalDateTime.ofInstant(
                     commit.getAuthorIdent().getWhen().toInstant(),
@@ -296,44 +304,4 @@ public class BranchAnalyzer {
         }
         return objectId;
     }
-
-    private boolean branchContainsCommit(GitBranch branch, ObjectId targetId) {
-        try (RevWalk revWalk = new RevWalk(repository)) {
-            ObjectId branchId = ObjectId.fromString(branch.getCommitId());
-            revWalk.markStart(revWalk.parseCommit(branchId));
-
-            for (RevCommit commit : revWalk) {
-                if (commit.getId().equals(targetId)) {
-                    return true;
-                }
-            }
-        } catch (Exception e) {
-            logger.debug("Error checking if branch {} contains commit", branch.getName());
-        }
-        return false;
-    }
-
-    private int countCommitsBetween(String fromRef, String toRef) {
-        try (RevWalk revWalk = new RevWalk(repository)) {
-            ObjectId fromId = resolveRef(fromRef);
-            ObjectId toId = resolveRef(toRef);
-
-            if (fromId == null || toId == null) {
-                return 0;
-            }
-
-            revWalk.markStart(revWalk.parseCommit(toId));
-            revWalk.markUninteresting(revWalk.parseCommit(fromId));
-
-            int count = 0;
-            for (RevCommit commit : revWalk) {
-                count++;
-            }
-            return count;
-
-        } catch (Exception e) {
-            logger.debug("Error counting commits between {} and {}", fromRef, toRef);
-            return 0;
-        }
-    }
 }
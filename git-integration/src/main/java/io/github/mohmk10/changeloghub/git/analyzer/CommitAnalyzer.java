@@ -240,7 +240,7 @@ public class CommitAnalyzer {
         return objectId;
     }
 
-    private GitCommit convertToGitCommit(RevCommit revCommit) {
+    public GitCommit convertToGitCommit(RevCommit revCommit) {
         PersonIdent author = revCommit.getAuthorIdent();
         LocalDateTime date = LocalDateTime.ofInstant(
             author.getWhen().toInstant(),
@@ -0,0 +1,78 @@
+package io.github.mohmk10.changeloghub.git.analyzer;
+
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraph;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Optional;
+
+final class CommitGenerations {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommitGenerations.class);
+
+    static final int UNKNOWN = -1;
+
+    private static volatile boolean unavailable;
+
+    private final GraphReader graph;
+
+    private CommitGenerations(GraphReader graph) {
+        this.graph = graph;
+    }
+
+    static CommitGenerations open(ObjectReader reader) throws IOException {
+        if (unavailable) {
+            return new CommitGenerations(null);
+        }
+        try {
+            return new CommitGenerations(GraphReader.open(reader));
+        } catch (LinkageError | RuntimeException e) {
+            disable(e);
+            return new CommitGenerations(null);
+        }
+    }
+
+    int generationOf(AnyObjectId id) {
+        if (graph == null || unavailable) {
+            return UNKNOWN;
+        }
+        try {
+            return graph.generationOf(id);
+        } catch (LinkageError | RuntimeException e) {
+            disable(e);
+            return UNKNOWN;
+        }
+    }
+
+    private static void disable(Throwable cause) {
+        if (!unavailable) {
+            unavailable = true;
+            logger.warn("Commit-graph generations unavailable, reachability pruning disabled: {}", cause.toString());
+        }
+    }
+
+    private static final class GraphReader {
+        private final CommitGraph commitGraph;
+
+        private GraphReader(CommitGraph commitGraph) {
+            this.commitGraph = commitGraph;
+        }
+
+        private static GraphReader open(ObjectReader reader) throws IOException {
+            Optional<CommitGraph> commitGraph = reader.getCommitGraph();
+            return commitGraph.map(GraphReader::new).orElse(null);
+        }
+
+        private int generationOf(AnyObjectId id) {
+            int position = commitGraph.findGraphPosition(id);
+            if (position < 0) {
+                return UNKNOWN;
+            }
+            int generation = commitGraph.getCommitData(position).getGeneration();
+            return generation > 0 ? generation : UNKNOWN;
+        }
+    }
+}
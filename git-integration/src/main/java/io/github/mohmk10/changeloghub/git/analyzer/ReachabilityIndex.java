@@ -0,0 +1,216 @@
+package io.github.mohmk10.changeloghub.git.analyzer;
+
+import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.ReachabilityChecker;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.RevWalkUtils;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Stream;
+
+public class ReachabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReachabilityIndex.class);
+
+    public static final int DEFAULT_MAX_ENTRIES = 65536;
+
+    private static final String NO_MERGE_BASE = "";
+
+    private final Repository repository;
+    private final int maxEntries;
+    private final Map<String, Boolean> reachable;
+    private final Map<String, String> mergeBases;
+    private final Map<String, int[]> aheadBehind;
+    private long hits;
+    private long misses;
+    private long generationPrunes;
+
+    public ReachabilityIndex(Repository repository) {
+        this(repository, DEFAULT_MAX_ENTRIES);
+    }
+
+    public ReachabilityIndex(Repository repository, int maxEntries) {
+        this.repository = repository;
+        this.maxEntries = Math.max(0, maxEntries);
+        this.reachable = lruMap();
+        this.mergeBases = lruMap();
+        this.aheadBehind = lruMap();
+    }
+
+    public synchronized boolean isReachable(AnyObjectId target, AnyObjectId from) {
+        try (RevWalk walk = new RevWalk(repository)) {
+            Lookup lookup = new Lookup(walk);
+            return lookup.isReachable(target, from);
+        } catch (IOException e) {
+            throw GitOperationException.ioError("Failed to check reachability of " + target.getName(), e);
+        }
+    }
+
+    public synchronized List<ObjectId> findTipsContaining(AnyObjectId target, Collection<? extends AnyObjectId> tips) {
+        List<ObjectId> containing = new ArrayList<>();
+        try (RevWalk walk = new RevWalk(repository)) {
+            Lookup lookup = new Lookup(walk);
+            for (AnyObjectId tip : tips) {
+                if (lookup.isReachable(target, tip)) {
+                    containing.add(tip.copy());
+                }
+            }
+        } catch (IOException e) {
+            throw GitOperationException.ioError("Failed to find tips containing " + target.getName(), e);
+        }
+        return containing;
+    }
+
+    public synchronized Optional<ObjectId> getMergeBase(AnyObjectId first, AnyObjectId second) {
+        try (RevWalk walk = new RevWalk(repository)) {
+            return new Lookup(walk).mergeBase(first, second);
+        } catch (IOException e) {
+            throw GitOperationException.ioError(
+                "Failed to find merge base of " + first.getName() + " and " + second.getName(), e);
+        }
+    }
+
+    public synchronized int[] getAheadBehind(AnyObjectId first, AnyObjectId second) {
+        String key = first.getName() + ":" + second.getName();
+        int[] cached = aheadBehind.get(key);
+        if (cached != null) {
+            hits++;
+            return cached.clone();
+        }
+        misses++;
+
+        try (RevWalk walk = new RevWalk(repository)) {
+            Lookup lookup = new Lookup(walk);
+            int[] counts;
+            if (lookup.mergeBase(first, second).isEmpty()) {
+                counts = new int[]{0, 0};
+            } else {
+                RevCommit firstCommit = walk.parseCommit(first);
+                RevCommit secondCommit = walk.parseCommit(second);
+                walk.reset();
+                int ahead = RevWalkUtils.count(walk, firstCommit, secondCommit);
+                walk.reset();
+                int behind = RevWalkUtils.count(walk, secondCommit, firstCommit);
+                counts = new int[]{ahead, behind};
+            }
+            aheadBehind.put(key, counts);
+            return counts.clone();
+        } catch (IOException e) {
+            throw GitOperationException.ioError(
+                "Failed to count commits between " + first.getName() + " and " + second.getName(), e);
+        }
+    }
+
+    public synchronized int size() {
+        return reachable.size() + mergeBases.size() + aheadBehind.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getGenerationPrunes() {
+        return generationPrunes;
+    }
+
+    public synchronized void clear() {
+        reachable.clear();
+        mergeBases.clear();
+        aheadBehind.clear();
+        hits = 0;
+        misses = 0;
+        generationPrunes = 0;
+    }
+
+    private <V> Map<String, V> lruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > ReachabilityIndex.this.maxEntries;
+            }
+        };
+    }
+
+    private final class Lookup {
+        private final RevWalk walk;
+        private final CommitGenerations generations;
+        private ReachabilityChecker checker;
+
+        private Lookup(RevWalk walk) throws IOException {
+            this.walk = walk;
+            this.generations = CommitGenerations.open(walk.getObjectReader());
+        }
+
+        private boolean isReachable(AnyObjectId target, AnyObjectId from) throws IOException {
+            if (target.equals(from)) {
+                return true;
+            }
+
+            String key = target.getName() + ":" + from.getName();
+            Boolean cached = reachable.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+
+            boolean result;
+            int targetGeneration = generations.generationOf(target);
+            int fromGeneration = generations.generationOf(from);
+            if (targetGeneration != CommitGenerations.UNKNOWN && fromGeneration != CommitGenerations.UNKNOWN
+                    && targetGeneration >= fromGeneration) {
+                generationPrunes++;
+                result = false;
+            } else {
+                if (checker == null) {
+                    checker = walk.getObjectReader().createReachabilityChecker(walk);
+                }
+                RevCommit targetCommit = walk.parseCommit(target);
+                RevCommit fromCommit = walk.parseCommit(from);
+                result = checker.areAllReachable(List.of(targetCommit), Stream.of(fromCommit)).isEmpty();
+            }
+
+            reachable.put(key, result);
+            return result;
+        }
+
+        private Optional<ObjectId> mergeBase(AnyObjectId first, AnyObjectId second) throws IOException {
+            String key = first.getName().compareTo(second.getName()) <= 0
+                ? first.getName() + ":" + second.getName()
+                : second.getName() + ":" + first.getName();
+            String cached = mergeBases.get(key);
+            if (cached != null) {
+                hits++;
+                return cached.equals(NO_MERGE_BASE) ? Optional.empty() : Optional.of(ObjectId.fromString(cached));
+            }
+            misses++;
+
+            walk.reset();
+            walk.sort(RevSort.NONE);
+            walk.setRevFilter(RevFilter.MERGE_BASE);
+            walk.markStart(walk.parseCommit(first));
+            walk.markStart(walk.parseCommit(second));
+            RevCommit base = walk.next();
+            walk.reset();
+            walk.setRevFilter(RevFilter.ALL);
+
+            mergeBases.put(key, base != null ? base.getName() : NO_MERGE_BASE);
+            logger.debug("Merge base of {} and {}: {}", first.getName(), second.getName(),
+                base != null ? base.getName() : "none");
+            return base != null ? Optional.of(base.copy()) : Optional.empty();
+        }
+    }
+}
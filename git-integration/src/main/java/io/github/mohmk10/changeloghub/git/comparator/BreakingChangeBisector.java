@@ -0,0 +1,330 @@
+package io.github.mohmk10.changeloghub.git.comparator;
+
+import io.github.mohmk10.changeloghub.core.generator.ChangelogGenerator;
+import io.github.mohmk10.changeloghub.core.generator.impl.DefaultChangelogGenerator;
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.BreakingChange;
+import io.github.mohmk10.changeloghub.core.model.Changelog;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.analyzer.CommitAnalyzer;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
+import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.FileExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecBlobCache;
+import io.github.mohmk10.changeloghub.git.extractor.SpecDetectionCache;
+import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
+import io.github.mohmk10.changeloghub.git.index.SpecIndex;
+import io.github.mohmk10.changeloghub.git.model.GitCommit;
+import io.github.mohmk10.changeloghub.git.model.GitFileContent;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+
+public class BreakingChangeBisector {
+
+    private static final Logger logger = LoggerFactory.getLogger(BreakingChangeBisector.class);
+
+    private final Repository repository;
+    private final FileExtractor fileExtractor;
+    private final SpecFileDetector specFileDetector;
+    private final ChangelogExtractor changelogExtractor;
+    private final CommitAnalyzer commitAnalyzer;
+    private final ChangelogGenerator changelogGenerator;
+
+    public BreakingChangeBisector(Repository repository) {
+        this(repository, new GitConfig());
+    }
+
+    public BreakingChangeBisector(Repository repository, GitConfig config) {
+        this(repository, config, SpecIndex.forRepository(repository, config));
+    }
+
+    public BreakingChangeBisector(Repository repository, GitConfig config, SpecIndex specIndex) {
+        this(repository, config, new ChangelogExtractor(repository, config, SpecParserRegistry.getDefault(),
+            SpecBlobCache.shared(), specIndex), specIndex);
+    }
+
+    public BreakingChangeBisector(Repository repository, GitConfig config, ChangelogExtractor changelogExtractor,
+                                  SpecIndex specIndex) {
+        this.repository = repository;
+        this.fileExtractor = new FileExtractor(repository, config);
+        this.specFileDetector = new SpecFileDetector(fileExtractor, config, SpecDetectionCache.shared(), specIndex);
+        this.changelogExtractor = changelogExtractor;
+        this.commitAnalyzer = new CommitAnalyzer(repository, config);
+        this.changelogGenerator = new DefaultChangelogGenerator();
+    }
+
+    public BisectResult bisect(String goodRef, String badRef) {
+        logger.info("Bisecting first breaking change between {} and {}", goodRef, badRef);
+
+        Map<String, SpecFileDetector.SpecFile> baseline = new TreeMap<>();
+        for (SpecFileDetector.SpecFile spec : specFileDetector.detectSpecFiles(goodRef)) {
+            if (spec.getType() != SpecFileDetector.SpecType.SPRING) {
+                baseline.put(spec.getPath(), spec);
+            }
+        }
+        if (baseline.isEmpty()) {
+            return new BisectResult(goodRef, badRef, null, 0, 0, Collections.emptyList());
+        }
+
+        try (ObjectReader reader = repository.newObjectReader();
+             RevWalk revWalk = new RevWalk(reader);
+             FileExtractor.Snapshot goodSnapshot = fileExtractor.openSnapshot(goodRef)) {
+            RevCommit good = parseCommit(revWalk, goodRef);
+            RevCommit bad = parseCommit(revWalk, badRef);
+
+            List<RevCommit> candidates = findCandidates(revWalk, good, bad, baseline.keySet());
+            Probe probe = new Probe(baseline, goodSnapshot, reader);
+
+            if (candidates.isEmpty() || !probe.isBreaking(candidates.get(candidates.size() - 1))) {
+                logger.info("No breaking spec change between {} and {} ({} candidate commits)",
+                    goodRef, badRef, candidates.size());
+                return new BisectResult(goodRef, badRef, null, candidates.size(), probe.comparisons,
+                    Collections.emptyList());
+            }
+
+            int low = 0;
+            int high = candidates.size() - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (probe.isBreaking(candidates.get(mid))) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            RevCommit offending = candidates.get(low);
+            logger.info("First breaking spec change between {} and {} is {} ({} comparisons over {} candidates)",
+                goodRef, badRef, offending.getName(), probe.comparisons, candidates.size());
+
+            return new BisectResult(goodRef, badRef,
+                commitAnalyzer.getCommit(offending.getName()).orElse(null),
+                candidates.size(), probe.comparisons, probe.breakingChanges(offending));
+        } catch (IOException e) {
+            throw GitOperationException.ioError("Failed to bisect " + goodRef + ".." + badRef, e);
+        }
+    }
+
+    private RevCommit parseCommit(RevWalk revWalk, String ref) throws IOException {
+        ObjectId id = repository.resolve(ref);
+        if (id == null) {
+            throw GitOperationException.referenceNotFound(ref);
+        }
+        return revWalk.parseCommit(id);
+    }
+
+    private List<RevCommit> findCandidates(RevWalk revWalk, RevCommit good, RevCommit bad,
+                                           Collection<String> specPaths) throws IOException {
+        revWalk.reset();
+        revWalk.setTreeFilter(AndTreeFilter.create(PathFilterGroup.createFromStrings(specPaths), TreeFilter.ANY_DIFF));
+        revWalk.sort(RevSort.TOPO);
+        revWalk.sort(RevSort.REVERSE, true);
+        revWalk.markStart(bad);
+        revWalk.markUninteresting(good);
+
+        List<RevCommit> candidates = new ArrayList<>();
+        for (RevCommit commit : revWalk) {
+            candidates.add(commit);
+        }
+        return candidates;
+    }
+
+    private final class Probe {
+        private final Map<String, SpecFileDetector.SpecFile> baseline;
+        private final FileExtractor.Snapshot goodSnapshot;
+        private final ObjectReader reader;
+        private final Map<String, ApiSpec> specs = new HashMap<>();
+        private final Map<String, Changelog> changelogs = new HashMap<>();
+        private final Map<ObjectId, Boolean> results = new HashMap<>();
+        private int comparisons;
+
+        private Probe(Map<String, SpecFileDetector.SpecFile> baseline, FileExtractor.Snapshot goodSnapshot,
+                      ObjectReader reader) {
+            this.baseline = baseline;
+            this.goodSnapshot = goodSnapshot;
+            this.reader = reader;
+        }
+
+        private boolean isBreaking(RevCommit commit) throws IOException {
+            Boolean cached = results.get(commit);
+            if (cached != null) {
+                return cached;
+            }
+            comparisons++;
+
+            boolean breaking = false;
+            Map<String, ObjectId> blobs = blobsAt(commit);
+            for (SpecFileDetector.SpecFile spec : baseline.values()) {
+                ObjectId blobId = blobs.get(spec.getPath());
+                if (blobId == null) {
+                    breaking = true;
+                    break;
+                }
+                Changelog changelog = changelogFor(spec, blobId, commit);
+                if (changelog != null && !changelog.getBreakingChanges().isEmpty()) {
+                    breaking = true;
+                    break;
+                }
+            }
+
+            logger.debug("Probed {}: {}", commit.getName(), breaking ? "breaking" : "compatible");
+            results.put(commit.copy(), breaking);
+            return breaking;
+        }
+
+        private List<BreakingChange> breakingChanges(RevCommit commit) throws IOException {
+            List<BreakingChange> breaking = new ArrayList<>();
+            Map<String, ObjectId> blobs = blobsAt(commit);
+            for (SpecFileDetector.SpecFile spec : baseline.values()) {
+                ObjectId blobId = blobs.get(spec.getPath());
+                Changelog changelog = blobId != null
+                    ? changelogFor(spec, blobId, commit)
+                    : changelogGenerator.generate(baselineSpec(spec), null);
+                if (changelog != null) {
+                    breaking.addAll(changelog.getBreakingChanges());
+                }
+            }
+            return breaking;
+        }
+
+        private Changelog changelogFor(SpecFileDetector.SpecFile spec, ObjectId blobId, RevCommit commit) {
+            String blob = blobId.getName();
+            if (blob.equals(spec.getBlobId())) {
+                return null;
+            }
+
+            String key = spec.getPath() + ":" + blob;
+            if (changelogs.containsKey(key)) {
+                return changelogs.get(key);
+            }
+
+            ApiSpec oldSpec = baselineSpec(spec);
+            ApiSpec newSpec = specs.get(blob);
+            if (newSpec == null && !specs.containsKey(blob)) {
+                try (FileExtractor.Snapshot snapshot = fileExtractor.openSnapshot(commit.getName())) {
+                    newSpec = specOf(spec.getType(), snapshot.extract(spec.getPath()));
+                }
+                specs.put(blob, newSpec);
+            }
+
+            Changelog changelog = oldSpec != null && newSpec != null
+                ? changelogGenerator.generate(oldSpec, newSpec)
+                : null;
+            changelogs.put(key, changelog);
+            return changelog;
+        }
+
+        private ApiSpec baselineSpec(SpecFileDetector.SpecFile spec) {
+            if (spec.getBlobId() != null && specs.containsKey(spec.getBlobId())) {
+                return specs.get(spec.getBlobId());
+            }
+            return specOf(spec.getType(), goodSnapshot.extract(spec.getPath()));
+        }
+
+        private ApiSpec specOf(SpecFileDetector.SpecType type, GitFileContent content) {
+            String blob = content.getObjectId();
+            if (blob != null && specs.containsKey(blob)) {
+                return specs.get(blob);
+            }
+            ApiSpec spec;
+            try {
+                spec = changelogExtractor.parseSpec(type, content);
+            } catch (Exception e) {
+                logger.warn("Failed to parse spec: {} at {} - {}", content.getPath(), content.getRef(), e.getMessage());
+                spec = null;
+            }
+            if (blob != null) {
+                specs.put(blob, spec);
+            }
+            return spec;
+        }
+
+        private Map<String, ObjectId> blobsAt(RevCommit commit) throws IOException {
+            Map<String, ObjectId> blobs = new HashMap<>();
+            try (TreeWalk treeWalk = new TreeWalk(repository, reader)) {
+                treeWalk.addTree(commit.getTree());
+                treeWalk.setRecursive(true);
+                treeWalk.setFilter(PathFilterGroup.createFromStrings(baseline.keySet()));
+                while (treeWalk.next()) {
+                    if (treeWalk.getFileMode(0).getObjectType() == Constants.OBJ_BLOB) {
+                        blobs.put(treeWalk.getPathString(), treeWalk.getObjectId(0));
+                    }
+                }
+            }
+            return blobs;
+        }
+    }
+
+    public static class BisectResult {
+        private final String goodRef;
+        private final String badRef;
+        private final GitCommit commit;
+        private final int candidateCount;
+        private final int comparisonCount;
+        private final List<BreakingChange> breakingChanges;
+
+        public BisectResult(String goodRef, String badRef, GitCommit commit, int candidateCount,
+                            int comparisonCount, List<BreakingChange> breakingChanges) {
+            this.goodRef = goodRef;
+            this.badRef = badRef;
+            this.commit = commit;
+            this.candidateCount = candidateCount;
+            this.comparisonCount = comparisonCount;
+            this.breakingChanges = breakingChanges;
+        }
+
+        public String getGoodRef() {
+            return goodRef;
+        }
+
+        public String getBadRef() {
+            return badRef;
+        }
+
+        public Optional<GitCommit> getCommit() {
+            return Optional.ofNullable(commit);
+        }
+
+        public boolean isFound() {
+            return commit != null;
+        }
+
+        public int getCandidateCount() {
+            return candidateCount;
+        }
+
+        public int getComparisonCount() {
+            return comparisonCount;
+        }
+
+        public List<BreakingChange> getBreakingChanges() {
+            return Collections.unmodifiableList(breakingChanges);
+        }
+
+        @Override
+        public String toString() {
+            return "BisectResult{" +
+                   "goodRef='" + goodRef + '\'' +
+                   ", badRef='" + badRef + '\'' +
+                   ", commit=" + (commit != null ? commit.getShortId() : null) +
+                   ", candidates=" + candidateCount +
+                   ", comparisons=" + comparisonCount +
+                   '}';
+        }
+    }
+}
@@ -3,10 +3,15 @@ package io.github.mohmk10.changeloghub.git.comparator;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
 import io.github.mohmk10.changeloghub.core.model.Changelog;
 import io.github.mohmk10.changeloghub.core.model.Change;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
 import io.github.mohmk10.changeloghub.git.analyzer.DiffAnalyzer;
 import io.github.mohmk10.changeloghub.git.config.GitConfig;
 import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.FileExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecBlobCache;
+import io.github.mohmk10.changeloghub.git.extractor.SpecDetectionCache;
 import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
+import io.github.mohmk10.changeloghub.git.index.SpecIndex;
 import io.github.mohmk10.changeloghub.git.model.GitDiff;
 import org.eclipse.jgit.lib.Repository;
 import org.slf4j.Logger;
@@ -24,17 +29,25 @@ public class GitSpecComparator {
     private final ChangelogExtractor changelogExtractor;
     private final DiffAnalyzer diffAnalyzer;
     private final SpecFileDetector specFileDetector;
+    private final BreakingChangeBisector bisector;
 
     public GitSpecComparator(Repository repository) {
         this(repository, new GitConfig());
     }
 
     public GitSpecComparator(Repository repository, GitConfig config) {
+        this(repository, config, SpecIndex.forRepository(repository, config));
+    }
+
+    public GitSpecComparator(Repository repository, GitConfig config, SpecIndex specIndex) {
         this.repository = repository;
         this.config = config;
-        this.changelogExtractor = new ChangelogExtractor(repository, config);
+        this.changelogExtractor = new ChangelogExtractor(repository, config, SpecParserRegistry.getDefault(),
+            SpecBlobCache.shared(), specIndex);
         this.diffAnalyzer = new DiffAnalyzer(repository, config);
-        this.specFileDetector = new SpecFileDetector(repository, config);
+        this.specFileDetector = new SpecFileDetector(new FileExtractor(repository, config), config,
+            SpecDetectionCache.shared(), specIndex);
+        this.bisector = new BreakingChangeBisector(repository, config, changelogExtractor, specIndex);
     }
 
     public SpecComparison compare(String oldRef, String newRef) {
@@ -118,6 +131,10 @@ public class GitSpecComparator {
         return comparison.hasBreakingChanges();
     }
 
+    public BreakingChangeBisector.BisectResult findFirstBreakingCommit(String oldRef, String newRef) {
+        return bisector.bisect(oldRef, newRef);
+    }
+
     public List<BreakingChange> getBreakingChanges(String oldRef, String newRef) {
         SpecComparison comparison = compare(oldRef, newRef);
         List<BreakingChange> breaking = new ArrayList<>();
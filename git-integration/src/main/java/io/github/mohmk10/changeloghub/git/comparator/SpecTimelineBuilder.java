@@ -0,0 +1,270 @@
+package io.github.mohmk10.changeloghub.git.comparator;
+
+import io.github.mohmk10.changeloghub.core.generator.ChangelogGenerator;
+import io.github.mohmk10.changeloghub.core.generator.impl.DefaultChangelogGenerator;
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.Changelog;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.analyzer.TagAnalyzer;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
+import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.FileExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecBlobCache;
+import io.github.mohmk10.changeloghub.git.extractor.SpecDetectionCache;
+import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
+import io.github.mohmk10.changeloghub.git.index.SpecIndex;
+import io.github.mohmk10.changeloghub.git.model.GitFileContent;
+import io.github.mohmk10.changeloghub.git.model.GitTag;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class SpecTimelineBuilder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpecTimelineBuilder.class);
+
+    private final Repository repository;
+    private final FileExtractor fileExtractor;
+    private final SpecFileDetector specFileDetector;
+    private final ChangelogExtractor changelogExtractor;
+    private final TagAnalyzer tagAnalyzer;
+    private final ChangelogGenerator changelogGenerator;
+
+    public SpecTimelineBuilder(Repository repository) {
+        this(repository, new GitConfig());
+    }
+
+    public SpecTimelineBuilder(Repository repository, GitConfig config) {
+        this(repository, config, SpecIndex.forRepository(repository, config));
+    }
+
+    public SpecTimelineBuilder(Repository repository, GitConfig config, SpecIndex specIndex) {
+        this(repository, config, new ChangelogExtractor(repository, config, SpecParserRegistry.getDefault(),
+            SpecBlobCache.shared(), specIndex), specIndex);
+    }
+
+    public SpecTimelineBuilder(Repository repository, GitConfig config, ChangelogExtractor changelogExtractor,
+                               SpecIndex specIndex) {
+        this.repository = repository;
+        this.fileExtractor = new FileExtractor(repository, config);
+        this.specFileDetector = new SpecFileDetector(fileExtractor, config, SpecDetectionCache.shared(), specIndex);
+        this.changelogExtractor = changelogExtractor;
+        this.tagAnalyzer = new TagAnalyzer(repository, config);
+        this.changelogGenerator = new DefaultChangelogGenerator();
+    }
+
+    public SpecTimeline buildFromTags() {
+        List<GitTag> tags = new ArrayList<>(tagAnalyzer.getTagsSortedByVersion());
+        Collections.reverse(tags);
+
+        List<Release> releases = new ArrayList<>(tags.size());
+        for (GitTag tag : tags) {
+            releases.add(new Release(tag.getName(), tag.getDate()));
+        }
+        return buildTimeline(releases);
+    }
+
+    public SpecTimeline build(List<String> refs) {
+        List<Release> releases = new ArrayList<>(refs.size());
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            for (String ref : refs) {
+                ObjectId commitId = repository.resolve(ref);
+                if (commitId == null) {
+                    throw GitOperationException.referenceNotFound(ref);
+                }
+                RevCommit commit = revWalk.parseCommit(commitId);
+                releases.add(new Release(ref, LocalDateTime.ofInstant(
+                    commit.getAuthorIdent().getWhen().toInstant(), ZoneId.systemDefault())));
+            }
+        } catch (IOException e) {
+            throw GitOperationException.ioError("Failed to resolve timeline refs: " + refs, e);
+        }
+        return buildTimeline(releases);
+    }
+
+    private SpecTimeline buildTimeline(List<Release> releases) {
+        Map<String, List<Changelog>> histories = new TreeMap<>();
+        Map<String, SpecFileDetector.SpecType> specTypes = new TreeMap<>();
+        Map<String, SpecFileDetector.SpecFile> previousFiles = Collections.emptyMap();
+        Map<String, ApiSpec> previousSpecs = Collections.emptyMap();
+        Release previous = null;
+        int parsedSpecs = 0;
+        int skippedSteps = 0;
+
+        for (Release release : releases) {
+            Map<String, SpecFileDetector.SpecFile> currentFiles = new HashMap<>();
+            for (SpecFileDetector.SpecFile spec : specFileDetector.detectSpecFiles(release.ref)) {
+                if (spec.getType() != SpecFileDetector.SpecType.SPRING) {
+                    currentFiles.put(spec.getPath(), spec);
+                }
+            }
+
+            Map<String, ApiSpec> currentSpecs = new HashMap<>();
+            try (FileExtractor.Snapshot snapshot = fileExtractor.openSnapshot(release.ref)) {
+                for (SpecFileDetector.SpecFile spec : currentFiles.values()) {
+                    if (sameBlob(previousFiles.get(spec.getPath()), spec)) {
+                        ApiSpec carried = previousSpecs.get(spec.getPath());
+                        if (carried != null) {
+                            currentSpecs.put(spec.getPath(), carried);
+                        }
+                        continue;
+                    }
+                    ApiSpec parsed = parse(spec, snapshot.extract(spec.getPath()));
+                    parsedSpecs++;
+                    if (parsed != null) {
+                        currentSpecs.put(spec.getPath(), parsed);
+                    }
+                }
+            }
+
+            if (previous != null) {
+                Set<String> paths = new TreeSet<>(previousFiles.keySet());
+                paths.addAll(currentFiles.keySet());
+                for (String path : paths) {
+                    SpecFileDetector.SpecFile before = previousFiles.get(path);
+                    SpecFileDetector.SpecFile after = currentFiles.get(path);
+                    ApiSpec oldSpec = previousSpecs.get(path);
+                    ApiSpec newSpec = currentSpecs.get(path);
+
+                    if ((before != null && oldSpec == null) || (after != null && newSpec == null)) {
+                        logger.warn("Skipping {} between {} and {}: spec could not be parsed",
+                            path, previous.ref, release.ref);
+                        skippedSteps++;
+                        continue;
+                    }
+
+                    Changelog changelog = sameBlob(before, after)
+                        ? changelogGenerator.generate(new ApiSpec(), new ApiSpec())
+                        : changelogGenerator.generate(oldSpec, newSpec);
+
+                    changelog.setApiName(apiNameOf(path, newSpec != null ? newSpec : oldSpec));
+                    changelog.setFromVersion(previous.ref);
+                    changelog.setToVersion(release.ref);
+                    if (release.date != null) {
+                        changelog.setGeneratedAt(release.date);
+                    }
+                    histories.computeIfAbsent(path, key -> new ArrayList<>()).add(changelog);
+                    specTypes.put(path, (after != null ? after : before).getType());
+                }
+            }
+
+            previousFiles = currentFiles;
+            previousSpecs = currentSpecs;
+            previous = release;
+        }
+
+        logger.info("Built spec timeline across {} releases: {} specs, {} parses, {} unparseable steps skipped",
+            releases.size(), histories.size(), parsedSpecs, skippedSteps);
+
+        List<String> refs = releases.stream().map(release -> release.ref).collect(Collectors.toList());
+        return new SpecTimeline(refs, histories, specTypes, parsedSpecs, skippedSteps);
+    }
+
+    private ApiSpec parse(SpecFileDetector.SpecFile spec, GitFileContent content) {
+        try {
+            return changelogExtractor.parseSpec(spec.getType(), content);
+        } catch (Exception e) {
+            logger.warn("Failed to parse spec: {} at {} - {}", spec.getPath(), spec.getRef(), e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean sameBlob(SpecFileDetector.SpecFile before, SpecFileDetector.SpecFile after) {
+        return before != null && after != null && before.getType() == after.getType()
+            && after.getBlobId() != null && after.getBlobId().equals(before.getBlobId());
+    }
+
+    private String apiNameOf(String path, ApiSpec spec) {
+        return spec != null && spec.getName() != null ? spec.getName() : path;
+    }
+
+    private static final class Release {
+        private final String ref;
+        private final LocalDateTime date;
+
+        private Release(String ref, LocalDateTime date) {
+            this.ref = ref;
+            this.date = date;
+        }
+    }
+
+    public static class SpecTimeline {
+        private final List<String> refs;
+        private final Map<String, List<Changelog>> histories;
+        private final Map<String, SpecFileDetector.SpecType> specTypes;
+        private final int parsedSpecCount;
+        private final int skippedStepCount;
+
+        public SpecTimeline(List<String> refs, Map<String, List<Changelog>> histories,
+                            Map<String, SpecFileDetector.SpecType> specTypes, int parsedSpecCount,
+                            int skippedStepCount) {
+            this.refs = refs;
+            this.histories = histories;
+            this.specTypes = specTypes;
+            this.parsedSpecCount = parsedSpecCount;
+            this.skippedStepCount = skippedStepCount;
+        }
+
+        public List<String> getRefs() {
+            return Collections.unmodifiableList(refs);
+        }
+
+        public Map<String, List<Changelog>> getHistories() {
+            return Collections.unmodifiableMap(histories);
+        }
+
+        public List<Changelog> getHistory(String specPath) {
+            return Collections.unmodifiableList(histories.getOrDefault(specPath, Collections.emptyList()));
+        }
+
+        public Set<String> getSpecPaths() {
+            return Collections.unmodifiableSet(histories.keySet());
+        }
+
+        public SpecFileDetector.SpecType getSpecType(String specPath) {
+            return specTypes.get(specPath);
+        }
+
+        public List<Changelog> getChangelogs() {
+            return histories.values().stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(Changelog::getGeneratedAt))
+                .collect(Collectors.toList());
+        }
+
+        public int getParsedSpecCount() {
+            return parsedSpecCount;
+        }
+
+        public int getSkippedStepCount() {
+            return skippedStepCount;
+        }
+
+        public int getBreakingChangeCount() {
+            return histories.values().stream()
+                .flatMap(List::stream)
+                .mapToInt(changelog -> changelog.getBreakingChanges().size())
+                .sum();
+        }
+
+        @Override
+        public String toString() {
+            return "SpecTimeline{" +
+                   "releases=" + refs.size() +
+                   ", specs=" + histories.size() +
+                   ", parsedSpecs=" + parsedSpecCount +
+                   ", skippedSteps=" + skippedStepCount +
+                   '}';
+        }
+    }
+}
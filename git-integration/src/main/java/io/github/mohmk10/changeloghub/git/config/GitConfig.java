@@ -17,6 +17,8 @@ public class GitConfig {
     private int maxFileSizeBytes;
     private boolean followRenames;
     private boolean includeRemoteBranches;
+    private boolean useSpecIndex;
+    private int extractionParallelism;
     private Set<String> specFilePatterns;
     private Set<String> ignoredPaths;
     private List<String> specDirectories;
@@ -29,6 +31,8 @@ public class GitConfig {
         this.maxFileSizeBytes = 10 * 1024 * 1024; 
         this.followRenames = true;
         this.includeRemoteBranches = false;
+        this.useSpecIndex = true;
+        this.extractionParallelism = 1;
         this.specFilePatterns = new HashSet<>(Arrays.asList(
             "*.yaml", "*.yml", "*.json",
             "*.graphql", "*.gql", "*.graphqls",
@@ -90,6 +94,22 @@ public class GitConfig {
         this.includeRemoteBranches = includeRemoteBranches;
     }
 
+    public boolean isUseSpecIndex() {
+        return useSpecIndex;
+    }
+
+    public void setUseSpecIndex(boolean useSpecIndex) {
+        this.useSpecIndex = useSpecIndex;
+    }
+
+    public int getExtractionParallelism() {
+        return extractionParallelism;
+    }
+
+    public void setExtractionParallelism(int extractionParallelism) {
+        this.extractionParallelism = Math.max(1, extractionParallelism);
+    }
+
     public Set<String> getSpecFilePatterns() {
         return Collections.unmodifiableSet(specFilePatterns);
     }
@@ -327,6 +347,16 @@ public class GitConfig {
             return this;
         }
 
+        public Builder useSpecIndex(boolean use) {
+            config.setUseSpecIndex(use);
+            return this;
+        }
+
+        public Builder extractionParallelism(int parallelism) {
+            config.setExtractionParallelism(parallelism);
+            return this;
+        }
+
         public Builder specFilePatterns(Set<String> patterns) {
             config.setSpecFilePatterns(patterns);
             return this;
@@ -194,4 +194,14 @@ public class GitOperationException extends RuntimeException {
             cause
         );
     }
+
+    public static GitOperationException fetchError(String url, Throwable cause) {
+        return new GitOperationException(
+            GitErrorCode.REMOTE_ERROR,
+            "Failed to fetch repository: " + url,
+            url,
+            null,
+            cause
+        );
+    }
 }
@@ -3,23 +3,25 @@ package io.github.mohmk10.changeloghub.git.extractor;
 import io.github.mohmk10.changeloghub.core.generator.ChangelogGenerator;
 import io.github.mohmk10.changeloghub.core.generator.impl.DefaultChangelogGenerator;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
 import io.github.mohmk10.changeloghub.core.model.Changelog;
+import io.github.mohmk10.changeloghub.core.model.RiskAssessment;
+import io.github.mohmk10.changeloghub.core.model.RiskLevel;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.core.parser.WorkerPools;
 import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
+import io.github.mohmk10.changeloghub.git.index.SpecIndex;
 import io.github.mohmk10.changeloghub.git.model.GitDiff;
 import io.github.mohmk10.changeloghub.git.model.GitFileContent;
-import io.github.mohmk10.changeloghub.parser.asyncapi.DefaultAsyncApiParser;
-import io.github.mohmk10.changeloghub.parser.asyncapi.mapper.AsyncApiModelMapper;
-import io.github.mohmk10.changeloghub.parser.graphql.DefaultGraphQLParser;
-import io.github.mohmk10.changeloghub.parser.graphql.mapper.GraphQLModelMapper;
-import io.github.mohmk10.changeloghub.parser.grpc.DefaultGrpcParser;
-import io.github.mohmk10.changeloghub.parser.grpc.mapper.GrpcModelMapper;
-import io.github.mohmk10.changeloghub.parser.openapi.OpenApiParser;
-import io.github.mohmk10.changeloghub.parser.openapi.impl.DefaultOpenApiParser;
 import org.eclipse.jgit.lib.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 public class ChangelogExtractor {
@@ -31,15 +33,9 @@ public class ChangelogExtractor {
     private final SpecFileDetector specFileDetector;
     private final GitConfig config;
 
-    private final OpenApiParser openApiParser;
-    private final DefaultGraphQLParser graphQLParser;
-    private final DefaultGrpcParser grpcParser;
-    private final DefaultAsyncApiParser asyncApiParser;
-
-    private final GraphQLModelMapper graphQLModelMapper;
-    private final GrpcModelMapper grpcModelMapper;
-    private final AsyncApiModelMapper asyncApiModelMapper;
-
+    private final SpecParserRegistry parserRegistry;
+    private final SpecBlobCache specCache;
+    private final SpecIndex specIndex;
     private final ChangelogGenerator changelogGenerator;
 
     public ChangelogExtractor(Repository repository) {
@@ -47,43 +43,57 @@ public class ChangelogExtractor {
     }
 
     public ChangelogExtractor(Repository repository, GitConfig config) {
-        this.repository = repository;
-        this.config = config;
-        this.fileExtractor = new FileExtractor(repository, config);
-        this.specFileDetector = new SpecFileDetector(repository, config);
+        this(repository, config, SpecParserRegistry.getDefault());
+    }
 
-        this.openApiParser = new DefaultOpenApiParser();
-        this.graphQLParser = new DefaultGraphQLParser();
-        this.grpcParser = new DefaultGrpcParser();
-        this.asyncApiParser = new DefaultAsyncApiParser();
+    public ChangelogExtractor(Repository repository, GitConfig config, SpecParserRegistry parserRegistry) {
+        this(repository, config, parserRegistry, SpecBlobCache.shared());
+    }
 
-        this.graphQLModelMapper = new GraphQLModelMapper();
-        this.grpcModelMapper = new GrpcModelMapper();
-        this.asyncApiModelMapper = new AsyncApiModelMapper();
+    public ChangelogExtractor(Repository repository, GitConfig config, SpecParserRegistry parserRegistry,
+                              SpecBlobCache specCache) {
+        this(repository, config, parserRegistry, specCache, SpecIndex.forRepository(repository, config));
+    }
 
+    public ChangelogExtractor(Repository repository, GitConfig config, SpecParserRegistry parserRegistry,
+                              SpecBlobCache specCache, SpecIndex specIndex) {
+        this.repository = repository;
+        this.config = config;
+        this.fileExtractor = new FileExtractor(repository, config);
+        this.specFileDetector = new SpecFileDetector(fileExtractor, config, SpecDetectionCache.shared(), specIndex);
+        this.parserRegistry = parserRegistry;
+        this.specCache = specCache;
+        this.specIndex = specIndex;
         this.changelogGenerator = new DefaultChangelogGenerator();
     }
 
     public List<SpecChangelog> extractChangelogs(String oldRef, String newRef) {
         List<SpecChangelog> changelogs = new ArrayList<>();
 
-        Map<SpecFileDetector.SpecType, List<String>> oldSpecs = specFileDetector.detectSpecs(oldRef);
-        Map<SpecFileDetector.SpecType, List<String>> newSpecs = specFileDetector.detectSpecs(newRef);
+        Map<String, SpecFileDetector.SpecFile> oldSpecs = new HashMap<>();
+        for (SpecFileDetector.SpecFile spec : specFileDetector.detectSpecFiles(oldRef)) {
+            oldSpecs.put(spec.getPath(), spec);
+        }
 
-        Set<String> allSpecFiles = new HashSet<>();
-        oldSpecs.values().forEach(allSpecFiles::addAll);
-        newSpecs.values().forEach(allSpecFiles::addAll);
+        Map<String, SpecFileDetector.SpecType> specTypes = new TreeMap<>();
+        int unchanged = 0;
+        for (SpecFileDetector.SpecFile spec : specFileDetector.detectSpecFiles(newRef)) {
+            SpecFileDetector.SpecFile oldSpec = oldSpecs.remove(spec.getPath());
+            if (oldSpec != null && oldSpec.getType() == spec.getType() && spec.getBlobId() != null
+                    && spec.getBlobId().equals(oldSpec.getBlobId())) {
+                unchanged++;
+                continue;
+            }
+            specTypes.put(spec.getPath(), spec.getType());
+        }
+        oldSpecs.values().forEach(spec -> specTypes.putIfAbsent(spec.getPath(), spec.getType()));
 
-        logger.info("Found {} spec files to compare between {} and {}", allSpecFiles.size(), oldRef, newRef);
+        logger.info("Found {} spec files to compare between {} and {} ({} unchanged)",
+            specTypes.size(), oldRef, newRef, unchanged);
 
-        for (String specPath : allSpecFiles) {
-            try {
-                SpecChangelog changelog = extractChangelogForFile(specPath, oldRef, newRef);
-                if (changelog != null && changelog.hasChanges()) {
-                    changelogs.add(changelog);
-                }
-            } catch (Exception e) {
-                logger.warn("Failed to extract changelog for: {}", specPath, e);
+        for (SpecChangelog changelog : extractChangelogs(specTypes, oldRef, newRef)) {
+            if (changelog.hasChanges()) {
+                changelogs.add(changelog);
             }
         }
 
@@ -101,74 +111,34 @@ public class ChangelogExtractor {
             return null;
         }
 
-        Optional<GitFileContent> oldContent = fileExtractor.extractFile(specPath, oldRef);
-        Optional<GitFileContent> newContent = fileExtractor.extractFile(specPath, newRef);
-
-        boolean oldExists = oldContent.isPresent() && oldContent.get().exists();
-        boolean newExists = newContent.isPresent() && newContent.get().exists();
-
-        if (!oldExists && !newExists) {
-            return null;
-        }
-
-        try {
-            ApiSpec oldSpec = oldExists ? parseSpec(specType, oldContent.get()) : null;
-            ApiSpec newSpec = newExists ? parseSpec(specType, newContent.get()) : null;
-
-            Changelog changelog = changelogGenerator.generate(oldSpec, newSpec);
-
-            return new SpecChangelog(
-                specPath,
-                specType,
-                oldRef,
-                newRef,
-                changelog,
-                !oldExists, 
-                !newExists  
-            );
-        } catch (Exception e) {
-            logger.warn("Failed to parse spec: {} - {}", specPath, e.getMessage());
-            return null;
+        GitFileContent oldContent = fileExtractor.extractFile(specPath, oldRef).orElse(null);
+        GitFileContent newContent = fileExtractor.extractFile(specPath, newRef).orElse(null);
+        if (oldContent != null && oldContent.hasSameBlob(newContent)) {
+            return unchangedChangelog(specPath, specType, newContent, oldRef, newRef);
         }
+        return buildChangelog(specPath, specType, oldContent, newContent, oldRef, newRef);
     }
 
     public List<SpecChangelog> extractChangelogsForChangedFiles(GitDiff diff, String oldRef, String newRef) {
-        List<SpecChangelog> changelogs = new ArrayList<>();
-
-        Set<String> changedSpecFiles = new HashSet<>();
+        Map<String, SpecFileDetector.SpecType> changedSpecFiles = new TreeMap<>();
 
         for (String file : diff.getAddedFiles()) {
-            if (isSpecFile(file, newRef)) {
-                changedSpecFiles.add(file);
-            }
+            putSpecType(changedSpecFiles, file, newRef);
         }
 
         for (String file : diff.getModifiedFiles()) {
-            if (isSpecFile(file, newRef) || isSpecFile(file, oldRef)) {
-                changedSpecFiles.add(file);
+            if (!putSpecType(changedSpecFiles, file, newRef)) {
+                putSpecType(changedSpecFiles, file, oldRef);
             }
         }
 
         for (String file : diff.getDeletedFiles()) {
-            if (isSpecFile(file, oldRef)) {
-                changedSpecFiles.add(file);
-            }
+            putSpecType(changedSpecFiles, file, oldRef);
         }
 
         logger.info("Found {} changed spec files", changedSpecFiles.size());
 
-        for (String specPath : changedSpecFiles) {
-            try {
-                SpecChangelog changelog = extractChangelogForFile(specPath, oldRef, newRef);
-                if (changelog != null) {
-                    changelogs.add(changelog);
-                }
-            } catch (Exception e) {
-                logger.warn("Failed to extract changelog for changed file: {}", specPath, e);
-            }
-        }
-
-        return changelogs;
+        return extractChangelogs(changedSpecFiles, oldRef, newRef);
     }
 
     public ChangelogSummary summarize(List<SpecChangelog> changelogs) {
@@ -202,37 +172,199 @@ public class ChangelogExtractor {
         );
     }
 
-    private boolean isSpecFile(String filePath, String ref) {
+    public SpecBlobCache getSpecCache() {
+        return specCache;
+    }
+
+    public SpecIndex getSpecIndex() {
+        return specIndex;
+    }
+
+    private boolean putSpecType(Map<String, SpecFileDetector.SpecType> specTypes, String filePath, String ref) {
         SpecFileDetector.SpecType type = specFileDetector.detectSpecType(filePath, ref);
-        return type != null;
+        if (type == null) {
+            return false;
+        }
+        specTypes.putIfAbsent(filePath, type);
+        return true;
+    }
+
+    private List<SpecChangelog> extractChangelogs(Map<String, SpecFileDetector.SpecType> specTypes,
+                                                  String oldRef, String newRef) {
+        if (specTypes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Map.Entry<String, SpecFileDetector.SpecType>> entries = new ArrayList<>(specTypes.entrySet());
+        int workers = Math.min(config.getExtractionParallelism(), entries.size());
+        if (workers > 1) {
+            return extractChangelogsInParallel(entries, oldRef, newRef, workers);
+        }
+        return extractSlice(entries, oldRef, newRef);
     }
 
-    private ApiSpec parseSpec(SpecFileDetector.SpecType type, GitFileContent content) {
-        String specContent = content.getContent();
-        if (specContent == null || specContent.isEmpty()) {
+    private List<SpecChangelog> extractChangelogsInParallel(List<Map.Entry<String, SpecFileDetector.SpecType>> entries,
+                                                            String oldRef, String newRef, int workers) {
+        List<Callable<List<SpecChangelog>>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            List<Map.Entry<String, SpecFileDetector.SpecType>> slice =
+                entries.subList(w * entries.size() / workers, (w + 1) * entries.size() / workers);
+            tasks.add(() -> extractSlice(slice, oldRef, newRef));
+        }
+
+        logger.debug("Extracting {} spec changelogs with {} workers", entries.size(), workers);
+        List<SpecChangelog> changelogs = new ArrayList<>(entries.size());
+        try {
+            for (Future<List<SpecChangelog>> future : WorkerPools.forParallelism(workers).invokeAll(tasks)) {
+                changelogs.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitOperationException("Interrupted while extracting changelogs", e);
+        } catch (ExecutionException e) {
+            throw GitOperationException.ioError("Failed to extract changelogs between " + oldRef + " and " + newRef,
+                e.getCause());
+        }
+        return changelogs;
+    }
+
+    private List<SpecChangelog> extractSlice(List<Map.Entry<String, SpecFileDetector.SpecType>> entries,
+                                             String oldRef, String newRef) {
+        List<String> paths = entries.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+        Map<String, GitFileContent> oldContents = fileExtractor.extractFilesByPath(paths, oldRef);
+        Map<String, GitFileContent> newContents = fileExtractor.extractFilesByPath(paths, newRef);
+
+        List<SpecChangelog> changelogs = new ArrayList<>(entries.size());
+        for (Map.Entry<String, SpecFileDetector.SpecType> entry : entries) {
+            String specPath = entry.getKey();
+            try {
+                SpecChangelog changelog = buildChangelog(specPath, entry.getValue(),
+                    oldContents.get(specPath), newContents.get(specPath), oldRef, newRef);
+                if (changelog != null) {
+                    changelogs.add(changelog);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to extract changelog for: {}", specPath, e);
+            }
+        }
+        return changelogs;
+    }
+
+    private SpecChangelog buildChangelog(String specPath, SpecFileDetector.SpecType specType,
+                                         GitFileContent oldContent, GitFileContent newContent,
+                                         String oldRef, String newRef) {
+        boolean oldExists = oldContent != null && oldContent.exists();
+        boolean newExists = newContent != null && newContent.exists();
+
+        if (!oldExists && !newExists) {
             return null;
         }
 
-        switch (type) {
-            case OPENAPI:
-                return openApiParser.parse(specContent);
+        if (oldExists && oldContent.hasSameBlob(newContent)) {
+            logger.debug("Skipping {}: blob {} unchanged", specPath, newContent.getObjectId());
+            return null;
+        }
 
-            case GRAPHQL:
-                return graphQLModelMapper.mapToApiSpec(graphQLParser.parse(specContent));
+        try {
+            ApiSpec oldSpec = oldExists ? parseSpec(specType, oldContent) : null;
+            ApiSpec newSpec = newExists ? parseSpec(specType, newContent) : null;
 
-            case PROTOBUF:
-                return grpcModelMapper.mapProtoFile(grpcParser.parse(specContent));
+            Changelog changelog = changelogGenerator.generate(oldSpec, newSpec);
 
-            case ASYNCAPI:
-                return asyncApiModelMapper.map(asyncApiParser.parse(specContent));
+            return new SpecChangelog(
+                specPath,
+                specType,
+                oldRef,
+                newRef,
+                changelog,
+                !oldExists,
+                !newExists
+            );
+        } catch (Exception e) {
+            logger.warn("Failed to parse spec: {} - {}", specPath, e.getMessage());
+            return null;
+        }
+    }
 
-            case SPRING:
+    private SpecChangelog unchangedChangelog(String specPath, SpecFileDetector.SpecType specType,
+                                             GitFileContent content, String oldRef, String newRef) {
+        logger.debug("Skipping comparison of {}: blob {} unchanged", specPath, content.getObjectId());
+        Optional<ApiSpec> known = knownSpec(specType, content.getObjectId());
+        String version = known.map(ApiSpec::getVersion).orElse(null);
+        Changelog changelog = Changelog.builder()
+            .apiName(known.map(ApiSpec::getName).orElse("Unknown"))
+            .fromVersion(version)
+            .toVersion(version)
+            .changes(new ArrayList<>())
+            .breakingChanges(new ArrayList<>())
+            .riskAssessment(emptyRiskAssessment())
+            .build();
+        return new SpecChangelog(specPath, specType, oldRef, newRef, changelog, false, false);
+    }
+
+    private Optional<ApiSpec> knownSpec(SpecFileDetector.SpecType type, String blobId) {
+        String parserVersion = parserVersionOf(type);
+        if (blobId == null || parserVersion == null) {
+            return Optional.empty();
+        }
+        ApiSpec cached = specCache.get(blobId, type, parserVersion);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return specIndex != null ? specIndex.getSpec(blobId, type, parserVersion) : Optional.empty();
+    }
 
-                logger.debug("Spring controller parsing not yet supported via Git extraction");
-                return null;
+    private RiskAssessment emptyRiskAssessment() {
+        RiskAssessment assessment = new RiskAssessment();
+        assessment.setOverallScore(0);
+        assessment.setLevel(RiskLevel.LOW);
+        assessment.setBreakingChangesCount(0);
+        assessment.setTotalChangesCount(0);
+        assessment.setRecommendation("No changes detected.");
+        assessment.setSemverRecommendation("PATCH");
+        return assessment;
+    }
 
+    public ApiSpec parseSpec(SpecFileDetector.SpecType type, GitFileContent content) {
+        if (content.isEmpty()) {
+            return null;
+        }
+
+        if (type == SpecFileDetector.SpecType.SPRING) {
+            logger.debug("Spring controller parsing not yet supported via Git extraction");
+            return null;
+        }
+
+        String parserVersion = parserVersionOf(type);
+        return specCache.getOrParse(content.getObjectId(), type, parserVersion, () -> {
+            if (specIndex != null && parserVersion != null) {
+                Optional<ApiSpec> indexed = specIndex.getSpec(content.getObjectId(), type, parserVersion);
+                if (indexed.isPresent()) {
+                    return indexed.get();
+                }
+            }
+            ApiSpec spec = parserRegistry.parse(apiTypeOf(type), content.getContent(), content.getPath());
+            if (specIndex != null && parserVersion != null) {
+                specIndex.putSpec(content.getObjectId(), type, parserVersion, spec);
+            }
+            return spec;
+        });
+    }
+
+    private String parserVersionOf(SpecFileDetector.SpecType type) {
+        return parserRegistry.getParserVersion(apiTypeOf(type)).orElse(null);
+    }
+
+    private ApiType apiTypeOf(SpecFileDetector.SpecType type) {
+        switch (type) {
+            case GRAPHQL:
+                return ApiType.GRAPHQL;
+            case PROTOBUF:
+                return ApiType.GRPC;
+            case ASYNCAPI:
+                return ApiType.ASYNCAPI;
             default:
-                return null;
+                return ApiType.REST;
         }
     }
 
@@ -3,22 +3,26 @@ package io.github.mohmk10.changeloghub.git.extractor;
 import io.github.mohmk10.changeloghub.git.config.GitConfig;
 import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
 import io.github.mohmk10.changeloghub.git.model.GitFileContent;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectLoader;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.treewalk.TreeWalk;
 import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class FileExtractor {
 
@@ -37,72 +41,105 @@ public class FileExtractor {
     }
 
     public Optional<GitFileContent> extractFile(String filePath, String ref) {
+        List<GitFileContent> contents = extractFiles(List.of(filePath), ref);
+        return contents.isEmpty() ? Optional.empty() : Optional.of(contents.get(0));
+    }
+
+    public List<GitFileContent> extractFiles(List<String> filePaths, String ref) {
+        Map<String, GitFileContent> found = new HashMap<>();
+        forEachFile(filePaths, ref, content -> found.put(content.getPath(), content));
+
+        List<GitFileContent> results = new ArrayList<>(filePaths.size());
+        for (String filePath : filePaths) {
+            GitFileContent content = found.get(filePath);
+            if (content != null) {
+                results.add(content);
+            }
+        }
+        return results;
+    }
+
+    public Map<String, GitFileContent> extractFilesByPath(Collection<String> filePaths, String ref) {
+        Map<String, GitFileContent> results = new LinkedHashMap<>();
+        forEachFile(filePaths, ref, content -> results.put(content.getPath(), content));
+        return results;
+    }
+
+    public void forEachFile(Collection<String> filePaths, String ref, Consumer<GitFileContent> consumer) {
+        try (Stream<GitFileContent> contents = streamFiles(filePaths, ref)) {
+            contents.forEach(consumer);
+        }
+    }
+
+    public Stream<GitFileContent> streamFiles(Collection<String> filePaths, String ref) {
+        Set<String> remaining = new LinkedHashSet<>(filePaths);
+        if (remaining.isEmpty()) {
+            return Stream.empty();
+        }
+
+        ObjectReader reader = repository.newObjectReader();
         try {
             ObjectId refId = resolveRef(ref);
             if (refId == null) {
                 logger.debug("Reference not found: {}", ref);
-                return Optional.of(GitFileContent.builder()
-                    .path(filePath)
-                    .ref(ref)
-                    .exists(false)
-                    .build());
+                reader.close();
+                return remaining.stream().map(path -> missing(path, ref, null));
             }
 
-            try (RevWalk revWalk = new RevWalk(repository)) {
-                RevCommit commit = revWalk.parseCommit(refId);
-                RevTree tree = commit.getTree();
+            RevCommit commit;
+            try (RevWalk revWalk = new RevWalk(reader)) {
+                commit = revWalk.parseCommit(refId);
+            }
 
-                try (TreeWalk treeWalk = new TreeWalk(repository)) {
-                    treeWalk.addTree(tree);
-                    treeWalk.setRecursive(true);
-                    treeWalk.setFilter(PathFilter.create(filePath));
-
-                    if (!treeWalk.next()) {
-                        logger.debug("File not found: {} at {}", filePath, ref);
-                        return Optional.of(GitFileContent.builder()
-                            .path(filePath)
-                            .ref(ref)
-                            .commitId(commit.getName())
-                            .exists(false)
-                            .build());
+            TreeWalk treeWalk = new TreeWalk(repository, reader);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(PathFilterGroup.createFromStrings(remaining));
+
+            Spliterator<GitFileContent> spliterator = new Spliterators.AbstractSpliterator<>(
+                    remaining.size(), Spliterator.ORDERED | Spliterator.NONNULL) {
+                private Iterator<String> missingPaths;
+
+                @Override
+                public boolean tryAdvance(Consumer<? super GitFileContent> action) {
+                    try {
+                        while (missingPaths == null && treeWalk.next()) {
+                            String path = treeWalk.getPathString();
+                            if (remaining.remove(path)) {
+                                action.accept(load(path, ref, commit, treeWalk.getObjectId(0), reader));
+                                return true;
+                            }
+                        }
+                    } catch (IOException e) {
+                        logger.error("Failed to extract files at {}", ref, e);
+                        throw GitOperationException.ioError("Failed to extract files at: " + ref, e);
                     }
 
-                    ObjectId objectId = treeWalk.getObjectId(0);
-                    ObjectLoader loader = repository.open(objectId);
-                    byte[] bytes = loader.getBytes();
-
-                    if (bytes.length > config.getMaxFileSizeBytes()) {
-                        logger.warn("File too large: {} ({} bytes)", filePath, bytes.length);
-                        return Optional.of(GitFileContent.builder()
-                            .path(filePath)
-                            .ref(ref)
-                            .commitId(commit.getName())
-                            .exists(true)
-                            .bytes(new byte[0]) 
-                            .build());
+                    if (missingPaths == null) {
+                        missingPaths = new ArrayList<>(remaining).iterator();
                     }
-
-                    return Optional.of(GitFileContent.builder()
-                        .path(filePath)
-                        .ref(ref)
-                        .commitId(commit.getName())
-                        .bytes(bytes)
-                        .exists(true)
-                        .build());
+                    if (missingPaths.hasNext()) {
+                        String path = missingPaths.next();
+                        logger.debug("File not found: {} at {}", path, ref);
+                        action.accept(missing(path, ref, commit.getName()));
+                        return true;
+                    }
+                    return false;
                 }
-            }
-        } catch (IOException e) {
-            logger.error("Failed to extract file: {} at {}", filePath, ref, e);
-            throw GitOperationException.fileReadError(filePath, ref, e);
-        }
-    }
+            };
 
-    public List<GitFileContent> extractFiles(List<String> filePaths, String ref) {
-        List<GitFileContent> results = new ArrayList<>();
-        for (String filePath : filePaths) {
-            extractFile(filePath, ref).ifPresent(results::add);
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                treeWalk.close();
+                reader.close();
+            });
+        } catch (IOException e) {
+            reader.close();
+            logger.error("Failed to extract files at {}", ref, e);
+            throw GitOperationException.ioError("Failed to extract files at: " + ref, e);
+        } catch (RuntimeException e) {
+            reader.close();
+            throw e;
         }
-        return results;
     }
 
     public List<String> listFiles(String directoryPath, String ref) {
@@ -142,6 +179,74 @@ public class FileExtractor {
         return files;
     }
 
+    public Snapshot openSnapshot(String ref) {
+        ObjectReader reader = repository.newObjectReader();
+        try {
+            ObjectId refId = resolveRef(ref);
+            if (refId == null) {
+                logger.debug("Reference not found: {}", ref);
+                return new Snapshot(ref, null, reader);
+            }
+
+            try (RevWalk revWalk = new RevWalk(reader)) {
+                return new Snapshot(ref, revWalk.parseCommit(refId), reader);
+            }
+        } catch (IOException e) {
+            reader.close();
+            logger.error("Failed to open {}", ref, e);
+            throw GitOperationException.ioError("Failed to open: " + ref, e);
+        } catch (RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    public Optional<ObjectId> resolveTreeId(String ref) {
+        try {
+            ObjectId refId = resolveRef(ref);
+            if (refId == null) {
+                return Optional.empty();
+            }
+
+            try (RevWalk revWalk = new RevWalk(repository)) {
+                return Optional.of(revWalk.parseCommit(refId).getTree().copy());
+            }
+        } catch (IOException e) {
+            logger.error("Failed to resolve tree at: {}", ref, e);
+            throw GitOperationException.ioError("Failed to resolve tree at: " + ref, e);
+        }
+    }
+
+    public Repository getRepository() {
+        return repository;
+    }
+
+    public void walkFiles(String ref, TreeFilter filter, BlobVisitor visitor) {
+        try {
+            ObjectId refId = resolveRef(ref);
+            if (refId == null) {
+                return;
+            }
+
+            try (ObjectReader reader = repository.newObjectReader();
+                 RevWalk revWalk = new RevWalk(reader);
+                 TreeWalk treeWalk = new TreeWalk(repository, reader)) {
+                treeWalk.addTree(revWalk.parseCommit(refId).getTree());
+                treeWalk.setRecursive(true);
+                if (filter != null) {
+                    treeWalk.setFilter(filter);
+                }
+
+                while (treeWalk.next()) {
+                    visitor.visit(treeWalk.getPathString(), treeWalk.getObjectId(0), reader);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to walk files at: {}", ref, e);
+            throw GitOperationException.ioError("Failed to walk files at: " + ref, e);
+        }
+    }
+
     public List<String> listAllFiles(String ref) {
         return listFiles(null, ref);
     }
@@ -174,6 +279,41 @@ public class FileExtractor {
         return findFiles("*." + extension, ref);
     }
 
+    GitFileContent load(String path, String ref, RevCommit commit, ObjectId objectId, ObjectReader reader)
+            throws IOException {
+        ObjectLoader loader = reader.open(objectId);
+
+        if (loader.getSize() > config.getMaxFileSizeBytes()) {
+            logger.warn("File too large: {} ({} bytes)", path, loader.getSize());
+            return GitFileContent.builder()
+                .path(path)
+                .ref(ref)
+                .commitId(commit.getName())
+                .objectId(objectId.getName())
+                .exists(true)
+                .bytes(new byte[0])
+                .build();
+        }
+
+        return GitFileContent.builder()
+            .path(path)
+            .ref(ref)
+            .commitId(commit.getName())
+            .objectId(objectId.getName())
+            .bytes(loader.getBytes())
+            .exists(true)
+            .build();
+    }
+
+    private GitFileContent missing(String path, String ref, String commitId) {
+        return GitFileContent.builder()
+            .path(path)
+            .ref(ref)
+            .commitId(commitId)
+            .exists(false)
+            .build();
+    }
+
     private ObjectId resolveRef(String ref) throws IOException {
         ObjectId objectId = repository.resolve(ref);
         if (objectId == null) {
@@ -208,4 +348,47 @@ public class FileExtractor {
 
         return fileName.equals(pattern);
     }
+
+    @FunctionalInterface
+    public interface BlobVisitor {
+        void visit(String path, ObjectId blobId, ObjectReader reader) throws IOException;
+    }
+
+    public final class Snapshot implements AutoCloseable {
+        private final String ref;
+        private final RevCommit commit;
+        private final ObjectReader reader;
+
+        private Snapshot(String ref, RevCommit commit, ObjectReader reader) {
+            this.ref = ref;
+            this.commit = commit;
+            this.reader = reader;
+        }
+
+        public GitFileContent extract(String filePath) {
+            if (commit == null) {
+                return missing(filePath, ref, null);
+            }
+
+            try (TreeWalk treeWalk = TreeWalk.forPath(reader, filePath, commit.getTree())) {
+                if (treeWalk == null || treeWalk.getFileMode(0).getObjectType() != Constants.OBJ_BLOB) {
+                    logger.debug("File not found: {} at {}", filePath, ref);
+                    return missing(filePath, ref, commit.getName());
+                }
+                return load(filePath, ref, commit, treeWalk.getObjectId(0), reader);
+            } catch (IOException e) {
+                logger.error("Failed to extract {} at {}", filePath, ref, e);
+                throw GitOperationException.fileReadError(filePath, ref, e);
+            }
+        }
+
+        public String getRef() {
+            return ref;
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+    }
 }
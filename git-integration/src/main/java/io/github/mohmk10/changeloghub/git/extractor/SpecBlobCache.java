@@ -0,0 +1,102 @@
+package io.github.mohmk10.changeloghub.git.extractor;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class SpecBlobCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final SpecBlobCache SHARED = new SpecBlobCache();
+
+    private final int maxEntries;
+    private final Map<String, ApiSpec> entries;
+    private long hits;
+    private long misses;
+
+    public SpecBlobCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public SpecBlobCache(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ApiSpec> eldest) {
+                return size() > SpecBlobCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static SpecBlobCache shared() {
+        return SHARED;
+    }
+
+    public ApiSpec getOrParse(String blobId, SpecFileDetector.SpecType specType, String parserVersion,
+                              Supplier<ApiSpec> parser) {
+        if (blobId == null || parserVersion == null || maxEntries == 0) {
+            return parser.get();
+        }
+
+        String key = keyOf(blobId, specType, parserVersion);
+        synchronized (this) {
+            ApiSpec cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached.copy();
+            }
+            misses++;
+        }
+
+        ApiSpec spec = parser.get();
+        if (spec != null) {
+            ApiSpec copy = spec.copy();
+            synchronized (this) {
+                entries.put(key, copy);
+            }
+        }
+        return spec;
+    }
+
+    public ApiSpec get(String blobId, SpecFileDetector.SpecType specType, String parserVersion) {
+        ApiSpec cached;
+        synchronized (this) {
+            cached = entries.get(keyOf(blobId, specType, parserVersion));
+        }
+        return cached != null ? cached.copy() : null;
+    }
+
+    public void put(String blobId, SpecFileDetector.SpecType specType, String parserVersion, ApiSpec spec) {
+        if (blobId != null && parserVersion != null && spec != null && maxEntries > 0) {
+            ApiSpec copy = spec.copy();
+            synchronized (this) {
+                entries.put(keyOf(blobId, specType, parserVersion), copy);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private static String keyOf(String blobId, SpecFileDetector.SpecType specType, String parserVersion) {
+        return parserVersion + ":" + specType + ":" + blobId;
+    }
+}
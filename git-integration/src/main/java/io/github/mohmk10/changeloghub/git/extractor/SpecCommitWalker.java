@@ -0,0 +1,251 @@
+package io.github.mohmk10.changeloghub.git.extractor;
+
+import io.github.mohmk10.changeloghub.core.generator.ChangelogGenerator;
+import io.github.mohmk10.changeloghub.core.generator.impl.DefaultChangelogGenerator;
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.Changelog;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.analyzer.CommitAnalyzer;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
+import io.github.mohmk10.changeloghub.git.index.SpecIndex;
+import io.github.mohmk10.changeloghub.git.model.GitCommit;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class SpecCommitWalker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpecCommitWalker.class);
+
+    private final Repository repository;
+    private final FileExtractor fileExtractor;
+    private final SpecFileDetector specFileDetector;
+    private final ChangelogExtractor changelogExtractor;
+    private final CommitAnalyzer commitAnalyzer;
+    private final ChangelogGenerator changelogGenerator;
+
+    public SpecCommitWalker(Repository repository) {
+        this(repository, new GitConfig());
+    }
+
+    public SpecCommitWalker(Repository repository, GitConfig config) {
+        this(repository, config, SpecIndex.forRepository(repository, config));
+    }
+
+    public SpecCommitWalker(Repository repository, GitConfig config, SpecIndex specIndex) {
+        this(repository, config, new ChangelogExtractor(repository, config, SpecParserRegistry.getDefault(),
+            SpecBlobCache.shared(), specIndex), specIndex);
+    }
+
+    public SpecCommitWalker(Repository repository, GitConfig config, ChangelogExtractor changelogExtractor,
+                            SpecIndex specIndex) {
+        this.repository = repository;
+        this.fileExtractor = new FileExtractor(repository, config);
+        this.specFileDetector = new SpecFileDetector(fileExtractor, config, SpecDetectionCache.shared(), specIndex);
+        this.changelogExtractor = changelogExtractor;
+        this.commitAnalyzer = new CommitAnalyzer(repository, config);
+        this.changelogGenerator = new DefaultChangelogGenerator();
+    }
+
+    public Stream<CommitChangelog> stream(String fromRef, String toRef) {
+        ObjectReader reader = repository.newObjectReader();
+        RevWalk revWalk = new RevWalk(reader);
+        try {
+            ObjectId toId = repository.resolve(toRef);
+            if (toId == null) {
+                throw GitOperationException.referenceNotFound(toRef);
+            }
+            ObjectId fromId = fromRef != null ? repository.resolve(fromRef) : null;
+
+            TreeFilter specFilter = specFileDetector.specPathFilter();
+            revWalk.setTreeFilter(AndTreeFilter.create(specFilter, TreeFilter.ANY_DIFF));
+            revWalk.sort(RevSort.TOPO);
+            revWalk.sort(RevSort.REVERSE, true);
+            revWalk.markStart(revWalk.parseCommit(toId));
+            if (fromId != null) {
+                revWalk.markUninteresting(revWalk.parseCommit(fromId));
+            }
+
+            Spliterator<CommitChangelog> spliterator = new Spliterators.AbstractSpliterator<>(
+                    Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                private final Map<String, ParsedSpec> specs = new HashMap<>();
+                private final Deque<CommitChangelog> pending = new ArrayDeque<>();
+
+                @Override
+                public boolean tryAdvance(Consumer<? super CommitChangelog> action) {
+                    try {
+                        while (pending.isEmpty()) {
+                            RevCommit commit = revWalk.next();
+                            if (commit == null) {
+                                return false;
+                            }
+                            walkCommit(commit, revWalk, reader, specFilter, specs, pending);
+                        }
+                    } catch (IOException e) {
+                        logger.error("Failed to walk spec history {}..{}", fromRef, toRef, e);
+                        throw GitOperationException.ioError("Failed to walk spec history " + fromRef + ".." + toRef, e);
+                    }
+                    action.accept(pending.poll());
+                    return true;
+                }
+            };
+
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                revWalk.close();
+                reader.close();
+            });
+        } catch (IOException e) {
+            revWalk.close();
+            reader.close();
+            logger.error("Failed to walk spec history {}..{}", fromRef, toRef, e);
+            throw GitOperationException.ioError("Failed to walk spec history " + fromRef + ".." + toRef, e);
+        } catch (RuntimeException e) {
+            revWalk.close();
+            reader.close();
+            throw e;
+        }
+    }
+
+    public void forEach(String fromRef, String toRef, Consumer<CommitChangelog> consumer) {
+        try (Stream<CommitChangelog> changelogs = stream(fromRef, toRef)) {
+            changelogs.forEach(consumer);
+        }
+    }
+
+    private void walkCommit(RevCommit commit, RevWalk revWalk, ObjectReader reader, TreeFilter specFilter,
+                            Map<String, ParsedSpec> specs, Deque<CommitChangelog> pending) throws IOException {
+        RevCommit parent = commit.getParentCount() > 0 ? commit.getParent(0) : null;
+        if (parent != null) {
+            revWalk.parseHeaders(parent);
+        }
+
+        GitCommit gitCommit = null;
+        try (TreeWalk treeWalk = new TreeWalk(repository, reader)) {
+            if (parent != null) {
+                treeWalk.addTree(parent.getTree());
+            } else {
+                treeWalk.addTree(new EmptyTreeIterator());
+            }
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(AndTreeFilter.create(specFilter, TreeFilter.ANY_DIFF));
+
+            while (treeWalk.next()) {
+                String path = treeWalk.getPathString();
+                ObjectId oldId = isBlob(treeWalk, 0) ? treeWalk.getObjectId(0) : null;
+                ObjectId newId = isBlob(treeWalk, 1) ? treeWalk.getObjectId(1) : null;
+
+                SpecFileDetector.SpecType type = newId != null
+                    ? specFileDetector.detectSpecType(path, newId, reader)
+                    : null;
+                if (type == null && oldId != null) {
+                    type = specFileDetector.detectSpecType(path, oldId, reader);
+                }
+                if (type == null || type == SpecFileDetector.SpecType.SPRING) {
+                    continue;
+                }
+
+                ApiSpec oldSpec = oldId != null ? specOf(path, type, oldId, parent, reader, specs) : null;
+                ApiSpec newSpec = newId != null ? specOf(path, type, newId, commit, reader, specs) : null;
+                if (newId != null) {
+                    specs.put(path, new ParsedSpec(newId, newSpec));
+                } else {
+                    specs.remove(path);
+                }
+                if ((oldId != null && oldSpec == null) || (newId != null && newSpec == null)) {
+                    logger.warn("Skipping {} at {}: spec could not be parsed", path, commit.getName());
+                    continue;
+                }
+
+                Changelog changelog = changelogGenerator.generate(oldSpec, newSpec);
+                ChangelogExtractor.SpecChangelog specChangelog = new ChangelogExtractor.SpecChangelog(path, type,
+                    parent != null ? parent.getName() : null, commit.getName(), changelog,
+                    oldId == null, newId == null);
+                if (specChangelog.hasChanges()) {
+                    if (gitCommit == null) {
+                        gitCommit = commitAnalyzer.convertToGitCommit(commit);
+                    }
+                    pending.add(new CommitChangelog(gitCommit, specChangelog));
+                }
+            }
+        }
+    }
+
+    private ApiSpec specOf(String path, SpecFileDetector.SpecType type, ObjectId blobId, RevCommit commit,
+                           ObjectReader reader, Map<String, ParsedSpec> specs) throws IOException {
+        ParsedSpec previous = specs.get(path);
+        if (previous != null && previous.blobId.equals(blobId)) {
+            return previous.spec;
+        }
+
+        try {
+            return changelogExtractor.parseSpec(type,
+                fileExtractor.load(path, commit.getName(), commit, blobId, reader));
+        } catch (Exception e) {
+            logger.warn("Failed to parse spec: {} at {} - {}", path, commit.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isBlob(TreeWalk treeWalk, int index) {
+        return (treeWalk.getRawMode(index) & FileMode.TYPE_MASK) == FileMode.TYPE_FILE;
+    }
+
+    private static final class ParsedSpec {
+        private final ObjectId blobId;
+        private final ApiSpec spec;
+
+        private ParsedSpec(ObjectId blobId, ApiSpec spec) {
+            this.blobId = blobId.copy();
+            this.spec = spec;
+        }
+    }
+
+    public static class CommitChangelog {
+        private final GitCommit commit;
+        private final ChangelogExtractor.SpecChangelog changelog;
+
+        public CommitChangelog(GitCommit commit, ChangelogExtractor.SpecChangelog changelog) {
+            this.commit = commit;
+            this.changelog = changelog;
+        }
+
+        public GitCommit getCommit() {
+            return commit;
+        }
+
+        public ChangelogExtractor.SpecChangelog getChangelog() {
+            return changelog;
+        }
+
+        public boolean hasBreakingChanges() {
+            return changelog.hasBreakingChanges();
+        }
+
+        @Override
+        public String toString() {
+            return "CommitChangelog{" +
+                   "commit=" + commit.getShortId() +
+                   ", spec='" + changelog.getSpecPath() + '\'' +
+                   ", breaking=" + changelog.hasBreakingChanges() +
+                   '}';
+        }
+    }
+}
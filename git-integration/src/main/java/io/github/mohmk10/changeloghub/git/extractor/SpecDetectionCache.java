@@ -0,0 +1,89 @@
+package io.github.mohmk10.changeloghub.git.extractor;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class SpecDetectionCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 16384;
+
+    private static final SpecDetectionCache SHARED = new SpecDetectionCache();
+
+    private final int maxEntries;
+    private final Map<String, Optional<SpecFileDetector.SpecType>> entries;
+    private long hits;
+    private long misses;
+
+    public SpecDetectionCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public SpecDetectionCache(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<SpecFileDetector.SpecType>> eldest) {
+                return size() > SpecDetectionCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static SpecDetectionCache shared() {
+        return SHARED;
+    }
+
+    public SpecFileDetector.SpecType getOrDetect(String kind, String blobId, Detector detector) throws IOException {
+        if (blobId == null || maxEntries == 0) {
+            return detector.detect();
+        }
+
+        String key = keyOf(kind, blobId);
+        synchronized (this) {
+            Optional<SpecFileDetector.SpecType> cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached.orElse(null);
+            }
+            misses++;
+        }
+
+        SpecFileDetector.SpecType type = detector.detect();
+        synchronized (this) {
+            entries.put(key, Optional.ofNullable(type));
+        }
+        return type;
+    }
+
+    public synchronized boolean contains(String kind, String blobId) {
+        return entries.containsKey(keyOf(kind, blobId));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private static String keyOf(String kind, String blobId) {
+        return kind + ":" + blobId;
+    }
+
+    @FunctionalInterface
+    public interface Detector {
+        SpecFileDetector.SpecType detect() throws IOException;
+    }
+}
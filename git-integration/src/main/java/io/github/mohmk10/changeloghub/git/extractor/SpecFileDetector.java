@@ -1,12 +1,21 @@
 package io.github.mohmk10.changeloghub.git.extractor;
 
 import io.github.mohmk10.changeloghub.git.config.GitConfig;
-import io.github.mohmk10.changeloghub.git.model.GitFileContent;
+import io.github.mohmk10.changeloghub.git.index.SpecIndex;
 import io.github.mohmk10.changeloghub.git.util.GitConstants;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -14,8 +23,12 @@ public class SpecFileDetector {
 
     private static final Logger logger = LoggerFactory.getLogger(SpecFileDetector.class);
 
+    public static final int SNIFF_LIMIT = 8192;
+
     private final FileExtractor fileExtractor;
     private final GitConfig config;
+    private final SpecDetectionCache detectionCache;
+    private final SpecIndex specIndex;
 
     private static final Pattern OPENAPI_PATTERN = Pattern.compile(
         "(?s)(openapi|swagger)\\s*:\\s*['\"]?[23]\\.",
@@ -47,13 +60,24 @@ public class SpecFileDetector {
     }
 
     public SpecFileDetector(Repository repository, GitConfig config) {
-        this.fileExtractor = new FileExtractor(repository, config);
-        this.config = config;
+        this(new FileExtractor(repository, config), config);
     }
 
     public SpecFileDetector(FileExtractor fileExtractor, GitConfig config) {
+        this(fileExtractor, config, SpecDetectionCache.shared(),
+            SpecIndex.forRepository(fileExtractor.getRepository(), config));
+    }
+
+    public SpecFileDetector(FileExtractor fileExtractor, GitConfig config, SpecDetectionCache detectionCache) {
+        this(fileExtractor, config, detectionCache, null);
+    }
+
+    public SpecFileDetector(FileExtractor fileExtractor, GitConfig config, SpecDetectionCache detectionCache,
+                            SpecIndex specIndex) {
         this.fileExtractor = fileExtractor;
         this.config = config;
+        this.detectionCache = detectionCache;
+        this.specIndex = specIndex;
     }
 
     public Map<SpecType, List<String>> detectSpecs(String ref) {
@@ -62,107 +86,156 @@ public class SpecFileDetector {
             result.put(type, new ArrayList<>());
         }
 
-        List<String> allFiles = fileExtractor.listAllFiles(ref);
-        logger.debug("Found {} files at ref {}", allFiles.size(), ref);
-
-        for (String filePath : allFiles) {
-            SpecType type = detectSpecType(filePath, ref);
-            if (type != null) {
-                result.get(type).add(filePath);
-                logger.debug("Detected {} spec: {}", type, filePath);
-            }
+        for (SpecFile spec : detectSpecFiles(ref)) {
+            result.get(spec.getType()).add(spec.getPath());
         }
 
         return result;
     }
 
-    public SpecType detectSpecType(String filePath, String ref) {
-        String extension = getExtension(filePath);
-        String fileName = getFileName(filePath);
-
-        SpecType byExtension = detectByExtension(extension, fileName);
-        if (byExtension == SpecType.GRAPHQL || byExtension == SpecType.PROTOBUF) {
-            return byExtension; 
+    public List<SpecFile> detectSpecFiles(String ref) {
+        if (specIndex == null) {
+            return walkSpecFiles(ref);
         }
 
-        if (isYamlOrJson(extension)) {
-            return detectByContent(filePath, ref);
+        Optional<ObjectId> treeId = fileExtractor.resolveTreeId(ref);
+        if (treeId.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        if ("java".equals(extension)) {
-            return detectSpringController(filePath, ref);
+        Optional<List<SpecFile>> indexed = specIndex.getSpecFiles(treeId.get(), ref);
+        if (indexed.isPresent()) {
+            logger.debug("Using indexed spec files for tree {} at ref {}", treeId.get().getName(), ref);
+            return indexed.get();
         }
 
-        return byExtension;
+        List<SpecFile> specs = walkSpecFiles(ref);
+        specIndex.putSpecFiles(treeId.get(), specs);
+        return specs;
     }
 
-    private SpecType detectByExtension(String extension, String fileName) {
-        if (extension == null) return null;
+    private List<SpecFile> walkSpecFiles(String ref) {
+        List<SpecFile> specs = new ArrayList<>();
+        int[] candidates = new int[1];
 
-        switch (extension.toLowerCase()) {
-            case "graphql":
-            case "gql":
-            case "graphqls":
-                return SpecType.GRAPHQL;
+        fileExtractor.walkFiles(ref, new PathRuleFilter(), (path, blobId, reader) -> {
+            candidates[0]++;
+            SpecType type = detect(path, pathRule(path), blobId, reader);
+            if (type != null) {
+                specs.add(new SpecFile(path, type, ref, blobId.getName()));
+                logger.debug("Detected {} spec: {}", type, path);
+            }
+        });
 
-            case "proto":
-                return SpecType.PROTOBUF;
+        logger.debug("Sniffed {} candidate files at ref {}, {} specs found", candidates[0], ref, specs.size());
+        return specs;
+    }
 
-            case "yaml":
-            case "yml":
-            case "json":
-                
-                String lowerName = fileName.toLowerCase();
-                if (lowerName.startsWith("openapi") || lowerName.startsWith("swagger") ||
-                    lowerName.contains("openapi") || lowerName.contains("swagger")) {
-                    return SpecType.OPENAPI;
-                }
-                if (lowerName.startsWith("asyncapi") || lowerName.contains("asyncapi")) {
-                    return SpecType.ASYNCAPI;
-                }
-                
-                return null;
+    public SpecType detectSpecType(String filePath, String ref) {
+        PathRule rule = pathRule(filePath);
+        if (rule == PathRule.SKIP) {
+            return null;
+        }
 
-            case "java":
-            case "kt":
-            case "groovy":
-                return null; 
+        SpecType[] detected = new SpecType[1];
+        fileExtractor.walkFiles(ref, PathFilter.create(filePath), (path, blobId, reader) -> {
+            if (path.equals(filePath)) {
+                detected[0] = detect(path, rule, blobId, reader);
+            }
+        });
+        return detected[0];
+    }
 
+    public SpecType detectSpecType(String filePath, ObjectId blobId, ObjectReader reader) throws IOException {
+        return detect(filePath, pathRule(filePath), blobId, reader);
+    }
+
+    public TreeFilter specPathFilter() {
+        return new PathRuleFilter();
+    }
+
+    public SpecDetectionCache getDetectionCache() {
+        return detectionCache;
+    }
+
+    public SpecIndex getSpecIndex() {
+        return specIndex;
+    }
+
+    private SpecType detect(String path, PathRule rule, ObjectId blobId, ObjectReader reader) throws IOException {
+        switch (rule) {
+            case GRAPHQL:
+                return SpecType.GRAPHQL;
+            case PROTOBUF:
+                return SpecType.PROTOBUF;
+            case DOCUMENT:
+            case SOURCE:
+                if (reader.getObjectSize(blobId, Constants.OBJ_BLOB) > config.getMaxFileSizeBytes()) {
+                    logger.debug("Skipping oversized file: {}", path);
+                    return null;
+                }
+                return detectionCache.getOrDetect(rule.name(), blobId.getName(),
+                    () -> sniff(rule, blobId, reader));
             default:
                 return null;
         }
     }
 
-    private SpecType detectByContent(String filePath, String ref) {
-        Optional<String> content = fileExtractor.getFileContentAsString(filePath, ref);
-        if (content.isEmpty()) {
-            return null;
+    private SpecType sniff(PathRule rule, ObjectId blobId, ObjectReader reader) throws IOException {
+        String prefix;
+        try (InputStream in = reader.open(blobId, Constants.OBJ_BLOB).openStream()) {
+            prefix = new String(in.readNBytes(SNIFF_LIMIT), StandardCharsets.UTF_8);
         }
 
-        String text = content.get();
-
-        if (OPENAPI_PATTERN.matcher(text).find()) {
+        if (rule == PathRule.SOURCE) {
+            return SPRING_CONTROLLER_PATTERN.matcher(prefix).find() ? SpecType.SPRING : null;
+        }
+        if (OPENAPI_PATTERN.matcher(prefix).find()) {
             return SpecType.OPENAPI;
         }
-
-        if (ASYNCAPI_PATTERN.matcher(text).find()) {
+        if (ASYNCAPI_PATTERN.matcher(prefix).find()) {
             return SpecType.ASYNCAPI;
         }
-
         return null;
     }
 
-    private SpecType detectSpringController(String filePath, String ref) {
-        Optional<String> content = fileExtractor.getFileContentAsString(filePath, ref);
-        if (content.isEmpty()) {
-            return null;
+    private PathRule pathRule(String path) {
+        if (path == null || config.shouldIgnore(path)) {
+            return PathRule.SKIP;
         }
 
-        if (SPRING_CONTROLLER_PATTERN.matcher(content.get()).find()) {
-            return SpecType.SPRING;
+        String extension = getExtension(path);
+        if (extension == null) {
+            return PathRule.SKIP;
         }
 
-        return null;
+        switch (extension.toLowerCase()) {
+            case "graphql":
+            case "gql":
+            case "graphqls":
+                return config.matchesSpecPattern(getFileName(path)) ? PathRule.GRAPHQL : PathRule.SKIP;
+
+            case "proto":
+                return config.matchesSpecPattern(getFileName(path)) ? PathRule.PROTOBUF : PathRule.SKIP;
+
+            case "yaml":
+            case "yml":
+            case "json":
+                if (!config.matchesSpecPattern(getFileName(path))) {
+                    return PathRule.SKIP;
+                }
+                return isInHiddenDirectory(path) && !isInSpecDirectory(path) ? PathRule.SKIP : PathRule.DOCUMENT;
+
+            case "java":
+                return PathRule.SOURCE;
+
+            default:
+                return PathRule.SKIP;
+        }
+    }
+
+    private boolean isInHiddenDirectory(String path) {
+        return path.startsWith(".") || path.contains("/.");
     }
 
     public List<String> findOpenApiSpecs(String ref) {
@@ -186,15 +259,8 @@ public class SpecFileDetector {
     }
 
     public List<SpecFile> findAllSpecs(String ref) {
-        List<SpecFile> specs = new ArrayList<>();
-        Map<SpecType, List<String>> detected = detectSpecs(ref);
-
-        for (Map.Entry<SpecType, List<String>> entry : detected.entrySet()) {
-            for (String path : entry.getValue()) {
-                specs.add(new SpecFile(path, entry.getKey(), ref));
-            }
-        }
-
+        List<SpecFile> specs = new ArrayList<>(detectSpecFiles(ref));
+        specs.sort(Comparator.comparing(SpecFile::getType));
         return specs;
     }
 
@@ -225,10 +291,30 @@ public class SpecFileDetector {
         return lastSlash >= 0 ? path.substring(lastSlash + 1) : path;
     }
 
-    private boolean isYamlOrJson(String extension) {
-        return "yaml".equalsIgnoreCase(extension) ||
-               "yml".equalsIgnoreCase(extension) ||
-               "json".equalsIgnoreCase(extension);
+    private enum PathRule {
+        SKIP, GRAPHQL, PROTOBUF, DOCUMENT, SOURCE
+    }
+
+    private final class PathRuleFilter extends TreeFilter {
+
+        @Override
+        public boolean include(TreeWalk walker) {
+            String path = walker.getPathString();
+            if (walker.isSubtree()) {
+                return !config.shouldIgnore(path + "/");
+            }
+            return pathRule(path) != PathRule.SKIP;
+        }
+
+        @Override
+        public boolean shouldBeRecursive() {
+            return false;
+        }
+
+        @Override
+        public TreeFilter clone() {
+            return this;
+        }
     }
 
     public enum SpecType {
@@ -253,11 +339,17 @@ public class SpecFileDetector {
         private final String path;
         private final SpecType type;
         private final String ref;
+        private final String blobId;
 
         public SpecFile(String path, SpecType type, String ref) {
+            this(path, type, ref, null);
+        }
+
+        public SpecFile(String path, SpecType type, String ref, String blobId) {
             this.path = path;
             this.type = type;
             this.ref = ref;
+            this.blobId = blobId;
         }
 
         public String getPath() {
@@ -272,6 +364,10 @@ public class SpecFileDetector {
             return ref;
         }
 
+        public String getBlobId() {
+            return blobId;
+        }
+
         public String getFileName() {
             int lastSlash = path.lastIndexOf('/');
             return lastSlash >= 0 ? path.substring(lastSlash + 1) : path;
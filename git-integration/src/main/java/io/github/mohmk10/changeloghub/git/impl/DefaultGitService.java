@@ -12,6 +12,7 @@ import io.github.mohmk10.changeloghub.git.config.GitConfig;
 import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
 import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
 import io.github.mohmk10.changeloghub.git.extractor.FileExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecCommitWalker;
 import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
 import io.github.mohmk10.changeloghub.git.model.*;
 import org.eclipse.jgit.api.CloneCommand;
@@ -28,6 +29,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class DefaultGitService implements GitService {
 
@@ -40,6 +42,7 @@ public class DefaultGitService implements GitService {
     private FileExtractor fileExtractor;
     private SpecFileDetector specFileDetector;
     private ChangelogExtractor changelogExtractor;
+    private SpecCommitWalker specCommitWalker;
     private CommitAnalyzer commitAnalyzer;
     private TagAnalyzer tagAnalyzer;
     private BranchAnalyzer branchAnalyzer;
@@ -305,6 +308,12 @@ public class DefaultGitService implements GitService {
         return changelogExtractor.extractChangelogsForChangedFiles(diff, oldRef, newRef);
     }
 
+    @Override
+    public Stream<SpecCommitWalker.CommitChangelog> streamCommitChangelogs(String fromRef, String toRef) {
+        ensureOpen();
+        return specCommitWalker.stream(fromRef, toRef);
+    }
+
     @Override
     public GitRefComparator.RefComparison compareRefs(String oldRef, String newRef) {
         ensureOpen();
@@ -366,6 +375,7 @@ public class DefaultGitService implements GitService {
         this.fileExtractor = new FileExtractor(repository, config);
         this.specFileDetector = new SpecFileDetector(repository, config);
         this.changelogExtractor = new ChangelogExtractor(repository, config);
+        this.specCommitWalker = new SpecCommitWalker(repository, config);
         this.commitAnalyzer = new CommitAnalyzer(repository, config);
         this.tagAnalyzer = new TagAnalyzer(repository, config);
         this.branchAnalyzer = new BranchAnalyzer(repository, config);
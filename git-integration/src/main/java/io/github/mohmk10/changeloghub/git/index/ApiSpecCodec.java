@@ -0,0 +1,227 @@
+package io.github.mohmk10.changeloghub.git.index;
+
+import io.github.mohmk10.changeloghub.core.model.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+final class ApiSpecCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+
+    private ApiSpecCodec() {
+    }
+
+    static void write(DataOutput out, ApiSpec spec) throws IOException {
+        writeString(out, spec.getName());
+        writeString(out, spec.getVersion());
+        writeEnum(out, spec.getType());
+        writeString(out, spec.getParsedAt() != null ? spec.getParsedAt().toString() : null);
+
+        Map<String, Object> metadata = new TreeMap<>();
+        spec.getMetadata().forEach((key, value) -> {
+            if (key != null && isScalar(value)) {
+                metadata.put(key, value);
+            }
+        });
+        out.writeInt(metadata.size());
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            writeString(out, entry.getKey());
+            writeScalar(out, entry.getValue());
+        }
+
+        out.writeInt(spec.getEndpoints().size());
+        for (Endpoint endpoint : spec.getEndpoints()) {
+            writeEndpoint(out, endpoint);
+        }
+    }
+
+    static ApiSpec read(DataInput in) throws IOException {
+        String name = readString(in);
+        String version = readString(in);
+        ApiType type = readEnum(in, ApiType.class);
+        String parsedAt = readString(in);
+
+        int metadataCount = in.readInt();
+        Map<String, Object> metadata = new HashMap<>();
+        for (int i = 0; i < metadataCount; i++) {
+            String key = readString(in);
+            metadata.put(key, readScalar(in));
+        }
+
+        int endpointCount = in.readInt();
+        List<Endpoint> endpoints = new ArrayList<>(endpointCount);
+        for (int i = 0; i < endpointCount; i++) {
+            endpoints.add(readEndpoint(in));
+        }
+
+        return new ApiSpec(name, version, type, endpoints, metadata,
+            parsedAt != null ? LocalDateTime.parse(parsedAt) : null);
+    }
+
+    private static void writeEndpoint(DataOutput out, Endpoint endpoint) throws IOException {
+        writeString(out, endpoint.getId());
+        writeString(out, endpoint.getPath());
+        writeEnum(out, endpoint.getMethod());
+        writeString(out, endpoint.getOperationId());
+        writeString(out, endpoint.getSummary());
+        writeString(out, endpoint.getDescription());
+        out.writeBoolean(endpoint.isDeprecated());
+
+        out.writeInt(endpoint.getParameters().size());
+        for (Parameter parameter : endpoint.getParameters()) {
+            writeString(out, parameter.getName());
+            writeEnum(out, parameter.getLocation());
+            writeString(out, parameter.getType());
+            out.writeBoolean(parameter.isRequired());
+            writeString(out, parameter.getDefaultValue());
+            writeString(out, parameter.getDescription());
+        }
+
+        RequestBody requestBody = endpoint.getRequestBody();
+        out.writeBoolean(requestBody != null);
+        if (requestBody != null) {
+            writeString(out, requestBody.getContentType());
+            writeString(out, requestBody.getSchemaRef());
+            out.writeBoolean(requestBody.isRequired());
+        }
+
+        out.writeInt(endpoint.getResponses().size());
+        for (Response response : endpoint.getResponses()) {
+            writeString(out, response.getStatusCode());
+            writeString(out, response.getDescription());
+            writeString(out, response.getContentType());
+            writeString(out, response.getSchemaRef());
+        }
+
+        out.writeInt(endpoint.getTags().size());
+        for (String tag : endpoint.getTags()) {
+            writeString(out, tag);
+        }
+    }
+
+    private static Endpoint readEndpoint(DataInput in) throws IOException {
+        String id = readString(in);
+        String path = readString(in);
+        HttpMethod method = readEnum(in, HttpMethod.class);
+        String operationId = readString(in);
+        String summary = readString(in);
+        String description = readString(in);
+        boolean deprecated = in.readBoolean();
+
+        int parameterCount = in.readInt();
+        List<Parameter> parameters = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            parameters.add(new Parameter(readString(in), readEnum(in, ParameterLocation.class), readString(in),
+                in.readBoolean(), readString(in), readString(in)));
+        }
+
+        RequestBody requestBody = in.readBoolean()
+            ? new RequestBody(readString(in), readString(in), in.readBoolean())
+            : null;
+
+        int responseCount = in.readInt();
+        List<Response> responses = new ArrayList<>(responseCount);
+        for (int i = 0; i < responseCount; i++) {
+            responses.add(new Response(readString(in), readString(in), readString(in), readString(in)));
+        }
+
+        int tagCount = in.readInt();
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readString(in));
+        }
+
+        return new Endpoint(id, path, method, operationId, summary, description, parameters, requestBody,
+            responses, tags, deprecated);
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long
+            || value instanceof Double || value instanceof Boolean;
+    }
+
+    private static void writeScalar(DataOutput out, Object value) throws IOException {
+        if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else {
+            out.writeByte(NULL);
+        }
+    }
+
+    private static Object readScalar(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case NULL:
+                return null;
+            default:
+                throw new IOException("Unknown metadata tag: " + tag);
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        writeString(out, value != null ? value.name() : null);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInput in, Class<E> type) throws IOException {
+        String name = readString(in);
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown " + type.getSimpleName() + ": " + name, e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.mohmk10.changeloghub.git.index;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SpecIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpecIndex.class);
+
+    public static final String DIRECTORY_NAME = "changelog-hub";
+
+    private static final String FORMAT_VERSION = "1";
+    private static final String TREES = "trees";
+    private static final String SPECS = "specs";
+
+    private final Path directory;
+    private final String detectionKey;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SpecIndex(Path directory, GitConfig config) {
+        this.directory = directory;
+        this.detectionKey = detectionKeyOf(config);
+    }
+
+    public static SpecIndex forRepository(Repository repository, GitConfig config) {
+        if (repository == null || repository.getDirectory() == null || !config.isUseSpecIndex()) {
+            return null;
+        }
+        return new SpecIndex(repository.getDirectory().toPath().resolve(DIRECTORY_NAME), config);
+    }
+
+    public Optional<List<SpecFileDetector.SpecFile>> getSpecFiles(ObjectId treeId, String ref) {
+        Path file = treeFile(treeId);
+        if (!Files.isRegularFile(file)) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!FORMAT_VERSION.equals(in.readUTF())) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            int count = in.readInt();
+            List<SpecFileDetector.SpecFile> specs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String path = in.readUTF();
+                SpecFileDetector.SpecType type = SpecFileDetector.SpecType.valueOf(in.readUTF());
+                specs.add(new SpecFileDetector.SpecFile(path, type, ref, in.readUTF()));
+            }
+            hits.incrementAndGet();
+            return Optional.of(specs);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug("Discarding unreadable spec index entry {}: {}", file, e.getMessage());
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    public void putSpecFiles(ObjectId treeId, List<SpecFileDetector.SpecFile> specs) {
+        write(treeFile(treeId), false, out -> {
+            out.writeUTF(FORMAT_VERSION);
+            out.writeInt(specs.size());
+            for (SpecFileDetector.SpecFile spec : specs) {
+                out.writeUTF(spec.getPath());
+                out.writeUTF(spec.getType().name());
+                out.writeUTF(spec.getBlobId());
+            }
+        });
+    }
+
+    public Optional<ApiSpec> getSpec(String blobId, SpecFileDetector.SpecType type, String parserVersion) {
+        Path file = blobId != null ? specFile(blobId, type) : null;
+        if (file == null || !Files.isRegularFile(file)) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!specVersionOf(parserVersion).equals(in.readUTF())) {
+                logger.debug("Ignoring spec index entry {} written by another parser version", file);
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            ApiSpec spec = ApiSpecCodec.read(in);
+            hits.incrementAndGet();
+            return Optional.of(spec);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Discarding unreadable spec index entry {}: {}", file, e.getMessage());
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    public void putSpec(String blobId, SpecFileDetector.SpecType type, String parserVersion, ApiSpec spec) {
+        if (blobId == null || spec == null) {
+            return;
+        }
+        write(specFile(blobId, type), true, out -> {
+            out.writeUTF(specVersionOf(parserVersion));
+            ApiSpecCodec.write(out, spec);
+        });
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private Path treeFile(ObjectId treeId) {
+        return directory.resolve(TREES).resolve(detectionKey).resolve(treeId.getName());
+    }
+
+    private Path specFile(String blobId, SpecFileDetector.SpecType type) {
+        return directory.resolve(SPECS).resolve(type.name().toLowerCase()).resolve(blobId);
+    }
+
+    private void write(Path target, boolean replace, EntryWriter writer) {
+        if (!replace && Files.isRegularFile(target)) {
+            return;
+        }
+        try {
+            Path parent = target.getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    writer.write(out);
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write spec index entry {}: {}", target, e.getMessage());
+        }
+    }
+
+    private static String specVersionOf(String parserVersion) {
+        return FORMAT_VERSION + ":" + parserVersion;
+    }
+
+    private static String detectionKeyOf(GitConfig config) {
+        StringBuilder key = new StringBuilder(FORMAT_VERSION)
+            .append('|').append(SpecFileDetector.SNIFF_LIMIT)
+            .append('|').append(config.getMaxFileSizeBytes())
+            .append('|').append(new TreeSet<>(config.getSpecFilePatterns()))
+            .append('|').append(new TreeSet<>(config.getIgnoredPaths()))
+            .append('|').append(config.getSpecDirectories());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
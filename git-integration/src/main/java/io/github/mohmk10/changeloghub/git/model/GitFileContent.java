@@ -13,6 +13,7 @@ public class GitFileContent {
     private boolean exists;
     private long size;
     private String commitId;
+    private String objectId;
 
     public GitFileContent() {
         this.exists = false;
@@ -87,6 +88,18 @@ public class GitFileContent {
         this.commitId = commitId;
     }
 
+    public String getObjectId() {
+        return objectId;
+    }
+
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    public boolean hasSameBlob(GitFileContent other) {
+        return other != null && objectId != null && exists && other.exists && objectId.equals(other.objectId);
+    }
+
     public String getFileName() {
         if (path == null) return null;
         int lastSlash = path.lastIndexOf('/');
@@ -176,6 +189,11 @@ public class GitFileContent {
             return this;
         }
 
+        public Builder objectId(String objectId) {
+            file.setObjectId(objectId);
+            return this;
+        }
+
         public GitFileContent build() {
             return file;
         }
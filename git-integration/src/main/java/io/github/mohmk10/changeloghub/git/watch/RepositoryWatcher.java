@@ -0,0 +1,405 @@
+package io.github.mohmk10.changeloghub.git.watch;
+
+import io.github.mohmk10.changeloghub.git.analyzer.ReachabilityIndex;
+import io.github.mohmk10.changeloghub.git.comparator.GitSpecComparator;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
+import io.github.mohmk10.changeloghub.git.util.GitConstants;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.FetchResult;
+import org.eclipse.jgit.transport.TrackingRefUpdate;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+public class RepositoryWatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryWatcher.class);
+
+    public static final String MIRROR_SUFFIX = ".git";
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+    private final Path mirrorRoot;
+    private final GitConfig config;
+    private final Map<String, WatchedRepository> repositories = new LinkedHashMap<>();
+    private final Map<String, Object> mirrorLocks = new ConcurrentHashMap<>();
+    private final List<Consumer<RefChange>> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> schedule;
+
+    public RepositoryWatcher(Path mirrorRoot) {
+        this(mirrorRoot, new GitConfig());
+    }
+
+    public RepositoryWatcher(Path mirrorRoot, GitConfig config) {
+        this.mirrorRoot = mirrorRoot;
+        this.config = config;
+    }
+
+    public WatchedRepository watch(String name, String url) {
+        if (name == null || !NAME_PATTERN.matcher(name).matches()) {
+            throw new GitOperationException("Invalid repository name: " + name);
+        }
+
+        synchronized (mirrorLocks.computeIfAbsent(name, key -> new Object())) {
+            Optional<WatchedRepository> existing = getRepository(name);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+
+            Path mirrorPath = mirrorRoot.resolve(name + MIRROR_SUFFIX);
+            if (!Files.isRegularFile(mirrorPath.resolve("HEAD"))) {
+                cloneMirror(url, mirrorPath);
+            }
+            WatchedRepository repository = new WatchedRepository(name, url, mirrorPath, openMirror(mirrorPath), config);
+            synchronized (this) {
+                repositories.put(name, repository);
+            }
+            logger.info("Watching {} ({}) with mirror at {}", name, url, mirrorPath);
+            return repository;
+        }
+    }
+
+    public synchronized void unwatch(String name) {
+        WatchedRepository repository = repositories.remove(name);
+        if (repository != null) {
+            repository.close();
+        }
+    }
+
+    public synchronized Optional<WatchedRepository> getRepository(String name) {
+        return Optional.ofNullable(repositories.get(name));
+    }
+
+    public synchronized List<String> getWatchedRepositories() {
+        return new ArrayList<>(repositories.keySet());
+    }
+
+    public void addListener(Consumer<RefChange> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<RefChange> listener) {
+        listeners.remove(listener);
+    }
+
+    public List<RefChange> poll(String name) {
+        WatchedRepository repository = getRepository(name)
+            .orElseThrow(() -> new GitOperationException("Repository not watched: " + name));
+
+        List<RefChange> changes = repository.fetchAndCompare();
+        for (RefChange change : changes) {
+            for (Consumer<RefChange> listener : listeners) {
+                try {
+                    listener.accept(change);
+                } catch (RuntimeException e) {
+                    logger.warn("Listener failed for {} {}: {}", name, change.getRefName(), e.getMessage());
+                }
+            }
+        }
+        return changes;
+    }
+
+    public List<RefChange> pollAll() {
+        List<RefChange> changes = new ArrayList<>();
+        for (String name : getWatchedRepositories()) {
+            try {
+                changes.addAll(poll(name));
+            } catch (GitOperationException e) {
+                logger.error("Failed to poll {}", name, e);
+            }
+        }
+        return changes;
+    }
+
+    public synchronized void start(Duration interval) {
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
+        long millis = Math.max(1, interval.toMillis());
+        schedule = scheduler().scheduleWithFixedDelay(this::pollAll, millis, millis, TimeUnit.MILLISECONDS);
+        logger.info("Polling {} repositories every {}", repositories.size(), interval);
+    }
+
+    public synchronized void stop() {
+        if (schedule != null) {
+            schedule.cancel(false);
+            schedule = null;
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return schedule != null && !schedule.isDone();
+    }
+
+    public synchronized Future<List<RefChange>> trigger(String name) {
+        return scheduler().submit(() -> poll(name));
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService executor;
+        synchronized (this) {
+            stop();
+            executor = scheduler;
+            scheduler = null;
+        }
+
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this) {
+            repositories.values().forEach(WatchedRepository::close);
+            repositories.clear();
+        }
+    }
+
+    private ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "changelog-hub-watcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+
+    private Repository openMirror(Path mirrorPath) {
+        try {
+            return new FileRepositoryBuilder()
+                .setGitDir(mirrorPath.toFile())
+                .setBare()
+                .build();
+        } catch (IOException e) {
+            throw GitOperationException.invalidRepository(mirrorPath.toString());
+        }
+    }
+
+    private void cloneMirror(String url, Path mirrorPath) {
+        logger.info("Creating mirror of {} at {}", url, mirrorPath);
+        try (Git git = Git.cloneRepository()
+                .setURI(url)
+                .setDirectory(mirrorPath.toFile())
+                .setBare(true)
+                .setMirror(true)
+                .setCredentialsProvider(credentialsProvider(config))
+                .call()) {
+            logger.debug("Mirror of {} created at {}", url, git.getRepository().getDirectory());
+        } catch (Exception e) {
+            throw GitOperationException.cloneError(url, e);
+        }
+    }
+
+    private static CredentialsProvider credentialsProvider(GitConfig config) {
+        if (!config.hasCredentials()) {
+            return null;
+        }
+        GitConfig.CredentialsConfig creds = config.getCredentials();
+        if (creds.isTokenAuth()) {
+            return new UsernamePasswordCredentialsProvider("token", creds.getAccessToken());
+        }
+        if (creds.isBasicAuth()) {
+            return new UsernamePasswordCredentialsProvider(creds.getUsername(), creds.getPassword());
+        }
+        return null;
+    }
+
+    public static class WatchedRepository {
+        private final String name;
+        private final String url;
+        private final Path mirrorPath;
+        private final Repository repository;
+        private final GitConfig config;
+        private final GitSpecComparator specComparator;
+        private final ReachabilityIndex reachabilityIndex;
+        private Instant lastFetchedAt;
+        private long fetchCount;
+
+        private WatchedRepository(String name, String url, Path mirrorPath, Repository repository, GitConfig config) {
+            this.name = name;
+            this.url = url;
+            this.mirrorPath = mirrorPath;
+            this.repository = repository;
+            this.config = config;
+            this.specComparator = new GitSpecComparator(repository, config);
+            this.reachabilityIndex = new ReachabilityIndex(repository);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public Path getMirrorPath() {
+            return mirrorPath;
+        }
+
+        public Repository getRepository() {
+            return repository;
+        }
+
+        public synchronized Instant getLastFetchedAt() {
+            return lastFetchedAt;
+        }
+
+        public synchronized long getFetchCount() {
+            return fetchCount;
+        }
+
+        private synchronized List<RefChange> fetchAndCompare() {
+            FetchResult result;
+            try (Git git = Git.wrap(repository)) {
+                result = git.fetch()
+                    .setRemote(GitConstants.ORIGIN)
+                    .setRemoveDeletedRefs(true)
+                    .setCredentialsProvider(credentialsProvider(config))
+                    .call();
+            } catch (Exception e) {
+                throw GitOperationException.fetchError(url, e);
+            }
+            lastFetchedAt = Instant.now();
+            fetchCount++;
+
+            List<RefChange> changes = new ArrayList<>();
+            for (TrackingRefUpdate update : result.getTrackingRefUpdates()) {
+                String refName = update.getLocalName();
+                if (!refName.startsWith(GitConstants.REFS_HEADS_PREFIX)) {
+                    continue;
+                }
+
+                ObjectId oldId = update.getOldObjectId();
+                ObjectId newId = update.getNewObjectId();
+                if (newId == null || ObjectId.zeroId().equals(newId)) {
+                    logger.info("{}: {} deleted", name, refName);
+                    continue;
+                }
+
+                boolean newRef = oldId == null || ObjectId.zeroId().equals(oldId);
+                ObjectId baseId = newRef ? defaultBranchBase(refName, newId) : oldId;
+                if (baseId == null || baseId.equals(newId)) {
+                    logger.debug("{}: {} has no new commits to compare", name, refName);
+                    continue;
+                }
+
+                GitSpecComparator.SpecComparison comparison =
+                    specComparator.compareChangedOnly(baseId.getName(), newId.getName());
+                changes.add(new RefChange(name, refName, baseId.getName(), newId.getName(), newRef, comparison));
+                logger.info("{}: {} {}..{} - {} spec changes, breaking: {}", name, refName,
+                    baseId.abbreviate(7).name(), newId.abbreviate(7).name(),
+                    comparison.getSummary().getTotalChanges(), comparison.hasBreakingChanges());
+            }
+            return changes;
+        }
+
+        private ObjectId defaultBranchBase(String refName, ObjectId newId) {
+            try {
+                ObjectId defaultId = repository.resolve(GitConstants.HEAD);
+                if (defaultId == null) {
+                    return null;
+                }
+                return reachabilityIndex.getMergeBase(defaultId, newId).orElse(null);
+            } catch (IOException e) {
+                logger.warn("{}: could not resolve default branch for {}: {}", name, refName, e.getMessage());
+                return null;
+            }
+        }
+
+        private void close() {
+            repository.close();
+        }
+
+        @Override
+        public String toString() {
+            return "WatchedRepository{" +
+                   "name='" + name + '\'' +
+                   ", url='" + url + '\'' +
+                   ", fetches=" + fetchCount +
+                   '}';
+        }
+    }
+
+    public static class RefChange {
+        private final String repositoryName;
+        private final String refName;
+        private final String oldCommitId;
+        private final String newCommitId;
+        private final boolean newRef;
+        private final GitSpecComparator.SpecComparison comparison;
+
+        public RefChange(String repositoryName, String refName, String oldCommitId, String newCommitId,
+                         boolean newRef, GitSpecComparator.SpecComparison comparison) {
+            this.repositoryName = repositoryName;
+            this.refName = refName;
+            this.oldCommitId = oldCommitId;
+            this.newCommitId = newCommitId;
+            this.newRef = newRef;
+            this.comparison = comparison;
+        }
+
+        public String getRepositoryName() {
+            return repositoryName;
+        }
+
+        public String getRefName() {
+            return refName;
+        }
+
+        public String getOldCommitId() {
+            return oldCommitId;
+        }
+
+        public String getNewCommitId() {
+            return newCommitId;
+        }
+
+        public boolean isNewRef() {
+            return newRef;
+        }
+
+        public GitSpecComparator.SpecComparison getComparison() {
+            return comparison;
+        }
+
+        public boolean hasBreakingChanges() {
+            return comparison.hasBreakingChanges();
+        }
+
+        @Override
+        public String toString() {
+            return "RefChange{" +
+                   "repository='" + repositoryName + '\'' +
+                   ", ref='" + refName + '\'' +
+                   ", newRef=" + newRef +
+                   ", breaking=" + comparison.hasBreakingChanges() +
+                   '}';
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.mohmk10.changeloghub.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class TestGitRepository implements AutoCloseable {
+
+    public static final String SPEC_PATH = "api/openapi.yaml";
+    public static final String DEFAULT_TITLE = "Users";
+
+    private static final String HEADER = """
+        openapi: 3.0.0
+        info:
+          title: %s
+          version: 1.0.0
+        paths:
+        """;
+
+    private final Path workDir;
+    private final Git git;
+    private final String specTitle;
+
+    private TestGitRepository(Path workDir, Git git, String specTitle) {
+        this.workDir = workDir;
+        this.git = git;
+        this.specTitle = specTitle;
+    }
+
+    public static TestGitRepository init(Path workDir) throws GitAPIException {
+        return init(workDir, DEFAULT_TITLE);
+    }
+
+    public static TestGitRepository init(Path workDir, String specTitle) throws GitAPIException {
+        Git git = Git.init().setDirectory(workDir.toFile()).setInitialBranch("main").call();
+        return new TestGitRepository(workDir, git, specTitle);
+    }
+
+    public static String openApiSpec(String title, String... resources) {
+        StringBuilder spec = new StringBuilder(HEADER.formatted(title));
+        for (String resource : resources) {
+            spec.append("  /").append(resource).append(":\n")
+                .append("    get:\n")
+                .append("      responses:\n")
+                .append("        '200':\n")
+                .append("          description: OK\n");
+        }
+        return spec.toString();
+    }
+
+    public Path getWorkDir() {
+        return workDir;
+    }
+
+    public Git getGit() {
+        return git;
+    }
+
+    public Repository getRepository() {
+        return git.getRepository();
+    }
+
+    public void writeSpec(String... resources) throws IOException {
+        write(SPEC_PATH, openApiSpec(specTitle, resources));
+    }
+
+    public void write(String path, String content) throws IOException {
+        Path file = workDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    public void remove(String path) throws GitAPIException {
+        git.rm().addFilepattern(path).call();
+    }
+
+    public RevCommit commit(String message) throws GitAPIException {
+        git.add().addFilepattern(".").call();
+        return git.commit().setMessage(message).setAuthor("Test", "test@example.com")
+            .setCommitter("Test", "test@example.com").setSign(false).call();
+    }
+
+    public void tag(String name) throws GitAPIException {
+        git.tag().setName(name).call();
+    }
+
+    public RevCommit release(String tag) throws GitAPIException {
+        RevCommit commit = commit(tag);
+        tag(tag);
+        return commit;
+    }
+
+    @Override
+    public void close() {
+        git.close();
+    }
+}
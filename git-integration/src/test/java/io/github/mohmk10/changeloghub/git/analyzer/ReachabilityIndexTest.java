@@ -0,0 +1,118 @@
+package io.github.mohmk10.changeloghub.git.analyzer;
+
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.model.GitBranch;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReachabilityIndexTest {
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private RevCommit first;
+    private RevCommit second;
+    private RevCommit mainTip;
+    private RevCommit featureTip;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+
+        first = commit("first");
+        second = commit("second");
+
+        repo.getGit().checkout().setCreateBranch(true).setName("feature").call();
+        commit("feature one");
+        featureTip = commit("feature two");
+
+        repo.getGit().checkout().setName("main").call();
+        mainTip = commit("third");
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldAnswerReachabilityAndMemoizeByPair() {
+        ReachabilityIndex index = new ReachabilityIndex(repo.getRepository());
+
+        assertThat(index.isReachable(first, mainTip)).isTrue();
+        assertThat(index.isReachable(mainTip, first)).isFalse();
+        assertThat(index.isReachable(featureTip, mainTip)).isFalse();
+        assertThat(index.getMisses()).isEqualTo(3);
+
+        assertThat(index.isReachable(first, mainTip)).isTrue();
+        assertThat(index.getHits()).isEqualTo(1);
+        assertThat(index.getGenerationPrunes()).isZero();
+    }
+
+    @Test
+    void shouldFindTipsContainingCommit() {
+        ReachabilityIndex index = new ReachabilityIndex(repo.getRepository());
+
+        assertThat(index.findTipsContaining(second, List.of(mainTip, featureTip)))
+            .containsExactly(mainTip.getId(), featureTip.getId());
+        assertThat(index.findTipsContaining(featureTip, List.of(mainTip, featureTip)))
+            .containsExactly(featureTip.getId());
+    }
+
+    @Test
+    void shouldComputeMergeBaseAndAheadBehind() {
+        ReachabilityIndex index = new ReachabilityIndex(repo.getRepository());
+
+        assertThat(index.getMergeBase(featureTip, mainTip)).hasValue(second.getId());
+        assertThat(index.getMergeBase(mainTip, featureTip)).hasValue(second.getId());
+        assertThat(index.getAheadBehind(featureTip, mainTip)).containsExactly(2, 1);
+        assertThat(index.getAheadBehind(featureTip, mainTip)).containsExactly(2, 1);
+        assertThat(index.getHits()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldPruneWithCommitGraphGenerations() throws Exception {
+        StoredConfig config = repo.getRepository().getConfig();
+        config.setBoolean("core", null, "commitGraph", true);
+        config.setBoolean("gc", null, "writeCommitGraph", true);
+        config.save();
+        repo.getGit().gc().call();
+
+        ReachabilityIndex index = new ReachabilityIndex(repo.getRepository());
+
+        assertThat(index.isReachable(mainTip, first)).isFalse();
+        assertThat(index.isReachable(first, mainTip)).isTrue();
+        assertThat(index.getGenerationPrunes()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBackBranchAnalyzerQueries() {
+        BranchAnalyzer analyzer = new BranchAnalyzer(repo.getRepository());
+
+        assertThat(analyzer.getBranchesContainingCommit(second.getName()))
+            .extracting(GitBranch::getName)
+            .containsExactlyInAnyOrder("refs/heads/main", "refs/heads/feature");
+        assertThat(analyzer.getBranchesContainingCommit(featureTip.getName()))
+            .extracting(GitBranch::getName)
+            .containsExactly("refs/heads/feature");
+        assertThat(analyzer.getMergeBase("main", "feature")).hasValue(second.getName());
+        assertThat(analyzer.getAheadBehind("feature", "main")).containsExactly(2, 1);
+        assertThat(analyzer.isBehind("feature", "main")).isTrue();
+        assertThat(analyzer.getReachabilityIndex().getHits()).isPositive();
+    }
+
+    private RevCommit commit(String message) throws Exception {
+        repo.write(message.replace(' ', '-') + ".txt", message);
+        return repo.commit(message);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.mohmk10.changeloghub.git.comparator;
+
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecBlobCache;
+import io.github.mohmk10.changeloghub.git.model.GitCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BreakingChangeBisectorTest {
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private SpecBlobCache specCache;
+    private BreakingChangeBisector bisector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+
+        GitConfig config = GitConfig.builder().useSpecIndex(false).build();
+        specCache = new SpecBlobCache();
+        ChangelogExtractor extractor = new ChangelogExtractor(repo.getRepository(), config,
+            SpecParserRegistry.getDefault(), specCache, null);
+        bisector = new BreakingChangeBisector(repo.getRepository(), config, extractor, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldFindFirstBreakingCommitAmongSpecCommits() throws Exception {
+        repo.writeSpec("users", "accounts");
+        repo.commit("initial spec");
+        repo.tag("good");
+
+        for (int i = 0; i < 6; i++) {
+            repo.write("src/File" + i + ".txt", "unrelated " + i);
+            repo.commit("unrelated change " + i);
+        }
+        repo.writeSpec("users", "accounts", "orders");
+        repo.commit("add orders");
+        repo.writeSpec("users", "accounts", "orders", "items");
+        repo.commit("add items");
+        repo.writeSpec("accounts", "orders", "items");
+        repo.commit("remove users");
+        repo.writeSpec("accounts", "orders", "items", "carts");
+        repo.commit("add carts");
+        repo.write("src/Late.txt", "late");
+        repo.commit("unrelated late change");
+
+        BreakingChangeBisector.BisectResult result = bisector.bisect("good", "HEAD");
+
+        assertThat(result.isFound()).isTrue();
+        assertThat(result.getCommit()).map(GitCommit::getMessageFirstLine).hasValue("remove users");
+        assertThat(result.getCandidateCount()).isEqualTo(4);
+        assertThat(result.getComparisonCount()).isLessThanOrEqualTo(3);
+        assertThat(result.getBreakingChanges()).isNotEmpty();
+    }
+
+    @Test
+    void shouldReportNothingWhenRangeIsCompatible() throws Exception {
+        repo.writeSpec("users");
+        repo.commit("initial spec");
+        repo.tag("good");
+
+        repo.writeSpec("users", "orders");
+        repo.commit("add orders");
+
+        BreakingChangeBisector.BisectResult result = bisector.bisect("good", "HEAD");
+
+        assertThat(result.isFound()).isFalse();
+        assertThat(result.getCandidateCount()).isEqualTo(1);
+        assertThat(result.getBreakingChanges()).isEmpty();
+    }
+
+    @Test
+    void shouldTreatRemovedSpecAsBreaking() throws Exception {
+        repo.writeSpec("users");
+        repo.commit("initial spec");
+        repo.tag("good");
+
+        repo.remove(TestGitRepository.SPEC_PATH);
+        repo.commit("drop spec");
+
+        BreakingChangeBisector.BisectResult result = bisector.bisect("good", "HEAD");
+
+        assertThat(result.getCommit()).map(GitCommit::getMessageFirstLine).hasValue("drop spec");
+    }
+
+    @Test
+    void shouldBeReachableFromSpecComparator() throws Exception {
+        repo.writeSpec("users");
+        repo.commit("initial spec");
+        repo.tag("good");
+
+        repo.writeSpec("orders");
+        repo.commit("replace users");
+
+        GitConfig config = GitConfig.builder().useSpecIndex(false).build();
+        GitSpecComparator comparator = new GitSpecComparator(repo.getRepository(), config, null);
+
+        assertThat(comparator.hasBreakingChanges("good", "HEAD")).isTrue();
+        assertThat(comparator.findFirstBreakingCommit("good", "HEAD").getCommit())
+            .map(GitCommit::getMessageFirstLine).hasValue("replace users");
+    }
+}
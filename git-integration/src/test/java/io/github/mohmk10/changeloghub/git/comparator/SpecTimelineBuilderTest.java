@@ -0,0 +1,106 @@
+package io.github.mohmk10.changeloghub.git.comparator;
+
+import io.github.mohmk10.changeloghub.core.model.Changelog;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecBlobCache;
+import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecTimelineBuilderTest {
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private SpecBlobCache specCache;
+    private SpecTimelineBuilder builder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+
+        repo.writeSpec("users");
+        repo.release("v1.0.0");
+
+        repo.writeSpec("users", "orders");
+        repo.release("v1.1.0");
+
+        repo.write("schema/schema.graphql", "type Query { users: [String] }\n");
+        repo.release("v1.2.0");
+
+        repo.writeSpec("users");
+        repo.release("v2.0.0");
+
+        GitConfig config = GitConfig.builder().useSpecIndex(false).build();
+        specCache = new SpecBlobCache();
+        ChangelogExtractor extractor = new ChangelogExtractor(repo.getRepository(), config,
+            SpecParserRegistry.getDefault(), specCache, null);
+        builder = new SpecTimelineBuilder(repo.getRepository(), config, extractor, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldBuildHistoryPerSpecInReleaseOrder() {
+        SpecTimelineBuilder.SpecTimeline timeline = builder.buildFromTags();
+
+        assertThat(timeline.getRefs()).containsExactly("v1.0.0", "v1.1.0", "v1.2.0", "v2.0.0");
+        assertThat(timeline.getSpecPaths()).containsExactly("api/openapi.yaml", "schema/schema.graphql");
+        assertThat(timeline.getSpecType("schema/schema.graphql")).isEqualTo(SpecFileDetector.SpecType.GRAPHQL);
+
+        List<Changelog> history = timeline.getHistory("api/openapi.yaml");
+        assertThat(history).extracting(Changelog::getToVersion).containsExactly("v1.1.0", "v1.2.0", "v2.0.0");
+        assertThat(history).extracting(Changelog::getFromVersion).containsExactly("v1.0.0", "v1.1.0", "v1.2.0");
+        assertThat(history.get(0).getChanges()).isNotEmpty();
+        assertThat(history.get(1).getChanges()).isEmpty();
+        assertThat(history.get(2).getBreakingChanges()).isNotEmpty();
+        assertThat(history).extracting(Changelog::getApiName).containsOnly("Users");
+    }
+
+    @Test
+    void shouldParseEachChangedBlobOnce() {
+        SpecTimelineBuilder.SpecTimeline timeline = builder.buildFromTags();
+
+        assertThat(timeline.getParsedSpecCount()).isEqualTo(4);
+        assertThat(specCache.getMisses()).isEqualTo(3);
+        assertThat(timeline.getHistory("schema/schema.graphql")).hasSize(2);
+        assertThat(timeline.getBreakingChangeCount()).isPositive();
+    }
+
+    @Test
+    void shouldBuildFromExplicitRefs() {
+        SpecTimelineBuilder.SpecTimeline timeline = builder.build(List.of("v1.1.0", "v2.0.0"));
+
+        assertThat(timeline.getHistory("api/openapi.yaml")).hasSize(1);
+        assertThat(timeline.getHistory("schema/schema.graphql")).hasSize(1);
+        assertThat(timeline.getChangelogs()).hasSize(2);
+    }
+
+    @Test
+    void shouldSkipStepsAcrossUnparseableRelease() throws Exception {
+        repo.write(TestGitRepository.SPEC_PATH, "openapi: 3.0.0\ninfo: [unterminated\n");
+        repo.release("v2.1.0");
+        repo.writeSpec("users", "orders");
+        repo.release("v2.2.0");
+
+        SpecTimelineBuilder.SpecTimeline timeline = builder.build(List.of("v2.0.0", "v2.1.0", "v2.2.0"));
+
+        assertThat(timeline.getHistory("api/openapi.yaml")).isEmpty();
+        assertThat(timeline.getSkippedStepCount()).isEqualTo(2);
+        assertThat(timeline.getBreakingChangeCount()).isZero();
+    }
+}
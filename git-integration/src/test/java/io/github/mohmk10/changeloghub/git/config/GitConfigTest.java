@@ -19,6 +19,8 @@ class GitConfigTest {
         assertThat(config.getMaxFileSizeBytes()).isEqualTo(10 * 1024 * 1024);
         assertThat(config.isFollowRenames()).isTrue();
         assertThat(config.isIncludeRemoteBranches()).isFalse();
+        assertThat(config.isUseSpecIndex()).isTrue();
+        assertThat(config.getExtractionParallelism()).isEqualTo(1);
     }
 
     @Test
@@ -139,6 +139,16 @@ class GitOperationExceptionTest {
         assertThat(ex.getMessage()).contains("https://github.com/repo");
     }
 
+    @Test
+    void shouldCreateFetchError() {
+        RuntimeException cause = new RuntimeException("Fetch failed");
+        GitOperationException ex = GitOperationException.fetchError("https://github.com/repo", cause);
+
+        assertThat(ex.getErrorCode()).isEqualTo(GitErrorCode.REMOTE_ERROR);
+        assertThat(ex.getMessage()).contains("https://github.com/repo");
+        assertThat(ex.getCause()).isEqualTo(cause);
+    }
+
     @Test
     void shouldHaveErrorCodeDescriptions() {
         assertThat(GitErrorCode.UNKNOWN.getDescription()).isEqualTo("Unknown error");
@@ -0,0 +1,173 @@
+package io.github.mohmk10.changeloghub.git.extractor;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.model.GitDiff;
+import io.github.mohmk10.changeloghub.git.model.GitFileContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangelogExtractorTest {
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private SpecBlobCache specCache;
+    private ChangelogExtractor extractor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+        repo.writeSpec("users");
+        repo.write("README.md", "v1");
+        repo.commit("v1");
+        repo.tag("v1");
+
+        repo.write("README.md", "v2");
+        repo.commit("docs only");
+        repo.tag("v2");
+
+        repo.writeSpec("users", "orders");
+        repo.commit("add orders");
+        repo.tag("v3");
+
+        specCache = new SpecBlobCache();
+        extractor = new ChangelogExtractor(repo.getRepository(), new GitConfig(),
+            SpecParserRegistry.getDefault(), specCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldSkipParsingWhenBlobIsUnchanged() {
+        ChangelogExtractor.SpecChangelog changelog = extractor.extractChangelogForFile("api/openapi.yaml", "v1", "v2");
+
+        assertThat(changelog).isNotNull();
+        assertThat(changelog.hasChanges()).isFalse();
+        assertThat(changelog.getChangelog().getRiskAssessment().getTotalChangesCount()).isZero();
+        assertThat(specCache.getMisses()).isZero();
+        assertThat(specCache.size()).isZero();
+    }
+
+    @Test
+    void shouldReuseCachedMetadataForUnchangedBlob() {
+        extractor.extractChangelogForFile("api/openapi.yaml", "v1", "v3");
+        long misses = specCache.getMisses();
+
+        ChangelogExtractor.SpecChangelog changelog = extractor.extractChangelogForFile("api/openapi.yaml", "v1", "v2");
+
+        assertThat(changelog.hasChanges()).isFalse();
+        assertThat(changelog.getChangelog().getApiName()).isEqualTo("Users");
+        assertThat(changelog.getChangelog().getFromVersion()).isEqualTo("1.0.0");
+        assertThat(changelog.getChangelog().getToVersion()).isEqualTo("1.0.0");
+        assertThat(specCache.getMisses()).isEqualTo(misses);
+    }
+
+    @Test
+    void shouldReturnCopiesFromSpecCache() {
+        GitFileContent content = new FileExtractor(repo.getRepository()).extractFile("api/openapi.yaml", "v1")
+            .orElseThrow();
+
+        ApiSpec first = extractor.parseSpec(SpecFileDetector.SpecType.OPENAPI, content);
+        first.getEndpoints().clear();
+        ApiSpec second = extractor.parseSpec(SpecFileDetector.SpecType.OPENAPI, content);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEndpoints()).isNotEmpty();
+        assertThat(specCache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeySpecCacheByParserVersion() {
+        AtomicInteger parses = new AtomicInteger();
+        Supplier<ApiSpec> parser = () -> {
+            parses.incrementAndGet();
+            return ApiSpec.builder().name("Users").build();
+        };
+
+        specCache.getOrParse("abc", SpecFileDetector.SpecType.OPENAPI, "openapi:1", parser);
+        specCache.getOrParse("abc", SpecFileDetector.SpecType.OPENAPI, "openapi:2", parser);
+        specCache.getOrParse("abc", SpecFileDetector.SpecType.OPENAPI, "openapi:1", parser);
+
+        assertThat(parses.get()).isEqualTo(2);
+        assertThat(specCache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOmitUnchangedBlobsFromChangedFileExtraction() {
+        GitDiff diff = GitDiff.builder()
+            .modifiedFiles(List.of("api/openapi.yaml"))
+            .build();
+
+        assertThat(extractor.extractChangelogsForChangedFiles(diff, "v1", "v2")).isEmpty();
+        assertThat(specCache.getMisses()).isZero();
+    }
+
+    @Test
+    void shouldParseSharedBlobOnlyOnce() {
+        ChangelogExtractor.SpecChangelog first = extractor.extractChangelogForFile("api/openapi.yaml", "v1", "v3");
+        ChangelogExtractor.SpecChangelog second = extractor.extractChangelogForFile("api/openapi.yaml", "v2", "v3");
+
+        assertThat(first.getChangelog().getChanges()).isNotEmpty();
+        assertThat(second.getChangelog().getChanges()).hasSameSizeAs(first.getChangelog().getChanges());
+        assertThat(specCache.getMisses()).isEqualTo(2);
+        assertThat(specCache.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOnlyReportChangedSpecsAcrossRefs() {
+        assertThat(extractor.extractChangelogs("v1", "v2")).isEmpty();
+        assertThat(extractor.extractChangelogs("v2", "v3"))
+            .extracting(ChangelogExtractor.SpecChangelog::getSpecPath)
+            .containsExactly("api/openapi.yaml");
+    }
+
+    @Test
+    void shouldExtractInParallelInPathOrder() throws Exception {
+        for (String service : List.of("orders", "billing", "users", "accounts")) {
+            repo.write("services/" + service + "/openapi.yaml", TestGitRepository.openApiSpec(service, "users"));
+        }
+        repo.commit("add services");
+        repo.tag("v4");
+        for (String service : List.of("orders", "billing", "users", "accounts")) {
+            repo.write("services/" + service + "/openapi.yaml",
+                TestGitRepository.openApiSpec(TestGitRepository.DEFAULT_TITLE, service + "/v2"));
+        }
+        repo.commit("rename paths");
+        repo.tag("v5");
+
+        GitConfig sequentialConfig = GitConfig.builder().extractionParallelism(1).useSpecIndex(false).build();
+        GitConfig parallelConfig = GitConfig.builder().extractionParallelism(4).useSpecIndex(false).build();
+        List<ChangelogExtractor.SpecChangelog> sequential = new ChangelogExtractor(repo.getRepository(),
+            sequentialConfig, SpecParserRegistry.getDefault(), new SpecBlobCache()).extractChangelogs("v4", "v5");
+        List<ChangelogExtractor.SpecChangelog> parallel = new ChangelogExtractor(repo.getRepository(),
+            parallelConfig, SpecParserRegistry.getDefault(), new SpecBlobCache()).extractChangelogs("v4", "v5");
+
+        assertThat(parallel)
+            .extracting(ChangelogExtractor.SpecChangelog::getSpecPath)
+            .containsExactly(
+                "services/accounts/openapi.yaml",
+                "services/billing/openapi.yaml",
+                "services/orders/openapi.yaml",
+                "services/users/openapi.yaml");
+        assertThat(parallel).extracting(changelog -> changelog.getChangelog().getChanges().size())
+            .containsExactlyElementsOf(sequential.stream()
+                .map(changelog -> changelog.getChangelog().getChanges().size())
+                .toList());
+    }
+}
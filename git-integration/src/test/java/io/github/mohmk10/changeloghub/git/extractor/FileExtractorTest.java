@@ -0,0 +1,130 @@
+package io.github.mohmk10.changeloghub.git.extractor;
+
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.model.GitFileContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileExtractorTest {
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private FileExtractor extractor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+        repo.write("api/openapi.yaml", "openapi: 3.0.0\n");
+        repo.write("api/schema.graphql", "type Query { id: ID }\n");
+        repo.write("proto/user.proto", "syntax = \"proto3\";\n");
+        repo.write("README.md", "# readme\n");
+        repo.commit("initial");
+        repo.tag("v1");
+
+        repo.write("api/openapi.yaml", "openapi: 3.0.1\n");
+        repo.commit("bump");
+
+        extractor = new FileExtractor(repo.getRepository());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldExtractBatchInRequestedOrder() {
+        List<GitFileContent> contents = extractor.extractFiles(
+            List.of("proto/user.proto", "missing.yaml", "api/openapi.yaml"), "v1");
+
+        assertThat(contents).extracting(GitFileContent::getPath)
+            .containsExactly("proto/user.proto", "missing.yaml", "api/openapi.yaml");
+        assertThat(contents).extracting(GitFileContent::exists).containsExactly(true, false, true);
+        assertThat(contents.get(2).getContent()).isEqualTo("openapi: 3.0.0\n");
+        assertThat(contents.get(1).getCommitId()).isEqualTo(contents.get(0).getCommitId());
+    }
+
+    @Test
+    void shouldStreamOnlyRequestedFiles() {
+        try (Stream<GitFileContent> stream = extractor.streamFiles(
+                List.of("api/openapi.yaml", "api/schema.graphql", "api"), "main")) {
+            Map<String, GitFileContent> byPath = stream
+                .collect(Collectors.toMap(GitFileContent::getPath, content -> content));
+
+            assertThat(byPath).containsOnlyKeys("api/openapi.yaml", "api/schema.graphql", "api");
+            assertThat(byPath.get("api/openapi.yaml").getContent()).isEqualTo("openapi: 3.0.1\n");
+            assertThat(byPath.get("api").exists()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldMatchSingleFileExtraction() {
+        GitFileContent single = extractor.extractFile("api/schema.graphql", "main").orElseThrow();
+        GitFileContent batched = extractor.extractFilesByPath(List.of("api/schema.graphql"), "main")
+            .get("api/schema.graphql");
+
+        assertThat(batched).isEqualTo(single);
+        assertThat(batched.getContent()).isEqualTo(single.getContent());
+    }
+
+    @Test
+    void shouldReportMissingFilesForUnknownRef() {
+        List<GitFileContent> contents = extractor.extractFiles(List.of("api/openapi.yaml"), "does-not-exist");
+
+        assertThat(contents).hasSize(1);
+        assertThat(contents.get(0).exists()).isFalse();
+        assertThat(contents.get(0).getCommitId()).isNull();
+    }
+
+    @Test
+    void shouldExtractFromSnapshot() {
+        try (FileExtractor.Snapshot snapshot = extractor.openSnapshot("v1")) {
+            GitFileContent content = snapshot.extract("api/openapi.yaml");
+
+            assertThat(content.getContent()).isEqualTo("openapi: 3.0.0\n");
+            assertThat(content).isEqualTo(extractor.extractFile("api/openapi.yaml", "v1").orElseThrow());
+            assertThat(snapshot.extract("api").exists()).isFalse();
+            assertThat(snapshot.extract("missing.yaml").exists()).isFalse();
+        }
+
+        try (FileExtractor.Snapshot snapshot = extractor.openSnapshot("does-not-exist")) {
+            assertThat(snapshot.extract("api/openapi.yaml").exists()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldExtractManySpecsInOneBatch() throws Exception {
+        List<String> paths = IntStream.range(0, 500)
+            .mapToObj(i -> "specs/service-" + i + "/openapi.yaml")
+            .collect(Collectors.toList());
+        for (int i = 0; i < paths.size(); i++) {
+            repo.write(paths.get(i), TestGitRepository.openApiSpec("Service " + i, "items" + i));
+        }
+        repo.release("v2");
+
+        Map<String, GitFileContent> byPath = extractor.extractFilesByPath(paths, "v2");
+
+        assertThat(byPath).hasSize(500);
+        assertThat(byPath.values()).allMatch(GitFileContent::exists);
+        assertThat(byPath.get("specs/service-499/openapi.yaml").getContent())
+            .isEqualTo(TestGitRepository.openApiSpec("Service 499", "items499"));
+    }
+
+    @Test
+    void shouldReturnNothingForEmptyBatch() {
+        assertThat(extractor.extractFiles(List.of(), "main")).isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.mohmk10.changeloghub.git.extractor;
+
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.GitService;
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.impl.DefaultGitService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecCommitWalkerTest {
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private SpecBlobCache specCache;
+    private SpecCommitWalker walker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+
+        repo.writeSpec("users");
+        repo.commit("add users api");
+        repo.tag("start");
+
+        repo.write("README.md", "docs");
+        repo.commit("docs");
+
+        repo.writeSpec("users", "orders");
+        repo.commit("add orders");
+
+        repo.writeSpec("orders");
+        repo.write("schema/schema.graphql", "type Query { users: [String] }\n");
+        repo.commit("drop users, add graphql");
+
+        repo.remove("schema/schema.graphql");
+        repo.commit("drop graphql");
+
+        GitConfig config = GitConfig.builder().useSpecIndex(false).build();
+        specCache = new SpecBlobCache();
+        walker = new SpecCommitWalker(repo.getRepository(), config,
+            new ChangelogExtractor(repo.getRepository(), config, SpecParserRegistry.getDefault(), specCache, null),
+            null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldEmitOneEventPerChangedSpecInCommitOrder() {
+        List<SpecCommitWalker.CommitChangelog> events;
+        try (Stream<SpecCommitWalker.CommitChangelog> stream = walker.stream(null, "HEAD")) {
+            events = stream.collect(Collectors.toList());
+        }
+
+        assertThat(events).extracting(event -> event.getCommit().getMessageFirstLine())
+            .containsExactly("add users api", "add orders", "drop users, add graphql",
+                "drop users, add graphql", "drop graphql");
+        assertThat(events).extracting(event -> event.getChangelog().getSpecPath())
+            .containsExactly("api/openapi.yaml", "api/openapi.yaml", "api/openapi.yaml",
+                "schema/schema.graphql", "schema/schema.graphql");
+        assertThat(events.get(0).getChangelog().isNew()).isTrue();
+        assertThat(events.get(1).hasBreakingChanges()).isFalse();
+        assertThat(events.get(2).hasBreakingChanges()).isTrue();
+        assertThat(events.get(4).getChangelog().isDeleted()).isTrue();
+    }
+
+    @Test
+    void shouldReuseParsedSpecsFromPreviousCommit() {
+        walker.forEach(null, "HEAD", event -> { });
+
+        assertThat(specCache.getMisses()).isEqualTo(4);
+        assertThat(specCache.getHits()).isZero();
+    }
+
+    @Test
+    void shouldStartAfterFromRef() {
+        try (Stream<SpecCommitWalker.CommitChangelog> stream = walker.stream("start", "HEAD")) {
+            assertThat(stream.map(event -> event.getCommit().getMessageFirstLine()).collect(Collectors.toList()))
+                .containsExactly("add orders", "drop users, add graphql", "drop users, add graphql", "drop graphql");
+        }
+    }
+
+    @Test
+    void shouldOnlyWalkAsFarAsConsumed() {
+        try (Stream<SpecCommitWalker.CommitChangelog> stream = walker.stream(null, "HEAD")) {
+            assertThat(stream.limit(1).count()).isEqualTo(1);
+        }
+
+        assertThat(specCache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipCommitsWhereSpecDoesNotParse() throws Exception {
+        repo.tag("before-broken");
+        repo.write(TestGitRepository.SPEC_PATH, "openapi: 3.0.0\ninfo: [unterminated\n");
+        repo.commit("break spec");
+        repo.writeSpec("orders", "invoices");
+        repo.commit("fix spec");
+
+        try (Stream<SpecCommitWalker.CommitChangelog> stream = walker.stream("before-broken", "HEAD")) {
+            assertThat(stream.collect(Collectors.toList())).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldStreamThroughGitService() {
+        try (GitService service = DefaultGitService.openRepository(workDir);
+             Stream<SpecCommitWalker.CommitChangelog> stream = service.streamCommitChangelogs("start", "HEAD")) {
+            assertThat(stream.filter(SpecCommitWalker.CommitChangelog::hasBreakingChanges).count()).isEqualTo(2);
+        }
+    }
+}
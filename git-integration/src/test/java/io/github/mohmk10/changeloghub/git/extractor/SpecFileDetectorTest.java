@@ -0,0 +1,113 @@
+package io.github.mohmk10.changeloghub.git.extractor;
+
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecFileDetectorTest {
+
+    private static final String OPENAPI = "openapi: 3.0.0\ninfo:\n  title: Users\n  version: 1.0.0\npaths: {}\n";
+    private static final String ASYNCAPI = "asyncapi: 2.6.0\ninfo:\n  title: Events\n  version: 1.0.0\nchannels: {}\n";
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private SpecDetectionCache detectionCache;
+    private SpecFileDetector detector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+        repo.write("api/openapi.yaml", OPENAPI);
+        repo.write("events/asyncapi.yml", ASYNCAPI);
+        repo.write("schema/schema.graphql", "type Query { users: [String] }\n");
+        repo.write("proto/users.proto", "syntax = \"proto3\";\n");
+        repo.write("src/main/java/UserController.java", "@RestController\nclass UserController {}\n");
+        repo.write("src/main/java/User.java", "class User {}\n");
+        repo.write("config/settings.json", "{\"debug\": true}\n");
+        repo.write("node_modules/pkg/openapi.yaml", OPENAPI);
+        repo.write(".github/workflows/openapi.yml", OPENAPI);
+        repo.write("docs/openapi.txt", OPENAPI);
+        repo.commit("v1");
+        repo.tag("v1");
+
+        repo.write("README.md", "changed");
+        repo.commit("docs");
+        repo.tag("v2");
+
+        detectionCache = new SpecDetectionCache();
+        GitConfig config = new GitConfig();
+        detector = new SpecFileDetector(new FileExtractor(repo.getRepository(), config), config, detectionCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldDetectSpecsByPathRulesAndContent() {
+        Map<SpecFileDetector.SpecType, List<String>> specs = detector.detectSpecs("v1");
+
+        assertThat(specs.get(SpecFileDetector.SpecType.OPENAPI)).containsExactly("api/openapi.yaml");
+        assertThat(specs.get(SpecFileDetector.SpecType.ASYNCAPI)).containsExactly("events/asyncapi.yml");
+        assertThat(specs.get(SpecFileDetector.SpecType.GRAPHQL)).containsExactly("schema/schema.graphql");
+        assertThat(specs.get(SpecFileDetector.SpecType.PROTOBUF)).containsExactly("proto/users.proto");
+        assertThat(specs.get(SpecFileDetector.SpecType.SPRING)).containsExactly("src/main/java/UserController.java");
+    }
+
+    @Test
+    void shouldOnlySniffPathRuleSurvivors() {
+        detector.detectSpecs("v1");
+
+        assertThat(detectionCache.size()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReuseDetectionForUnchangedBlobs() {
+        detector.detectSpecs("v1");
+        long misses = detectionCache.getMisses();
+
+        detector.detectSpecs("v2");
+
+        assertThat(detectionCache.getMisses()).isEqualTo(misses);
+        assertThat(detectionCache.getHits()).isEqualTo(misses);
+    }
+
+    @Test
+    void shouldRecordBlobIdsOfDetectedSpecs() {
+        List<SpecFileDetector.SpecFile> specs = detector.findAllSpecs("v1");
+
+        assertThat(specs).hasSize(5);
+        assertThat(specs).allSatisfy(spec -> assertThat(spec.getBlobId()).hasSize(40));
+    }
+
+    @Test
+    void shouldDetectSingleFile() {
+        assertThat(detector.detectSpecType("api/openapi.yaml", "v2")).isEqualTo(SpecFileDetector.SpecType.OPENAPI);
+        assertThat(detector.detectSpecType("node_modules/pkg/openapi.yaml", "v2")).isNull();
+        assertThat(detector.detectSpecType("missing.yaml", "v2")).isNull();
+    }
+
+    @Test
+    void shouldApplyFileSizeLimitPerDetector() {
+        GitConfig smallFiles = new GitConfig();
+        smallFiles.setMaxFileSizeBytes(16);
+        SpecFileDetector limited = new SpecFileDetector(new FileExtractor(repo.getRepository(), smallFiles), smallFiles,
+            detectionCache);
+
+        assertThat(limited.detectSpecType("api/openapi.yaml", "v1")).isNull();
+        assertThat(detector.detectSpecType("api/openapi.yaml", "v1")).isEqualTo(SpecFileDetector.SpecType.OPENAPI);
+        assertThat(limited.detectSpecType("api/openapi.yaml", "v2")).isNull();
+    }
+}
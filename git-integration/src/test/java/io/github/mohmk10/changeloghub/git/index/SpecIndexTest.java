@@ -0,0 +1,233 @@
+package io.github.mohmk10.changeloghub.git.index;
+
+import io.github.mohmk10.changeloghub.core.model.*;
+import io.github.mohmk10.changeloghub.core.parser.SpecParser;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.comparator.GitSpecComparator;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.extractor.ChangelogExtractor;
+import io.github.mohmk10.changeloghub.git.extractor.SpecBlobCache;
+import io.github.mohmk10.changeloghub.git.extractor.SpecFileDetector;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecIndexTest {
+
+    @TempDir
+    Path workDir;
+
+    private TestGitRepository repo;
+    private GitConfig config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = TestGitRepository.init(workDir);
+        repo.writeSpec("users");
+        repo.commit("v1");
+        repo.tag("v1");
+
+        repo.writeSpec("accounts");
+        repo.commit("v2");
+        repo.tag("v2");
+
+        config = new GitConfig();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.close();
+    }
+
+    @Test
+    void shouldStoreIndexUnderGitDirectory() {
+        SpecIndex index = SpecIndex.forRepository(repo.getRepository(), config);
+
+        assertThat(index.getDirectory()).isEqualTo(workDir.resolve(".git").resolve(SpecIndex.DIRECTORY_NAME));
+    }
+
+    @Test
+    void shouldBeDisabledByConfig() {
+        config.setUseSpecIndex(false);
+
+        assertThat(SpecIndex.forRepository(repo.getRepository(), config)).isNull();
+    }
+
+    @Test
+    void shouldRoundTripSpecFilesByTree() {
+        SpecIndex index = SpecIndex.forRepository(repo.getRepository(), config);
+        ObjectId treeId = ObjectId.fromString("0123456789012345678901234567890123456789");
+        List<SpecFileDetector.SpecFile> specs = List.of(
+            new SpecFileDetector.SpecFile("api/openapi.yaml", SpecFileDetector.SpecType.OPENAPI, "v1",
+                "abcdefabcdefabcdefabcdefabcdefabcdefabcd"));
+
+        assertThat(index.getSpecFiles(treeId, "v1")).isEmpty();
+        index.putSpecFiles(treeId, specs);
+
+        List<SpecFileDetector.SpecFile> restored = SpecIndex.forRepository(repo.getRepository(), config)
+            .getSpecFiles(treeId, "v1").orElseThrow();
+        assertThat(restored).isEqualTo(specs);
+        assertThat(restored.get(0).getBlobId()).isEqualTo("abcdefabcdefabcdefabcdefabcdefabcdefabcd");
+    }
+
+    @Test
+    void shouldKeepTreeEntriesPerDetectionConfig() {
+        ObjectId treeId = ObjectId.fromString("0123456789012345678901234567890123456789");
+        SpecIndex.forRepository(repo.getRepository(), config).putSpecFiles(treeId, List.of());
+
+        GitConfig other = new GitConfig();
+        other.addIgnoredPath("api");
+
+        assertThat(SpecIndex.forRepository(repo.getRepository(), other).getSpecFiles(treeId, "v1")).isEmpty();
+        assertThat(SpecIndex.forRepository(repo.getRepository(), config).getSpecFiles(treeId, "v1")).isPresent();
+    }
+
+    @Test
+    void shouldRoundTripCompactApiSpec() {
+        SpecIndex index = SpecIndex.forRepository(repo.getRepository(), config);
+        ApiSpec spec = ApiSpec.builder()
+            .name("Users")
+            .version("1.0.0")
+            .type(ApiType.REST)
+            .parsedAt(LocalDateTime.of(2024, 1, 2, 3, 4))
+            .addMetadata("queryCount", 3)
+            .addMetadata("description", "Users API")
+            .addMetadata("ignored", List.of("not", "scalar"))
+            .addEndpoint(Endpoint.builder()
+                .path("/users/{id}")
+                .method(HttpMethod.GET)
+                .operationId("getUser")
+                .addParameter(new Parameter("id", ParameterLocation.PATH, "string", true, null, "User id"))
+                .requestBody(new RequestBody("application/json", "User", false))
+                .addResponse(new Response("200", "OK", "application/json", "User"))
+                .addTag("users")
+                .deprecated(true)
+                .build())
+            .build();
+
+        index.putSpec("abcdefabcdefabcdefabcdefabcdefabcdefabcd", SpecFileDetector.SpecType.OPENAPI, "openapi:1", spec);
+        ApiSpec restored = index.getSpec("abcdefabcdefabcdefabcdefabcdefabcdefabcd", SpecFileDetector.SpecType.OPENAPI,
+            "openapi:1").orElseThrow();
+
+        assertThat(restored.getName()).isEqualTo("Users");
+        assertThat(restored.getType()).isEqualTo(ApiType.REST);
+        assertThat(restored.getParsedAt()).isEqualTo(spec.getParsedAt());
+        assertThat(restored.getMetadata()).isEqualTo(Map.of("queryCount", 3, "description", "Users API"));
+        assertThat(restored.getEndpoints()).isEqualTo(spec.getEndpoints());
+        assertThat(restored.getEndpoints().get(0).getParameters()).isEqualTo(spec.getEndpoints().get(0).getParameters());
+        assertThat(restored.getEndpoints().get(0).getResponses()).isEqualTo(spec.getEndpoints().get(0).getResponses());
+        assertThat(restored.getEndpoints().get(0).getRequestBody()).isEqualTo(spec.getEndpoints().get(0).getRequestBody());
+        assertThat(restored.getEndpoints().get(0).isDeprecated()).isTrue();
+    }
+
+    @Test
+    void shouldServeRepeatedComparisonsFromIndex() {
+        ChangelogExtractor first = new ChangelogExtractor(repo.getRepository(), config,
+            SpecParserRegistry.getDefault(), new SpecBlobCache());
+        List<ChangelogExtractor.SpecChangelog> expected = first.extractChangelogs("v1", "v2");
+        assertThat(first.getSpecIndex().getHits()).isZero();
+
+        ChangelogExtractor second = new ChangelogExtractor(repo.getRepository(), config,
+            SpecParserRegistry.getDefault(), new SpecBlobCache());
+        List<ChangelogExtractor.SpecChangelog> actual = second.extractChangelogs("v1", "v2");
+
+        assertThat(second.getSpecIndex().getMisses()).isZero();
+        assertThat(second.getSpecIndex().getHits()).isEqualTo(4);
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getChangelog().getChanges())
+            .hasSameSizeAs(expected.get(0).getChangelog().getChanges());
+    }
+
+    @Test
+    void shouldIgnoreSpecsWrittenByAnotherParserVersion() {
+        SpecIndex index = SpecIndex.forRepository(repo.getRepository(), config);
+        String blobId = "abcdefabcdefabcdefabcdefabcdefabcdefabcd";
+        index.putSpec(blobId, SpecFileDetector.SpecType.OPENAPI, "openapi:1", ApiSpec.builder().name("Users").build());
+
+        assertThat(index.getSpec(blobId, SpecFileDetector.SpecType.OPENAPI, "openapi:2")).isEmpty();
+        assertThat(index.getSpec(blobId, SpecFileDetector.SpecType.OPENAPI, "openapi:1")).isPresent();
+
+        index.putSpec(blobId, SpecFileDetector.SpecType.OPENAPI, "openapi:2", ApiSpec.builder().name("Accounts").build());
+
+        assertThat(index.getSpec(blobId, SpecFileDetector.SpecType.OPENAPI, "openapi:2"))
+            .hasValueSatisfying(spec -> assertThat(spec.getName()).isEqualTo("Accounts"));
+        assertThat(index.getSpec(blobId, SpecFileDetector.SpecType.OPENAPI, "openapi:1")).isEmpty();
+    }
+
+    @Test
+    void shouldReparseWhenParserSchemaVersionChanges() {
+        new ChangelogExtractor(repo.getRepository(), config, SpecParserRegistry.getDefault(), new SpecBlobCache())
+            .extractChangelogs("v1", "v2");
+
+        AtomicInteger parses = new AtomicInteger();
+        SpecParserRegistry bumped = new SpecParserRegistry().register(new VersionedParser(2, parses));
+        ChangelogExtractor extractor = new ChangelogExtractor(repo.getRepository(), config, bumped, new SpecBlobCache());
+        extractor.extractChangelogs("v1", "v2");
+
+        assertThat(parses.get()).isEqualTo(2);
+        assertThat(extractor.getSpecIndex().getHits()).isEqualTo(2);
+
+        ChangelogExtractor again = new ChangelogExtractor(repo.getRepository(), config, bumped, new SpecBlobCache());
+        again.extractChangelogs("v1", "v2");
+
+        assertThat(parses.get()).isEqualTo(2);
+        assertThat(again.getSpecIndex().getHits()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldCompareWithIndexEnabled() {
+        GitSpecComparator.SpecComparison comparison = new GitSpecComparator(repo.getRepository(), config)
+            .compare("v1", "v2");
+
+        assertThat(comparison.getChangelogs()).hasSize(1);
+        assertThat(workDir.resolve(".git").resolve(SpecIndex.DIRECTORY_NAME)).isDirectory();
+    }
+
+    private static class VersionedParser implements SpecParser {
+        private final int schemaVersion;
+        private final AtomicInteger parses;
+
+        private VersionedParser(int schemaVersion, AtomicInteger parses) {
+            this.schemaVersion = schemaVersion;
+            this.parses = parses;
+        }
+
+        @Override
+        public String getName() {
+            return "openapi";
+        }
+
+        @Override
+        public ApiType getApiType() {
+            return ApiType.REST;
+        }
+
+        @Override
+        public int detect(String prefix, String fileName) {
+            return SpecParserRegistry.getDefault().detect(prefix, fileName)
+                .filter(type -> type == ApiType.REST).isPresent() ? STRONG_MATCH : NO_MATCH;
+        }
+
+        @Override
+        public ApiSpec parse(String content, String fileName) {
+            parses.incrementAndGet();
+            return SpecParserRegistry.getDefault().parse(ApiType.REST, content, fileName);
+        }
+
+        @Override
+        public int getSchemaVersion() {
+            return schemaVersion;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.mohmk10.changeloghub.git.watch;
+
+import io.github.mohmk10.changeloghub.git.TestGitRepository;
+import io.github.mohmk10.changeloghub.git.config.GitConfig;
+import io.github.mohmk10.changeloghub.git.exception.GitOperationException;
+import io.github.mohmk10.changeloghub.git.index.SpecIndex;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.transport.RefSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepositoryWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path workDir;
+    private Path mirrorsDir;
+    private String remoteUri;
+    private TestGitRepository repo;
+    private RepositoryWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        workDir = tempDir.resolve("work");
+        mirrorsDir = tempDir.resolve("mirrors");
+        Path remoteDir = tempDir.resolve("remote.git");
+
+        repo = TestGitRepository.init(workDir, tempDir.getFileName().toString());
+        repo.writeSpec("users", "orders");
+        repo.commit("add api");
+
+        Git.cloneRepository()
+            .setURI(workDir.toUri().toString())
+            .setDirectory(remoteDir.toFile())
+            .setBare(true)
+            .call()
+            .close();
+        remoteUri = remoteDir.toUri().toString();
+
+        watcher = new RepositoryWatcher(mirrorsDir, new GitConfig());
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+        repo.close();
+    }
+
+    @Test
+    void shouldReportNothingWhenRemoteIsUnchanged() {
+        RepositoryWatcher.WatchedRepository repository = watcher.watch("api", remoteUri);
+
+        assertThat(watcher.poll("api")).isEmpty();
+        assertThat(repository.getFetchCount()).isEqualTo(1);
+        assertThat(repository.getLastFetchedAt()).isNotNull();
+        assertThat(repository.getMirrorPath()).isEqualTo(mirrorsDir.resolve("api.git"));
+        assertThat(watcher.getWatchedRepositories()).containsExactly("api");
+    }
+
+    @Test
+    void shouldComparePushedRangeAndNotifyListeners() throws Exception {
+        watcher.watch("api", remoteUri);
+        List<RepositoryWatcher.RefChange> notified = new ArrayList<>();
+        watcher.addListener(notified::add);
+
+        repo.writeSpec("orders");
+        RevCommit pushed = repo.commit("drop users");
+        push("main");
+
+        List<RepositoryWatcher.RefChange> changes = watcher.poll("api");
+
+        assertThat(changes).hasSize(1);
+        RepositoryWatcher.RefChange change = changes.get(0);
+        assertThat(change.getRefName()).isEqualTo("refs/heads/main");
+        assertThat(change.getNewCommitId()).isEqualTo(pushed.getName());
+        assertThat(change.getOldCommitId()).isEqualTo(pushed.getParent(0).getName());
+        assertThat(change.isNewRef()).isFalse();
+        assertThat(change.hasBreakingChanges()).isTrue();
+        assertThat(notified).containsExactly(change);
+        assertThat(mirrorsDir.resolve("api.git").resolve(SpecIndex.DIRECTORY_NAME)).isDirectory();
+
+        assertThat(watcher.poll("api")).isEmpty();
+    }
+
+    @Test
+    void shouldCompareNewBranchFromMergeBase() throws Exception {
+        watcher.watch("api", remoteUri);
+        RevCommit base = repo.getGit().log().setMaxCount(1).call().iterator().next();
+
+        repo.getGit().checkout().setCreateBranch(true).setName("feature").call();
+        repo.writeSpec("users", "orders", "invoices");
+        repo.commit("add invoices");
+        push("feature");
+
+        List<RepositoryWatcher.RefChange> changes = watcher.poll("api");
+
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getRefName()).isEqualTo("refs/heads/feature");
+        assertThat(changes.get(0).isNewRef()).isTrue();
+        assertThat(changes.get(0).getOldCommitId()).isEqualTo(base.getName());
+        assertThat(changes.get(0).hasBreakingChanges()).isFalse();
+        assertThat(changes.get(0).getComparison().hasChanges()).isTrue();
+    }
+
+    @Test
+    void shouldReuseExistingMirror() throws Exception {
+        watcher.watch("api", remoteUri);
+        watcher.close();
+
+        repo.writeSpec("orders");
+        repo.commit("drop users");
+        push("main");
+
+        try (RepositoryWatcher reopened = new RepositoryWatcher(mirrorsDir)) {
+            reopened.watch("api", remoteUri);
+            List<RepositoryWatcher.RefChange> changes = reopened.poll("api");
+
+            assertThat(changes).hasSize(1);
+            assertThat(changes.get(0).hasBreakingChanges()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldPollOnScheduleAndTrigger() throws Exception {
+        watcher.watch("api", remoteUri);
+        assertThat(watcher.trigger("api").get(30, TimeUnit.SECONDS)).isEmpty();
+
+        List<RepositoryWatcher.RefChange> notified = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        watcher.addListener(change -> {
+            notified.add(change);
+            latch.countDown();
+        });
+        watcher.start(Duration.ofMillis(50));
+        assertThat(watcher.isRunning()).isTrue();
+
+        repo.writeSpec("orders");
+        repo.commit("drop users");
+        push("main");
+
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        watcher.stop();
+
+        assertThat(watcher.isRunning()).isFalse();
+        assertThat(notified).hasSize(1);
+        assertThat(notified.get(0).getRepositoryName()).isEqualTo("api");
+    }
+
+    @Test
+    void shouldRejectUnknownRepository() {
+        assertThatThrownBy(() -> watcher.poll("missing"))
+            .isInstanceOf(GitOperationException.class)
+            .hasMessageContaining("missing");
+    }
+
+    @Test
+    void shouldRejectNamesOutsideMirrorRoot() {
+        for (String name : List.of("../escape", "nested/api", "..", ".hidden", "")) {
+            assertThatThrownBy(() -> watcher.watch(name, remoteUri))
+                .isInstanceOf(GitOperationException.class)
+                .hasMessageContaining("Invalid repository name");
+        }
+
+        assertThat(tempDir.resolve("escape.git")).doesNotExist();
+        assertThat(mirrorsDir).doesNotExist();
+        assertThat(watcher.getWatchedRepositories()).isEmpty();
+    }
+
+    @Test
+    void shouldCloneOnceForConcurrentWatches() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<RepositoryWatcher.WatchedRepository> first = executor.submit(() -> watcher.watch("api", remoteUri));
+            Future<RepositoryWatcher.WatchedRepository> second = executor.submit(() -> watcher.watch("api", remoteUri));
+
+            assertThat(first.get(30, TimeUnit.SECONDS)).isSameAs(second.get(30, TimeUnit.SECONDS));
+            assertThat(watcher.getWatchedRepositories()).containsExactly("api");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void push(String branch) throws Exception {
+        repo.getGit().push()
+            .setRemote(remoteUri)
+            .setRefSpecs(new RefSpec("refs/heads/" + branch + ":refs/heads/" + branch))
+            .call();
+    }
+}
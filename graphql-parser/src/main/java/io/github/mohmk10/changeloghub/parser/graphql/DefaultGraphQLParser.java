@@ -9,37 +9,62 @@ import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import graphql.schema.idl.errors.SchemaProblem;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.parser.WorkerPools;
+import io.github.mohmk10.changeloghub.parser.graphql.analyzer.IntrospectionReader;
 import io.github.mohmk10.changeloghub.parser.graphql.analyzer.OperationAnalyzer;
+import io.github.mohmk10.changeloghub.parser.graphql.analyzer.RegistryMerger;
 import io.github.mohmk10.changeloghub.parser.graphql.analyzer.TypeAnalyzer;
 import io.github.mohmk10.changeloghub.parser.graphql.exception.GraphQLParseException;
 import io.github.mohmk10.changeloghub.parser.graphql.mapper.GraphQLModelMapper;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLOperation;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLSchema;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLType;
+import io.github.mohmk10.changeloghub.parser.graphql.util.TypeDefinitionRegistryCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DefaultGraphQLParser implements GraphQLParser {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultGraphQLParser.class);
 
+    private static final Set<String> SDL_EXTENSIONS = Set.of(".graphql", ".graphqls", ".gql");
+
     private final SchemaParser schemaParser;
     private final TypeAnalyzer typeAnalyzer;
     private final OperationAnalyzer operationAnalyzer;
     private final GraphQLModelMapper modelMapper;
+    private final RegistryMerger registryMerger;
+    private final IntrospectionReader introspectionReader;
+    private final TypeDefinitionRegistryCache registryCache;
+    private final int parallelism;
 
     public DefaultGraphQLParser() {
+        this(new TypeDefinitionRegistryCache(), Runtime.getRuntime().availableProcessors());
+    }
+
+    public DefaultGraphQLParser(TypeDefinitionRegistryCache registryCache, int parallelism) {
         this.schemaParser = new SchemaParser();
         this.typeAnalyzer = new TypeAnalyzer();
         this.operationAnalyzer = new OperationAnalyzer();
         this.modelMapper = new GraphQLModelMapper();
+        this.registryMerger = new RegistryMerger();
+        this.introspectionReader = new IntrospectionReader();
+        this.registryCache = registryCache;
+        this.parallelism = Math.max(1, parallelism);
     }
 
     @Override
@@ -51,7 +76,7 @@ public class DefaultGraphQLParser implements GraphQLParser {
         try {
             logger.debug("Parsing GraphQL schema from SDL content");
 
-            TypeDefinitionRegistry registry = schemaParser.parse(sdlContent);
+            TypeDefinitionRegistry registry = registryCache.getOrParse(sdlContent, schemaParser);
 
             return buildSchema(registry, sdlContent);
 
@@ -90,15 +115,166 @@ public class DefaultGraphQLParser implements GraphQLParser {
             throw GraphQLParseException.parseError("Input stream is null", null);
         }
 
+        String content;
         try {
-            String content = new BufferedReader(
-                    new InputStreamReader(inputStream, StandardCharsets.UTF_8))
-                    .lines()
-                    .collect(Collectors.joining("\n"));
-            return parse(content);
-        } catch (Exception e) {
+            content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
             throw GraphQLParseException.parseError("Failed to read input stream: " + e.getMessage(), e);
         }
+        return parse(content);
+    }
+
+    @Override
+    public GraphQLSchema parseFiles(List<File> files) throws GraphQLParseException {
+        if (files == null || files.isEmpty()) {
+            throw GraphQLParseException.emptySchema();
+        }
+
+        List<File> sortedFiles = files.stream()
+                .sorted()
+                .toList();
+        for (File file : sortedFiles) {
+            if (!file.isFile()) {
+                throw GraphQLParseException.fileNotFound(file.getAbsolutePath());
+            }
+        }
+
+        List<ParsedFile> parsedFiles = parseAll(sortedFiles);
+
+        TypeDefinitionRegistry registry = parsedFiles.size() == 1
+                ? parsedFiles.get(0).registry
+                : registryMerger.merge(parsedFiles.stream().map(f -> f.registry).toList());
+
+        GraphQLSchema schema = buildSchema(registry, parsedFiles.get(0).content);
+        schema.setSourceFile(parsedFiles.size() == 1
+                ? sortedFiles.get(0).getAbsolutePath()
+                : commonParent(sortedFiles));
+
+        logger.info("Merged {} GraphQL schema files ({} registry cache hits)",
+                parsedFiles.size(), registryCache.getHits());
+        return schema;
+    }
+
+    @Override
+    public GraphQLSchema parseDirectory(File directory, boolean recursive) throws GraphQLParseException {
+        if (directory == null || !directory.isDirectory()) {
+            throw GraphQLParseException.fileNotFound(directory != null ? directory.getAbsolutePath() : "null");
+        }
+
+        List<File> files;
+        try (Stream<Path> paths = recursive ? Files.walk(directory.toPath()) : Files.list(directory.toPath())) {
+            files = paths
+                    .filter(Files::isRegularFile)
+                    .filter(DefaultGraphQLParser::isSdlFile)
+                    .map(Path::toFile)
+                    .toList();
+        } catch (IOException e) {
+            throw GraphQLParseException.ioError(directory.getAbsolutePath(), e);
+        }
+
+        if (files.isEmpty()) {
+            throw GraphQLParseException.invalidSchema("No GraphQL schema files found in " + directory.getAbsolutePath());
+        }
+        return parseFiles(files);
+    }
+
+    @Override
+    public GraphQLSchema parseIntrospection(InputStream inputStream) throws GraphQLParseException {
+        if (inputStream == null) {
+            throw GraphQLParseException.parseError("Input stream is null", null);
+        }
+
+        GraphQLSchema schema = introspectionReader.read(inputStream);
+
+        logger.info("Parsed GraphQL introspection result: {} types, {} queries, {} mutations, {} subscriptions",
+                schema.getTypeCount(), schema.getQueries().size(), schema.getMutations().size(),
+                schema.getSubscriptions().size());
+        return schema;
+    }
+
+    @Override
+    public GraphQLSchema parseIntrospectionFile(File file) throws GraphQLParseException {
+        if (file == null || !file.isFile()) {
+            throw GraphQLParseException.fileNotFound(file != null ? file.getAbsolutePath() : "null");
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+            GraphQLSchema schema = parseIntrospection(inputStream);
+            schema.setSourceFile(file.getAbsolutePath());
+            return schema;
+        } catch (IOException e) {
+            throw GraphQLParseException.ioError(file.getAbsolutePath(), e);
+        }
+    }
+
+    private List<ParsedFile> parseAll(List<File> files) {
+        List<ParsedFile> results = new ArrayList<>(files.size());
+        if (Math.min(parallelism, files.size()) <= 1) {
+            for (File file : files) {
+                results.add(parseSchemaFile(file));
+            }
+            return results;
+        }
+
+        List<Callable<ParsedFile>> tasks = new ArrayList<>(files.size());
+        for (File file : files) {
+            tasks.add(() -> parseSchemaFile(file));
+        }
+
+        try {
+            for (Future<ParsedFile> future : WorkerPools.forParallelism(parallelism).invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof GraphQLParseException parseException) {
+                        throw parseException;
+                    }
+                    throw GraphQLParseException.parseError("Unexpected error while parsing schema files", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw GraphQLParseException.parseError("Interrupted while parsing schema files", e);
+        }
+        return results;
+    }
+
+    private ParsedFile parseSchemaFile(File file) {
+        String content;
+        try {
+            content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw GraphQLParseException.ioError(file.getAbsolutePath(), e);
+        }
+        if (content.isBlank()) {
+            throw GraphQLParseException.invalidSchema("Schema file is empty: " + file.getAbsolutePath());
+        }
+        try {
+            return new ParsedFile(content, registryCache.getOrParse(content, schemaParser));
+        } catch (SchemaProblem e) {
+            throw GraphQLParseException.parseError(file.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isSdlFile(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 && SDL_EXTENSIONS.contains(name.substring(dot));
+    }
+
+    private static String commonParent(List<File> files) {
+        Path common = files.get(0).getAbsoluteFile().toPath().getParent();
+        for (File file : files) {
+            Path parent = file.getAbsoluteFile().toPath().getParent();
+            while (common != null && !parent.startsWith(common)) {
+                common = common.getParent();
+            }
+        }
+        return common != null ? common.toString() : null;
+    }
+
+    public TypeDefinitionRegistryCache getRegistryCache() {
+        return registryCache;
     }
 
     @Override
@@ -118,6 +294,12 @@ public class DefaultGraphQLParser implements GraphQLParser {
         return parseFileToApiSpec(new File(filePath));
     }
 
+    @Override
+    public ApiSpec parseFilesToApiSpec(List<File> files) throws GraphQLParseException {
+        GraphQLSchema schema = parseFiles(files);
+        return modelMapper.mapToApiSpec(schema);
+    }
+
     @Override
     public boolean validate(String sdlContent) throws GraphQLParseException {
         if (sdlContent == null || sdlContent.isBlank()) {
@@ -180,6 +362,7 @@ public class DefaultGraphQLParser implements GraphQLParser {
         schema.setQueries(queries);
         schema.setMutations(mutations);
         schema.setSubscriptions(subscriptions);
+        schema.buildReferenceIndex();
 
         logger.info("Parsed GraphQL schema: {} types, {} queries, {} mutations, {} subscriptions",
                 types.size(), queries.size(), mutations.size(), subscriptions.size());
@@ -233,20 +416,44 @@ public class DefaultGraphQLParser implements GraphQLParser {
         }
     }
 
+    private static final class ParsedFile {
+        private final String content;
+        private final TypeDefinitionRegistry registry;
+
+        private ParsedFile(String content, TypeDefinitionRegistry registry) {
+            this.content = content;
+            this.registry = registry;
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
     public static class Builder {
         private boolean lenientParsing = false;
+        private TypeDefinitionRegistryCache registryCache;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
 
         public Builder lenientParsing(boolean lenient) {
             this.lenientParsing = lenient;
             return this;
         }
 
+        public Builder registryCache(TypeDefinitionRegistryCache registryCache) {
+            this.registryCache = registryCache;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public DefaultGraphQLParser build() {
-            return new DefaultGraphQLParser();
+            return new DefaultGraphQLParser(
+                    registryCache != null ? registryCache : new TypeDefinitionRegistryCache(),
+                    parallelism);
         }
     }
 }
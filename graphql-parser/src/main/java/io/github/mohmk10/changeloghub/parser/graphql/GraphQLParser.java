@@ -6,6 +6,7 @@ import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLSchema;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.List;
 
 public interface GraphQLParser {
 
@@ -17,12 +18,22 @@ public interface GraphQLParser {
 
     GraphQLSchema parseStream(InputStream inputStream) throws GraphQLParseException;
 
+    GraphQLSchema parseFiles(List<File> files) throws GraphQLParseException;
+
+    GraphQLSchema parseDirectory(File directory, boolean recursive) throws GraphQLParseException;
+
+    GraphQLSchema parseIntrospection(InputStream inputStream) throws GraphQLParseException;
+
+    GraphQLSchema parseIntrospectionFile(File file) throws GraphQLParseException;
+
     ApiSpec parseToApiSpec(String sdlContent) throws GraphQLParseException;
 
     ApiSpec parseFileToApiSpec(File file) throws GraphQLParseException;
 
     ApiSpec parseFileToApiSpec(String filePath) throws GraphQLParseException;
 
+    ApiSpec parseFilesToApiSpec(List<File> files) throws GraphQLParseException;
+
     boolean validate(String sdlContent) throws GraphQLParseException;
 
     boolean validateFile(File file) throws GraphQLParseException;
@@ -0,0 +1,78 @@
+package io.github.mohmk10.changeloghub.parser.graphql;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import io.github.mohmk10.changeloghub.core.parser.SpecParser;
+import io.github.mohmk10.changeloghub.parser.graphql.mapper.GraphQLModelMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class GraphQLSpecParser implements SpecParser {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final Pattern SDL_PATTERN = Pattern.compile(
+            "(?m)^\\s*(extend\\s+)?(type|interface|input|enum|union|scalar|schema|directive)\\b[^\\n]*[{=@]");
+
+    private static final Pattern INTROSPECTION_PATTERN = Pattern.compile("\"__schema\"\\s*:");
+
+    private final GraphQLParser parser;
+    private final GraphQLModelMapper modelMapper;
+
+    public GraphQLSpecParser() {
+        this(new DefaultGraphQLParser(), new GraphQLModelMapper());
+    }
+
+    public GraphQLSpecParser(GraphQLParser parser, GraphQLModelMapper modelMapper) {
+        this.parser = parser;
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public String getName() {
+        return "graphql";
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public ApiType getApiType() {
+        return ApiType.GRAPHQL;
+    }
+
+    @Override
+    public int detect(String prefix, String fileName) {
+        if (INTROSPECTION_PATTERN.matcher(prefix).find()) {
+            return STRONG_MATCH;
+        }
+        boolean graphQLFile = isGraphQLFile(fileName);
+        boolean sdl = SDL_PATTERN.matcher(prefix).find();
+        if (graphQLFile && sdl) {
+            return STRONG_MATCH;
+        }
+        return graphQLFile || sdl ? LIKELY_MATCH : NO_MATCH;
+    }
+
+    @Override
+    public ApiSpec parse(String content, String fileName) {
+        if (INTROSPECTION_PATTERN.matcher(content).find()) {
+            return modelMapper.mapToApiSpec(parser.parseIntrospection(
+                    new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+        }
+        return modelMapper.mapToApiSpec(parser.parse(content));
+    }
+
+    private boolean isGraphQLFile(String fileName) {
+        if (fileName == null) {
+            return false;
+        }
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        return lowerName.endsWith(".graphql") || lowerName.endsWith(".graphqls") || lowerName.endsWith(".gql");
+    }
+}
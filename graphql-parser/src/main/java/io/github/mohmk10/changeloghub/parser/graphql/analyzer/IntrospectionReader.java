@@ -0,0 +1,363 @@
+package io.github.mohmk10.changeloghub.parser.graphql.analyzer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.mohmk10.changeloghub.parser.graphql.exception.GraphQLParseException;
+import io.github.mohmk10.changeloghub.parser.graphql.model.*;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLOperation.OperationType;
+import io.github.mohmk10.changeloghub.parser.graphql.util.GraphQLConstants;
+import io.github.mohmk10.changeloghub.parser.graphql.util.GraphQLTypeKind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+public class IntrospectionReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String INTROSPECTION_PREFIX = "__";
+
+    public GraphQLSchema read(InputStream inputStream) {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            Session session = new Session(parser);
+            session.readDocument();
+            return session.buildSchema();
+        } catch (JsonProcessingException e) {
+            throw GraphQLParseException.parseError("Invalid introspection JSON: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw GraphQLParseException.parseError("Failed to read introspection result: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class FieldData {
+        private String name;
+        private String description;
+        private String type;
+        private boolean deprecated;
+        private String deprecationReason;
+        private String defaultValue;
+        private final List<FieldData> arguments = new ArrayList<>();
+    }
+
+    private static final class Session {
+        private final JsonParser parser;
+        private final List<GraphQLType> types = new ArrayList<>();
+        private final Map<String, List<FieldData>> objectFields = new HashMap<>();
+        private String description;
+        private String queryTypeName;
+        private String mutationTypeName;
+        private String subscriptionTypeName;
+        private boolean schemaFound;
+
+        private Session(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        private void readDocument() throws IOException {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            readContainer();
+            if (!schemaFound) {
+                throw GraphQLParseException.invalidSchema("No __schema object found in introspection result");
+            }
+        }
+
+        private void readContainer() throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("__schema".equals(field) && value == JsonToken.START_OBJECT) {
+                    readSchema();
+                } else if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                    readContainer();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private void readSchema() throws IOException {
+            schemaFound = true;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "description" -> description = textOrNull();
+                    case "queryType" -> queryTypeName = readNamedRef();
+                    case "mutationType" -> mutationTypeName = readNamedRef();
+                    case "subscriptionType" -> subscriptionTypeName = readNamedRef();
+                    case "types" -> readTypes();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        private void readTypes() throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                readType();
+            }
+        }
+
+        private void readType() throws IOException {
+            GraphQLType type = new GraphQLType();
+            List<FieldData> fields = List.of();
+            List<FieldData> inputFields = List.of();
+            List<String> possibleTypes = List.of();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "kind" -> type.setKind(kindOf(parser.getText()));
+                    case "name" -> type.setName(parser.getText());
+                    case "description" -> type.setDescription(textOrNull());
+                    case "fields" -> fields = readFields();
+                    case "inputFields" -> inputFields = readFields();
+                    case "interfaces" -> readNamedRefs().forEach(type::addInterface);
+                    case "possibleTypes" -> possibleTypes = readNamedRefs();
+                    case "enumValues" -> readFields().forEach(value -> type.addEnumValue(value.name));
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (type.getName() == null || type.getName().startsWith(INTROSPECTION_PREFIX)) {
+                return;
+            }
+            if (type.getKind() == GraphQLTypeKind.SCALAR && GraphQLConstants.isBuiltInScalar(type.getName())) {
+                return;
+            }
+
+            if (type.getKind() == GraphQLTypeKind.OBJECT) {
+                objectFields.put(type.getName(), fields);
+            }
+            if (type.getKind() == GraphQLTypeKind.UNION) {
+                possibleTypes.forEach(type::addPossibleType);
+            }
+            for (FieldData field : fields) {
+                type.addField(toField(field));
+            }
+            for (FieldData field : inputFields) {
+                type.addField(toField(field));
+            }
+            types.add(type);
+        }
+
+        private List<FieldData> readFields() throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return List.of();
+            }
+            List<FieldData> fields = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                fields.add(readField());
+            }
+            return fields;
+        }
+
+        private FieldData readField() throws IOException {
+            FieldData data = new FieldData();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name" -> data.name = parser.getText();
+                    case "description" -> data.description = textOrNull();
+                    case "type" -> data.type = readTypeRef();
+                    case "args" -> data.arguments.addAll(readFields());
+                    case "isDeprecated" -> data.deprecated = parser.currentToken() == JsonToken.VALUE_TRUE;
+                    case "deprecationReason" -> data.deprecationReason = textOrNull();
+                    case "defaultValue" -> data.defaultValue = textOrNull();
+                    default -> parser.skipChildren();
+                }
+            }
+            return data;
+        }
+
+        private String readTypeRef() throws IOException {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return null;
+            }
+            String kind = null;
+            String name = null;
+            String ofType = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "kind" -> kind = parser.getText();
+                    case "name" -> name = textOrNull();
+                    case "ofType" -> ofType = readTypeRef();
+                    default -> parser.skipChildren();
+                }
+            }
+            if ("NON_NULL".equals(kind)) {
+                return ofType + GraphQLConstants.NON_NULL_SUFFIX;
+            }
+            if ("LIST".equals(kind)) {
+                return GraphQLConstants.LIST_PREFIX + ofType + GraphQLConstants.LIST_SUFFIX;
+            }
+            return name;
+        }
+
+        private String readNamedRef() throws IOException {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return null;
+            }
+            String name = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("name".equals(field)) {
+                    name = textOrNull();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return name;
+        }
+
+        private List<String> readNamedRefs() throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return List.of();
+            }
+            List<String> names = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String name = readNamedRef();
+                if (name != null) {
+                    names.add(name);
+                }
+            }
+            return names;
+        }
+
+        private String textOrNull() throws IOException {
+            return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+        }
+
+        private void expect(JsonToken actual, JsonToken expected) {
+            if (actual != expected) {
+                throw GraphQLParseException.invalidSchema("Expected " + expected + " in introspection result but found "
+                        + actual + " at " + parser.currentLocation().offsetDescription());
+            }
+        }
+
+        private GraphQLSchema buildSchema() {
+            Set<String> rootTypes = new HashSet<>();
+            Collections.addAll(rootTypes, queryTypeName, mutationTypeName, subscriptionTypeName);
+
+            Map<String, GraphQLType> typeMap = new LinkedHashMap<>();
+            for (GraphQLType type : types) {
+                if (!(type.getKind() == GraphQLTypeKind.OBJECT && rootTypes.contains(type.getName()))) {
+                    typeMap.putIfAbsent(type.getName(), type);
+                }
+            }
+
+            GraphQLSchema schema = new GraphQLSchema();
+            schema.setName("GraphQL API");
+            schema.setVersion("1.0.0");
+            schema.setDescription(description);
+            schema.setTypes(typeMap);
+            schema.setQueries(toOperations(queryTypeName, OperationType.QUERY));
+            schema.setMutations(toOperations(mutationTypeName, OperationType.MUTATION));
+            schema.setSubscriptions(toOperations(subscriptionTypeName, OperationType.SUBSCRIPTION));
+            schema.buildReferenceIndex();
+            return schema;
+        }
+
+        private List<GraphQLOperation> toOperations(String rootTypeName, OperationType operationType) {
+            List<GraphQLOperation> operations = new ArrayList<>();
+            if (rootTypeName == null) {
+                return operations;
+            }
+            for (FieldData field : objectFields.getOrDefault(rootTypeName, List.of())) {
+                GraphQLOperation operation = new GraphQLOperation();
+                operation.setName(field.name);
+                operation.setOperationType(operationType);
+                operation.setReturnType(field.type);
+                operation.setReturnTypeRequired(isNonNull(field.type));
+                operation.setReturnTypeList(isList(field.type));
+                operation.setDeprecated(field.deprecated);
+                operation.setDeprecationReason(field.deprecationReason);
+                operation.setDescription(field.description);
+                operation.setArguments(toArguments(field.arguments));
+                operations.add(operation);
+            }
+            return operations;
+        }
+
+        private GraphQLField toField(FieldData data) {
+            GraphQLField field = new GraphQLField();
+            field.setName(data.name);
+            field.setType(baseTypeName(data.type));
+            field.setRequired(isNonNull(data.type));
+            field.setList(isList(data.type));
+            field.setListItemRequired(isListItemNonNull(data.type));
+            field.setDeprecated(data.deprecated);
+            field.setDeprecationReason(data.deprecationReason);
+            field.setDescription(data.description);
+            field.setArguments(toArguments(data.arguments));
+            return field;
+        }
+
+        private List<GraphQLArgument> toArguments(List<FieldData> arguments) {
+            List<GraphQLArgument> result = new ArrayList<>(arguments.size());
+            for (FieldData data : arguments) {
+                GraphQLArgument argument = new GraphQLArgument(data.name, data.type, isNonNull(data.type));
+                argument.setDescription(data.description);
+                argument.setDefaultValue(data.defaultValue);
+                argument.setDeprecated(data.deprecated);
+                argument.setDeprecationReason(data.deprecationReason);
+                result.add(argument);
+            }
+            return result;
+        }
+
+        private static GraphQLTypeKind kindOf(String kind) {
+            try {
+                return GraphQLTypeKind.valueOf(kind);
+            } catch (IllegalArgumentException e) {
+                throw GraphQLParseException.invalidSchema("Unknown type kind in introspection result: " + kind);
+            }
+        }
+
+        private static boolean isNonNull(String type) {
+            return type != null && type.endsWith(GraphQLConstants.NON_NULL_SUFFIX);
+        }
+
+        private static boolean isList(String type) {
+            return type != null && type.startsWith(GraphQLConstants.LIST_PREFIX);
+        }
+
+        private static boolean isListItemNonNull(String type) {
+            if (!isList(type)) {
+                return false;
+            }
+            String inner = isNonNull(type) ? type.substring(0, type.length() - 1) : type;
+            return inner.endsWith(GraphQLConstants.NON_NULL_SUFFIX + GraphQLConstants.LIST_SUFFIX);
+        }
+
+        private static String baseTypeName(String type) {
+            if (type == null) {
+                return "Unknown";
+            }
+            int start = 0;
+            int end = type.length();
+            while (start < end && type.charAt(start) == '[') {
+                start++;
+            }
+            while (end > start && (type.charAt(end - 1) == ']' || type.charAt(end - 1) == '!')) {
+                end--;
+            }
+            return type.substring(start, end);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.mohmk10.changeloghub.parser.graphql.analyzer;
+
+import graphql.language.*;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.github.mohmk10.changeloghub.parser.graphql.exception.GraphQLParseException;
+
+import java.util.*;
+import java.util.function.Function;
+
+public class RegistryMerger {
+
+    public TypeDefinitionRegistry merge(List<TypeDefinitionRegistry> registries) {
+        Map<String, TypeDefinition<?>> types = new LinkedHashMap<>();
+
+        for (TypeDefinitionRegistry registry : registries) {
+            for (TypeDefinition<?> definition : registry.types().values()) {
+                types.merge(definition.getName(), definition, this::combine);
+            }
+        }
+
+        for (TypeDefinitionRegistry registry : registries) {
+            List<TypeDefinition<?>> extensions = new ArrayList<>();
+            registry.objectTypeExtensions().values().forEach(extensions::addAll);
+            registry.interfaceTypeExtensions().values().forEach(extensions::addAll);
+            registry.inputObjectTypeExtensions().values().forEach(extensions::addAll);
+            registry.enumTypeExtensions().values().forEach(extensions::addAll);
+            registry.unionTypeExtensions().values().forEach(extensions::addAll);
+            for (TypeDefinition<?> extension : extensions) {
+                types.merge(extension.getName(), asDefinition(extension), this::combine);
+            }
+        }
+
+        TypeDefinitionRegistry merged = new TypeDefinitionRegistry();
+        for (TypeDefinition<?> definition : types.values()) {
+            addOrThrow(merged, definition);
+        }
+
+        for (TypeDefinitionRegistry registry : registries) {
+            for (ScalarTypeDefinition scalar : registry.scalars().values()) {
+                if (!merged.scalars().containsKey(scalar.getName())) {
+                    addOrThrow(merged, scalar);
+                }
+            }
+            for (DirectiveDefinition directive : registry.getDirectiveDefinitions().values()) {
+                if (merged.getDirectiveDefinition(directive.getName()).isEmpty()) {
+                    addOrThrow(merged, directive);
+                }
+            }
+            if (merged.schemaDefinition().isEmpty()) {
+                registry.schemaDefinition().ifPresent(schema -> addOrThrow(merged, schema));
+            }
+        }
+
+        return merged;
+    }
+
+    private void addOrThrow(TypeDefinitionRegistry registry, SDLDefinition<?> definition) {
+        registry.add(definition).ifPresent(error -> {
+            throw GraphQLParseException.invalidSchema(error.getMessage());
+        });
+    }
+
+    private TypeDefinition<?> combine(TypeDefinition<?> first, TypeDefinition<?> second) {
+        if (first instanceof ObjectTypeDefinition a && second instanceof ObjectTypeDefinition b) {
+            return a.transform(builder -> builder
+                    .description(a.getDescription() != null ? a.getDescription() : b.getDescription())
+                    .implementz(union(a.getImplements(), b.getImplements(), RegistryMerger::typeName))
+                    .directives(union(a.getDirectives(), b.getDirectives(), AstPrinter::printAst))
+                    .fieldDefinitions(union(a.getFieldDefinitions(), b.getFieldDefinitions(), FieldDefinition::getName)));
+        }
+        if (first instanceof InterfaceTypeDefinition a && second instanceof InterfaceTypeDefinition b) {
+            return a.transform(builder -> builder
+                    .description(a.getDescription() != null ? a.getDescription() : b.getDescription())
+                    .implementz(union(a.getImplements(), b.getImplements(), RegistryMerger::typeName))
+                    .directives(union(a.getDirectives(), b.getDirectives(), AstPrinter::printAst))
+                    .definitions(union(a.getFieldDefinitions(), b.getFieldDefinitions(), FieldDefinition::getName)));
+        }
+        if (first instanceof InputObjectTypeDefinition a && second instanceof InputObjectTypeDefinition b) {
+            return a.transform(builder -> builder
+                    .description(a.getDescription() != null ? a.getDescription() : b.getDescription())
+                    .directives(union(a.getDirectives(), b.getDirectives(), AstPrinter::printAst))
+                    .inputValueDefinitions(union(a.getInputValueDefinitions(), b.getInputValueDefinitions(),
+                            InputValueDefinition::getName)));
+        }
+        if (first instanceof EnumTypeDefinition a && second instanceof EnumTypeDefinition b) {
+            return a.transform(builder -> builder
+                    .description(a.getDescription() != null ? a.getDescription() : b.getDescription())
+                    .directives(union(a.getDirectives(), b.getDirectives(), AstPrinter::printAst))
+                    .enumValueDefinitions(union(a.getEnumValueDefinitions(), b.getEnumValueDefinitions(),
+                            EnumValueDefinition::getName)));
+        }
+        if (first instanceof UnionTypeDefinition a && second instanceof UnionTypeDefinition b) {
+            return a.transform(builder -> builder
+                    .description(a.getDescription() != null ? a.getDescription() : b.getDescription())
+                    .directives(union(a.getDirectives(), b.getDirectives(), AstPrinter::printAst))
+                    .memberTypes(union(a.getMemberTypes(), b.getMemberTypes(), RegistryMerger::typeName)));
+        }
+        throw GraphQLParseException.invalidSchema("Type '" + first.getName() + "' is defined as both "
+                + kindOf(first) + " and " + kindOf(second));
+    }
+
+    private TypeDefinition<?> asDefinition(TypeDefinition<?> extension) {
+        if (extension instanceof ObjectTypeExtensionDefinition e) {
+            return ObjectTypeDefinition.newObjectTypeDefinition()
+                    .name(e.getName())
+                    .implementz(e.getImplements())
+                    .directives(e.getDirectives())
+                    .fieldDefinitions(e.getFieldDefinitions())
+                    .sourceLocation(e.getSourceLocation())
+                    .build();
+        }
+        if (extension instanceof InterfaceTypeExtensionDefinition e) {
+            return InterfaceTypeDefinition.newInterfaceTypeDefinition()
+                    .name(e.getName())
+                    .implementz(e.getImplements())
+                    .directives(e.getDirectives())
+                    .definitions(e.getFieldDefinitions())
+                    .sourceLocation(e.getSourceLocation())
+                    .build();
+        }
+        if (extension instanceof InputObjectTypeExtensionDefinition e) {
+            return InputObjectTypeDefinition.newInputObjectDefinition()
+                    .name(e.getName())
+                    .directives(e.getDirectives())
+                    .inputValueDefinitions(e.getInputValueDefinitions())
+                    .sourceLocation(e.getSourceLocation())
+                    .build();
+        }
+        if (extension instanceof EnumTypeExtensionDefinition e) {
+            return EnumTypeDefinition.newEnumTypeDefinition()
+                    .name(e.getName())
+                    .directives(e.getDirectives())
+                    .enumValueDefinitions(e.getEnumValueDefinitions())
+                    .sourceLocation(e.getSourceLocation())
+                    .build();
+        }
+        if (extension instanceof UnionTypeExtensionDefinition e) {
+            return UnionTypeDefinition.newUnionTypeDefinition()
+                    .name(e.getName())
+                    .directives(e.getDirectives())
+                    .memberTypes(e.getMemberTypes())
+                    .sourceLocation(e.getSourceLocation())
+                    .build();
+        }
+        return extension;
+    }
+
+    private static <T> List<T> union(List<T> first, List<T> second, Function<T, String> key) {
+        Map<String, T> merged = new LinkedHashMap<>();
+        for (T item : first) {
+            merged.putIfAbsent(key.apply(item), item);
+        }
+        for (T item : second) {
+            merged.putIfAbsent(key.apply(item), item);
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private static String typeName(Type<?> type) {
+        return type instanceof TypeName typeName ? typeName.getName() : AstPrinter.printAst(type);
+    }
+
+    private static String kindOf(TypeDefinition<?> definition) {
+        return definition.getClass().getSimpleName().replace("Definition", "");
+    }
+}
@@ -8,13 +8,25 @@ import java.util.*;
 
 public class GraphQLSchemaComparator {
 
-    private final GraphQLTypeComparator typeComparator = new GraphQLTypeComparator();
+    private final GraphQLTypeComparator typeComparator;
     private final GraphQLFieldComparator fieldComparator = new GraphQLFieldComparator();
 
+    public GraphQLSchemaComparator() {
+        this(new GraphQLTypeComparator());
+    }
+
+    public GraphQLSchemaComparator(int parallelism) {
+        this(new GraphQLTypeComparator(parallelism));
+    }
+
+    public GraphQLSchemaComparator(GraphQLTypeComparator typeComparator) {
+        this.typeComparator = typeComparator;
+    }
+
     public List<Change> compare(GraphQLSchema oldSchema, GraphQLSchema newSchema) {
         List<Change> changes = new ArrayList<>();
 
-        changes.addAll(typeComparator.compareTypes(oldSchema.getTypes(), newSchema.getTypes()));
+        changes.addAll(typeComparator.compareTypes(oldSchema, newSchema));
 
         changes.addAll(compareOperations(oldSchema.getQueries(), newSchema.getQueries(), "Query"));
 
@@ -1,56 +1,101 @@
 package io.github.mohmk10.changeloghub.parser.graphql.comparator;
 
 import io.github.mohmk10.changeloghub.core.model.*;
+import io.github.mohmk10.changeloghub.core.parser.WorkerPools;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLSchema;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLType;
+import io.github.mohmk10.changeloghub.parser.graphql.util.TypeReferenceIndex;
 
 import java.util.*;
+import java.util.concurrent.RecursiveTask;
 
 public class GraphQLTypeComparator {
 
+    public static final int PARALLEL_THRESHOLD = 64;
+
     private final GraphQLFieldComparator fieldComparator = new GraphQLFieldComparator();
+    private final int parallelism;
+
+    public GraphQLTypeComparator() {
+        this(1);
+    }
+
+    public GraphQLTypeComparator(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public List<Change> compareTypes(GraphQLSchema oldSchema, GraphQLSchema newSchema) {
+        return compareTypes(oldSchema.getTypes(), newSchema.getTypes(),
+                oldSchema.getReferenceIndex(), newSchema.getReferenceIndex());
+    }
 
     public List<Change> compareTypes(Map<String, GraphQLType> oldTypes, Map<String, GraphQLType> newTypes) {
+        return compareTypes(oldTypes, newTypes, null, null);
+    }
+
+    private List<Change> compareTypes(Map<String, GraphQLType> oldTypes, Map<String, GraphQLType> newTypes,
+                                      TypeReferenceIndex oldIndex, TypeReferenceIndex newIndex) {
         List<Change> changes = new ArrayList<>();
+        List<String> commonTypes = new ArrayList<>();
 
-        for (String typeName : oldTypes.keySet()) {
-            if (!newTypes.containsKey(typeName)) {
-                changes.add(createChange(
+        for (Map.Entry<String, GraphQLType> entry : oldTypes.entrySet()) {
+            String typeName = entry.getKey();
+            if (newTypes.containsKey(typeName)) {
+                commonTypes.add(typeName);
+            } else {
+                Change change = createChange(
                         ChangeType.REMOVED,
                         ChangeCategory.TYPE,
                         Severity.BREAKING,
                         typeName,
                         "Type '" + typeName + "' removed",
-                        oldTypes.get(typeName),
+                        entry.getValue(),
                         null
-                ));
+                );
+                changes.add(annotate(change, typeName, oldIndex, null));
             }
         }
 
-        for (String typeName : newTypes.keySet()) {
+        for (Map.Entry<String, GraphQLType> entry : newTypes.entrySet()) {
+            String typeName = entry.getKey();
             if (!oldTypes.containsKey(typeName)) {
-                changes.add(createChange(
+                Change change = createChange(
                         ChangeType.ADDED,
                         ChangeCategory.TYPE,
                         Severity.INFO,
                         typeName,
                         "Type '" + typeName + "' added",
                         null,
-                        newTypes.get(typeName)
-                ));
+                        entry.getValue()
+                );
+                changes.add(annotate(change, typeName, null, newIndex));
             }
         }
 
-        for (String typeName : oldTypes.keySet()) {
-            if (newTypes.containsKey(typeName)) {
-                GraphQLType oldType = oldTypes.get(typeName);
-                GraphQLType newType = newTypes.get(typeName);
-                changes.addAll(compareType(oldType, newType));
-            }
+        TypeDiffTask task = new TypeDiffTask(commonTypes, 0, commonTypes.size(), oldTypes, newTypes, oldIndex, newIndex);
+        if (parallelism > 1 && commonTypes.size() >= PARALLEL_THRESHOLD) {
+            changes.addAll(WorkerPools.forParallelism(parallelism).invoke(task));
+        } else {
+            changes.addAll(task.compute());
         }
 
         return changes;
     }
 
+    private List<Change> compareCommonType(String typeName, Map<String, GraphQLType> oldTypes,
+                                           Map<String, GraphQLType> newTypes,
+                                           TypeReferenceIndex oldIndex, TypeReferenceIndex newIndex) {
+        List<Change> changes = compareType(oldTypes.get(typeName), newTypes.get(typeName));
+        for (Change change : changes) {
+            annotate(change, typeName, oldIndex, newIndex);
+        }
+        return changes;
+    }
+
     public List<Change> compareType(GraphQLType oldType, GraphQLType newType) {
         List<Change> changes = new ArrayList<>();
         String path = oldType.getName();
@@ -92,8 +137,8 @@ public class GraphQLTypeComparator {
     public List<Change> compareEnumValues(GraphQLType oldType, GraphQLType newType, String path) {
         List<Change> changes = new ArrayList<>();
 
-        Set<String> oldValues = new HashSet<>(oldType.getEnumValues());
-        Set<String> newValues = new HashSet<>(newType.getEnumValues());
+        Set<String> oldValues = new LinkedHashSet<>(oldType.getEnumValues());
+        Set<String> newValues = new LinkedHashSet<>(newType.getEnumValues());
 
         for (String value : oldValues) {
             if (!newValues.contains(value)) {
@@ -129,8 +174,8 @@ public class GraphQLTypeComparator {
     public List<Change> compareUnionTypes(GraphQLType oldType, GraphQLType newType, String path) {
         List<Change> changes = new ArrayList<>();
 
-        Set<String> oldMembers = new HashSet<>(oldType.getPossibleTypes());
-        Set<String> newMembers = new HashSet<>(newType.getPossibleTypes());
+        Set<String> oldMembers = new LinkedHashSet<>(oldType.getPossibleTypes());
+        Set<String> newMembers = new LinkedHashSet<>(newType.getPossibleTypes());
 
         for (String member : oldMembers) {
             if (!newMembers.contains(member)) {
@@ -166,8 +211,8 @@ public class GraphQLTypeComparator {
     public List<Change> compareInterfaces(GraphQLType oldType, GraphQLType newType, String path) {
         List<Change> changes = new ArrayList<>();
 
-        Set<String> oldInterfaces = new HashSet<>(oldType.getInterfaces());
-        Set<String> newInterfaces = new HashSet<>(newType.getInterfaces());
+        Set<String> oldInterfaces = new LinkedHashSet<>(oldType.getInterfaces());
+        Set<String> newInterfaces = new LinkedHashSet<>(newType.getInterfaces());
 
         for (String iface : oldInterfaces) {
             if (!newInterfaces.contains(iface)) {
@@ -200,6 +245,21 @@ public class GraphQLTypeComparator {
         return changes;
     }
 
+    private Change annotate(Change change, String typeName, TypeReferenceIndex oldIndex, TypeReferenceIndex newIndex) {
+        if (oldIndex == null && newIndex == null) {
+            return change;
+        }
+        Set<String> operations = new TreeSet<>();
+        if (oldIndex != null) {
+            operations.addAll(oldIndex.getAffectedOperations(typeName));
+        }
+        if (newIndex != null) {
+            operations.addAll(newIndex.getAffectedOperations(typeName));
+        }
+        change.setAffectedOperations(new ArrayList<>(operations));
+        return change;
+    }
+
     private Change createChange(ChangeType type, ChangeCategory category, Severity severity,
                                  String path, String description, Object oldValue, Object newValue) {
         return Change.builder()
@@ -212,4 +272,49 @@ public class GraphQLTypeComparator {
                 .newValue(newValue)
                 .build();
     }
+
+    private class TypeDiffTask extends RecursiveTask<List<Change>> {
+
+        private static final int SEQUENTIAL_THRESHOLD = 32;
+
+        private final List<String> typeNames;
+        private final int from;
+        private final int to;
+        private final Map<String, GraphQLType> oldTypes;
+        private final Map<String, GraphQLType> newTypes;
+        private final TypeReferenceIndex oldIndex;
+        private final TypeReferenceIndex newIndex;
+
+        private TypeDiffTask(List<String> typeNames, int from, int to,
+                             Map<String, GraphQLType> oldTypes, Map<String, GraphQLType> newTypes,
+                             TypeReferenceIndex oldIndex, TypeReferenceIndex newIndex) {
+            this.typeNames = typeNames;
+            this.from = from;
+            this.to = to;
+            this.oldTypes = oldTypes;
+            this.newTypes = newTypes;
+            this.oldIndex = oldIndex;
+            this.newIndex = newIndex;
+        }
+
+        @Override
+        protected List<Change> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD || getPool() == null) {
+                List<Change> changes = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    changes.addAll(compareCommonType(typeNames.get(i), oldTypes, newTypes, oldIndex, newIndex));
+                }
+                return changes;
+            }
+
+            int middle = (from + to) >>> 1;
+            TypeDiffTask left = new TypeDiffTask(typeNames, from, middle, oldTypes, newTypes, oldIndex, newIndex);
+            TypeDiffTask right = new TypeDiffTask(typeNames, middle, to, oldTypes, newTypes, oldIndex, newIndex);
+            left.fork();
+            List<Change> rightChanges = right.compute();
+            List<Change> changes = left.join();
+            changes.addAll(rightChanges);
+            return changes;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package io.github.mohmk10.changeloghub.parser.graphql.model;
 
+import io.github.mohmk10.changeloghub.parser.graphql.util.TypeReferenceIndex;
+
 import java.util.*;
 
 public class GraphQLSchema {
@@ -13,6 +15,7 @@ public class GraphQLSchema {
     private List<GraphQLOperation> mutations = new ArrayList<>();
     private List<GraphQLOperation> subscriptions = new ArrayList<>();
     private List<String> directives = new ArrayList<>();
+    private TypeReferenceIndex referenceIndex;
 
     public GraphQLSchema() {
     }
@@ -59,10 +62,12 @@ public class GraphQLSchema {
     }
 
     public void setTypes(Map<String, GraphQLType> types) {
+        this.referenceIndex = null;
         this.types = types != null ? new LinkedHashMap<>(types) : new LinkedHashMap<>();
     }
 
     public void addType(GraphQLType type) {
+        this.referenceIndex = null;
         this.types.put(type.getName(), type);
     }
 
@@ -75,10 +80,12 @@ public class GraphQLSchema {
     }
 
     public void setQueries(List<GraphQLOperation> queries) {
+        this.referenceIndex = null;
         this.queries = queries != null ? new ArrayList<>(queries) : new ArrayList<>();
     }
 
     public void addQuery(GraphQLOperation query) {
+        this.referenceIndex = null;
         this.queries.add(query);
     }
 
@@ -87,10 +94,12 @@ public class GraphQLSchema {
     }
 
     public void setMutations(List<GraphQLOperation> mutations) {
+        this.referenceIndex = null;
         this.mutations = mutations != null ? new ArrayList<>(mutations) : new ArrayList<>();
     }
 
     public void addMutation(GraphQLOperation mutation) {
+        this.referenceIndex = null;
         this.mutations.add(mutation);
     }
 
@@ -99,10 +108,12 @@ public class GraphQLSchema {
     }
 
     public void setSubscriptions(List<GraphQLOperation> subscriptions) {
+        this.referenceIndex = null;
         this.subscriptions = subscriptions != null ? new ArrayList<>(subscriptions) : new ArrayList<>();
     }
 
     public void addSubscription(GraphQLOperation subscription) {
+        this.referenceIndex = null;
         this.subscriptions.add(subscription);
     }
 
@@ -118,6 +129,18 @@ public class GraphQLSchema {
         this.directives.add(directive);
     }
 
+    public synchronized TypeReferenceIndex getReferenceIndex() {
+        if (referenceIndex == null) {
+            referenceIndex = TypeReferenceIndex.of(this);
+        }
+        return referenceIndex;
+    }
+
+    public synchronized TypeReferenceIndex buildReferenceIndex() {
+        referenceIndex = TypeReferenceIndex.of(this);
+        return referenceIndex;
+    }
+
     public List<GraphQLOperation> getAllOperations() {
         List<GraphQLOperation> all = new ArrayList<>();
         all.addAll(queries);
@@ -0,0 +1,203 @@
+package io.github.mohmk10.changeloghub.parser.graphql.util;
+
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TypeDefinitionRegistryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypeDefinitionRegistryCache.class);
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final String CACHE_FILE_EXTENSION = ".registry";
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String VERSION_RESOURCE = "graphql-java.properties";
+    private static final String VERSION_PROPERTY = "graphql-java.version";
+    private static final String GRAPHQL_JAVA_VERSION = graphqlJavaVersion();
+
+    private static final ObjectInputFilter REGISTRY_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=1000;"
+            + "graphql.schema.idl.TypeDefinitionRegistry;graphql.schema.idl.SchemaParseOrder;"
+            + "graphql.language.*;graphql.com.google.common.collect.*;"
+            + "java.lang.Object;java.lang.Number;java.lang.String;java.lang.Boolean;java.lang.Integer;"
+            + "java.lang.Long;java.lang.Enum;java.math.BigInteger;java.math.BigDecimal;"
+            + "java.util.ArrayList;java.util.LinkedList;java.util.HashMap;java.util.LinkedHashMap;"
+            + "java.util.TreeMap;java.util.HashSet;java.util.LinkedHashSet;java.util.Map$Entry;"
+            + "java.util.Collections$*;"
+            + "!*");
+
+    private final int maxEntries;
+    private final Path directory;
+    private final Map<String, TypeDefinitionRegistry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public TypeDefinitionRegistryCache() {
+        this(DEFAULT_MAX_ENTRIES, null);
+    }
+
+    public TypeDefinitionRegistryCache(int maxEntries) {
+        this(maxEntries, null);
+    }
+
+    public TypeDefinitionRegistryCache(int maxEntries, Path directory) {
+        this.maxEntries = Math.max(1, maxEntries);
+        if (directory != null && GRAPHQL_JAVA_VERSION == null) {
+            logger.warn("graphql-java version is unknown; disabling registry cache directory {}", directory);
+            this.directory = null;
+        } else {
+            this.directory = directory;
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TypeDefinitionRegistry> eldest) {
+                return size() > TypeDefinitionRegistryCache.this.maxEntries;
+            }
+        };
+    }
+
+    public TypeDefinitionRegistry getOrParse(String sdlContent, SchemaParser schemaParser) {
+        String key = hash(sdlContent);
+
+        TypeDefinitionRegistry registry;
+        synchronized (entries) {
+            registry = entries.get(key);
+        }
+        if (registry != null) {
+            hits.incrementAndGet();
+            return registry;
+        }
+
+        registry = readFromDisk(key);
+        if (registry != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            registry = schemaParser.parse(sdlContent);
+            writeToDisk(key, registry);
+        }
+
+        synchronized (entries) {
+            TypeDefinitionRegistry existing = entries.putIfAbsent(key, registry);
+            return existing != null ? existing : registry;
+        }
+    }
+
+    public boolean contains(String sdlContent) {
+        synchronized (entries) {
+            return entries.containsKey(hash(sdlContent));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public boolean isDiskCacheEnabled() {
+        return directory != null;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private TypeDefinitionRegistry readFromDisk(String key) {
+        if (directory == null) {
+            return null;
+        }
+        Path file = directory.resolve(key + CACHE_FILE_EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            in.setObjectInputFilter(REGISTRY_FILTER);
+            return (TypeDefinitionRegistry) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.debug("Discarding unreadable registry cache entry {}: {}", file, e.getMessage());
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, TypeDefinitionRegistry registry) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(key + CACHE_FILE_EXTENSION);
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeObject(registry);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write registry cache entry to {}: {}", directory, e.getMessage());
+        }
+    }
+
+    static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(CACHE_FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update(String.valueOf(GRAPHQL_JAVA_VERSION).getBytes(StandardCharsets.UTF_8));
+            digest.update(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static String graphqlJavaVersion() {
+        String version = TypeDefinitionRegistry.class.getPackage().getImplementationVersion();
+        if (version != null && !version.isBlank()) {
+            return version;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = TypeDefinitionRegistryCache.class.getResourceAsStream(VERSION_RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            logger.debug("Failed to read {}: {}", VERSION_RESOURCE, e.getMessage());
+            return null;
+        }
+
+        version = properties.getProperty(VERSION_PROPERTY);
+        return version == null || version.isBlank() || version.startsWith("${") ? null : version.trim();
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.mohmk10.changeloghub.parser.graphql.util;
+
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLArgument;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLField;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLOperation;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLSchema;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TypeReferenceIndex {
+
+    private final Map<String, Set<String>> referencingFields = new HashMap<>();
+    private final Map<String, Set<String>> referencingTypes = new HashMap<>();
+    private final Map<String, Set<String>> rootOperations = new HashMap<>();
+    private final Map<String, List<String>> affectedOperations = new ConcurrentHashMap<>();
+
+    private TypeReferenceIndex() {
+    }
+
+    public static TypeReferenceIndex of(GraphQLSchema schema) {
+        TypeReferenceIndex index = new TypeReferenceIndex();
+
+        for (GraphQLType type : schema.getTypes().values()) {
+            for (GraphQLField field : type.getFields()) {
+                index.addFieldReference(field.getType(), type.getName(), field.getName());
+                for (GraphQLArgument argument : field.getArguments()) {
+                    index.addFieldReference(argument.getType(), type.getName(), field.getName());
+                }
+            }
+            for (String member : type.getPossibleTypes()) {
+                index.addTypeReference(member, type.getName());
+            }
+            for (String iface : type.getInterfaces()) {
+                index.addTypeReference(type.getName(), iface);
+            }
+        }
+
+        for (GraphQLOperation operation : schema.getAllOperations()) {
+            String label = labelOf(operation);
+            index.addOperationReference(operation.getReturnType(), label);
+            for (GraphQLArgument argument : operation.getArguments()) {
+                index.addOperationReference(argument.getType(), label);
+            }
+        }
+
+        return index;
+    }
+
+    public Set<String> getReferencingFields(String typeName) {
+        return Collections.unmodifiableSet(referencingFields.getOrDefault(typeName, Set.of()));
+    }
+
+    public Set<String> getDirectOperations(String typeName) {
+        return Collections.unmodifiableSet(rootOperations.getOrDefault(typeName, Set.of()));
+    }
+
+    public List<String> getAffectedOperations(String typeName) {
+        if (typeName == null) {
+            return List.of();
+        }
+        return affectedOperations.computeIfAbsent(typeName, this::collectAffectedOperations);
+    }
+
+    public boolean isReachable(String typeName) {
+        return !getAffectedOperations(typeName).isEmpty();
+    }
+
+    private List<String> collectAffectedOperations(String typeName) {
+        Set<String> operations = new TreeSet<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(typeName);
+        visited.add(typeName);
+
+        while (!pending.isEmpty()) {
+            String current = pending.poll();
+            operations.addAll(rootOperations.getOrDefault(current, Set.of()));
+            for (String parent : referencingTypes.getOrDefault(current, Set.of())) {
+                if (visited.add(parent)) {
+                    pending.add(parent);
+                }
+            }
+        }
+
+        return List.copyOf(operations);
+    }
+
+    private void addFieldReference(String fieldType, String ownerType, String fieldName) {
+        String target = baseTypeName(fieldType);
+        if (target == null) {
+            return;
+        }
+        referencingFields.computeIfAbsent(target, k -> new LinkedHashSet<>()).add(ownerType + "." + fieldName);
+        addTypeReference(target, ownerType);
+    }
+
+    private void addTypeReference(String target, String ownerType) {
+        if (!target.equals(ownerType)) {
+            referencingTypes.computeIfAbsent(target, k -> new LinkedHashSet<>()).add(ownerType);
+        }
+    }
+
+    private void addOperationReference(String typeRef, String operationLabel) {
+        String target = baseTypeName(typeRef);
+        if (target != null) {
+            rootOperations.computeIfAbsent(target, k -> new LinkedHashSet<>()).add(operationLabel);
+        }
+    }
+
+    static String labelOf(GraphQLOperation operation) {
+        if (operation.getOperationType() == null) {
+            return operation.getName();
+        }
+        String root = switch (operation.getOperationType()) {
+            case QUERY -> GraphQLConstants.QUERY_TYPE;
+            case MUTATION -> GraphQLConstants.MUTATION_TYPE;
+            case SUBSCRIPTION -> GraphQLConstants.SUBSCRIPTION_TYPE;
+        };
+        return root + "." + operation.getName();
+    }
+
+    static String baseTypeName(String typeRef) {
+        if (typeRef == null) {
+            return null;
+        }
+        int start = 0;
+        int end = typeRef.length();
+        while (start < end && (typeRef.charAt(start) == '[' || Character.isWhitespace(typeRef.charAt(start)))) {
+            start++;
+        }
+        while (end > start && (typeRef.charAt(end - 1) == ']' || typeRef.charAt(end - 1) == '!'
+                || Character.isWhitespace(typeRef.charAt(end - 1)))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        String base = typeRef.substring(start, end);
+        return GraphQLConstants.isBuiltInScalar(base) ? null : base;
+    }
+}
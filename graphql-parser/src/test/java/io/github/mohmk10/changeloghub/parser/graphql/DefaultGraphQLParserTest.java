@@ -3,18 +3,29 @@ package io.github.mohmk10.changeloghub.parser.graphql;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
 import io.github.mohmk10.changeloghub.core.model.ApiType;
 import io.github.mohmk10.changeloghub.parser.graphql.exception.GraphQLParseException;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLField;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLOperation;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLSchema;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLType;
+import io.github.mohmk10.changeloghub.parser.graphql.util.TypeDefinitionRegistryCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -531,4 +542,374 @@ class DefaultGraphQLParserTest {
             assertThat(customParser).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("Multi-file parsing tests")
+    class MultiFileTests {
+
+        @TempDir
+        Path tempDir;
+
+        private List<File> writeSubgraphs() throws IOException {
+            Path users = tempDir.resolve("users.graphqls");
+            Files.writeString(users, """
+                scalar DateTime
+
+                type Query {
+                    user(id: ID!): User
+                }
+
+                type User @key(fields: "id") {
+                    id: ID!
+                    name: String!
+                    createdAt: DateTime
+                }
+                """);
+
+            Path orders = tempDir.resolve("orders.graphqls");
+            Files.writeString(orders, """
+                scalar DateTime
+
+                type Query {
+                    orders(first: Int): [Order!]!
+                }
+
+                type Mutation {
+                    placeOrder(sku: String!): Order
+                }
+
+                type Order {
+                    id: ID!
+                    placedAt: DateTime
+                }
+
+                type User @key(fields: "id") {
+                    id: ID!
+                    orders: [Order!]!
+                }
+                """);
+
+            Path reviews = tempDir.resolve("reviews.graphqls");
+            Files.writeString(reviews, """
+                extend type Query {
+                    reviews: [String!]!
+                }
+
+                extend type User {
+                    reviewCount: Int
+                }
+                """);
+
+            return List.of(users.toFile(), orders.toFile(), reviews.toFile());
+        }
+
+        @Test
+        @DisplayName("Should merge subgraph files into one schema")
+        void shouldMergeSubgraphs() throws IOException {
+            GraphQLSchema schema = parser.parseFiles(writeSubgraphs());
+
+            assertThat(schema.getQueries())
+                    .extracting(GraphQLOperation::getName)
+                    .containsExactlyInAnyOrder("user", "orders", "reviews");
+            assertThat(schema.getMutations()).hasSize(1);
+
+            GraphQLType user = schema.getType("User").orElseThrow();
+            assertThat(user.getFields())
+                    .extracting(f -> f.getName())
+                    .containsExactly("id", "orders", "name", "createdAt", "reviewCount");
+            assertThat(schema.getType("DateTime")).isPresent();
+            assertThat(schema.getSourceFile()).isEqualTo(tempDir.toAbsolutePath().toString());
+        }
+
+        @Test
+        @DisplayName("Should parse all SDL files of a directory")
+        void shouldParseDirectory() throws IOException {
+            writeSubgraphs();
+            Files.writeString(tempDir.resolve("README.md"), "not a schema");
+
+            GraphQLSchema schema = parser.parseDirectory(tempDir.toFile(), false);
+
+            assertThat(schema.getQueries()).hasSize(3);
+            assertThat(parser.parseFilesToApiSpec(writeSubgraphs()).getEndpoints()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("Should reuse cached registries for unchanged files")
+        void shouldReuseCachedRegistries() throws IOException {
+            List<File> files = writeSubgraphs();
+            TypeDefinitionRegistryCache cache = parser.getRegistryCache();
+
+            parser.parseFiles(files);
+            long missesAfterFirstRun = cache.getMisses();
+            parser.parseFiles(files);
+
+            assertThat(missesAfterFirstRun).isEqualTo(3);
+            assertThat(cache.getMisses()).isEqualTo(3);
+            assertThat(cache.getHits()).isEqualTo(3);
+
+            Files.writeString(files.get(2).toPath(), "extend type Query { ratings: [Int!]! }");
+            GraphQLSchema schema = parser.parseFiles(files);
+
+            assertThat(cache.getMisses()).isEqualTo(4);
+            assertThat(schema.getQueries())
+                    .extracting(GraphQLOperation::getName)
+                    .contains("ratings")
+                    .doesNotContain("reviews");
+        }
+
+        @Test
+        @DisplayName("Should reuse registries persisted by a previous run")
+        void shouldReusePersistedRegistries() throws IOException {
+            List<File> files = writeSubgraphs();
+            Path cacheDir = tempDir.resolve(".cache");
+
+            DefaultGraphQLParser firstRun = DefaultGraphQLParser.builder()
+                    .registryCache(new TypeDefinitionRegistryCache(16, cacheDir))
+                    .build();
+            GraphQLSchema expected = firstRun.parseFiles(files);
+
+            TypeDefinitionRegistryCache secondCache = new TypeDefinitionRegistryCache(16, cacheDir);
+            DefaultGraphQLParser secondRun = DefaultGraphQLParser.builder()
+                    .registryCache(secondCache)
+                    .parallelism(1)
+                    .build();
+            GraphQLSchema actual = secondRun.parseFiles(files);
+
+            assertThat(secondCache.getMisses()).isZero();
+            assertThat(secondCache.getHits()).isEqualTo(3);
+            assertThat(actual.getTypes().keySet()).isEqualTo(expected.getTypes().keySet());
+        }
+
+        @Test
+        @DisplayName("Should key persisted registries by the graphql-java version")
+        void shouldKnowGraphQLJavaVersionForPersistedRegistries() {
+            TypeDefinitionRegistryCache cache = new TypeDefinitionRegistryCache(16, tempDir.resolve(".cache"));
+
+            assertThat(TypeDefinitionRegistryCache.graphqlJavaVersion()).isNotBlank().doesNotContain("${");
+            assertThat(cache.isDiskCacheEnabled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should refuse to deserialize classes outside the registry allow-list")
+        void shouldRejectForeignClassesInPersistedRegistries() throws IOException {
+            List<File> files = writeSubgraphs();
+            Path cacheDir = tempDir.resolve(".cache");
+            DefaultGraphQLParser.builder()
+                    .registryCache(new TypeDefinitionRegistryCache(16, cacheDir))
+                    .build()
+                    .parseFiles(files);
+
+            List<Path> entries;
+            try (var listing = Files.list(cacheDir)) {
+                entries = listing.toList();
+            }
+            for (Path entry : entries) {
+                try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(entry))) {
+                    out.writeObject(new Canary());
+                }
+            }
+
+            TypeDefinitionRegistryCache cache = new TypeDefinitionRegistryCache(16, cacheDir);
+            GraphQLSchema schema = DefaultGraphQLParser.builder().registryCache(cache).build().parseFiles(files);
+
+            assertThat(entries).hasSize(3);
+            assertThat(Canary.deserialized).isFalse();
+            assertThat(cache.getMisses()).isEqualTo(3);
+            assertThat(schema.getQueries()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject types defined with different kinds")
+        void shouldRejectConflictingKinds() throws IOException {
+            Path a = Files.writeString(tempDir.resolve("a.graphql"), "type Query { a: Thing } type Thing { id: ID }");
+            Path b = Files.writeString(tempDir.resolve("b.graphql"), "enum Thing { ONE TWO }");
+
+            assertThatThrownBy(() -> parser.parseFiles(List.of(a.toFile(), b.toFile())))
+                    .isInstanceOf(GraphQLParseException.class)
+                    .hasMessageContaining("Thing");
+        }
+
+        @Test
+        @DisplayName("Should report the file that fails to parse")
+        void shouldReportFailingFile() throws IOException {
+            Path good = Files.writeString(tempDir.resolve("good.graphql"), "type Query { a: String }");
+            Path bad = Files.writeString(tempDir.resolve("bad.graphql"), "type Query {");
+
+            assertThatThrownBy(() -> parser.parseFiles(List.of(good.toFile(), bad.toFile())))
+                    .isInstanceOf(GraphQLParseException.class)
+                    .hasMessageContaining("bad.graphql");
+        }
+    }
+
+    @Nested
+    @DisplayName("parseIntrospection() method tests")
+    class IntrospectionTests {
+
+        private GraphQLSchema loadIntrospection() {
+            InputStream is = getClass().getClassLoader().getResourceAsStream("introspection/schema-v1.json");
+            assertThat(is).isNotNull();
+            return parser.parseIntrospection(is);
+        }
+
+        @Test
+        @DisplayName("Should match the schema parsed from SDL")
+        void shouldMatchSdlSchema() {
+            GraphQLSchema fromSdl = parser.parseFile("src/test/resources/schemas/schema-v1.graphql");
+            GraphQLSchema fromIntrospection = loadIntrospection();
+
+            assertThat(fromIntrospection.getTypes().keySet())
+                    .containsExactlyInAnyOrderElementsOf(fromSdl.getTypes().keySet());
+            assertThat(signatures(fromIntrospection.getQueries()))
+                    .containsExactlyElementsOf(signatures(fromSdl.getQueries()));
+            assertThat(signatures(fromIntrospection.getMutations()))
+                    .containsExactlyElementsOf(signatures(fromSdl.getMutations()));
+            assertThat(signatures(fromIntrospection.getSubscriptions()))
+                    .containsExactlyElementsOf(signatures(fromSdl.getSubscriptions()));
+
+            for (GraphQLType sdlType : fromSdl.getTypes().values()) {
+                GraphQLType introspected = fromIntrospection.getType(sdlType.getName()).orElseThrow();
+                assertThat(introspected.getKind()).isEqualTo(sdlType.getKind());
+                assertThat(fieldSignatures(introspected)).isEqualTo(fieldSignatures(sdlType));
+                assertThat(introspected.getEnumValues()).isEqualTo(sdlType.getEnumValues());
+                assertThat(introspected.getInterfaces()).isEqualTo(sdlType.getInterfaces());
+                assertThat(introspected.getPossibleTypes())
+                        .containsExactlyInAnyOrderElementsOf(sdlType.getPossibleTypes());
+            }
+        }
+
+        @Test
+        @DisplayName("Should read bare __schema documents with custom root types")
+        void shouldReadBareSchemaWithCustomRoots() {
+            String json = """
+                {"__schema": {
+                  "description": "Inventory API",
+                  "types": [
+                    {"kind": "OBJECT", "name": "QueryRoot", "fields": [
+                      {"name": "items", "args": [
+                        {"name": "first", "type": {"kind": "SCALAR", "name": "Int"}, "defaultValue": "10"}
+                      ], "type": {"kind": "NON_NULL", "ofType": {"kind": "LIST", "ofType":
+                        {"kind": "NON_NULL", "ofType": {"kind": "OBJECT", "name": "Item"}}}},
+                       "isDeprecated": true, "deprecationReason": "Use search"}
+                    ]},
+                    {"kind": "OBJECT", "name": "Item", "fields": [
+                      {"name": "sku", "args": [], "type": {"kind": "NON_NULL", "ofType": {"kind": "SCALAR", "name": "ID"}}}
+                    ], "interfaces": []},
+                    {"kind": "OBJECT", "name": "__Type", "fields": []},
+                    {"kind": "SCALAR", "name": "String"}
+                  ],
+                  "queryType": {"name": "QueryRoot"},
+                  "mutationType": null
+                }}
+                """;
+
+            GraphQLSchema schema = parser.parseIntrospection(
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+            assertThat(schema.getDescription()).isEqualTo("Inventory API");
+            assertThat(schema.getTypes()).containsOnlyKeys("Item");
+            assertThat(schema.getMutations()).isEmpty();
+
+            GraphQLOperation items = schema.getQueries().get(0);
+            assertThat(items.getReturnType()).isEqualTo("[Item!]!");
+            assertThat(items.isReturnTypeList()).isTrue();
+            assertThat(items.isDeprecated()).isTrue();
+            assertThat(items.getArguments().get(0).getDefaultValue()).isEqualTo("10");
+
+            GraphQLField sku = schema.getType("Item").orElseThrow().getField("sku").orElseThrow();
+            assertThat(sku.getType()).isEqualTo("ID");
+            assertThat(sku.isRequired()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject documents without __schema")
+        void shouldRejectMissingSchema() {
+            InputStream is = new ByteArrayInputStream(
+                    "{\"errors\": [{\"message\": \"denied\"}]}".getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(() -> parser.parseIntrospection(is))
+                    .isInstanceOf(GraphQLParseException.class)
+                    .hasMessageContaining("__schema");
+        }
+
+        @Test
+        @DisplayName("Should reject malformed JSON")
+        void shouldRejectMalformedJson() {
+            InputStream is = new ByteArrayInputStream("{\"data\": {".getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(() -> parser.parseIntrospection(is))
+                    .isInstanceOf(GraphQLParseException.class);
+        }
+
+        @Test
+        @DisplayName("Should stream large introspection results")
+        void shouldStreamLargeIntrospection() {
+            int typeCount = 5_000;
+            StringBuilder json = new StringBuilder("{\"data\":{\"__schema\":{\"queryType\":{\"name\":\"Query\"},\"types\":[");
+            json.append("{\"kind\":\"OBJECT\",\"name\":\"Query\",\"fields\":[");
+            for (int t = 0; t < typeCount; t++) {
+                json.append(t > 0 ? "," : "")
+                        .append("{\"name\":\"type").append(t).append("\",\"args\":[],")
+                        .append("\"type\":{\"kind\":\"OBJECT\",\"name\":\"Type").append(t).append("\"}}");
+            }
+            json.append("]}");
+            for (int t = 0; t < typeCount; t++) {
+                json.append(",{\"kind\":\"OBJECT\",\"name\":\"Type").append(t).append("\",\"fields\":[");
+                for (int f = 0; f < 20; f++) {
+                    json.append(f > 0 ? "," : "")
+                            .append("{\"name\":\"field").append(f).append("\",\"args\":[],\"isDeprecated\":false,")
+                            .append("\"type\":{\"kind\":\"NON_NULL\",\"ofType\":{\"kind\":\"SCALAR\",\"name\":\"String\"}}}");
+                }
+                json.append("],\"interfaces\":[]}");
+            }
+            json.append("]}}}");
+            byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+
+            GraphQLSchema schema = parser.parseIntrospection(new UnbufferedInputStream(bytes));
+
+            assertThat(schema.getTypeCount()).isEqualTo(typeCount);
+            assertThat(schema.getQueries()).hasSize(typeCount);
+            assertThat(schema.getType("Type42").orElseThrow().getFields()).hasSize(20);
+        }
+
+        private List<String> signatures(List<GraphQLOperation> operations) {
+            return operations.stream()
+                    .map(op -> op.getName() + ":" + op.getReturnType() + op.getArguments().stream()
+                            .map(arg -> arg.getName() + "=" + arg.getType() + "/" + arg.getDefaultValue())
+                            .collect(Collectors.joining(",", "(", ")")))
+                    .toList();
+        }
+
+        private List<String> fieldSignatures(GraphQLType type) {
+            return type.getFields().stream()
+                    .map(f -> f.getName() + ":" + f.getType() + ":" + f.isRequired() + ":" + f.isList()
+                            + ":" + f.isListItemRequired() + ":" + f.isDeprecated() + ":" + f.getArguments().size())
+                    .toList();
+        }
+    }
+
+    static class UnbufferedInputStream extends ByteArrayInputStream {
+        UnbufferedInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public byte[] readAllBytes() {
+            throw new UnsupportedOperationException("introspection input must be streamed");
+        }
+
+        @Override
+        public byte[] readNBytes(int len) {
+            throw new UnsupportedOperationException("introspection input must be streamed");
+        }
+    }
+
+    static class Canary implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private static volatile boolean deserialized;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            deserialized = true;
+            in.defaultReadObject();
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package io.github.mohmk10.changeloghub.parser.graphql;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import io.github.mohmk10.changeloghub.core.parser.SpecParser;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GraphQLSpecParser Tests")
+class GraphQLSpecParserTest {
+
+    private static final String SDL = """
+            type Query {
+              user(id: ID!): User
+            }
+
+            type User {
+              id: ID!
+              name: String
+            }
+            """;
+
+    private final GraphQLSpecParser parser = new GraphQLSpecParser();
+
+    @Test
+    @DisplayName("Should score SDL content and GraphQL file names")
+    void shouldDetectSdl() {
+        assertThat(parser.detect(SDL, "schema.graphqls")).isEqualTo(SpecParser.STRONG_MATCH);
+        assertThat(parser.detect(SDL, null)).isEqualTo(SpecParser.LIKELY_MATCH);
+        assertThat(parser.detect("# comment only", "schema.gql")).isEqualTo(SpecParser.LIKELY_MATCH);
+        assertThat(parser.detect("openapi: 3.0.0\npaths: {}", "api.yaml")).isEqualTo(SpecParser.NO_MATCH);
+    }
+
+    @Test
+    @DisplayName("Should recognise introspection results")
+    void shouldDetectIntrospection() {
+        assertThat(parser.detect("{\"data\": {\"__schema\": {\"types\": []}}}", "schema.json"))
+                .isEqualTo(SpecParser.STRONG_MATCH);
+    }
+
+    @Test
+    @DisplayName("Should parse SDL into an ApiSpec")
+    void shouldParseToApiSpec() {
+        ApiSpec spec = parser.parse(SDL, "schema.graphql");
+
+        assertThat(spec.getType()).isEqualTo(ApiType.GRAPHQL);
+        assertThat(spec.getEndpoints()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Should be discovered through the service loader")
+    void shouldBeDiscoveredByRegistry() {
+        SpecParserRegistry registry = SpecParserRegistry.load(getClass().getClassLoader());
+
+        assertThat(registry.supports(ApiType.GRAPHQL)).isTrue();
+        assertThat(registry.detect(SDL, "schema.graphql")).contains(ApiType.GRAPHQL);
+        assertThat(registry.parse(SDL, "schema.graphql").getType()).isEqualTo(ApiType.GRAPHQL);
+    }
+}
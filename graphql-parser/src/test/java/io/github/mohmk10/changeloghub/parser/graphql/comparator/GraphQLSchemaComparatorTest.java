@@ -5,6 +5,7 @@ import io.github.mohmk10.changeloghub.core.model.ChangeCategory;
 import io.github.mohmk10.changeloghub.core.model.ChangeType;
 import io.github.mohmk10.changeloghub.core.model.Severity;
 import io.github.mohmk10.changeloghub.parser.graphql.DefaultGraphQLParser;
+import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLOperation;
 import io.github.mohmk10.changeloghub.parser.graphql.model.GraphQLSchema;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -763,4 +764,177 @@ class GraphQLSchemaComparatorTest {
             
         }
     }
+
+    @Nested
+    @DisplayName("Affected operations")
+    class AffectedOperationsTests {
+
+        private static final String OLD_SDL = """
+            type Query {
+                user(id: ID!): User
+                search(filter: SearchFilter): [SearchResult!]!
+                health: String
+            }
+            type Mutation {
+                updateAddress(input: AddressInput!): Address
+            }
+            type User implements Node {
+                id: ID!
+                profile: Profile
+            }
+            type Profile {
+                address: Address
+            }
+            type Address {
+                street: String
+                city: String
+            }
+            type Product {
+                id: ID!
+            }
+            interface Node { id: ID! }
+            union SearchResult = User | Product
+            input SearchFilter { status: Status }
+            input AddressInput { street: String }
+            enum Status { ACTIVE INACTIVE }
+            type Orphan { name: String }
+            """;
+
+        @Test
+        @DisplayName("Should index fields and operations referencing a type")
+        void shouldIndexReferences() {
+            GraphQLSchema schema = parseSchema(OLD_SDL);
+
+            assertThat(schema.getReferenceIndex().getReferencingFields("Address"))
+                    .containsExactly("Profile.address");
+            assertThat(schema.getReferenceIndex().getDirectOperations("Address"))
+                    .containsExactly("Mutation.updateAddress");
+            assertThat(schema.getReferenceIndex().getAffectedOperations("Address"))
+                    .containsExactly("Mutation.updateAddress", "Query.search", "Query.user");
+            assertThat(schema.getReferenceIndex().getAffectedOperations("Status"))
+                    .containsExactly("Query.search");
+            assertThat(schema.getReferenceIndex().isReachable("Orphan")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should annotate nested type changes with root operations")
+        void shouldAnnotateNestedTypeChanges() {
+            String newSdl = OLD_SDL.replace("city: String", "").replace("ACTIVE INACTIVE", "ACTIVE");
+
+            List<Change> changes = comparator.compare(parseSchema(OLD_SDL), parseSchema(newSdl));
+
+            assertThat(changes).filteredOn(c -> "Address.city".equals(c.getPath()))
+                    .singleElement()
+                    .satisfies(c -> assertThat(c.getAffectedOperations())
+                            .containsExactly("Mutation.updateAddress", "Query.search", "Query.user"));
+            assertThat(changes).filteredOn(c -> c.getCategory() == ChangeCategory.ENUM_VALUE)
+                    .singleElement()
+                    .satisfies(c -> assertThat(c.getAffectedOperations()).containsExactly("Query.search"));
+        }
+
+        @Test
+        @DisplayName("Should leave unreachable type changes unannotated")
+        void shouldLeaveUnreachableTypesUnannotated() {
+            String newSdl = OLD_SDL.replace("type Orphan { name: String }", "");
+
+            List<Change> changes = comparator.compare(parseSchema(OLD_SDL), parseSchema(newSdl));
+
+            assertThat(changes).filteredOn(c -> "Orphan".equals(c.getPath()))
+                    .singleElement()
+                    .satisfies(c -> assertThat(c.getAffectedOperations()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should rebuild index after schema is modified")
+        void shouldRebuildIndexAfterModification() {
+            GraphQLSchema schema = parseSchema(OLD_SDL);
+            assertThat(schema.getReferenceIndex().isReachable("Orphan")).isFalse();
+
+            schema.addQuery(new GraphQLOperation("orphan", GraphQLOperation.OperationType.QUERY, "Orphan"));
+
+            assertThat(schema.getReferenceIndex().getAffectedOperations("Orphan")).containsExactly("Query.orphan");
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel comparison")
+    class ParallelComparisonTests {
+
+        private String largeSchema(int typeCount, boolean modified) {
+            StringBuilder sdl = new StringBuilder("type Query {\n");
+            for (int i = 0; i < typeCount; i += 50) {
+                sdl.append("  entity").append(i).append(": Entity").append(i).append("\n");
+            }
+            sdl.append("}\n");
+            for (int i = 0; i < typeCount; i++) {
+                sdl.append("type Entity").append(i).append(" implements Node {\n  id: ID!\n");
+                if (i + 1 < typeCount) {
+                    sdl.append("  next: Entity").append(i + 1).append("\n");
+                }
+                if (!(modified && i % 7 == 0)) {
+                    sdl.append("  label: String\n");
+                }
+                if (modified && i % 11 == 0) {
+                    sdl.append("  extra: Int\n");
+                }
+                sdl.append("  status: Status").append(i % 10).append("\n}\n");
+            }
+            for (int i = 0; i < 10; i++) {
+                sdl.append("enum Status").append(i).append(" { A B C")
+                        .append(modified && i % 2 == 0 ? "" : " D").append(" }\n");
+            }
+            sdl.append("interface Node { id: ID! }\n");
+            return sdl.toString();
+        }
+
+        private List<String> signatures(List<Change> changes) {
+            return changes.stream()
+                    .map(c -> c.getType() + " " + c.getPath() + " " + c.getDescription() + " " + c.getAffectedOperations())
+                    .toList();
+        }
+
+        @Test
+        @DisplayName("Should produce the same changes in the same order as sequential comparison")
+        void shouldMatchSequentialComparison() {
+            GraphQLSchema oldSchema = parseSchema(largeSchema(600, false));
+            GraphQLSchema newSchema = parseSchema(largeSchema(600, true));
+
+            List<Change> sequential = new GraphQLSchemaComparator().compare(oldSchema, newSchema);
+            List<Change> parallel = new GraphQLSchemaComparator(4).compare(oldSchema, newSchema);
+
+            assertThat(parallel).hasSameSizeAs(sequential);
+            assertThat(signatures(parallel)).containsExactlyElementsOf(signatures(sequential));
+            assertThat(parallel).filteredOn(c -> "Entity599.label".equals(c.getPath())).isEmpty();
+            assertThat(parallel).filteredOn(c -> "Entity0.label".equals(c.getPath()))
+                    .singleElement()
+                    .satisfies(c -> assertThat(c.getAffectedOperations()).containsExactly("Query.entity0"));
+        }
+
+        @Test
+        @DisplayName("Should be deterministic across runs")
+        void shouldBeDeterministic() {
+            GraphQLSchema oldSchema = parseSchema(largeSchema(300, false));
+            GraphQLSchema newSchema = parseSchema(largeSchema(300, true));
+            GraphQLSchemaComparator parallelComparator = new GraphQLSchemaComparator(8);
+
+            List<String> first = signatures(parallelComparator.compare(oldSchema, newSchema));
+            for (int run = 0; run < 5; run++) {
+                assertThat(signatures(parallelComparator.compare(oldSchema, newSchema))).containsExactlyElementsOf(first);
+            }
+        }
+
+        @Test
+        @DisplayName("Should report enum value changes in declaration order")
+        void shouldReportEnumChangesInDeclarationOrder() {
+            String oldSdl = "type Query { s: Status }\nenum Status { ZULU ALPHA MIKE BRAVO }";
+            String newSdl = "type Query { s: Status }\nenum Status { YANKEE ALPHA }";
+
+            List<Change> changes = new GraphQLTypeComparator(4)
+                    .compareEnumValues(parseSchema(oldSdl).getTypes().get("Status"),
+                            parseSchema(newSdl).getTypes().get("Status"), "Status");
+
+            assertThat(changes).extracting(Change::getPath)
+                    .containsExactly("Status.ZULU", "Status.MIKE", "Status.BRAVO", "Status.YANKEE");
+        }
+    }
 }
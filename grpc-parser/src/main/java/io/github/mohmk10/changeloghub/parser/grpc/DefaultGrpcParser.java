@@ -1,15 +1,14 @@
 package io.github.mohmk10.changeloghub.parser.grpc;
 
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
-import io.github.mohmk10.changeloghub.parser.grpc.analyzer.EnumAnalyzer;
-import io.github.mohmk10.changeloghub.parser.grpc.analyzer.MessageAnalyzer;
-import io.github.mohmk10.changeloghub.parser.grpc.analyzer.ServiceAnalyzer;
+import io.github.mohmk10.changeloghub.core.parser.WorkerPools;
+import io.github.mohmk10.changeloghub.parser.grpc.analyzer.DescriptorSetParser;
+import io.github.mohmk10.changeloghub.parser.grpc.analyzer.ProtoFileParser;
+import io.github.mohmk10.changeloghub.parser.grpc.analyzer.ProtoImportResolver;
 import io.github.mohmk10.changeloghub.parser.grpc.exception.GrpcParseException;
 import io.github.mohmk10.changeloghub.parser.grpc.mapper.GrpcModelMapper;
-import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoEnum;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFile;
-import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoMessage;
-import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoService;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFileSet;
 import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,10 +18,11 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class DefaultGrpcParser implements GrpcParser {
@@ -34,24 +34,26 @@ public class DefaultGrpcParser implements GrpcParser {
             ProtoConstants.SYNTAX_PROTO3
     );
 
-    private final ServiceAnalyzer serviceAnalyzer;
-    private final MessageAnalyzer messageAnalyzer;
-    private final EnumAnalyzer enumAnalyzer;
+    private final ProtoFileParser protoFileParser;
+    private final ProtoImportResolver importResolver;
+    private final DescriptorSetParser descriptorSetParser;
     private final GrpcModelMapper modelMapper;
+    private final int parallelism;
 
     public DefaultGrpcParser() {
-        this.serviceAnalyzer = new ServiceAnalyzer();
-        this.messageAnalyzer = new MessageAnalyzer();
-        this.enumAnalyzer = new EnumAnalyzer();
-        this.modelMapper = new GrpcModelMapper();
+        this(new ProtoFileParser(), new GrpcModelMapper());
     }
 
-    public DefaultGrpcParser(ServiceAnalyzer serviceAnalyzer, MessageAnalyzer messageAnalyzer,
-                             EnumAnalyzer enumAnalyzer, GrpcModelMapper modelMapper) {
-        this.serviceAnalyzer = serviceAnalyzer;
-        this.messageAnalyzer = messageAnalyzer;
-        this.enumAnalyzer = enumAnalyzer;
+    public DefaultGrpcParser(ProtoFileParser protoFileParser, GrpcModelMapper modelMapper) {
+        this(protoFileParser, modelMapper, Runtime.getRuntime().availableProcessors());
+    }
+
+    public DefaultGrpcParser(ProtoFileParser protoFileParser, GrpcModelMapper modelMapper, int parallelism) {
+        this.protoFileParser = protoFileParser;
+        this.importResolver = new ProtoImportResolver();
+        this.descriptorSetParser = new DescriptorSetParser(importResolver);
         this.modelMapper = modelMapper;
+        this.parallelism = Math.max(1, parallelism);
     }
 
     @Override
@@ -68,42 +70,14 @@ public class DefaultGrpcParser implements GrpcParser {
         logger.debug("Parsing proto content{}", fileName != null ? " from " + fileName : "");
 
         try {
-            
-            String cleanContent = removeComments(content);
+            ProtoFile protoFile = protoFileParser.parse(content, fileName);
 
-            String syntax = extractSyntax(cleanContent);
-            if (syntax != null && !supportsSyntax(syntax)) {
-                throw GrpcParseException.unsupportedSyntax(syntax);
+            if (!supportsSyntax(protoFile.getSyntax())) {
+                throw GrpcParseException.unsupportedSyntax(protoFile.getSyntax());
             }
 
-            String packageName = extractPackage(cleanContent);
-
-            List<String> imports = extractImports(cleanContent);
-            List<String> publicImports = extractPublicImports(cleanContent);
-
-            var options = extractOptions(cleanContent);
-
-            List<ProtoService> services = serviceAnalyzer.analyzeServices(cleanContent, packageName);
-
-            List<ProtoMessage> messages = messageAnalyzer.analyzeMessages(cleanContent, packageName);
-
-            List<ProtoEnum> enums = enumAnalyzer.analyzeEnums(cleanContent, packageName);
-
-            ProtoFile.Builder builder = ProtoFile.builder()
-                    .fileName(fileName)
-                    .syntax(syntax != null ? syntax : ProtoConstants.SYNTAX_PROTO3)
-                    .packageName(packageName)
-                    .imports(imports)
-                    .publicImports(publicImports)
-                    .services(services)
-                    .messages(messages)
-                    .enums(enums)
-                    .options(options);
-
-            ProtoFile protoFile = builder.build();
-
             logger.info("Parsed proto file: {} services, {} messages, {} enums",
-                    services.size(), messages.size(), enums.size());
+                    protoFile.getServices().size(), protoFile.getMessages().size(), protoFile.getEnums().size());
 
             return protoFile;
 
@@ -184,122 +158,192 @@ public class DefaultGrpcParser implements GrpcParser {
 
     @Override
     public List<ProtoFile> parseDirectory(File directory, boolean recursive) throws GrpcParseException {
-        if (!directory.exists()) {
-            throw GrpcParseException.fileNotFound(directory.getAbsolutePath());
-        }
-
-        if (!directory.isDirectory()) {
-            throw GrpcParseException.invalidProto(directory.getAbsolutePath() + " is not a directory");
-        }
+        validateDirectory(directory);
 
-        List<ProtoFile> protoFiles = new ArrayList<>();
+        List<Path> protoFilePaths = listProtoFiles(directory.toPath(), recursive);
+        List<ProtoFile> protoFiles = new ArrayList<>(parseAll(protoFilePaths).values());
 
-        try (Stream<Path> paths = recursive
-                ? Files.walk(directory.toPath())
-                : Files.list(directory.toPath())) {
+        logger.info("Parsed {} proto files from directory {}", protoFiles.size(), directory.getAbsolutePath());
+        return protoFiles;
+    }
 
-            List<Path> protoFilePaths = paths
-                    .filter(Files::isRegularFile)
-                    .filter(p -> p.toString().endsWith(ProtoConstants.PROTO_EXTENSION))
-                    .toList();
+    @Override
+    public ProtoFileSet parseFileSet(String directoryPath, boolean recursive) throws GrpcParseException {
+        return parseFileSet(new File(directoryPath), recursive);
+    }
 
-            for (Path path : protoFilePaths) {
-                try {
-                    protoFiles.add(parseFile(path));
-                } catch (GrpcParseException e) {
-                    logger.warn("Failed to parse {}: {}", path, e.getMessage());
+    @Override
+    public ProtoFileSet parseFileSet(File directory, boolean recursive) throws GrpcParseException {
+        validateDirectory(directory);
+
+        Path root = directory.toPath().toAbsolutePath().normalize();
+        Map<String, ProtoFile> files = new TreeMap<>();
+        Set<String> attempted = new HashSet<>();
+
+        List<Path> pending = listProtoFiles(root, recursive);
+        pending.forEach(path -> attempted.add(ProtoImportResolver.relativize(root, path)));
+
+        while (!pending.isEmpty()) {
+            Map<Path, ProtoFile> parsed = parseAll(pending);
+            pending = new ArrayList<>();
+
+            for (Map.Entry<Path, ProtoFile> entry : parsed.entrySet()) {
+                String relativePath = ProtoImportResolver.relativize(root, entry.getKey());
+                files.put(relativePath, entry.getValue());
+
+                List<String> imports = new ArrayList<>(entry.getValue().getImports());
+                imports.addAll(entry.getValue().getPublicImports());
+                for (String importPath : imports) {
+                    for (String candidate : importResolver.candidatePaths(relativePath, importPath)) {
+                        Path candidatePath = root.resolve(candidate).normalize();
+                        if (Files.isRegularFile(candidatePath)) {
+                            if (attempted.add(candidate)) {
+                                pending.add(candidatePath);
+                            }
+                            break;
+                        }
+                    }
                 }
             }
-
-        } catch (IOException e) {
-            throw GrpcParseException.ioError(directory.getAbsolutePath(), e);
         }
 
-        logger.info("Parsed {} proto files from directory {}", protoFiles.size(), directory.getAbsolutePath());
-        return protoFiles;
-    }
+        ProtoFileSet fileSet = importResolver.link(root.toString(), files);
 
-    @Override
-    public ApiSpec toApiSpec(ProtoFile protoFile) {
-        return modelMapper.mapProtoFile(protoFile);
+        logger.info("Parsed proto file set from {}: {} files, {} types",
+                root, fileSet.size(), fileSet.getTypeNames().size());
+        return fileSet;
     }
 
     @Override
-    public ApiSpec toApiSpec(List<ProtoFile> protoFiles) {
-        return modelMapper.mapProtoFiles(protoFiles);
+    public ProtoFileSet parseDescriptorSet(InputStream inputStream) throws GrpcParseException {
+        return parseDescriptorSet(inputStream, null);
     }
 
     @Override
-    public boolean supportsSyntax(String syntax) {
-        return SUPPORTED_SYNTAXES.contains(syntax);
+    public ProtoFileSet parseDescriptorSet(File file) throws GrpcParseException {
+        if (!file.exists()) {
+            throw GrpcParseException.fileNotFound(file.getAbsolutePath());
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+            return parseDescriptorSet(inputStream, file.getAbsolutePath());
+        } catch (IOException e) {
+            throw GrpcParseException.ioError(file.getAbsolutePath(), e);
+        }
     }
 
     @Override
-    public List<String> getSupportedSyntaxVersions() {
-        return SUPPORTED_SYNTAXES;
+    public ProtoFileSet parseDescriptorSet(Path path) throws GrpcParseException {
+        return parseDescriptorSet(path.toFile());
     }
 
-    private String removeComments(String content) {
-        
-        String noSingleLine = content.replaceAll("//.*$", "");
+    private ProtoFileSet parseDescriptorSet(InputStream inputStream, String source) {
+        ProtoFileSet fileSet = descriptorSetParser.parse(inputStream, source);
 
-        return noSingleLine.replaceAll("/\\*[^*]*\\*+(?:[^/*][^*]*\\*+)*/", "");
+        for (ProtoFile protoFile : fileSet.getProtoFiles()) {
+            if (!supportsSyntax(protoFile.getSyntax())) {
+                throw GrpcParseException.unsupportedSyntax(protoFile.getSyntax());
+            }
+        }
+
+        logger.info("Parsed descriptor set{}: {} files, {} types",
+                source != null ? " from " + source : "", fileSet.size(), fileSet.getTypeNames().size());
+        return fileSet;
     }
 
-    private String extractSyntax(String content) {
-        Matcher matcher = ProtoConstants.SYNTAX_PATTERN.matcher(content);
-        if (matcher.find()) {
-            return matcher.group(1);
+    private void validateDirectory(File directory) {
+        if (!directory.exists()) {
+            throw GrpcParseException.fileNotFound(directory.getAbsolutePath());
         }
-        return null;
-    }
 
-    private String extractPackage(String content) {
-        Matcher matcher = ProtoConstants.PACKAGE_PATTERN.matcher(content);
-        if (matcher.find()) {
-            return matcher.group(1);
+        if (!directory.isDirectory()) {
+            throw GrpcParseException.invalidProto(directory.getAbsolutePath() + " is not a directory");
         }
-        return null;
     }
 
-    private List<String> extractImports(String content) {
-        List<String> imports = new ArrayList<>();
-        Matcher matcher = ProtoConstants.IMPORT_PATTERN.matcher(content);
-        while (matcher.find()) {
-            String modifier = matcher.group(1); 
-            if (modifier == null) { 
-                imports.add(matcher.group(2));
-            }
+    private List<Path> listProtoFiles(Path directory, boolean recursive) {
+        try (Stream<Path> paths = recursive
+                ? Files.walk(directory)
+                : Files.list(directory)) {
+
+            return paths
+                    .filter(Files::isRegularFile)
+                    .filter(p -> p.toString().endsWith(ProtoConstants.PROTO_EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+        } catch (IOException e) {
+            throw GrpcParseException.ioError(directory.toAbsolutePath().toString(), e);
         }
-        return imports;
     }
 
-    private List<String> extractPublicImports(String content) {
-        List<String> imports = new ArrayList<>();
-        Matcher matcher = ProtoConstants.IMPORT_PATTERN.matcher(content);
-        while (matcher.find()) {
-            String modifier = matcher.group(1);
-            if ("public".equals(modifier)) {
-                imports.add(matcher.group(2));
+    private Map<Path, ProtoFile> parseAll(List<Path> paths) {
+        Map<Path, ProtoFile> results = new LinkedHashMap<>();
+        if (Math.min(parallelism, paths.size()) <= 1) {
+            for (Path path : paths) {
+                ProtoFile protoFile = parseOrSkip(path);
+                if (protoFile != null) {
+                    results.put(path, protoFile);
+                }
             }
+            return results;
         }
-        return imports;
-    }
 
-    private java.util.Map<String, String> extractOptions(String content) {
-        java.util.Map<String, String> options = new java.util.LinkedHashMap<>();
-        Matcher matcher = ProtoConstants.OPTION_PATTERN.matcher(content);
-        while (matcher.find()) {
-            String key = matcher.group(1);
-            String value = matcher.group(2).trim();
+        List<Callable<ProtoFile>> tasks = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            tasks.add(() -> parseOrSkip(path));
+        }
 
-            if (value.startsWith("\"") && value.endsWith("\"")) {
-                value = value.substring(1, value.length() - 1);
+        try {
+            List<Future<ProtoFile>> futures = WorkerPools.forParallelism(parallelism).invokeAll(tasks);
+            for (int i = 0; i < paths.size(); i++) {
+                ProtoFile protoFile = futures.get(i).get();
+                if (protoFile != null) {
+                    results.put(paths.get(i), protoFile);
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw GrpcParseException.parseError("Interrupted while parsing proto files", e);
+        } catch (ExecutionException e) {
+            throw GrpcParseException.parseError("Unexpected error during parallel parsing", e.getCause());
+        }
+
+        return results;
+    }
 
-            options.put(key, value);
+    private ProtoFile parseOrSkip(Path path) {
+        try {
+            return parseFile(path);
+        } catch (GrpcParseException e) {
+            logger.warn("Failed to parse {}: {}", path, e.getMessage());
+            return null;
         }
-        return options;
+    }
+
+    @Override
+    public ApiSpec toApiSpec(ProtoFile protoFile) {
+        return modelMapper.mapProtoFile(protoFile);
+    }
+
+    @Override
+    public ApiSpec toApiSpec(List<ProtoFile> protoFiles) {
+        return modelMapper.mapProtoFiles(protoFiles);
+    }
+
+    @Override
+    public ApiSpec toApiSpec(ProtoFileSet fileSet) {
+        return modelMapper.mapProtoFileSet(fileSet);
+    }
+
+    @Override
+    public boolean supportsSyntax(String syntax) {
+        return SUPPORTED_SYNTAXES.contains(syntax);
+    }
+
+    @Override
+    public List<String> getSupportedSyntaxVersions() {
+        return SUPPORTED_SYNTAXES;
     }
 
     private String extractFileNameFromUrl(URL url) {
@@ -3,6 +3,7 @@ package io.github.mohmk10.changeloghub.parser.grpc;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
 import io.github.mohmk10.changeloghub.parser.grpc.exception.GrpcParseException;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFile;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFileSet;
 
 import java.io.File;
 import java.io.InputStream;
@@ -34,10 +35,22 @@ public interface GrpcParser {
 
     List<ProtoFile> parseDirectory(File directory, boolean recursive) throws GrpcParseException;
 
+    ProtoFileSet parseFileSet(String directoryPath, boolean recursive) throws GrpcParseException;
+
+    ProtoFileSet parseFileSet(File directory, boolean recursive) throws GrpcParseException;
+
+    ProtoFileSet parseDescriptorSet(InputStream inputStream) throws GrpcParseException;
+
+    ProtoFileSet parseDescriptorSet(File file) throws GrpcParseException;
+
+    ProtoFileSet parseDescriptorSet(Path path) throws GrpcParseException;
+
     ApiSpec toApiSpec(ProtoFile protoFile);
 
     ApiSpec toApiSpec(List<ProtoFile> protoFiles);
 
+    ApiSpec toApiSpec(ProtoFileSet fileSet);
+
     boolean supportsSyntax(String syntax);
 
     List<String> getSupportedSyntaxVersions();
@@ -0,0 +1,60 @@
+package io.github.mohmk10.changeloghub.parser.grpc;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import io.github.mohmk10.changeloghub.core.parser.SpecParser;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class GrpcSpecParser implements SpecParser {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final Pattern SYNTAX_PATTERN = Pattern.compile(
+            "(?m)^\\s*(syntax|edition)\\s*=\\s*['\"](proto[23]|\\d{4})['\"]\\s*;");
+
+    private static final Pattern DEFINITION_PATTERN = Pattern.compile(
+            "(?m)^\\s*(message|service)\\s+\\w+\\s*\\{");
+
+    private final GrpcParser parser;
+
+    public GrpcSpecParser() {
+        this(new DefaultGrpcParser());
+    }
+
+    public GrpcSpecParser(GrpcParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public String getName() {
+        return "protobuf";
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public ApiType getApiType() {
+        return ApiType.GRPC;
+    }
+
+    @Override
+    public int detect(String prefix, String fileName) {
+        if (SYNTAX_PATTERN.matcher(prefix).find()) {
+            return STRONG_MATCH;
+        }
+        if (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".proto")) {
+            return LIKELY_MATCH;
+        }
+        return DEFINITION_PATTERN.matcher(prefix).find() ? WEAK_MATCH : NO_MATCH;
+    }
+
+    @Override
+    public ApiSpec parse(String content, String fileName) {
+        return parser.toApiSpec(fileName != null ? parser.parse(content, fileName) : parser.parse(content));
+    }
+}
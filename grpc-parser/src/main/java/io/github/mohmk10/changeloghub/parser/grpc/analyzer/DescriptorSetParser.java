@@ -0,0 +1,282 @@
+package io.github.mohmk10.changeloghub.parser.grpc.analyzer;
+
+import com.google.protobuf.DescriptorProtos.*;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.github.mohmk10.changeloghub.parser.grpc.exception.GrpcParseException;
+import io.github.mohmk10.changeloghub.parser.grpc.model.*;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoConstants;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldRule;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+public class DescriptorSetParser {
+
+    private static final String SYNTAX_PROTO2_IMPLICIT = "";
+
+    private final ProtoImportResolver importResolver;
+
+    public DescriptorSetParser() {
+        this(new ProtoImportResolver());
+    }
+
+    public DescriptorSetParser(ProtoImportResolver importResolver) {
+        this.importResolver = importResolver;
+    }
+
+    public ProtoFileSet parse(InputStream inputStream, String source) {
+        try {
+            return parse(FileDescriptorSet.parseFrom(inputStream), source);
+        } catch (InvalidProtocolBufferException e) {
+            throw GrpcParseException.parseError("Invalid FileDescriptorSet" + (source != null ? " in " + source : ""), e);
+        } catch (IOException e) {
+            throw GrpcParseException.ioError(source != null ? source : "InputStream", e);
+        }
+    }
+
+    public ProtoFileSet parse(FileDescriptorSet descriptorSet, String source) {
+        Map<String, ProtoFile> files = new LinkedHashMap<>();
+        for (FileDescriptorProto fileDescriptor : descriptorSet.getFileList()) {
+            files.put(fileDescriptor.getName(), parseFile(fileDescriptor));
+        }
+        return importResolver.link(source, files);
+    }
+
+    public ProtoFile parseFile(FileDescriptorProto descriptor) {
+        String packageName = descriptor.hasPackage() ? descriptor.getPackage() : null;
+
+        ProtoFile.Builder builder = ProtoFile.builder()
+                .fileName(descriptor.getName())
+                .syntax(SYNTAX_PROTO2_IMPLICIT.equals(descriptor.getSyntax())
+                        ? ProtoConstants.SYNTAX_PROTO2
+                        : descriptor.getSyntax())
+                .packageName(packageName)
+                .options(toOptionMap(descriptor.getOptions()));
+
+        Set<Integer> publicIndexes = new HashSet<>(descriptor.getPublicDependencyList());
+        for (int i = 0; i < descriptor.getDependencyCount(); i++) {
+            if (publicIndexes.contains(i)) {
+                builder.addPublicImport(descriptor.getDependency(i));
+            } else {
+                builder.addImport(descriptor.getDependency(i));
+            }
+        }
+
+        boolean proto3 = ProtoConstants.SYNTAX_PROTO3.equals(descriptor.getSyntax());
+        for (DescriptorProto message : descriptor.getMessageTypeList()) {
+            builder.message(parseMessage(message, packageName, proto3));
+        }
+        for (EnumDescriptorProto protoEnum : descriptor.getEnumTypeList()) {
+            builder.protoEnum(parseEnum(protoEnum, packageName));
+        }
+        for (ServiceDescriptorProto service : descriptor.getServiceList()) {
+            builder.service(parseService(service, packageName));
+        }
+
+        return builder.build();
+    }
+
+    private ProtoMessage parseMessage(DescriptorProto descriptor, String scope, boolean proto3) {
+        String fullName = qualify(scope, descriptor.getName());
+        Map<String, String> options = toOptionMap(descriptor.getOptions());
+
+        ProtoMessage.Builder builder = ProtoMessage.builder()
+                .name(descriptor.getName())
+                .fullName(fullName)
+                .deprecated(descriptor.getOptions().getDeprecated())
+                .options(options);
+
+        Map<String, DescriptorProto> mapEntries = new HashMap<>();
+        for (DescriptorProto nested : descriptor.getNestedTypeList()) {
+            if (nested.getOptions().getMapEntry()) {
+                mapEntries.put(qualify(fullName, nested.getName()), nested);
+            } else {
+                builder.nestedMessage(parseMessage(nested, fullName, proto3));
+            }
+        }
+        for (EnumDescriptorProto nestedEnum : descriptor.getEnumTypeList()) {
+            builder.nestedEnum(parseEnum(nestedEnum, fullName));
+        }
+
+        Set<Integer> syntheticOneofs = new HashSet<>();
+        for (FieldDescriptorProto field : descriptor.getFieldList()) {
+            if (field.getProto3Optional() && field.hasOneofIndex()) {
+                syntheticOneofs.add(field.getOneofIndex());
+            }
+        }
+        for (int i = 0; i < descriptor.getOneofDeclCount(); i++) {
+            if (!syntheticOneofs.contains(i)) {
+                builder.oneofName(descriptor.getOneofDecl(i).getName());
+            }
+        }
+
+        for (FieldDescriptorProto field : descriptor.getFieldList()) {
+            String oneofName = field.hasOneofIndex() && !syntheticOneofs.contains(field.getOneofIndex())
+                    ? descriptor.getOneofDecl(field.getOneofIndex()).getName()
+                    : null;
+            builder.field(parseField(field, oneofName, mapEntries, proto3));
+        }
+
+        for (DescriptorProto.ReservedRange range : descriptor.getReservedRangeList()) {
+            int start = range.getStart();
+            int end = Math.min(range.getEnd() - 1, ProtoConstants.MAX_FIELD_NUMBER);
+            ProtoReservedRange reservedRange = ProtoReservedRange.of(start, end);
+            builder.reservedRange(reservedRange);
+            if (reservedRange.size() <= ProtoConstants.RESERVED_RANGE_EXPANSION_LIMIT) {
+                for (int i = start; i <= end; i++) {
+                    builder.reservedNumber(i);
+                }
+            }
+        }
+        for (String reservedName : descriptor.getReservedNameList()) {
+            builder.reservedName(reservedName);
+        }
+
+        return builder.build();
+    }
+
+    private ProtoField parseField(FieldDescriptorProto descriptor, String oneofName,
+                                  Map<String, DescriptorProto> mapEntries, boolean proto3) {
+        Map<String, String> options = toOptionMap(descriptor.getOptions());
+        if (descriptor.hasDefaultValue()) {
+            options.put(ProtoConstants.OPTION_DEFAULT, descriptor.getDefaultValue());
+        }
+
+        ProtoField.Builder builder = ProtoField.builder()
+                .name(descriptor.getName())
+                .number(descriptor.getNumber())
+                .oneofName(oneofName)
+                .deprecated(descriptor.getOptions().getDeprecated())
+                .options(options);
+
+        if (descriptor.hasDefaultValue()) {
+            builder.defaultValue(descriptor.getDefaultValue());
+        }
+
+        DescriptorProto mapEntry = descriptor.getLabel() == FieldDescriptorProto.Label.LABEL_REPEATED
+                ? mapEntries.get(stripLeadingDot(descriptor.getTypeName()))
+                : null;
+        if (mapEntry != null) {
+            return builder.asMap(typeNameOf(mapEntry.getField(0)), typeNameOf(mapEntry.getField(1))).build();
+        }
+
+        return builder.typeName(typeNameOf(descriptor))
+                .type(fieldTypeOf(descriptor))
+                .rule(ruleOf(descriptor, oneofName, proto3))
+                .build();
+    }
+
+    private ProtoEnum parseEnum(EnumDescriptorProto descriptor, String scope) {
+        Map<String, String> options = toOptionMap(descriptor.getOptions());
+        options.remove(ProtoConstants.OPTION_ALLOW_ALIAS);
+
+        ProtoEnum.Builder builder = ProtoEnum.builder()
+                .name(descriptor.getName())
+                .fullName(qualify(scope, descriptor.getName()))
+                .allowAlias(descriptor.getOptions().getAllowAlias())
+                .deprecated(descriptor.getOptions().getDeprecated())
+                .options(options);
+
+        for (EnumValueDescriptorProto value : descriptor.getValueList()) {
+            builder.value(ProtoEnumValue.builder()
+                    .name(value.getName())
+                    .number(value.getNumber())
+                    .deprecated(value.getOptions().getDeprecated())
+                    .options(toOptionMap(value.getOptions()))
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    private ProtoService parseService(ServiceDescriptorProto descriptor, String scope) {
+        ProtoService.Builder builder = ProtoService.builder()
+                .name(descriptor.getName())
+                .fullName(qualify(scope, descriptor.getName()))
+                .deprecated(descriptor.getOptions().getDeprecated())
+                .options(toOptionMap(descriptor.getOptions()));
+
+        for (MethodDescriptorProto method : descriptor.getMethodList()) {
+            builder.method(ProtoRpcMethod.builder()
+                    .name(method.getName())
+                    .inputType(stripLeadingDot(method.getInputType()))
+                    .outputType(stripLeadingDot(method.getOutputType()))
+                    .clientStreaming(method.getClientStreaming())
+                    .serverStreaming(method.getServerStreaming())
+                    .deprecated(method.getOptions().getDeprecated())
+                    .options(toOptionMap(method.getOptions()))
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    private String typeNameOf(FieldDescriptorProto descriptor) {
+        return switch (descriptor.getType()) {
+            case TYPE_MESSAGE, TYPE_GROUP, TYPE_ENUM -> stripLeadingDot(descriptor.getTypeName());
+            default -> fieldTypeOf(descriptor).getProtoName();
+        };
+    }
+
+    private ProtoFieldType fieldTypeOf(FieldDescriptorProto descriptor) {
+        return switch (descriptor.getType()) {
+            case TYPE_DOUBLE -> ProtoFieldType.DOUBLE;
+            case TYPE_FLOAT -> ProtoFieldType.FLOAT;
+            case TYPE_INT32 -> ProtoFieldType.INT32;
+            case TYPE_INT64 -> ProtoFieldType.INT64;
+            case TYPE_UINT32 -> ProtoFieldType.UINT32;
+            case TYPE_UINT64 -> ProtoFieldType.UINT64;
+            case TYPE_SINT32 -> ProtoFieldType.SINT32;
+            case TYPE_SINT64 -> ProtoFieldType.SINT64;
+            case TYPE_FIXED32 -> ProtoFieldType.FIXED32;
+            case TYPE_FIXED64 -> ProtoFieldType.FIXED64;
+            case TYPE_SFIXED32 -> ProtoFieldType.SFIXED32;
+            case TYPE_SFIXED64 -> ProtoFieldType.SFIXED64;
+            case TYPE_BOOL -> ProtoFieldType.BOOL;
+            case TYPE_STRING -> ProtoFieldType.STRING;
+            case TYPE_BYTES -> ProtoFieldType.BYTES;
+            case TYPE_MESSAGE, TYPE_GROUP -> ProtoFieldType.MESSAGE;
+            case TYPE_ENUM -> ProtoFieldType.ENUM;
+        };
+    }
+
+    private ProtoFieldRule ruleOf(FieldDescriptorProto descriptor, String oneofName, boolean proto3) {
+        if (oneofName != null) {
+            return ProtoFieldRule.OPTIONAL;
+        }
+        return switch (descriptor.getLabel()) {
+            case LABEL_REPEATED -> ProtoFieldRule.REPEATED;
+            case LABEL_REQUIRED -> ProtoFieldRule.REQUIRED;
+            case LABEL_OPTIONAL -> proto3 && !descriptor.getProto3Optional()
+                    ? ProtoFieldRule.SINGULAR
+                    : ProtoFieldRule.OPTIONAL;
+        };
+    }
+
+    private Map<String, String> toOptionMap(GeneratedMessageV3 options) {
+        Map<String, String> result = new HashMap<>();
+        for (Map.Entry<FieldDescriptor, Object> entry : options.getAllFields().entrySet()) {
+            if (entry.getKey().isRepeated()) {
+                continue;
+            }
+            Object value = entry.getValue();
+            result.put(entry.getKey().getName(), value instanceof EnumValueDescriptor enumValue
+                    ? enumValue.getName()
+                    : String.valueOf(value));
+        }
+        return result;
+    }
+
+    private static String qualify(String scope, String name) {
+        return scope == null || scope.isEmpty() ? name : scope + "." + name;
+    }
+
+    private static String stripLeadingDot(String name) {
+        return name.startsWith(".") ? name.substring(1) : name;
+    }
+}
@@ -0,0 +1,629 @@
+package io.github.mohmk10.changeloghub.parser.grpc.analyzer;
+
+import io.github.mohmk10.changeloghub.parser.grpc.exception.GrpcParseException;
+import io.github.mohmk10.changeloghub.parser.grpc.lexer.ProtoLexer;
+import io.github.mohmk10.changeloghub.parser.grpc.lexer.ProtoToken;
+import io.github.mohmk10.changeloghub.parser.grpc.lexer.ProtoTokenType;
+import io.github.mohmk10.changeloghub.parser.grpc.model.*;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoConstants;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldRule;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldType;
+
+import java.util.*;
+
+public class ProtoFileParser {
+
+    public ProtoFile parse(String content, String fileName) {
+        return new Session(content, fileName).parseFile();
+    }
+
+    private static final class Session {
+
+        private final ProtoLexer lexer;
+        private final String fileName;
+        private ProtoToken current;
+
+        private String packageName;
+
+        Session(String content, String fileName) {
+            this.lexer = new ProtoLexer(content);
+            this.fileName = fileName;
+        }
+
+        ProtoFile parseFile() {
+            advance();
+
+            String syntax = null;
+            List<String> imports = new ArrayList<>();
+            List<String> publicImports = new ArrayList<>();
+            List<ProtoService> services = new ArrayList<>();
+            List<ProtoMessage> messages = new ArrayList<>();
+            List<ProtoEnum> enums = new ArrayList<>();
+            Map<String, String> options = new LinkedHashMap<>();
+
+            while (!current.isEof()) {
+                if (current.isSymbol(';')) {
+                    advance();
+                    continue;
+                }
+
+                ProtoToken keyword = expect(ProtoTokenType.IDENTIFIER, "top-level declaration");
+                switch (keyword.getText()) {
+                    case ProtoConstants.KEYWORD_SYNTAX -> {
+                        expectSymbol('=');
+                        syntax = expect(ProtoTokenType.STRING, "syntax version").getText();
+                        expectSymbol(';');
+                    }
+                    case ProtoConstants.KEYWORD_EDITION -> {
+                        expectSymbol('=');
+                        String edition = expect(ProtoTokenType.STRING, "edition").getText();
+                        throw GrpcParseException.unsupportedSyntax("edition " + edition);
+                    }
+                    case ProtoConstants.KEYWORD_PACKAGE -> {
+                        packageName = expectIdentifier("package name");
+                        expectSymbol(';');
+                    }
+                    case ProtoConstants.KEYWORD_IMPORT -> parseImport(imports, publicImports);
+                    case ProtoConstants.KEYWORD_OPTION -> parseOption(options);
+                    case ProtoConstants.KEYWORD_MESSAGE -> messages.add(parseMessage(packageName));
+                    case ProtoConstants.KEYWORD_ENUM -> enums.add(parseEnum(packageName));
+                    case ProtoConstants.KEYWORD_SERVICE -> services.add(parseService());
+                    case ProtoConstants.KEYWORD_EXTEND -> skipExtend();
+                    default -> throw unexpected(keyword, "top-level declaration");
+                }
+            }
+
+            return ProtoFile.builder()
+                    .fileName(fileName)
+                    .syntax(syntax != null ? syntax : ProtoConstants.SYNTAX_PROTO3)
+                    .packageName(packageName)
+                    .imports(imports)
+                    .publicImports(publicImports)
+                    .services(services)
+                    .messages(messages)
+                    .enums(enums)
+                    .options(options)
+                    .build();
+        }
+
+        private void parseImport(List<String> imports, List<String> publicImports) {
+            boolean isPublic = false;
+            if (current.isKeyword(ProtoConstants.KEYWORD_PUBLIC)) {
+                isPublic = true;
+                advance();
+            } else if (current.isKeyword(ProtoConstants.KEYWORD_WEAK)) {
+                advance();
+            }
+
+            String path = expect(ProtoTokenType.STRING, "import path").getText();
+            expectSymbol(';');
+
+            if (isPublic) {
+                publicImports.add(path);
+            } else {
+                imports.add(path);
+            }
+        }
+
+        private ProtoMessage parseMessage(String scope) {
+            String name = expectIdentifier("message name");
+            String fullName = qualify(scope, name);
+
+            ProtoMessage.Builder builder = ProtoMessage.builder()
+                    .name(name)
+                    .fullName(fullName);
+
+            expectSymbol('{');
+            parseMessageBody(builder, fullName);
+
+            return builder.build();
+        }
+
+        private void parseMessageBody(ProtoMessage.Builder builder, String fullName) {
+            Map<String, String> options = new HashMap<>();
+
+            while (!current.isSymbol('}')) {
+                if (current.isEof()) {
+                    throw unexpected(current, "'}'");
+                }
+                if (current.isSymbol(';')) {
+                    advance();
+                    continue;
+                }
+
+                if (acceptKeyword(ProtoConstants.KEYWORD_MESSAGE)) {
+                    builder.nestedMessage(parseMessage(fullName));
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_ENUM)) {
+                    builder.nestedEnum(parseEnum(fullName));
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_ONEOF)) {
+                    parseOneof(builder, fullName);
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_OPTION)) {
+                    parseOption(options);
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_RESERVED)) {
+                    parseReserved(builder);
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_EXTENSIONS)) {
+                    skipStatement();
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_EXTEND)) {
+                    skipExtend();
+                } else {
+                    parseField(builder, fullName, null);
+                }
+            }
+            advance();
+
+            builder.deprecated(isTrue(options.get(ProtoConstants.OPTION_DEPRECATED)));
+            builder.options(options);
+        }
+
+        private void parseOneof(ProtoMessage.Builder builder, String scope) {
+            String oneofName = expectIdentifier("oneof name");
+            builder.oneofName(oneofName);
+
+            expectSymbol('{');
+            while (!current.isSymbol('}')) {
+                if (current.isEof()) {
+                    throw unexpected(current, "'}'");
+                }
+                if (current.isSymbol(';')) {
+                    advance();
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_OPTION)) {
+                    parseOption(new HashMap<>());
+                } else {
+                    parseField(builder, scope, oneofName);
+                }
+            }
+            advance();
+        }
+
+        private void parseField(ProtoMessage.Builder builder, String scope, String oneofName) {
+            String label = null;
+            if (oneofName == null && (current.isKeyword(ProtoConstants.RULE_OPTIONAL)
+                    || current.isKeyword(ProtoConstants.RULE_REQUIRED)
+                    || current.isKeyword(ProtoConstants.RULE_REPEATED))) {
+                label = current.getText();
+                advance();
+            }
+
+            String typeName = expectIdentifier("field type");
+            ProtoField.Builder field = ProtoField.builder();
+
+            if (ProtoConstants.KEYWORD_MAP.equals(typeName) && current.isSymbol('<')) {
+                advance();
+                String keyType = expectIdentifier("map key type");
+                expectSymbol(',');
+                String valueType = expectIdentifier("map value type");
+                expectSymbol('>');
+                field.asMap(keyType, valueType);
+            } else if (ProtoConstants.KEYWORD_GROUP.equals(typeName) && current.is(ProtoTokenType.IDENTIFIER)) {
+                parseGroup(builder, scope, oneofName, label);
+                return;
+            } else {
+                field.typeName(typeName)
+                        .type(ProtoFieldType.fromString(typeName))
+                        .rule(oneofName != null ? ProtoFieldRule.OPTIONAL : ProtoFieldRule.fromString(label));
+            }
+
+            String name = expectIdentifier("field name");
+            expectSymbol('=');
+            int number = expectInteger("field number");
+
+            field.name(name).number(number).oneofName(oneofName);
+
+            if (current.isSymbol('[')) {
+                applyFieldOptions(field, parseOptionList());
+            }
+            expectSymbol(';');
+
+            builder.field(field.build());
+        }
+
+        private void parseGroup(ProtoMessage.Builder builder, String scope, String oneofName, String label) {
+            String groupName = expectIdentifier("group name");
+            expectSymbol('=');
+            int number = expectInteger("field number");
+
+            ProtoField.Builder field = ProtoField.builder()
+                    .name(groupName.toLowerCase(Locale.ROOT))
+                    .number(number)
+                    .typeName(groupName)
+                    .type(ProtoFieldType.MESSAGE)
+                    .rule(oneofName != null ? ProtoFieldRule.OPTIONAL : ProtoFieldRule.fromString(label))
+                    .oneofName(oneofName);
+
+            if (current.isSymbol('[')) {
+                applyFieldOptions(field, parseOptionList());
+            }
+
+            String fullName = qualify(scope, groupName);
+            ProtoMessage.Builder groupMessage = ProtoMessage.builder()
+                    .name(groupName)
+                    .fullName(fullName);
+            expectSymbol('{');
+            parseMessageBody(groupMessage, fullName);
+
+            builder.nestedMessage(groupMessage.build());
+            builder.field(field.build());
+        }
+
+        private void applyFieldOptions(ProtoField.Builder field, Map<String, String> options) {
+            field.options(options);
+            if (isTrue(options.get(ProtoConstants.OPTION_DEPRECATED))) {
+                field.deprecated(true);
+            }
+            if (options.containsKey(ProtoConstants.OPTION_DEFAULT)) {
+                field.defaultValue(options.get(ProtoConstants.OPTION_DEFAULT));
+            }
+        }
+
+        private void parseReserved(ProtoMessage.Builder builder) {
+            if (current.is(ProtoTokenType.STRING) || current.is(ProtoTokenType.IDENTIFIER)) {
+                do {
+                    if (!current.is(ProtoTokenType.STRING) && !current.is(ProtoTokenType.IDENTIFIER)) {
+                        throw unexpected(current, "reserved name");
+                    }
+                    builder.reservedName(current.getText());
+                    advance();
+                } while (acceptSymbol(','));
+                expectSymbol(';');
+                return;
+            }
+
+            do {
+                int start = expectInteger("reserved field number");
+                int end = start;
+                if (acceptKeyword(ProtoConstants.KEYWORD_TO)) {
+                    ProtoToken endToken = current;
+                    end = acceptKeyword(ProtoConstants.KEYWORD_MAX)
+                            ? ProtoConstants.MAX_FIELD_NUMBER
+                            : expectInteger("reserved range end");
+                    if (end < start) {
+                        throw GrpcParseException.syntaxError("Reserved range end " + end + " is before start " + start,
+                                endToken.getLine(), endToken.getColumn());
+                    }
+                }
+
+                ProtoReservedRange range = ProtoReservedRange.of(start, end);
+                builder.reservedRange(range);
+                if (range.size() <= ProtoConstants.RESERVED_RANGE_EXPANSION_LIMIT) {
+                    for (int i = start; i <= end; i++) {
+                        builder.reservedNumber(i);
+                    }
+                }
+            } while (acceptSymbol(','));
+            expectSymbol(';');
+        }
+
+        private ProtoEnum parseEnum(String scope) {
+            String name = expectIdentifier("enum name");
+            ProtoEnum.Builder builder = ProtoEnum.builder()
+                    .name(name)
+                    .fullName(qualify(scope, name));
+
+            Map<String, String> options = new HashMap<>();
+
+            expectSymbol('{');
+            while (!current.isSymbol('}')) {
+                if (current.isEof()) {
+                    throw unexpected(current, "'}'");
+                }
+                if (current.isSymbol(';')) {
+                    advance();
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_OPTION)) {
+                    parseOption(options);
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_RESERVED)) {
+                    skipStatement();
+                } else {
+                    builder.value(parseEnumValue());
+                }
+            }
+            advance();
+
+            builder.allowAlias(isTrue(options.remove(ProtoConstants.OPTION_ALLOW_ALIAS)));
+            builder.deprecated(isTrue(options.get(ProtoConstants.OPTION_DEPRECATED)));
+            builder.options(options);
+
+            return builder.build();
+        }
+
+        private ProtoEnumValue parseEnumValue() {
+            String name = expectIdentifier("enum value name");
+            expectSymbol('=');
+            boolean negative = acceptSymbol('-');
+            int number = expectInteger("enum value number");
+
+            ProtoEnumValue.Builder builder = ProtoEnumValue.builder()
+                    .name(name)
+                    .number(negative ? -number : number);
+
+            if (current.isSymbol('[')) {
+                Map<String, String> options = parseOptionList();
+                builder.options(options);
+                if (isTrue(options.get(ProtoConstants.OPTION_DEPRECATED))) {
+                    builder.deprecated(true);
+                }
+            }
+            expectSymbol(';');
+
+            return builder.build();
+        }
+
+        private ProtoService parseService() {
+            String name = expectIdentifier("service name");
+            ProtoService.Builder builder = ProtoService.builder()
+                    .name(name)
+                    .fullName(qualify(packageName, name));
+
+            Map<String, String> options = new HashMap<>();
+
+            expectSymbol('{');
+            while (!current.isSymbol('}')) {
+                if (current.isEof()) {
+                    throw unexpected(current, "'}'");
+                }
+                if (current.isSymbol(';')) {
+                    advance();
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_OPTION)) {
+                    parseOption(options);
+                } else if (acceptKeyword(ProtoConstants.KEYWORD_RPC)) {
+                    builder.method(parseRpcMethod());
+                } else {
+                    throw unexpected(current, "'rpc' or 'option'");
+                }
+            }
+            advance();
+
+            builder.deprecated(isTrue(options.get(ProtoConstants.OPTION_DEPRECATED)));
+            builder.options(options);
+
+            return builder.build();
+        }
+
+        private ProtoRpcMethod parseRpcMethod() {
+            String name = expectIdentifier("rpc name");
+
+            expectSymbol('(');
+            boolean clientStreaming = acceptStreamKeyword();
+            String inputType = expectIdentifier("rpc input type");
+            expectSymbol(')');
+
+            if (!acceptKeyword(ProtoConstants.KEYWORD_RETURNS)) {
+                throw unexpected(current, "'returns'");
+            }
+
+            expectSymbol('(');
+            boolean serverStreaming = acceptStreamKeyword();
+            String outputType = expectIdentifier("rpc output type");
+            expectSymbol(')');
+
+            Map<String, String> options = new HashMap<>();
+            if (acceptSymbol('{')) {
+                while (!current.isSymbol('}')) {
+                    if (current.isEof()) {
+                        throw unexpected(current, "'}'");
+                    }
+                    if (current.isSymbol(';')) {
+                        advance();
+                    } else if (acceptKeyword(ProtoConstants.KEYWORD_OPTION)) {
+                        parseOption(options);
+                    } else {
+                        throw unexpected(current, "'option'");
+                    }
+                }
+                advance();
+                acceptSymbol(';');
+            } else {
+                expectSymbol(';');
+            }
+
+            return ProtoRpcMethod.builder()
+                    .name(name)
+                    .inputType(inputType)
+                    .outputType(outputType)
+                    .clientStreaming(clientStreaming)
+                    .serverStreaming(serverStreaming)
+                    .deprecated(isTrue(options.get(ProtoConstants.OPTION_DEPRECATED)))
+                    .options(options)
+                    .build();
+        }
+
+        private boolean acceptStreamKeyword() {
+            if (current.isKeyword(ProtoConstants.KEYWORD_STREAM)) {
+                advance();
+                if (current.is(ProtoTokenType.IDENTIFIER)) {
+                    return true;
+                }
+                throw unexpected(current, "message type after 'stream'");
+            }
+            return false;
+        }
+
+        private void parseOption(Map<String, String> options) {
+            String name = parseOptionName();
+            expectSymbol('=');
+            String value = parseConstant();
+            expectSymbol(';');
+            options.put(name, value);
+        }
+
+        private Map<String, String> parseOptionList() {
+            Map<String, String> options = new HashMap<>();
+            expectSymbol('[');
+            do {
+                String name = parseOptionName();
+                expectSymbol('=');
+                options.put(name, parseConstant());
+            } while (acceptSymbol(','));
+            expectSymbol(']');
+            return options;
+        }
+
+        private String parseOptionName() {
+            StringBuilder name = new StringBuilder();
+            if (acceptSymbol('(')) {
+                String extension = expectIdentifier("option name");
+                name.append(extension.startsWith(".") ? extension.substring(1) : extension);
+                expectSymbol(')');
+            } else {
+                name.append(expectIdentifier("option name"));
+            }
+
+            while (current.is(ProtoTokenType.IDENTIFIER) && current.getText().startsWith(".")) {
+                name.append(current.getText());
+                advance();
+            }
+            return name.toString();
+        }
+
+        private String parseConstant() {
+            ProtoToken token = current;
+
+            if (token.isSymbol('-') || token.isSymbol('+')) {
+                advance();
+                ProtoToken number = current;
+                if (!number.is(ProtoTokenType.INTEGER) && !number.is(ProtoTokenType.FLOAT)
+                        && !number.is(ProtoTokenType.IDENTIFIER)) {
+                    throw unexpected(number, "numeric constant");
+                }
+                advance();
+                return token.isSymbol('-') ? "-" + number.getText() : number.getText();
+            }
+
+            if (token.is(ProtoTokenType.STRING)) {
+                StringBuilder value = new StringBuilder();
+                while (current.is(ProtoTokenType.STRING)) {
+                    value.append(current.getText());
+                    advance();
+                }
+                return value.toString();
+            }
+
+            if (token.is(ProtoTokenType.INTEGER) || token.is(ProtoTokenType.FLOAT)
+                    || token.is(ProtoTokenType.IDENTIFIER)) {
+                advance();
+                return token.getText();
+            }
+
+            if (token.isSymbol('{')) {
+                return parseAggregate();
+            }
+
+            throw unexpected(token, "constant");
+        }
+
+        private String parseAggregate() {
+            StringBuilder value = new StringBuilder();
+            int depth = 0;
+            do {
+                if (current.isEof()) {
+                    throw unexpected(current, "'}'");
+                }
+                if (current.isSymbol('{')) {
+                    depth++;
+                } else if (current.isSymbol('}')) {
+                    depth--;
+                }
+
+                if (!value.isEmpty()) {
+                    value.append(' ');
+                }
+                if (current.is(ProtoTokenType.STRING)) {
+                    value.append('"').append(current.getText()).append('"');
+                } else {
+                    value.append(current.getText());
+                }
+                advance();
+            } while (depth > 0);
+            return value.toString();
+        }
+
+        private void skipExtend() {
+            expectIdentifier("extended type");
+            expectSymbol('{');
+            int depth = 1;
+            while (depth > 0) {
+                if (current.isEof()) {
+                    throw unexpected(current, "'}'");
+                }
+                if (current.isSymbol('{')) {
+                    depth++;
+                } else if (current.isSymbol('}')) {
+                    depth--;
+                }
+                advance();
+            }
+        }
+
+        private void skipStatement() {
+            while (!current.isSymbol(';')) {
+                if (current.isEof()) {
+                    throw unexpected(current, "';'");
+                }
+                advance();
+            }
+            advance();
+        }
+
+        private void advance() {
+            current = lexer.nextToken();
+        }
+
+        private ProtoToken expect(ProtoTokenType type, String description) {
+            if (!current.is(type)) {
+                throw unexpected(current, description);
+            }
+            ProtoToken token = current;
+            advance();
+            return token;
+        }
+
+        private String expectIdentifier(String description) {
+            return expect(ProtoTokenType.IDENTIFIER, description).getText();
+        }
+
+        private int expectInteger(String description) {
+            ProtoToken token = expect(ProtoTokenType.INTEGER, description);
+            try {
+                return Integer.decode(token.getText());
+            } catch (NumberFormatException e) {
+                throw GrpcParseException.syntaxError("Invalid integer " + token.describe(),
+                        token.getLine(), token.getColumn());
+            }
+        }
+
+        private void expectSymbol(char symbol) {
+            if (!current.isSymbol(symbol)) {
+                throw unexpected(current, "'" + symbol + "'");
+            }
+            advance();
+        }
+
+        private boolean acceptSymbol(char symbol) {
+            if (current.isSymbol(symbol)) {
+                advance();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            if (current.isKeyword(keyword)) {
+                advance();
+                return true;
+            }
+            return false;
+        }
+
+        private GrpcParseException unexpected(ProtoToken token, String expected) {
+            return GrpcParseException.syntaxError("Expected " + expected + " but found " + token.describe(),
+                    token.getLine(), token.getColumn());
+        }
+
+        private static String qualify(String scope, String name) {
+            return (scope != null && !scope.isEmpty()) ? scope + "." + name : name;
+        }
+
+        private static boolean isTrue(String value) {
+            return "true".equalsIgnoreCase(value);
+        }
+    }
+}
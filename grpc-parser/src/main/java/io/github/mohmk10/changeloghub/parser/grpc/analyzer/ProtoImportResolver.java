@@ -0,0 +1,76 @@
+package io.github.mohmk10.changeloghub.parser.grpc.analyzer;
+
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFile;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFileSet;
+
+import java.nio.file.Path;
+import java.util.*;
+
+public class ProtoImportResolver {
+
+    public List<String> candidatePaths(String importerPath, String importPath) {
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add(normalize(importPath));
+
+        int lastSlash = importerPath != null ? importerPath.lastIndexOf('/') : -1;
+        if (lastSlash >= 0) {
+            candidates.add(normalize(importerPath.substring(0, lastSlash + 1) + importPath));
+        }
+
+        return new ArrayList<>(candidates);
+    }
+
+    public Optional<String> resolveImport(String importerPath, String importPath, Set<String> knownPaths) {
+        for (String candidate : candidatePaths(importerPath, importPath)) {
+            if (knownPaths.contains(candidate)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public ProtoFileSet link(String rootPath, Map<String, ProtoFile> files) {
+        ProtoFileSet.Builder builder = ProtoFileSet.builder()
+                .rootPath(rootPath)
+                .files(files);
+
+        Set<String> knownPaths = files.keySet();
+
+        for (Map.Entry<String, ProtoFile> entry : files.entrySet()) {
+            String path = entry.getKey();
+            ProtoFile file = entry.getValue();
+
+            List<String> resolved = new ArrayList<>();
+            List<String> resolvedPublic = new ArrayList<>();
+            List<String> unresolved = new ArrayList<>();
+
+            for (String importPath : file.getImports()) {
+                resolveImport(path, importPath, knownPaths)
+                        .ifPresentOrElse(resolved::add, () -> unresolved.add(importPath));
+            }
+            for (String importPath : file.getPublicImports()) {
+                Optional<String> target = resolveImport(path, importPath, knownPaths);
+                if (target.isPresent()) {
+                    resolved.add(target.get());
+                    resolvedPublic.add(target.get());
+                } else {
+                    unresolved.add(importPath);
+                }
+            }
+
+            builder.imports(path, resolved);
+            builder.publicImports(path, resolvedPublic);
+            builder.unresolvedImports(path, unresolved);
+        }
+
+        return builder.build();
+    }
+
+    public static String normalize(String path) {
+        return Path.of(path).normalize().toString().replace('\\', '/');
+    }
+
+    public static String relativize(Path root, Path file) {
+        return normalize(root.relativize(file).toString());
+    }
+}
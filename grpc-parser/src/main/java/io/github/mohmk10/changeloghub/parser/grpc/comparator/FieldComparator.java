@@ -79,7 +79,7 @@ public class FieldComparator {
         return changes;
     }
 
-    private BreakingChange createFieldRemovedChange(ProtoField field, String messagePath) {
+    BreakingChange createFieldRemovedChange(ProtoField field, String messagePath) {
         String path = messagePath + "." + field.getName();
 
         Severity severity = field.isRequired() ? Severity.BREAKING : Severity.DANGEROUS;
@@ -100,7 +100,7 @@ public class FieldComparator {
                 .build();
     }
 
-    private BreakingChange createFieldAddedChange(ProtoField field, String messagePath) {
+    BreakingChange createFieldAddedChange(ProtoField field, String messagePath) {
         String path = messagePath + "." + field.getName();
 
         Severity severity = field.isRequired() ? Severity.BREAKING : Severity.INFO;
@@ -122,7 +122,7 @@ public class FieldComparator {
                 .build();
     }
 
-    private BreakingChange createFieldNumberChangedChange(ProtoField oldField, ProtoField newField, String path) {
+    BreakingChange createFieldNumberChangedChange(ProtoField oldField, ProtoField newField, String path) {
         return BreakingChange.breakingChangeBuilder()
                 .id(UUID.randomUUID().toString())
                 .type(ChangeType.MODIFIED)
@@ -140,7 +140,7 @@ public class FieldComparator {
                 .build();
     }
 
-    private BreakingChange createFieldNumberReusedChange(ProtoField oldField, ProtoField newField, String messagePath) {
+    BreakingChange createFieldNumberReusedChange(ProtoField oldField, ProtoField newField, String messagePath) {
         String path = messagePath + ".field_number_" + newField.getNumber();
 
         return BreakingChange.breakingChangeBuilder()
@@ -0,0 +1,191 @@
+package io.github.mohmk10.changeloghub.parser.grpc.comparator;
+
+import io.github.mohmk10.changeloghub.core.model.BreakingChange;
+import io.github.mohmk10.changeloghub.core.model.ChangeCategory;
+import io.github.mohmk10.changeloghub.core.model.ChangeType;
+import io.github.mohmk10.changeloghub.core.model.Severity;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoField;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoMessage;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoReservedRange;
+import io.github.mohmk10.changeloghub.parser.grpc.util.FieldNumberIndex;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ReservedRangeIndex;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+public class FieldNumberComparator {
+
+    private final FieldComparator fieldComparator;
+
+    public FieldNumberComparator() {
+        this(new FieldComparator());
+    }
+
+    public FieldNumberComparator(FieldComparator fieldComparator) {
+        this.fieldComparator = fieldComparator;
+    }
+
+    public List<BreakingChange> compareFields(ProtoMessage oldMessage, ProtoMessage newMessage, String messagePath) {
+        List<BreakingChange> changes = new ArrayList<>();
+
+        List<ProtoField> oldFields = oldMessage.getFields();
+        List<ProtoField> newFields = newMessage.getFields();
+
+        FieldNumberIndex oldByNumber = FieldNumberIndex.of(oldFields);
+        FieldNumberIndex newByNumber = FieldNumberIndex.of(newFields);
+        Map<String, ProtoField> oldByName = mapByName(oldFields);
+        Map<String, ProtoField> newByName = mapByName(newFields);
+        ReservedRangeIndex oldReserved = ReservedRangeIndex.of(oldMessage);
+        ReservedRangeIndex newReserved = ReservedRangeIndex.of(newMessage);
+
+        Set<String> matchedNewFields = new HashSet<>();
+
+        for (ProtoField oldField : oldFields) {
+            ProtoField sameName = newByName.get(oldField.getName());
+            if (sameName != null) {
+                matchedNewFields.add(sameName.getName());
+                changes.addAll(fieldComparator.compareField(oldField, sameName, messagePath));
+                continue;
+            }
+
+            ProtoField sameNumber = newByNumber.get(oldField.getNumber());
+            if (sameNumber != null && !oldByName.containsKey(sameNumber.getName())) {
+                matchedNewFields.add(sameNumber.getName());
+                if (oldField.getTypeName().equals(sameNumber.getTypeName())) {
+                    changes.add(createFieldRenamedChange(oldField, sameNumber, messagePath));
+                    changes.addAll(fieldComparator.compareField(oldField, sameNumber, messagePath));
+                } else {
+                    changes.add(fieldComparator.createFieldNumberReusedChange(oldField, sameNumber, messagePath));
+                }
+                continue;
+            }
+
+            changes.add(fieldComparator.createFieldRemovedChange(oldField, messagePath));
+            if (!newReserved.contains(oldField.getNumber())) {
+                changes.add(createUnreservedRemovalChange(oldField, messagePath));
+            }
+        }
+
+        for (ProtoField newField : newFields) {
+            if (matchedNewFields.contains(newField.getName())) {
+                continue;
+            }
+
+            ProtoField previousOwner = oldByNumber.get(newField.getNumber());
+            if (previousOwner != null) {
+                changes.add(fieldComparator.createFieldNumberReusedChange(previousOwner, newField, messagePath));
+            } else if (oldReserved.contains(newField.getNumber())) {
+                changes.add(createReservedNumberReusedChange(newField, messagePath));
+            } else if (oldMessage.isReserved(newField.getName())) {
+                changes.add(createReservedNameReusedChange(newField, messagePath));
+            } else {
+                changes.add(fieldComparator.createFieldAddedChange(newField, messagePath));
+            }
+        }
+
+        for (ProtoReservedRange range : oldReserved.getRanges()) {
+            if (!newReserved.covers(range)) {
+                changes.add(createReservationRemovedChange(range, messagePath));
+            }
+        }
+
+        return changes;
+    }
+
+    private BreakingChange createFieldRenamedChange(ProtoField oldField, ProtoField newField, String messagePath) {
+        return BreakingChange.breakingChangeBuilder()
+                .id(UUID.randomUUID().toString())
+                .type(ChangeType.MODIFIED)
+                .category(ChangeCategory.FIELD)
+                .severity(Severity.DANGEROUS)
+                .path(messagePath + "." + oldField.getName())
+                .description("Field number " + oldField.getNumber() + " renamed from '" + oldField.getName() +
+                        "' to '" + newField.getName() + "'")
+                .oldValue(oldField.getName())
+                .newValue(newField.getName())
+                .detectedAt(LocalDateTime.now())
+                .migrationSuggestion("Binary encoding is unchanged, but JSON and text format clients " +
+                        "that use the field name '" + oldField.getName() + "' will break.")
+                .impactScore(50)
+                .build();
+    }
+
+    private BreakingChange createUnreservedRemovalChange(ProtoField field, String messagePath) {
+        return BreakingChange.breakingChangeBuilder()
+                .id(UUID.randomUUID().toString())
+                .type(ChangeType.MODIFIED)
+                .category(ChangeCategory.FIELD_NUMBER)
+                .severity(Severity.WARNING)
+                .path(messagePath + ".field_number_" + field.getNumber())
+                .description("Field number " + field.getNumber() + " of removed field '" + field.getName() +
+                        "' is not reserved")
+                .oldValue(field.getNumber())
+                .newValue(null)
+                .detectedAt(LocalDateTime.now())
+                .migrationSuggestion("Add 'reserved " + field.getNumber() + ";' and 'reserved \"" +
+                        field.getName() + "\";' so the number cannot be reused by a later change.")
+                .impactScore(40)
+                .build();
+    }
+
+    private BreakingChange createReservedNumberReusedChange(ProtoField field, String messagePath) {
+        return BreakingChange.breakingChangeBuilder()
+                .id(UUID.randomUUID().toString())
+                .type(ChangeType.MODIFIED)
+                .category(ChangeCategory.FIELD_NUMBER)
+                .severity(Severity.BREAKING)
+                .path(messagePath + ".field_number_" + field.getNumber())
+                .description("Field '" + field.getName() + "' uses reserved field number " + field.getNumber())
+                .oldValue("reserved")
+                .newValue(field.getName() + ":" + field.getTypeName())
+                .detectedAt(LocalDateTime.now())
+                .migrationSuggestion("CRITICAL: Field number " + field.getNumber() + " was reserved. " +
+                        "Old data encoded with this number will be decoded as '" + field.getName() +
+                        "'. Use an unreserved field number.")
+                .impactScore(100)
+                .build();
+    }
+
+    private BreakingChange createReservedNameReusedChange(ProtoField field, String messagePath) {
+        return BreakingChange.breakingChangeBuilder()
+                .id(UUID.randomUUID().toString())
+                .type(ChangeType.ADDED)
+                .category(ChangeCategory.FIELD)
+                .severity(Severity.DANGEROUS)
+                .path(messagePath + "." + field.getName())
+                .description("Field '" + field.getName() + "' (number " + field.getNumber() +
+                        ") uses a reserved field name")
+                .oldValue("reserved")
+                .newValue(field.getFullTypeSignature())
+                .detectedAt(LocalDateTime.now())
+                .migrationSuggestion("The name '" + field.getName() + "' was reserved. JSON clients may " +
+                        "still send the old field under this name. Choose a different field name.")
+                .impactScore(60)
+                .build();
+    }
+
+    private BreakingChange createReservationRemovedChange(ProtoReservedRange range, String messagePath) {
+        return BreakingChange.breakingChangeBuilder()
+                .id(UUID.randomUUID().toString())
+                .type(ChangeType.REMOVED)
+                .category(ChangeCategory.FIELD_NUMBER)
+                .severity(Severity.DANGEROUS)
+                .path(messagePath + ".reserved")
+                .description("Reserved field numbers " + range + " are no longer fully reserved")
+                .oldValue(range.toString())
+                .newValue(null)
+                .detectedAt(LocalDateTime.now())
+                .migrationSuggestion("Removing a reservation allows previously used field numbers to be " +
+                        "reused. Keep the reserved range unless the numbers were never used.")
+                .impactScore(50)
+                .build();
+    }
+
+    private Map<String, ProtoField> mapByName(List<ProtoField> fields) {
+        Map<String, ProtoField> map = new HashMap<>();
+        for (ProtoField field : fields) {
+            map.put(field.getName(), field);
+        }
+        return map;
+    }
+}
@@ -7,20 +7,22 @@ import io.github.mohmk10.changeloghub.core.model.Severity;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoEnum;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoEnumValue;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoMessage;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoReservedRange;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ReservedRangeIndex;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 public class MessageComparator {
 
-    private final FieldComparator fieldComparator;
+    private final FieldNumberComparator fieldNumberComparator;
 
     public MessageComparator() {
-        this.fieldComparator = new FieldComparator();
+        this(new FieldComparator());
     }
 
     public MessageComparator(FieldComparator fieldComparator) {
-        this.fieldComparator = fieldComparator;
+        this.fieldNumberComparator = new FieldNumberComparator(fieldComparator);
     }
 
     public List<BreakingChange> compareMessages(List<ProtoMessage> oldMessages, List<ProtoMessage> newMessages,
@@ -58,16 +60,11 @@ public class MessageComparator {
     public List<BreakingChange> compareMessage(ProtoMessage oldMessage, ProtoMessage newMessage, String messagePath) {
         List<BreakingChange> changes = new ArrayList<>();
 
-        changes.addAll(fieldComparator.compareFields(
-                oldMessage.getFields(),
-                newMessage.getFields(),
-                messagePath
-        ));
+        changes.addAll(fieldNumberComparator.compareFields(oldMessage, newMessage, messagePath));
 
-        Set<Integer> newReserved = new HashSet<>(newMessage.getReservedNumbers());
-        newReserved.removeAll(oldMessage.getReservedNumbers());
-        for (Integer reserved : newReserved) {
-            changes.add(createReservedNumberAddedChange(reserved, messagePath));
+        ReservedRangeIndex oldReserved = ReservedRangeIndex.of(oldMessage);
+        for (ProtoReservedRange added : ReservedRangeIndex.of(newMessage).difference(oldReserved)) {
+            changes.add(createReservationAddedChange(added, messagePath));
         }
 
         changes.addAll(compareMessages(
@@ -195,18 +192,19 @@ public class MessageComparator {
                 .build();
     }
 
-    private BreakingChange createReservedNumberAddedChange(Integer number, String messagePath) {
+    private BreakingChange createReservationAddedChange(ProtoReservedRange range, String messagePath) {
+        String numbers = range.isSingle() ? "Field number " + range : "Field numbers " + range;
         return BreakingChange.breakingChangeBuilder()
                 .id(UUID.randomUUID().toString())
                 .type(ChangeType.MODIFIED)
                 .category(ChangeCategory.FIELD_NUMBER)
                 .severity(Severity.INFO)
                 .path(messagePath + ".reserved")
-                .description("Field number " + number + " added to reserved list")
+                .description(numbers + " added to reserved list")
                 .oldValue(null)
-                .newValue(number)
+                .newValue(range.isSingle() ? (Object) range.getStart() : range.toString())
                 .detectedAt(LocalDateTime.now())
-                .migrationSuggestion("Field number " + number + " is now reserved. " +
+                .migrationSuggestion(numbers + (range.isSingle() ? " is" : " are") + " now reserved. " +
                         "This prevents future reuse of a removed field number.")
                 .impactScore(5)
                 .build();
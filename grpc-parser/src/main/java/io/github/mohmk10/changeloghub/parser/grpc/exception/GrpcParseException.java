@@ -2,12 +2,35 @@ package io.github.mohmk10.changeloghub.parser.grpc.exception;
 
 public class GrpcParseException extends RuntimeException {
 
+    private final int line;
+    private final int column;
+
     public GrpcParseException(String message) {
-        super(message);
+        this(message, -1, -1);
     }
 
     public GrpcParseException(String message, Throwable cause) {
         super(message, cause);
+        this.line = -1;
+        this.column = -1;
+    }
+
+    public GrpcParseException(String message, int line, int column) {
+        super(message);
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public boolean hasLocation() {
+        return line > 0;
     }
 
     public static GrpcParseException invalidProto(String details) {
@@ -34,6 +57,12 @@ public class GrpcParseException extends RuntimeException {
         return new GrpcParseException("Syntax error in Protocol Buffer: " + details);
     }
 
+    public static GrpcParseException syntaxError(String details, int line, int column) {
+        return new GrpcParseException(
+                "Syntax error in Protocol Buffer at line " + line + ", column " + column + ": " + details,
+                line, column);
+    }
+
     public static GrpcParseException unsupportedSyntax(String syntax) {
         return new GrpcParseException("Unsupported Protocol Buffer syntax: " + syntax);
     }
@@ -0,0 +1,201 @@
+package io.github.mohmk10.changeloghub.parser.grpc.lexer;
+
+import io.github.mohmk10.changeloghub.parser.grpc.exception.GrpcParseException;
+
+public class ProtoLexer {
+
+    private final String content;
+    private final int length;
+    private int position;
+    private int line;
+    private int column;
+
+    public ProtoLexer(String content) {
+        this.content = content != null ? content : "";
+        this.length = this.content.length();
+        this.position = 0;
+        this.line = 1;
+        this.column = 1;
+    }
+
+    public ProtoToken nextToken() {
+        skipWhitespaceAndComments();
+
+        if (position >= length) {
+            return new ProtoToken(ProtoTokenType.EOF, "", line, column);
+        }
+
+        int startLine = line;
+        int startColumn = column;
+        char c = content.charAt(position);
+
+        if (isIdentifierStart(c) || (c == '.' && isIdentifierStart(charAt(position + 1)))) {
+            return readIdentifier(startLine, startColumn);
+        }
+        if (isDigit(c) || (c == '.' && isDigit(charAt(position + 1)))) {
+            return readNumber(startLine, startColumn);
+        }
+        if (c == '"' || c == '\'') {
+            return readString(c, startLine, startColumn);
+        }
+
+        advance();
+        return new ProtoToken(ProtoTokenType.SYMBOL, String.valueOf(c), startLine, startColumn);
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (position < length) {
+            char c = content.charAt(position);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f') {
+                advance();
+            } else if (c == '/' && charAt(position + 1) == '/') {
+                while (position < length && content.charAt(position) != '\n') {
+                    advance();
+                }
+            } else if (c == '/' && charAt(position + 1) == '*') {
+                int startLine = line;
+                int startColumn = column;
+                advance();
+                advance();
+                boolean closed = false;
+                while (position < length) {
+                    if (content.charAt(position) == '*' && charAt(position + 1) == '/') {
+                        advance();
+                        advance();
+                        closed = true;
+                        break;
+                    }
+                    advance();
+                }
+                if (!closed) {
+                    throw GrpcParseException.syntaxError("Unterminated block comment", startLine, startColumn);
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private ProtoToken readIdentifier(int startLine, int startColumn) {
+        int start = position;
+        advance();
+        while (position < length) {
+            char c = content.charAt(position);
+            if (isIdentifierPart(c)) {
+                advance();
+            } else if (c == '.' && isIdentifierStart(charAt(position + 1))) {
+                advance();
+            } else {
+                break;
+            }
+        }
+        return new ProtoToken(ProtoTokenType.IDENTIFIER, content.substring(start, position), startLine, startColumn);
+    }
+
+    private ProtoToken readNumber(int startLine, int startColumn) {
+        int start = position;
+        boolean isFloat = false;
+
+        if (content.charAt(position) == '0' && (charAt(position + 1) == 'x' || charAt(position + 1) == 'X')) {
+            advance();
+            advance();
+            while (position < length && isHexDigit(content.charAt(position))) {
+                advance();
+            }
+            return new ProtoToken(ProtoTokenType.INTEGER, content.substring(start, position), startLine, startColumn);
+        }
+
+        while (position < length) {
+            char c = content.charAt(position);
+            if (isDigit(c)) {
+                advance();
+            } else if (c == '.') {
+                isFloat = true;
+                advance();
+            } else if (c == 'e' || c == 'E') {
+                isFloat = true;
+                advance();
+                char sign = charAt(position);
+                if (sign == '+' || sign == '-') {
+                    advance();
+                }
+            } else {
+                break;
+            }
+        }
+
+        return new ProtoToken(isFloat ? ProtoTokenType.FLOAT : ProtoTokenType.INTEGER,
+                content.substring(start, position), startLine, startColumn);
+    }
+
+    private ProtoToken readString(char quote, int startLine, int startColumn) {
+        advance();
+        StringBuilder sb = new StringBuilder();
+
+        while (position < length) {
+            char c = content.charAt(position);
+            if (c == quote) {
+                advance();
+                return new ProtoToken(ProtoTokenType.STRING, sb.toString(), startLine, startColumn);
+            }
+            if (c == '\n') {
+                break;
+            }
+            if (c == '\\' && position + 1 < length) {
+                advance();
+                char escaped = content.charAt(position);
+                switch (escaped) {
+                    case 'n' -> sb.append('\n');
+                    case 't' -> sb.append('\t');
+                    case 'r' -> sb.append('\r');
+                    case '0' -> sb.append('\0');
+                    default -> sb.append(escaped);
+                }
+                advance();
+                continue;
+            }
+            sb.append(c);
+            advance();
+        }
+
+        throw GrpcParseException.syntaxError("Unterminated string literal", startLine, startColumn);
+    }
+
+    private void advance() {
+        if (content.charAt(position) == '\n') {
+            line++;
+            column = 1;
+        } else {
+            column++;
+        }
+        position++;
+    }
+
+    private char charAt(int index) {
+        return index < length ? content.charAt(index) : '\0';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || isDigit(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.mohmk10.changeloghub.parser.grpc.lexer;
+
+import java.util.Objects;
+
+public final class ProtoToken {
+
+    private final ProtoTokenType type;
+    private final String text;
+    private final int line;
+    private final int column;
+
+    public ProtoToken(ProtoTokenType type, String text, int line, int column) {
+        this.type = Objects.requireNonNull(type, "Token type is required");
+        this.text = text;
+        this.line = line;
+        this.column = column;
+    }
+
+    public ProtoTokenType getType() {
+        return type;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public boolean is(ProtoTokenType type) {
+        return this.type == type;
+    }
+
+    public boolean isSymbol(char symbol) {
+        return type == ProtoTokenType.SYMBOL && text.length() == 1 && text.charAt(0) == symbol;
+    }
+
+    public boolean isKeyword(String keyword) {
+        return type == ProtoTokenType.IDENTIFIER && text.equals(keyword);
+    }
+
+    public boolean isEof() {
+        return type == ProtoTokenType.EOF;
+    }
+
+    public String describe() {
+        return switch (type) {
+            case EOF -> "end of file";
+            case STRING -> "string \"" + text + "\"";
+            default -> "'" + text + "'";
+        };
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + text + ")@" + line + ":" + column;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.mohmk10.changeloghub.parser.grpc.lexer;
+
+public enum ProtoTokenType {
+
+    IDENTIFIER,
+
+    INTEGER,
+
+    FLOAT,
+
+    STRING,
+
+    SYMBOL,
+
+    EOF
+}
@@ -5,7 +5,9 @@ import io.github.mohmk10.changeloghub.core.model.ApiType;
 import io.github.mohmk10.changeloghub.core.model.Endpoint;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoEnum;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFile;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoFileSet;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoMessage;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoRpcMethod;
 import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoService;
 
 import java.time.LocalDateTime;
@@ -111,6 +113,64 @@ public class GrpcModelMapper {
                 .build();
     }
 
+    public ApiSpec mapProtoFileSet(ProtoFileSet fileSet) {
+        if (fileSet.size() == 0) {
+            return mapProtoFiles(List.of());
+        }
+
+        ProtoFile primaryFile = fileSet.getProtoFiles().get(0);
+
+        List<Endpoint> allEndpoints = new ArrayList<>();
+        Map<String, Map<String, Object>> allSchemas = new LinkedHashMap<>();
+
+        for (Map.Entry<String, ProtoFile> entry : fileSet.getFiles().entrySet()) {
+            ProtoFile protoFile = entry.getValue();
+            Map<String, ProtoMessage> messageMap = buildMessageMap(protoFile);
+            linkImportedMessages(fileSet, entry.getKey(), protoFile, messageMap);
+
+            allEndpoints.addAll(endpointMapper.mapServices(
+                    protoFile.getServices(),
+                    protoFile.getPackageName(),
+                    messageMap
+            ));
+
+            allSchemas.putAll(typeMapper.buildSchemaMap(
+                    protoFile.getMessages(),
+                    protoFile.getEnums()
+            ));
+        }
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("syntax", primaryFile.getSyntax());
+        metadata.put("package", primaryFile.getPackageName());
+        metadata.put("fileCount", fileSet.size());
+        metadata.put("schemas", allSchemas);
+
+        return ApiSpec.builder()
+                .name(buildApiName(primaryFile))
+                .version(extractVersion(primaryFile))
+                .type(ApiType.GRPC)
+                .endpoints(allEndpoints)
+                .metadata(metadata)
+                .parsedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void linkImportedMessages(ProtoFileSet fileSet, String path, ProtoFile protoFile,
+                                      Map<String, ProtoMessage> messageMap) {
+        for (ProtoService service : protoFile.getServices()) {
+            for (ProtoRpcMethod method : service.getMethods()) {
+                for (String typeName : List.of(method.getInputType(), method.getOutputType())) {
+                    if (!messageMap.containsKey(typeName)) {
+                        fileSet.resolveType(path, protoFile.getPackageName(), typeName)
+                                .flatMap(fileSet::getMessage)
+                                .ifPresent(message -> messageMap.put(typeName, message));
+                    }
+                }
+            }
+        }
+    }
+
     private String buildApiName(ProtoFile protoFile) {
         String packageName = protoFile.getPackageName();
         if (packageName != null && !packageName.isEmpty()) {
@@ -0,0 +1,233 @@
+package io.github.mohmk10.changeloghub.parser.grpc.model;
+
+import java.util.*;
+
+public class ProtoFileSet {
+
+    private final String rootPath;
+    private final Map<String, ProtoFile> files;
+    private final Map<String, List<String>> imports;
+    private final Map<String, List<String>> publicImports;
+    private final Map<String, List<String>> unresolvedImports;
+    private final Map<String, ProtoMessage> messagesByFullName;
+    private final Map<String, ProtoEnum> enumsByFullName;
+    private final Map<String, String> typeLocations;
+
+    private ProtoFileSet(Builder builder) {
+        this.rootPath = builder.rootPath;
+        this.files = Collections.unmodifiableMap(new LinkedHashMap<>(builder.files));
+        this.imports = copyOf(builder.imports);
+        this.publicImports = copyOf(builder.publicImports);
+        this.unresolvedImports = copyOf(builder.unresolvedImports);
+
+        Map<String, ProtoMessage> messages = new HashMap<>();
+        Map<String, ProtoEnum> enums = new HashMap<>();
+        Map<String, String> locations = new HashMap<>();
+        for (Map.Entry<String, ProtoFile> entry : files.entrySet()) {
+            for (ProtoMessage message : entry.getValue().getMessages()) {
+                indexMessage(message, entry.getKey(), messages, enums, locations);
+            }
+            for (ProtoEnum protoEnum : entry.getValue().getEnums()) {
+                enums.putIfAbsent(protoEnum.getFullName(), protoEnum);
+                locations.putIfAbsent(protoEnum.getFullName(), entry.getKey());
+            }
+        }
+        this.messagesByFullName = Collections.unmodifiableMap(messages);
+        this.enumsByFullName = Collections.unmodifiableMap(enums);
+        this.typeLocations = Collections.unmodifiableMap(locations);
+    }
+
+    private static void indexMessage(ProtoMessage message, String path, Map<String, ProtoMessage> messages,
+                                     Map<String, ProtoEnum> enums, Map<String, String> locations) {
+        messages.putIfAbsent(message.getFullName(), message);
+        locations.putIfAbsent(message.getFullName(), path);
+        for (ProtoEnum nestedEnum : message.getNestedEnums()) {
+            enums.putIfAbsent(nestedEnum.getFullName(), nestedEnum);
+            locations.putIfAbsent(nestedEnum.getFullName(), path);
+        }
+        for (ProtoMessage nested : message.getNestedMessages()) {
+            indexMessage(nested, path, messages, enums, locations);
+        }
+    }
+
+    private static Map<String, List<String>> copyOf(Map<String, List<String>> source) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        source.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    public String getRootPath() {
+        return rootPath;
+    }
+
+    public Map<String, ProtoFile> getFiles() {
+        return files;
+    }
+
+    public List<ProtoFile> getProtoFiles() {
+        return List.copyOf(files.values());
+    }
+
+    public Optional<ProtoFile> getFile(String path) {
+        return Optional.ofNullable(files.get(path));
+    }
+
+    public Set<String> getPaths() {
+        return files.keySet();
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    public List<String> getImports(String path) {
+        return imports.getOrDefault(path, List.of());
+    }
+
+    public List<String> getPublicImports(String path) {
+        return publicImports.getOrDefault(path, List.of());
+    }
+
+    public List<String> getUnresolvedImports(String path) {
+        return unresolvedImports.getOrDefault(path, List.of());
+    }
+
+    public boolean hasUnresolvedImports() {
+        return unresolvedImports.values().stream().anyMatch(list -> !list.isEmpty());
+    }
+
+    public List<String> getImporters(String path) {
+        List<String> importers = new ArrayList<>();
+        imports.forEach((importer, targets) -> {
+            if (targets.contains(path)) {
+                importers.add(importer);
+            }
+        });
+        return importers;
+    }
+
+    public Set<String> getVisibleFiles(String path) {
+        Set<String> visible = new LinkedHashSet<>();
+        visible.add(path);
+        for (String imported : getImports(path)) {
+            addWithPublicImports(imported, visible);
+        }
+        return visible;
+    }
+
+    private void addWithPublicImports(String path, Set<String> visible) {
+        if (!visible.add(path)) {
+            return;
+        }
+        for (String publicImport : getPublicImports(path)) {
+            addWithPublicImports(publicImport, visible);
+        }
+    }
+
+    public Optional<ProtoMessage> getMessage(String fullName) {
+        return Optional.ofNullable(messagesByFullName.get(stripLeadingDot(fullName)));
+    }
+
+    public Optional<ProtoEnum> getEnum(String fullName) {
+        return Optional.ofNullable(enumsByFullName.get(stripLeadingDot(fullName)));
+    }
+
+    public Optional<String> getDefiningFile(String fullName) {
+        return Optional.ofNullable(typeLocations.get(stripLeadingDot(fullName)));
+    }
+
+    public Set<String> getTypeNames() {
+        return typeLocations.keySet();
+    }
+
+    public Optional<String> resolveType(String path, String scope, String typeName) {
+        if (typeName == null || typeName.isEmpty()) {
+            return Optional.empty();
+        }
+        if (typeName.startsWith(".")) {
+            String fullName = typeName.substring(1);
+            return typeLocations.containsKey(fullName) ? Optional.of(fullName) : Optional.empty();
+        }
+
+        Set<String> visible = getVisibleFiles(path);
+        String fallback = null;
+        String currentScope = scope != null ? scope : "";
+        while (true) {
+            String candidate = currentScope.isEmpty() ? typeName : currentScope + "." + typeName;
+            String location = typeLocations.get(candidate);
+            if (location != null) {
+                if (visible.contains(location)) {
+                    return Optional.of(candidate);
+                }
+                if (fallback == null) {
+                    fallback = candidate;
+                }
+            }
+            if (currentScope.isEmpty()) {
+                break;
+            }
+            int lastDot = currentScope.lastIndexOf('.');
+            currentScope = lastDot >= 0 ? currentScope.substring(0, lastDot) : "";
+        }
+        return Optional.ofNullable(fallback);
+    }
+
+    private static String stripLeadingDot(String name) {
+        return name != null && name.startsWith(".") ? name.substring(1) : name;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "ProtoFileSet{" +
+                "root='" + rootPath + '\'' +
+                ", files=" + files.size() +
+                ", types=" + typeLocations.size() +
+                '}';
+    }
+
+    public static class Builder {
+        private String rootPath;
+        private final Map<String, ProtoFile> files = new TreeMap<>();
+        private final Map<String, List<String>> imports = new TreeMap<>();
+        private final Map<String, List<String>> publicImports = new TreeMap<>();
+        private final Map<String, List<String>> unresolvedImports = new TreeMap<>();
+
+        public Builder rootPath(String rootPath) {
+            this.rootPath = rootPath;
+            return this;
+        }
+
+        public Builder file(String path, ProtoFile file) {
+            this.files.put(path, file);
+            return this;
+        }
+
+        public Builder files(Map<String, ProtoFile> files) {
+            this.files.putAll(files);
+            return this;
+        }
+
+        public Builder imports(String path, List<String> resolvedImports) {
+            this.imports.put(path, resolvedImports);
+            return this;
+        }
+
+        public Builder publicImports(String path, List<String> resolvedPublicImports) {
+            this.publicImports.put(path, resolvedPublicImports);
+            return this;
+        }
+
+        public Builder unresolvedImports(String path, List<String> unresolved) {
+            this.unresolvedImports.put(path, unresolved);
+            return this;
+        }
+
+        public ProtoFileSet build() {
+            return new ProtoFileSet(this);
+        }
+    }
+}
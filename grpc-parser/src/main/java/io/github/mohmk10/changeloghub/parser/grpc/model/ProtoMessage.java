@@ -12,6 +12,7 @@ public class ProtoMessage {
     private final List<String> oneofNames;
     private final Set<Integer> reservedNumbers;
     private final Set<String> reservedNames;
+    private final List<ProtoReservedRange> reservedRanges;
     private final boolean deprecated;
     private final Map<String, String> options;
 
@@ -24,6 +25,7 @@ public class ProtoMessage {
         this.oneofNames = List.copyOf(builder.oneofNames);
         this.reservedNumbers = Set.copyOf(builder.reservedNumbers);
         this.reservedNames = Set.copyOf(builder.reservedNames);
+        this.reservedRanges = List.copyOf(builder.reservedRanges);
         this.deprecated = builder.deprecated;
         this.options = Map.copyOf(builder.options);
     }
@@ -106,8 +108,20 @@ public class ProtoMessage {
         return reservedNames;
     }
 
+    public List<ProtoReservedRange> getReservedRanges() {
+        return reservedRanges;
+    }
+
     public boolean isReserved(int number) {
-        return reservedNumbers.contains(number);
+        if (reservedNumbers.contains(number)) {
+            return true;
+        }
+        for (ProtoReservedRange range : reservedRanges) {
+            if (range.contains(number)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean isReserved(String name) {
@@ -161,6 +175,7 @@ public class ProtoMessage {
         private final List<String> oneofNames = new ArrayList<>();
         private final Set<Integer> reservedNumbers = new LinkedHashSet<>();
         private final Set<String> reservedNames = new LinkedHashSet<>();
+        private final List<ProtoReservedRange> reservedRanges = new ArrayList<>();
         private boolean deprecated = false;
         private final Map<String, String> options = new HashMap<>();
 
@@ -234,6 +249,16 @@ public class ProtoMessage {
             return this;
         }
 
+        public Builder reservedRange(ProtoReservedRange range) {
+            this.reservedRanges.add(range);
+            return this;
+        }
+
+        public Builder reservedRanges(List<ProtoReservedRange> ranges) {
+            this.reservedRanges.addAll(ranges);
+            return this;
+        }
+
         public Builder deprecated(boolean deprecated) {
             this.deprecated = deprecated;
             return this;
@@ -0,0 +1,67 @@
+package io.github.mohmk10.changeloghub.parser.grpc.model;
+
+public final class ProtoReservedRange implements Comparable<ProtoReservedRange> {
+
+    private final int start;
+    private final int end;
+
+    private ProtoReservedRange(int start, int end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Reserved range end " + end + " is before start " + start);
+        }
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ProtoReservedRange of(int start, int end) {
+        return new ProtoReservedRange(start, end);
+    }
+
+    public static ProtoReservedRange single(int number) {
+        return new ProtoReservedRange(number, number);
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public long size() {
+        return (long) end - start + 1;
+    }
+
+    public boolean contains(int number) {
+        return number >= start && number <= end;
+    }
+
+    public boolean isSingle() {
+        return start == end;
+    }
+
+    @Override
+    public int compareTo(ProtoReservedRange other) {
+        int cmp = Integer.compare(start, other.start);
+        return cmp != 0 ? cmp : Integer.compare(end, other.end);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProtoReservedRange that = (ProtoReservedRange) o;
+        return start == that.start && end == that.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start + end;
+    }
+
+    @Override
+    public String toString() {
+        return isSingle() ? String.valueOf(start) : start + " to " + end;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.mohmk10.changeloghub.parser.grpc.util;
+
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoField;
+
+import java.util.List;
+
+public final class FieldNumberIndex {
+
+    private static final int EMPTY = 0;
+
+    private final int[] keys;
+    private final ProtoField[] values;
+    private final int mask;
+    private final int size;
+
+    private FieldNumberIndex(List<ProtoField> fields) {
+        int capacity = Integer.highestOneBit(Math.max(4, fields.size() * 2 - 1)) << 1;
+        this.keys = new int[capacity];
+        this.values = new ProtoField[capacity];
+        this.mask = capacity - 1;
+
+        int count = 0;
+        for (ProtoField field : fields) {
+            if (put(field)) {
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    public static FieldNumberIndex of(List<ProtoField> fields) {
+        return new FieldNumberIndex(fields);
+    }
+
+    private boolean put(ProtoField field) {
+        int number = field.getNumber();
+        if (number == EMPTY) {
+            return false;
+        }
+        int slot = slot(number);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == number) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = number;
+        values[slot] = field;
+        return true;
+    }
+
+    public ProtoField get(int number) {
+        if (number == EMPTY) {
+            return null;
+        }
+        int slot = slot(number);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == number) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean contains(int number) {
+        return get(number) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(int number) {
+        int hash = number * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
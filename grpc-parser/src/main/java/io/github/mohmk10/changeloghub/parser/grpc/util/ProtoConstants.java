@@ -27,12 +27,20 @@ public final class ProtoConstants {
     public static final String KEYWORD_RESERVED = "reserved";
     public static final String KEYWORD_EXTENSIONS = "extensions";
     public static final String KEYWORD_EXTEND = "extend";
+    public static final String KEYWORD_EDITION = "edition";
+    public static final String KEYWORD_PUBLIC = "public";
+    public static final String KEYWORD_WEAK = "weak";
+    public static final String KEYWORD_GROUP = "group";
+    public static final String KEYWORD_TO = "to";
+    public static final String KEYWORD_MAX = "max";
 
     public static final String RULE_OPTIONAL = "optional";
     public static final String RULE_REQUIRED = "required";
     public static final String RULE_REPEATED = "repeated";
 
     public static final String OPTION_DEPRECATED = "deprecated";
+    public static final String OPTION_DEFAULT = "default";
+    public static final String OPTION_ALLOW_ALIAS = "allow_alias";
     public static final String OPTION_JAVA_PACKAGE = "java_package";
     public static final String OPTION_JAVA_OUTER_CLASSNAME = "java_outer_classname";
     public static final String OPTION_JAVA_MULTIPLE_FILES = "java_multiple_files";
@@ -107,6 +115,10 @@ public final class ProtoConstants {
     public static final Pattern ONEOF_PATTERN = Pattern.compile(
             "oneof\\s+(\\w+)\\s*\\{([^}]*)\\}", Pattern.DOTALL);
 
+    public static final int MAX_FIELD_NUMBER = 536_870_911;
+
+    public static final int RESERVED_RANGE_EXPANSION_LIMIT = 1024;
+
     public static final String PROTO_EXTENSION = ".proto";
 
     public static final String GRPC_PATH_FORMAT = "/%s.%s/%s";
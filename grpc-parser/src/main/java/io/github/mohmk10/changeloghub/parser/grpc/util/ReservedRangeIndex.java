@@ -0,0 +1,105 @@
+package io.github.mohmk10.changeloghub.parser.grpc.util;
+
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoMessage;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoReservedRange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class ReservedRangeIndex {
+
+    private final int[] starts;
+    private final int[] ends;
+
+    private ReservedRangeIndex(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public static ReservedRangeIndex of(ProtoMessage message) {
+        List<ProtoReservedRange> ranges = new ArrayList<>(message.getReservedRanges());
+        for (Integer number : message.getReservedNumbers()) {
+            ranges.add(ProtoReservedRange.single(number));
+        }
+        return of(ranges);
+    }
+
+    public static ReservedRangeIndex of(List<ProtoReservedRange> ranges) {
+        ProtoReservedRange[] sorted = ranges.toArray(new ProtoReservedRange[0]);
+        Arrays.sort(sorted);
+
+        int[] starts = new int[sorted.length];
+        int[] ends = new int[sorted.length];
+        int count = 0;
+        for (ProtoReservedRange range : sorted) {
+            if (count > 0 && (long) range.getStart() <= (long) ends[count - 1] + 1) {
+                ends[count - 1] = Math.max(ends[count - 1], range.getEnd());
+            } else {
+                starts[count] = range.getStart();
+                ends[count] = range.getEnd();
+                count++;
+            }
+        }
+        return new ReservedRangeIndex(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    public boolean contains(int number) {
+        int index = floorIndex(number);
+        return index >= 0 && number <= ends[index];
+    }
+
+    public boolean covers(ProtoReservedRange range) {
+        int index = floorIndex(range.getStart());
+        return index >= 0 && range.getEnd() <= ends[index];
+    }
+
+    public List<ProtoReservedRange> getRanges() {
+        List<ProtoReservedRange> ranges = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            ranges.add(ProtoReservedRange.of(starts[i], ends[i]));
+        }
+        return ranges;
+    }
+
+    public List<ProtoReservedRange> difference(ReservedRangeIndex other) {
+        List<ProtoReservedRange> uncovered = new ArrayList<>();
+        for (int i = 0; i < starts.length; i++) {
+            long cursor = starts[i];
+            int j = Math.max(other.floorIndex(starts[i]), 0);
+            while (j < other.starts.length && other.starts[j] <= ends[i]) {
+                if (other.ends[j] >= cursor) {
+                    if (other.starts[j] > cursor) {
+                        uncovered.add(ProtoReservedRange.of((int) cursor, other.starts[j] - 1));
+                    }
+                    cursor = (long) other.ends[j] + 1;
+                }
+                j++;
+            }
+            if (cursor <= ends[i]) {
+                uncovered.add(ProtoReservedRange.of((int) cursor, ends[i]));
+            }
+        }
+        return uncovered;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    private int floorIndex(int number) {
+        int low = 0;
+        int high = starts.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= number) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+}
@@ -1,17 +1,28 @@
 package io.github.mohmk10.changeloghub.parser.grpc;
 
+import com.google.protobuf.DescriptorProtos.*;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.parser.grpc.analyzer.ProtoFileParser;
 import io.github.mohmk10.changeloghub.parser.grpc.exception.GrpcParseException;
+import io.github.mohmk10.changeloghub.parser.grpc.mapper.GrpcModelMapper;
 import io.github.mohmk10.changeloghub.parser.grpc.model.*;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoConstants;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldRule;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -567,4 +578,312 @@ class DefaultGrpcParserTest {
             assertEquals(5, stats.get("fields")); 
         }
     }
+
+    @Nested
+    @DisplayName("Proto File Set Tests")
+    class ProtoFileSetTests {
+
+        @TempDir
+        Path root;
+
+        private void write(String relativePath, String content) throws IOException {
+            Path file = root.resolve(relativePath);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content);
+        }
+
+        private void writeServiceTree(int serviceCount, String serviceDir) throws IOException {
+            write("common/common.proto", """
+                syntax = "proto3";
+                package acme.common;
+                message PageRequest { int32 page_size = 1; string page_token = 2; }
+                """);
+            write("common/reexport.proto", """
+                syntax = "proto3";
+                package acme.common;
+                import public "common/common.proto";
+                """);
+            for (int i = 0; i < serviceCount; i++) {
+                write(serviceDir + "svc" + i + ".proto", """
+                    syntax = "proto3";
+                    package acme.svc%1$d;
+                    import "common/reexport.proto";
+                    import "google/protobuf/empty.proto";
+                    message Reply { string value = 1; }
+                    service Service%1$d {
+                        rpc List(acme.common.PageRequest) returns (Reply);
+                    }
+                    """.formatted(i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should parse directory in parallel preserving path order")
+        void shouldParseDirectoryInParallel() throws IOException {
+            writeServiceTree(20, "services/");
+
+            List<ProtoFile> files = parser.parseDirectory(root.toFile(), true);
+
+            assertEquals(22, files.size());
+            assertEquals("common.proto", files.get(0).getFileName());
+        }
+
+        @Test
+        @DisplayName("Should resolve imports and link types across files")
+        void shouldResolveImportsAcrossFiles() throws IOException {
+            writeServiceTree(3, "services/");
+
+            ProtoFileSet fileSet = parser.parseFileSet(root.toFile(), true);
+
+            assertEquals(5, fileSet.size());
+            assertEquals(List.of("common/reexport.proto"), fileSet.getImports("services/svc0.proto"));
+            assertEquals(List.of("google/protobuf/empty.proto"), fileSet.getUnresolvedImports("services/svc0.proto"));
+            assertTrue(fileSet.getVisibleFiles("services/svc0.proto").contains("common/common.proto"));
+            assertEquals("acme.common.PageRequest",
+                    fileSet.resolveType("services/svc0.proto", "acme.svc0", "acme.common.PageRequest").orElseThrow());
+            assertEquals("acme.svc1.Reply",
+                    fileSet.resolveType("services/svc1.proto", "acme.svc1", "Reply").orElseThrow());
+            assertEquals("common/common.proto", fileSet.getDefiningFile(".acme.common.PageRequest").orElseThrow());
+
+            ApiSpec apiSpec = parser.toApiSpec(fileSet);
+            assertEquals(3, apiSpec.getEndpoints().size());
+            assertTrue(apiSpec.getEndpoints().get(0).getParameters().stream()
+                    .anyMatch(p -> "page_size".equals(p.getName())));
+        }
+
+        @Test
+        @DisplayName("Should parse a shared import only once")
+        void shouldParseSharedImportOnce() throws IOException {
+            writeServiceTree(50, "");
+            AtomicInteger commonParses = new AtomicInteger();
+            ProtoFileParser countingParser = new ProtoFileParser() {
+                @Override
+                public ProtoFile parse(String content, String fileName) {
+                    if ("common.proto".equals(fileName)) {
+                        commonParses.incrementAndGet();
+                    }
+                    return super.parse(content, fileName);
+                }
+            };
+            DefaultGrpcParser countingGrpcParser = new DefaultGrpcParser(countingParser, new GrpcModelMapper(), 4);
+
+            ProtoFileSet fileSet = countingGrpcParser.parseFileSet(root.toFile(), false);
+
+            assertEquals(1, commonParses.get());
+            assertEquals(52, fileSet.size());
+            assertTrue(fileSet.getFile("common/common.proto").isPresent());
+            assertEquals(50, fileSet.getImporters("common/reexport.proto").size());
+        }
+
+        @Test
+        @DisplayName("Should parse at most 'parallelism' files at a time")
+        void shouldBoundConcurrentParsesByParallelism() throws IOException {
+            writeServiceTree(40, "");
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            ProtoFileParser trackingParser = new ProtoFileParser() {
+                @Override
+                public ProtoFile parse(String content, String fileName) {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                        return super.parse(content, fileName);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            };
+
+            ProtoFileSet fileSet = new DefaultGrpcParser(trackingParser, new GrpcModelMapper(), 2)
+                    .parseFileSet(root.toFile(), false);
+
+            assertEquals(42, fileSet.size());
+            assertTrue(maxInFlight.get() <= 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Descriptor Set Tests")
+    class DescriptorSetTests {
+
+        @TempDir
+        Path tempDir;
+
+        private ProtoFileSet loadFixture() {
+            InputStream is = getClass().getClassLoader().getResourceAsStream("user_service_v1.desc");
+            assertNotNull(is, "Resource not found: user_service_v1.desc");
+            return parser.parseDescriptorSet(is);
+        }
+
+        @Test
+        @DisplayName("Should parse protoc descriptor set fixture")
+        void shouldParseDescriptorSetFixture() {
+            ProtoFile protoFile = loadFixture().getFile("user_service_v1.proto").orElseThrow();
+
+            assertEquals("proto3", protoFile.getSyntax());
+            assertEquals("com.example.user.v1", protoFile.getPackageName());
+            assertEquals("UserServiceProto", protoFile.getOption("java_outer_classname"));
+            assertEquals(14, protoFile.getMessages().size());
+            assertEquals(2, protoFile.getEnums().size());
+
+            ProtoRpcMethod watchUsers = protoFile.getService("UserService").orElseThrow()
+                    .getMethod("WatchUsers").orElseThrow();
+            assertEquals("com.example.user.v1.WatchUsersRequest", watchUsers.getInputType());
+            assertTrue(watchUsers.isServerStreaming());
+            assertFalse(watchUsers.isClientStreaming());
+
+            ProtoRpcMethod syncUsers = protoFile.getService("BulkUserService").orElseThrow()
+                    .getMethod("SyncUsers").orElseThrow();
+            assertTrue(syncUsers.isClientStreaming());
+            assertTrue(syncUsers.isServerStreaming());
+        }
+
+        @Test
+        @DisplayName("Should resolve field types from descriptors")
+        void shouldResolveFieldTypes() {
+            ProtoMessage user = loadFixture().getMessage("com.example.user.v1.User").orElseThrow();
+
+            ProtoField status = user.getField("status").orElseThrow();
+            assertEquals(ProtoFieldType.ENUM, status.getType());
+            assertEquals("com.example.user.v1.UserStatus", status.getTypeName());
+            assertEquals(ProtoFieldRule.SINGULAR, status.getRule());
+
+            ProtoField metadata = user.getField("metadata").orElseThrow();
+            assertTrue(metadata.isMap());
+            assertEquals("string", metadata.getMapKeyType().orElseThrow());
+            assertEquals("string", metadata.getMapValueType().orElseThrow());
+            assertTrue(user.getNestedMessages().isEmpty());
+
+            assertEquals(ProtoFieldRule.REPEATED, user.getField("roles").orElseThrow().getRule());
+            assertEquals(ProtoFieldType.INT64, user.getField("created_at").orElseThrow().getType());
+        }
+
+        @Test
+        @DisplayName("Should match field numbers of text-parsed proto")
+        void shouldMatchTextParsedProto() throws IOException {
+            ProtoFile fromDescriptor = loadFixture().getFile("user_service_v1.proto").orElseThrow();
+            ProtoFile fromText;
+            try (InputStream is = getClass().getClassLoader().getResourceAsStream("user_service_v1.proto")) {
+                fromText = parser.parseStream(is, "user_service_v1.proto");
+            }
+
+            assertEquals(fromText.getMessageNames(), fromDescriptor.getMessageNames());
+            assertEquals(fromText.getAllGrpcPaths(), fromDescriptor.getAllGrpcPaths());
+            for (ProtoMessage message : fromText.getMessages()) {
+                ProtoMessage compiled = fromDescriptor.getMessage(message.getName()).orElseThrow();
+                assertEquals(message.getFieldNumbers(), compiled.getFieldNumbers(), message.getName());
+                assertEquals(message.getFieldNames(), compiled.getFieldNames(), message.getName());
+            }
+        }
+
+        @Test
+        @DisplayName("Should link imports, reserved ranges and proto3 optional fields")
+        void shouldLinkMultiFileDescriptorSet() throws IOException {
+            FileDescriptorProto common = FileDescriptorProto.newBuilder()
+                    .setName("acme/common.proto")
+                    .setPackage("acme")
+                    .addMessageType(DescriptorProto.newBuilder()
+                            .setName("Page")
+                            .addField(field("size", 1, FieldDescriptorProto.Type.TYPE_INT32, null,
+                                    FieldDescriptorProto.Label.LABEL_REQUIRED))
+                            .addField(field("token", 2, FieldDescriptorProto.Type.TYPE_STRING, null,
+                                    FieldDescriptorProto.Label.LABEL_OPTIONAL).toBuilder().setDefaultValue("start"))
+                            .addReservedRange(DescriptorProto.ReservedRange.newBuilder().setStart(5).setEnd(8))
+                            .addReservedRange(DescriptorProto.ReservedRange.newBuilder()
+                                    .setStart(100).setEnd(ProtoConstants.MAX_FIELD_NUMBER + 1))
+                            .addReservedName("legacy"))
+                    .build();
+
+            FileDescriptorProto service = FileDescriptorProto.newBuilder()
+                    .setName("acme/orders.proto")
+                    .setPackage("acme.orders")
+                    .setSyntax("proto3")
+                    .addDependency("acme/common.proto")
+                    .addPublicDependency(0)
+                    .addMessageType(DescriptorProto.newBuilder()
+                            .setName("ListOrdersRequest")
+                            .addField(field("page", 1, FieldDescriptorProto.Type.TYPE_MESSAGE, ".acme.Page",
+                                    FieldDescriptorProto.Label.LABEL_OPTIONAL))
+                            .addField(field("filter", 2, FieldDescriptorProto.Type.TYPE_STRING, null,
+                                    FieldDescriptorProto.Label.LABEL_OPTIONAL).toBuilder()
+                                    .setProto3Optional(true).setOneofIndex(0))
+                            .addOneofDecl(OneofDescriptorProto.newBuilder().setName("_filter")))
+                    .addService(ServiceDescriptorProto.newBuilder()
+                            .setName("OrderService")
+                            .addMethod(MethodDescriptorProto.newBuilder()
+                                    .setName("ListOrders")
+                                    .setInputType(".acme.orders.ListOrdersRequest")
+                                    .setOutputType(".acme.Page")
+                                    .setOptions(MethodOptions.newBuilder().setDeprecated(true))))
+                    .build();
+
+            Path descriptorFile = tempDir.resolve("orders.desc");
+            Files.write(descriptorFile, FileDescriptorSet.newBuilder()
+                    .addFile(common)
+                    .addFile(service)
+                    .build()
+                    .toByteArray());
+
+            ProtoFileSet fileSet = parser.parseDescriptorSet(descriptorFile);
+
+            assertEquals(2, fileSet.size());
+            assertEquals(List.of("acme/common.proto"), fileSet.getPublicImports("acme/orders.proto"));
+            assertFalse(fileSet.hasUnresolvedImports());
+
+            ProtoMessage page = fileSet.getMessage("acme.Page").orElseThrow();
+            assertEquals("proto2", fileSet.getFile("acme/common.proto").orElseThrow().getSyntax());
+            assertTrue(page.getField("size").orElseThrow().isRequired());
+            assertEquals("start", page.getField("token").orElseThrow().getDefaultValue().orElseThrow());
+            assertTrue(page.isReserved(7));
+            assertFalse(page.isReserved(8));
+            assertTrue(page.isReserved(ProtoConstants.MAX_FIELD_NUMBER));
+            assertTrue(page.getReservedNumbers().contains(5));
+            assertTrue(page.isReserved("legacy"));
+
+            ProtoMessage request = fileSet.getMessage("acme.orders.ListOrdersRequest").orElseThrow();
+            ProtoField filter = request.getField("filter").orElseThrow();
+            assertEquals(ProtoFieldRule.OPTIONAL, filter.getRule());
+            assertFalse(filter.isPartOfOneof());
+            assertTrue(request.getOneofNames().isEmpty());
+
+            ProtoRpcMethod listOrders = fileSet.getFile("acme/orders.proto").orElseThrow()
+                    .getService("OrderService").orElseThrow()
+                    .getMethod("ListOrders").orElseThrow();
+            assertTrue(listOrders.isDeprecated());
+
+            ApiSpec apiSpec = parser.toApiSpec(fileSet);
+            assertEquals(1, apiSpec.getEndpoints().size());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid descriptor set bytes")
+        void shouldRejectInvalidDescriptorSet() {
+            InputStream is = new ByteArrayInputStream("not a descriptor".getBytes(StandardCharsets.UTF_8));
+
+            assertThrows(GrpcParseException.class, () -> parser.parseDescriptorSet(is));
+        }
+
+        @Test
+        @DisplayName("Should throw for missing descriptor set file")
+        void shouldThrowForMissingDescriptorSetFile() {
+            assertThrows(GrpcParseException.class,
+                    () -> parser.parseDescriptorSet(tempDir.resolve("missing.desc")));
+        }
+
+        private FieldDescriptorProto field(String name, int number, FieldDescriptorProto.Type type,
+                                           String typeName, FieldDescriptorProto.Label label) {
+            FieldDescriptorProto.Builder builder = FieldDescriptorProto.newBuilder()
+                    .setName(name)
+                    .setNumber(number)
+                    .setType(type)
+                    .setLabel(label);
+            if (typeName != null) {
+                builder.setTypeName(typeName);
+            }
+            return builder.build();
+        }
+    }
 }
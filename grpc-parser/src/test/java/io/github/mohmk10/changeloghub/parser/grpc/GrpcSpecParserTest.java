@@ -0,0 +1,63 @@
+package io.github.mohmk10.changeloghub.parser.grpc;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import io.github.mohmk10.changeloghub.core.parser.SpecParser;
+import io.github.mohmk10.changeloghub.core.parser.SpecParserRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GrpcSpecParser Tests")
+class GrpcSpecParserTest {
+
+    private static final String PROTO = """
+            syntax = "proto3";
+            package demo;
+
+            service UserService {
+              rpc GetUser (GetUserRequest) returns (User);
+            }
+
+            message GetUserRequest {
+              string id = 1;
+            }
+
+            message User {
+              string id = 1;
+              string name = 2;
+            }
+            """;
+
+    private final GrpcSpecParser parser = new GrpcSpecParser();
+
+    @Test
+    @DisplayName("Should detect proto content by syntax declaration")
+    void shouldDetectBySyntax() {
+        assertEquals(SpecParser.STRONG_MATCH, parser.detect(PROTO, null));
+        assertEquals(SpecParser.LIKELY_MATCH, parser.detect("// empty", "user.proto"));
+        assertEquals(SpecParser.NO_MATCH, parser.detect("openapi: 3.0.0", "api.yaml"));
+    }
+
+    @Test
+    @DisplayName("Should parse proto content into an ApiSpec")
+    void shouldParseToApiSpec() {
+        ApiSpec spec = parser.parse(PROTO, "user.proto");
+
+        assertEquals(ApiType.GRPC, spec.getType());
+        assertFalse(spec.getEndpoints().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should be discovered through the service loader")
+    void shouldBeDiscoveredByRegistry() {
+        SpecParserRegistry registry = SpecParserRegistry.load(getClass().getClassLoader());
+
+        assertTrue(registry.supports(ApiType.GRPC));
+        assertEquals(Optional.of(ApiType.GRPC), registry.detect(PROTO, null));
+        assertEquals(ApiType.GRPC, registry.parse(PROTO).getType());
+    }
+}
@@ -0,0 +1,281 @@
+package io.github.mohmk10.changeloghub.parser.grpc.analyzer;
+
+import io.github.mohmk10.changeloghub.parser.grpc.exception.GrpcParseException;
+import io.github.mohmk10.changeloghub.parser.grpc.model.*;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoConstants;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldRule;
+import io.github.mohmk10.changeloghub.parser.grpc.util.ProtoFieldType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProtoFileParser Tests")
+class ProtoFileParserTest {
+
+    private ProtoFileParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new ProtoFileParser();
+    }
+
+    @Nested
+    @DisplayName("Declaration Parsing")
+    class DeclarationParsing {
+
+        @Test
+        @DisplayName("Should parse nested messages and enums with full names")
+        void shouldParseNestedTypesWithFullNames() {
+            String content = """
+                syntax = "proto3";
+                package acme.v1;
+
+                message Outer {
+                    message Middle {
+                        message Inner { int32 value = 1; }
+                        Inner inner = 1;
+                    }
+                    enum Kind { KIND_UNSPECIFIED = 0; }
+                    Middle middle = 1;
+                    Kind kind = 2;
+                }
+                """;
+
+            ProtoFile file = parser.parse(content, "outer.proto");
+
+            assertEquals(1, file.getMessages().size());
+            ProtoMessage outer = file.getMessage("Outer").orElseThrow();
+            assertEquals("acme.v1.Outer", outer.getFullName());
+            assertEquals(2, outer.getFields().size());
+
+            ProtoMessage middle = outer.getNestedMessage("Middle").orElseThrow();
+            assertEquals("acme.v1.Outer.Middle", middle.getFullName());
+            assertEquals("acme.v1.Outer.Middle.Inner",
+                    middle.getNestedMessage("Inner").orElseThrow().getFullName());
+            assertEquals("acme.v1.Outer.Kind", outer.getNestedEnum("Kind").orElseThrow().getFullName());
+            assertTrue(file.getEnums().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should parse oneof, map and option-annotated fields")
+        void shouldParseFieldVariants() {
+            String content = """
+                syntax = "proto2";
+                message Payload {
+                    optional string id = 1 [default = "none", deprecated = true];
+                    map<string, google.protobuf.Any> extras = 2;
+                    oneof body {
+                        string text = 3;
+                        bytes raw = 4 [(acme.sensitive) = true];
+                    }
+                    option deprecated = true;
+                }
+                """;
+
+            ProtoMessage payload = parser.parse(content, null).getMessage("Payload").orElseThrow();
+
+            ProtoField id = payload.getField("id").orElseThrow();
+            assertEquals(ProtoFieldRule.OPTIONAL, id.getRule());
+            assertTrue(id.isDeprecated());
+            assertEquals("none", id.getDefaultValue().orElseThrow());
+
+            ProtoField extras = payload.getField("extras").orElseThrow();
+            assertTrue(extras.isMap());
+            assertEquals("google.protobuf.Any", extras.getMapValueType().orElseThrow());
+
+            assertEquals(2, payload.getOneofFields("body").size());
+            assertEquals("true", payload.getField("raw").orElseThrow().getOption("acme.sensitive"));
+            assertTrue(payload.isDeprecated());
+        }
+
+        @Test
+        @DisplayName("Should parse reserved numbers, ranges and names")
+        void shouldParseReserved() {
+            String content = """
+                syntax = "proto3";
+                message Legacy {
+                    reserved 2, 9 to 11, 1000 to max;
+                    reserved "old_name", "older_name";
+                    string name = 1;
+                }
+                """;
+
+            ProtoMessage legacy = parser.parse(content, null).getMessage("Legacy").orElseThrow();
+
+            assertEquals(3, legacy.getReservedRanges().size());
+            assertTrue(legacy.getReservedNumbers().containsAll(Set.of(2, 9, 10, 11)));
+            assertFalse(legacy.getReservedNumbers().contains(1000));
+            assertTrue(legacy.isReserved(1000));
+            assertTrue(legacy.isReserved(ProtoConstants.MAX_FIELD_NUMBER));
+            assertFalse(legacy.isReserved(12));
+            assertTrue(legacy.getReservedNames().contains("older_name"));
+        }
+
+        @Test
+        @DisplayName("Should parse services with qualified types and options")
+        void shouldParseServices() {
+            String content = """
+                syntax = "proto3";
+                package acme.v1;
+                import "google/protobuf/empty.proto";
+
+                service Admin {
+                    option deprecated = true;
+                    rpc Ping(google.protobuf.Empty) returns (google.protobuf.Empty);
+                    rpc Tail(stream .acme.v1.Line) returns (stream .acme.v1.Line) {
+                        option (google.api.http) = { post: "/v1/tail" body: "*" };
+                    };
+                }
+                """;
+
+            ProtoService admin = parser.parse(content, null).getService("Admin").orElseThrow();
+
+            assertEquals("acme.v1.Admin", admin.getFullName());
+            assertTrue(admin.isDeprecated());
+            assertEquals("google.protobuf.Empty", admin.getMethod("Ping").orElseThrow().getInputType());
+
+            ProtoRpcMethod tail = admin.getMethod("Tail").orElseThrow();
+            assertTrue(tail.isClientStreaming());
+            assertTrue(tail.isServerStreaming());
+            assertTrue(tail.getOption("google.api.http").contains("\"/v1/tail\""));
+        }
+
+        @Test
+        @DisplayName("Should keep comment markers inside string literals")
+        void shouldKeepCommentMarkersInStrings() {
+            String content = """
+                syntax = "proto3";
+                option go_package = "example.com/acme//v1;acme"; // trailing
+                /* block */ message Empty {}
+                """;
+
+            ProtoFile file = parser.parse(content, null);
+
+            assertEquals("example.com/acme//v1;acme", file.getOption("go_package"));
+            assertTrue(file.hasMessage("Empty"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Reporting")
+    class ErrorReporting {
+
+        @Test
+        @DisplayName("Should report line and column of unexpected token")
+        void shouldReportLocationOfUnexpectedToken() {
+            String content = """
+                syntax = "proto3";
+                message User {
+                    string name = ;
+                }
+                """;
+
+            GrpcParseException e = assertThrows(GrpcParseException.class, () -> parser.parse(content, null));
+
+            assertEquals(3, e.getLine());
+            assertEquals(19, e.getColumn());
+            assertTrue(e.getMessage().contains("line 3, column 19"));
+        }
+
+        @Test
+        @DisplayName("Should report unterminated block")
+        void shouldReportUnterminatedBlock() {
+            String content = """
+                syntax = "proto3";
+                message User {
+                    string name = 1;
+                """;
+
+            GrpcParseException e = assertThrows(GrpcParseException.class, () -> parser.parse(content, null));
+
+            assertTrue(e.hasLocation());
+            assertTrue(e.getMessage().contains("end of file"));
+        }
+
+        @Test
+        @DisplayName("Should report location of an inverted reserved range end")
+        void shouldReportLocationOfInvertedReservedRange() {
+            String content = """
+                syntax = "proto3";
+                message User {
+                    reserved 10 to 5;
+                    string name = 1;
+                }
+                """;
+
+            GrpcParseException e = assertThrows(GrpcParseException.class, () -> parser.parse(content, null));
+
+            assertEquals(3, e.getLine());
+            assertEquals(20, e.getColumn());
+            assertTrue(e.getMessage().contains("Reserved range end 5 is before start 10"));
+        }
+
+        @Test
+        @DisplayName("Should report unterminated string literal")
+        void shouldReportUnterminatedString() {
+            GrpcParseException e = assertThrows(GrpcParseException.class,
+                    () -> parser.parse("syntax = \"proto3;\n", null));
+
+            assertEquals(1, e.getLine());
+            assertEquals(10, e.getColumn());
+        }
+    }
+
+    @Nested
+    @DisplayName("Large Generated Files")
+    class LargeGeneratedFiles {
+
+        @Test
+        @DisplayName("Should parse a large generated proto in a single pass")
+        void shouldParseLargeGeneratedProto() {
+            int messageCount = 5_000;
+            int fieldsPerMessage = 40;
+            String content = generateProto(messageCount, fieldsPerMessage);
+
+            ProtoFile file = parser.parse(content, "generated.proto");
+
+            assertEquals(messageCount, file.getMessages().size());
+            assertEquals(messageCount * fieldsPerMessage, file.getStatistics().get("fields"));
+            ProtoMessage last = file.getMessage("Message" + (messageCount - 1)).orElseThrow();
+            assertEquals(ProtoFieldType.MESSAGE, last.getField("nested_0").orElseThrow().getType());
+            assertEquals(1, last.getNestedMessages().size());
+            assertEquals(1, last.getReservedRanges().size());
+            assertEquals(messageCount, file.getService("GeneratedService").orElseThrow().getMethodCount());
+        }
+
+        private String generateProto(int messageCount, int fieldsPerMessage) {
+            StringBuilder sb = new StringBuilder("syntax = \"proto3\";\npackage bench.generated;\n\n");
+            for (int m = 0; m < messageCount; m++) {
+                sb.append("// Generated message ").append(m).append('\n');
+                sb.append("message Message").append(m).append(" {\n");
+                sb.append("  message Nested { string value = 1; }\n");
+                sb.append("  reserved 1000 to 1010;\n");
+                for (int f = 0; f < fieldsPerMessage; f++) {
+                    if (f % 4 == 0) {
+                        sb.append("  Nested nested_").append(f).append(" = ").append(f + 1).append(";\n");
+                    } else if (f % 4 == 1) {
+                        sb.append("  repeated string tags_").append(f).append(" = ").append(f + 1).append(";\n");
+                    } else if (f % 4 == 2) {
+                        sb.append("  map<string, int64> counters_").append(f).append(" = ").append(f + 1).append(";\n");
+                    } else {
+                        sb.append("  int64 value_").append(f).append(" = ").append(f + 1)
+                                .append(" [deprecated = true];\n");
+                    }
+                }
+                sb.append("}\n\n");
+            }
+            sb.append("service GeneratedService {\n");
+            for (int m = 0; m < messageCount; m++) {
+                sb.append("  rpc Call").append(m).append("(Message").append(m)
+                        .append(") returns (Message").append(m).append(");\n");
+            }
+            sb.append("}\n");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.mohmk10.changeloghub.parser.grpc.comparator;
+
+import io.github.mohmk10.changeloghub.core.model.BreakingChange;
+import io.github.mohmk10.changeloghub.core.model.ChangeCategory;
+import io.github.mohmk10.changeloghub.core.model.ChangeType;
+import io.github.mohmk10.changeloghub.core.model.Severity;
+import io.github.mohmk10.changeloghub.parser.grpc.DefaultGrpcParser;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoField;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoMessage;
+import io.github.mohmk10.changeloghub.parser.grpc.model.ProtoReservedRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FieldNumberComparator Tests")
+class FieldNumberComparatorTest {
+
+    private FieldNumberComparator comparator;
+    private DefaultGrpcParser parser;
+
+    @BeforeEach
+    void setUp() {
+        comparator = new FieldNumberComparator();
+        parser = new DefaultGrpcParser();
+    }
+
+    private List<BreakingChange> compare(String oldBody, String newBody) {
+        ProtoMessage oldMessage = parser.parse("syntax = \"proto3\";\nmessage M {\n" + oldBody + "\n}")
+                .getMessage("M").orElseThrow();
+        ProtoMessage newMessage = parser.parse("syntax = \"proto3\";\nmessage M {\n" + newBody + "\n}")
+                .getMessage("M").orElseThrow();
+        return comparator.compareFields(oldMessage, newMessage, "M");
+    }
+
+    @Nested
+    @DisplayName("Wire Compatibility")
+    class WireCompatibility {
+
+        @Test
+        @DisplayName("Should report no changes for identical fields")
+        void shouldReportNoChangesForIdenticalFields() {
+            String body = "string id = 1; int32 count = 2; reserved 5 to 9;";
+
+            assertTrue(compare(body, body).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should treat same number and type with new name as rename")
+        void shouldDetectRename() {
+            List<BreakingChange> changes = compare("string user_id = 1;", "string id = 1;");
+
+            assertEquals(1, changes.size());
+            assertEquals(Severity.DANGEROUS, changes.get(0).getSeverity());
+            assertTrue(changes.get(0).getDescription().contains("renamed"));
+        }
+
+        @Test
+        @DisplayName("Should detect number reuse with different type")
+        void shouldDetectNumberReuse() {
+            List<BreakingChange> changes = compare("string email = 2;", "int64 created_at = 2;");
+
+            assertEquals(1, changes.size());
+            assertEquals(ChangeCategory.FIELD_NUMBER, changes.get(0).getCategory());
+            assertEquals(Severity.BREAKING, changes.get(0).getSeverity());
+        }
+
+        @Test
+        @DisplayName("Should detect number freed by a moved field and taken by a new one")
+        void shouldDetectNumberTakenAfterMove() {
+            List<BreakingChange> changes = compare("string name = 1;", "string name = 2; string alias = 1;");
+
+            assertTrue(changes.stream().anyMatch(c -> c.getDescription().contains("changed from 1 to 2")));
+            assertTrue(changes.stream().anyMatch(c -> c.getDescription().contains("Field number 1 reused")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reserved Ranges")
+    class ReservedRanges {
+
+        @Test
+        @DisplayName("Should flag removal without reservation")
+        void shouldFlagUnreservedRemoval() {
+            List<BreakingChange> changes = compare("string id = 1; string legacy = 2;", "string id = 1;");
+
+            assertEquals(2, changes.size());
+            assertTrue(changes.stream().anyMatch(c -> c.getType() == ChangeType.REMOVED));
+            assertTrue(changes.stream().anyMatch(c -> c.getSeverity() == Severity.WARNING
+                    && c.getDescription().contains("not reserved")));
+        }
+
+        @Test
+        @DisplayName("Should accept removal covered by a reserved range")
+        void shouldAcceptReservedRemoval() {
+            List<BreakingChange> changes = compare("string id = 1; string legacy = 20;",
+                    "string id = 1; reserved 10 to max;");
+
+            assertEquals(1, changes.size());
+            assertEquals(ChangeType.REMOVED, changes.get(0).getType());
+        }
+
+        @Test
+        @DisplayName("Should detect field added inside old reserved range")
+        void shouldDetectReservedNumberReuse() {
+            List<BreakingChange> changes = compare("string id = 1; reserved 100 to max;",
+                    "string id = 1; string extra = 5000;");
+
+            assertTrue(changes.stream().anyMatch(c -> c.getSeverity() == Severity.BREAKING
+                    && c.getDescription().contains("reserved field number 5000")));
+            assertTrue(changes.stream().anyMatch(c -> c.getType() == ChangeType.REMOVED
+                    && c.getOldValue().equals("100 to 536870911")));
+        }
+
+        @Test
+        @DisplayName("Should detect field added with reserved name")
+        void shouldDetectReservedNameReuse() {
+            List<BreakingChange> changes = compare("string id = 1; reserved \"legacy\";",
+                    "string id = 1; string legacy = 2; reserved \"legacy\";");
+
+            assertEquals(1, changes.size());
+            assertEquals(Severity.DANGEROUS, changes.get(0).getSeverity());
+        }
+    }
+
+    @Nested
+    @DisplayName("Large Messages")
+    class LargeMessages {
+
+        @Test
+        @DisplayName("Should compare wide messages with many reserved ranges")
+        void shouldCompareWideMessages() {
+            ProtoMessage.Builder oldBuilder = ProtoMessage.builder("Wide");
+            ProtoMessage.Builder newBuilder = ProtoMessage.builder("Wide");
+            for (int i = 1; i <= 20_000; i++) {
+                ProtoField field = ProtoField.builder("field_" + i, i, "string").build();
+                oldBuilder.field(field);
+                newBuilder.field(i == 20_000 ? ProtoField.builder("field_" + i, i, "bytes").build() : field);
+            }
+            for (int i = 0; i < 20_000; i++) {
+                ProtoReservedRange range = ProtoReservedRange.of(100_000 + i * 10, 100_000 + i * 10 + 4);
+                oldBuilder.reservedRange(range);
+                newBuilder.reservedRange(range);
+            }
+            ProtoMessage oldMessage = oldBuilder.build();
+            ProtoMessage newMessage = newBuilder.build();
+
+            List<BreakingChange> changes = comparator.compareFields(oldMessage, newMessage, "Wide");
+
+            assertEquals(1, changes.size());
+            assertEquals("Wide.field_20000", changes.get(0).getPath());
+        }
+    }
+}
@@ -306,6 +306,51 @@ class ProtoComparatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Reservation Change Detection")
+    class ReservationChangeDetection {
+
+        private List<BreakingChange> reservationChanges(String oldBody, String newBody) {
+            ProtoFile oldFile = parser.parse("syntax = \"proto3\";\npackage test;\nmessage User {\n" + oldBody + "\n}");
+            ProtoFile newFile = parser.parse("syntax = \"proto3\";\npackage test;\nmessage User {\n" + newBody + "\n}");
+
+            return comparator.compare(oldFile, newFile).stream()
+                    .filter(c -> c.getPath().endsWith(".reserved") && c.getType() == ChangeType.MODIFIED)
+                    .toList();
+        }
+
+        @Test
+        @DisplayName("Should detect newly reserved open-ended range")
+        void shouldDetectNewlyReservedOpenEndedRange() {
+            List<BreakingChange> changes = reservationChanges("string id = 1;",
+                    "string id = 1; reserved 1000 to max;");
+
+            assertEquals(1, changes.size());
+            assertEquals(Severity.INFO, changes.get(0).getSeverity());
+            assertEquals("Field numbers 1000 to 536870911 added to reserved list", changes.get(0).getDescription());
+        }
+
+        @Test
+        @DisplayName("Should report only the part of a widened range that is new")
+        void shouldReportOnlyNewlyReservedPart() {
+            List<BreakingChange> changes = reservationChanges("string id = 1; reserved 5, 100 to 200;",
+                    "string id = 1; reserved 5 to 6, 50 to max;");
+
+            assertEquals(List.of("Field number 6 added to reserved list",
+                            "Field numbers 50 to 99 added to reserved list",
+                            "Field numbers 201 to 536870911 added to reserved list"),
+                    changes.stream().map(BreakingChange::getDescription).toList());
+        }
+
+        @Test
+        @DisplayName("Should ignore unchanged reservations")
+        void shouldIgnoreUnchangedReservations() {
+            String body = "string id = 1; reserved 2, 10 to max;";
+
+            assertTrue(reservationChanges(body, body).isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("Field Change Detection")
     class FieldChangeDetection {
@@ -0,0 +1,63 @@
+package io.github.mohmk10.changeloghub.parser.openapi;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import io.github.mohmk10.changeloghub.core.parser.SpecParser;
+import io.github.mohmk10.changeloghub.parser.openapi.impl.DefaultOpenApiParser;
+import io.github.mohmk10.changeloghub.parser.openapi.util.OpenApiVersionDetector;
+
+import java.util.Locale;
+
+public class OpenApiSpecParser implements SpecParser {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private final OpenApiParser parser;
+
+    public OpenApiSpecParser() {
+        this(new DefaultOpenApiParser());
+    }
+
+    public OpenApiSpecParser(OpenApiParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public String getName() {
+        return "openapi";
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public ApiType getApiType() {
+        return ApiType.REST;
+    }
+
+    @Override
+    public int detect(String prefix, String fileName) {
+        if (OpenApiVersionDetector.isSupported(OpenApiVersionDetector.detect(prefix))) {
+            return STRONG_MATCH;
+        }
+        if (fileName != null) {
+            String lowerName = fileName.toLowerCase(Locale.ROOT);
+            if (lowerName.contains("openapi") || lowerName.contains("swagger")) {
+                return WEAK_MATCH;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    @Override
+    public ApiSpec parse(String content, String fileName) {
+        return parser.parse(content);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+}
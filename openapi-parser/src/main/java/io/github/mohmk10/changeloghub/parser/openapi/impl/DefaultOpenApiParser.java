@@ -7,6 +7,7 @@ import io.github.mohmk10.changeloghub.parser.openapi.exception.UnsupportedVersio
 import io.github.mohmk10.changeloghub.parser.openapi.mapper.OpenApiModelMapper;
 import io.github.mohmk10.changeloghub.parser.openapi.util.OpenApiVersion;
 import io.github.mohmk10.changeloghub.parser.openapi.util.OpenApiVersionDetector;
+import io.github.mohmk10.changeloghub.parser.openapi.util.ParsedSpecCache;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
@@ -27,17 +28,22 @@ public class DefaultOpenApiParser implements OpenApiParser {
     private final OpenApiModelMapper modelMapper;
     private final SwaggerV2Adapter swaggerAdapter;
     private final OpenAPIV3Parser openApiV3Parser;
+    private final ParsedSpecCache swagger2Cache;
 
     public DefaultOpenApiParser() {
-        this.modelMapper = new OpenApiModelMapper();
-        this.swaggerAdapter = new SwaggerV2Adapter();
-        this.openApiV3Parser = new OpenAPIV3Parser();
+        this(new OpenApiModelMapper(), new SwaggerV2Adapter());
     }
 
     public DefaultOpenApiParser(OpenApiModelMapper modelMapper, SwaggerV2Adapter swaggerAdapter) {
+        this(modelMapper, swaggerAdapter, new ParsedSpecCache());
+    }
+
+    public DefaultOpenApiParser(OpenApiModelMapper modelMapper, SwaggerV2Adapter swaggerAdapter,
+                                ParsedSpecCache swagger2Cache) {
         this.modelMapper = modelMapper;
         this.swaggerAdapter = swaggerAdapter;
         this.openApiV3Parser = new OpenAPIV3Parser();
+        this.swagger2Cache = swagger2Cache;
     }
 
     @Override
@@ -53,10 +59,18 @@ public class DefaultOpenApiParser implements OpenApiParser {
             throw new UnsupportedVersionException(version);
         }
 
-        OpenAPI openApi = parseContent(content, version);
+        if (version == OpenApiVersion.SWAGGER_2_0) {
+            return swagger2Cache.getOrParse(content, this::parseSwagger2);
+        }
+
+        OpenAPI openApi = parseOpenApi3(content);
         return modelMapper.map(openApi);
     }
 
+    public ParsedSpecCache getSwagger2Cache() {
+        return swagger2Cache;
+    }
+
     @Override
     public ApiSpec parseFile(Path filePath) throws OpenApiParseException {
         if (filePath == null) {
@@ -117,19 +131,11 @@ public class DefaultOpenApiParser implements OpenApiParser {
         return OpenApiVersionDetector.isSupported(version);
     }
 
-    private OpenAPI parseContent(String content, OpenApiVersion version) throws OpenApiParseException {
-        if (version == OpenApiVersion.SWAGGER_2_0) {
-            return parseSwagger2(content);
-        } else {
-            return parseOpenApi3(content);
-        }
-    }
-
-    private OpenAPI parseSwagger2(String content) throws OpenApiParseException {
-        Optional<OpenAPI> converted = swaggerAdapter.convert(content);
+    private ApiSpec parseSwagger2(String content) throws OpenApiParseException {
+        Optional<ApiSpec> mapped = swaggerAdapter.toApiSpec(content);
 
-        if (converted.isPresent()) {
-            return converted.get();
+        if (mapped.isPresent()) {
+            return mapped.get();
         }
 
         throw new OpenApiParseException("Failed to parse Swagger 2.0 content");
@@ -1,7 +1,11 @@
 package io.github.mohmk10.changeloghub.parser.openapi.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.parser.openapi.mapper.Swagger2ModelMapper;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.converter.SwaggerConverter;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
@@ -11,9 +15,19 @@ import java.util.Optional;
 public class SwaggerV2Adapter {
 
     private final SwaggerConverter converter;
+    private final Swagger2ModelMapper directMapper;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper yamlMapper;
 
     public SwaggerV2Adapter() {
+        this(new Swagger2ModelMapper());
+    }
+
+    public SwaggerV2Adapter(Swagger2ModelMapper directMapper) {
         this.converter = new SwaggerConverter();
+        this.directMapper = directMapper;
+        this.jsonMapper = new ObjectMapper();
+        this.yamlMapper = new ObjectMapper(new YAMLFactory());
     }
 
     public Optional<OpenAPI> convert(String content) {
@@ -33,6 +47,19 @@ public class SwaggerV2Adapter {
         }
     }
 
+    public Optional<ApiSpec> toApiSpec(String content) {
+        try {
+            String trimmed = content.stripLeading();
+            JsonNode root = trimmed.startsWith("{") ? jsonMapper.readTree(trimmed) : yamlMapper.readTree(content);
+            if (root == null || !root.isObject() || !root.has("swagger")) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(directMapper.map(root));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
     public boolean isSwagger2(String content) {
         if (content == null) {
             return false;
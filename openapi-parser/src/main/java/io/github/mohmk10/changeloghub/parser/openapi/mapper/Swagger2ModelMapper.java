@@ -0,0 +1,235 @@
+package io.github.mohmk10.changeloghub.parser.openapi.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.ApiType;
+import io.github.mohmk10.changeloghub.core.model.Endpoint;
+import io.github.mohmk10.changeloghub.core.model.HttpMethod;
+import io.github.mohmk10.changeloghub.core.model.Parameter;
+import io.github.mohmk10.changeloghub.core.model.ParameterLocation;
+import io.github.mohmk10.changeloghub.core.model.RequestBody;
+import io.github.mohmk10.changeloghub.core.model.Response;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Swagger2ModelMapper {
+
+    private static final String DEFAULT_MEDIA_TYPE = "*/*";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final String FORM_MEDIA_TYPE = "application/x-www-form-urlencoded";
+    private static final String MULTIPART_MEDIA_TYPE = "multipart/form-data";
+
+    private static final List<Map.Entry<String, HttpMethod>> METHODS = List.of(
+            Map.entry("get", HttpMethod.GET),
+            Map.entry("post", HttpMethod.POST),
+            Map.entry("put", HttpMethod.PUT),
+            Map.entry("delete", HttpMethod.DELETE),
+            Map.entry("patch", HttpMethod.PATCH),
+            Map.entry("head", HttpMethod.HEAD),
+            Map.entry("options", HttpMethod.OPTIONS)
+    );
+
+    public ApiSpec map(JsonNode root) {
+        if (root == null || !root.isObject()) {
+            return null;
+        }
+
+        ApiSpec.Builder builder = ApiSpec.builder()
+                .type(ApiType.REST);
+
+        JsonNode info = root.path("info");
+        builder.name(textOr(info.path("title"), "Unknown API"));
+        builder.version(textOr(info.path("version"), "0.0.0"));
+        if (info.hasNonNull("description")) {
+            builder.addMetadata("description", info.get("description").asText());
+        }
+
+        JsonNode paths = root.path("paths");
+        Iterator<Map.Entry<String, JsonNode>> fields = paths.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            for (Endpoint endpoint : mapPath(root, entry.getKey(), entry.getValue())) {
+                builder.addEndpoint(endpoint);
+            }
+        }
+
+        return builder.build();
+    }
+
+    private List<Endpoint> mapPath(JsonNode root, String path, JsonNode pathItem) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        if (!pathItem.isObject()) {
+            return endpoints;
+        }
+
+        JsonNode commonParams = pathItem.path("parameters");
+        for (Map.Entry<String, HttpMethod> method : METHODS) {
+            JsonNode operation = pathItem.get(method.getKey());
+            if (operation != null && operation.isObject()) {
+                endpoints.add(mapOperation(root, path, method.getValue(), operation, commonParams));
+            }
+        }
+        return endpoints;
+    }
+
+    private Endpoint mapOperation(JsonNode root, String path, HttpMethod method, JsonNode operation,
+                                  JsonNode commonParams) {
+        Endpoint.Builder builder = Endpoint.builder()
+                .path(path)
+                .method(method)
+                .operationId(text(operation.get("operationId")))
+                .summary(text(operation.get("summary")))
+                .deprecated(operation.path("deprecated").asBoolean(false));
+
+        Map<String, JsonNode> merged = new LinkedHashMap<>();
+        for (JsonNode params : List.of(commonParams, operation.path("parameters"))) {
+            for (JsonNode param : params) {
+                JsonNode resolved = resolve(root, param);
+                merged.put(resolved.path("name").asText("") + ":" + resolved.path("in").asText(""), resolved);
+            }
+        }
+
+        List<JsonNode> bodyParams = new ArrayList<>();
+        List<JsonNode> formParams = new ArrayList<>();
+        for (JsonNode resolved : merged.values()) {
+            String in = resolved.path("in").asText("");
+            if ("body".equals(in)) {
+                bodyParams.add(resolved);
+            } else if ("formData".equals(in)) {
+                formParams.add(resolved);
+            } else {
+                builder.addParameter(mapParameter(resolved));
+            }
+        }
+
+        List<String> consumes = mediaTypes(operation.get("consumes"), root.get("consumes"));
+        if (!bodyParams.isEmpty()) {
+            JsonNode body = bodyParams.get(bodyParams.size() - 1);
+            builder.requestBody(new RequestBody(
+                    preferredMediaType(consumes, DEFAULT_MEDIA_TYPE),
+                    schemaName(body.get("schema")),
+                    body.path("required").asBoolean(false)));
+        } else if (!formParams.isEmpty()) {
+            boolean multipart = formParams.stream().anyMatch(param -> "file".equals(param.path("type").asText()));
+            String fallback = multipart ? MULTIPART_MEDIA_TYPE : FORM_MEDIA_TYPE;
+            builder.requestBody(new RequestBody(
+                    consumes.isEmpty() ? fallback : preferredMediaType(consumes, fallback),
+                    "object",
+                    formParams.stream().anyMatch(param -> param.path("required").asBoolean(false))));
+        }
+
+        List<String> produces = mediaTypes(operation.get("produces"), root.get("produces"));
+        Iterator<Map.Entry<String, JsonNode>> responses = operation.path("responses").fields();
+        while (responses.hasNext()) {
+            Map.Entry<String, JsonNode> entry = responses.next();
+            builder.addResponse(mapResponse(root, entry.getKey(), entry.getValue(), produces));
+        }
+
+        return builder.build();
+    }
+
+    private Parameter mapParameter(JsonNode param) {
+        JsonNode defaultValue = param.get("default");
+        return new Parameter(
+                text(param.get("name")),
+                mapLocation(param.path("in").asText(null)),
+                textOr(param.path("type"), "string"),
+                param.path("required").asBoolean(false),
+                defaultValue != null && !defaultValue.isNull() ? defaultValue.asText() : null,
+                text(param.get("description"))
+        );
+    }
+
+    private Response mapResponse(JsonNode root, String statusCode, JsonNode response, List<String> produces) {
+        JsonNode resolved = resolve(root, response);
+        JsonNode schema = resolved.get("schema");
+        String schemaName = schemaName(schema);
+        boolean hasContent = schema != null && schema.isObject();
+        return new Response(
+                statusCode,
+                text(resolved.get("description")),
+                hasContent ? preferredMediaType(produces, DEFAULT_MEDIA_TYPE) : null,
+                hasContent ? schemaName : null
+        );
+    }
+
+    private ParameterLocation mapLocation(String in) {
+        if (in == null) {
+            return ParameterLocation.QUERY;
+        }
+
+        switch (in.toLowerCase()) {
+            case "path":
+                return ParameterLocation.PATH;
+            case "header":
+                return ParameterLocation.HEADER;
+            default:
+                return ParameterLocation.QUERY;
+        }
+    }
+
+    private JsonNode resolve(JsonNode root, JsonNode node) {
+        JsonNode current = node;
+        for (int depth = 0; depth < 8 && current.hasNonNull("$ref"); depth++) {
+            String ref = current.get("$ref").asText();
+            if (!ref.startsWith("#/")) {
+                return current;
+            }
+            JsonNode target = root.at(ref.substring(1));
+            if (target.isMissingNode()) {
+                return current;
+            }
+            current = target;
+        }
+        return current;
+    }
+
+    private String schemaName(JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            return null;
+        }
+        if (schema.hasNonNull("$ref")) {
+            return extractRefName(schema.get("$ref").asText());
+        }
+        return text(schema.get("type"));
+    }
+
+    private List<String> mediaTypes(JsonNode operationTypes, JsonNode globalTypes) {
+        JsonNode types = operationTypes != null && operationTypes.isArray() ? operationTypes : globalTypes;
+        List<String> result = new ArrayList<>();
+        if (types != null && types.isArray()) {
+            for (JsonNode type : types) {
+                result.add(type.asText());
+            }
+        }
+        return result;
+    }
+
+    private String preferredMediaType(List<String> mediaTypes, String fallback) {
+        if (mediaTypes.isEmpty()) {
+            return fallback;
+        }
+        return mediaTypes.contains(JSON_MEDIA_TYPE) ? JSON_MEDIA_TYPE : mediaTypes.get(0);
+    }
+
+    private String extractRefName(String ref) {
+        int lastSlash = ref.lastIndexOf('/');
+        if (lastSlash >= 0 && lastSlash < ref.length() - 1) {
+            return ref.substring(lastSlash + 1);
+        }
+        return ref;
+    }
+
+    private String text(JsonNode node) {
+        return node != null && !node.isNull() ? node.asText() : null;
+    }
+
+    private String textOr(JsonNode node, String fallback) {
+        String value = text(node);
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.mohmk10.changeloghub.parser.openapi.util;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class ParsedSpecCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final int maxEntries;
+    private final Map<String, ApiSpec> entries;
+    private long hits;
+    private long misses;
+
+    public ParsedSpecCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ParsedSpecCache(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ApiSpec> eldest) {
+                return size() > ParsedSpecCache.this.maxEntries;
+            }
+        };
+    }
+
+    public ApiSpec getOrParse(String content, Function<String, ApiSpec> parser) {
+        if (maxEntries == 0) {
+            return parser.apply(content);
+        }
+
+        String key = hash(content);
+        synchronized (this) {
+            ApiSpec cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached.copy();
+            }
+            misses++;
+        }
+
+        ApiSpec spec = parser.apply(content);
+        if (spec != null) {
+            synchronized (this) {
+                entries.put(key, spec.copy());
+            }
+        }
+        return spec;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
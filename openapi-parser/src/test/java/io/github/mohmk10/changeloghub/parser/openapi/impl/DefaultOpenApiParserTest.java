@@ -71,6 +71,40 @@ class DefaultOpenApiParserTest {
         assertThat(result.getEndpoints()).hasSizeGreaterThanOrEqualTo(3);
     }
 
+    @Test
+    void testSwagger20ResultsAreCachedByContent() throws Exception {
+        String content = loadResource("simple-api-swagger-2.0.json");
+
+        ApiSpec first = parser.parse(content);
+        ApiSpec second = parser.parse(content);
+        ApiSpec changed = parser.parse(content.replace("\"2.0.0\"", "\"2.0.1\""));
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(changed.getVersion()).isEqualTo("2.0.1");
+        assertThat(parser.getSwagger2Cache().getHits()).isEqualTo(1);
+        assertThat(parser.getSwagger2Cache().getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void testCachedSwagger20ResultsAreIsolatedFromCallers() throws Exception {
+        String content = loadResource("simple-api-swagger-2.0.json");
+
+        ApiSpec first = parser.parse(content);
+        int endpointCount = first.getEndpoints().size();
+        String firstPath = first.getEndpoints().get(0).getPath();
+        first.setName("Renamed");
+        first.getEndpoints().get(0).setPath("/mutated");
+        first.getEndpoints().get(0).getParameters().clear();
+        first.getEndpoints().remove(1);
+
+        ApiSpec second = parser.parse(content);
+
+        assertThat(second.getName()).isEqualTo("Simple API");
+        assertThat(second.getEndpoints()).hasSize(endpointCount);
+        assertThat(second.getEndpoints().get(0).getPath()).isEqualTo(firstPath);
+        assertThat(parser.getSwagger2Cache().getHits()).isEqualTo(1);
+    }
+
     @Test
     void testParseInvalidContent() {
         String invalidContent = "this is not valid openapi or swagger content";
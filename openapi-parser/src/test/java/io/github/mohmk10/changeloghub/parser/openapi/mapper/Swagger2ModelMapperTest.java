@@ -0,0 +1,139 @@
+package io.github.mohmk10.changeloghub.parser.openapi.mapper;
+
+import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.model.Endpoint;
+import io.github.mohmk10.changeloghub.core.model.HttpMethod;
+import io.github.mohmk10.changeloghub.core.model.ParameterLocation;
+import io.github.mohmk10.changeloghub.parser.openapi.impl.SwaggerV2Adapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Swagger2ModelMapperTest {
+
+    private SwaggerV2Adapter adapter;
+    private OpenApiModelMapper openApiModelMapper;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new SwaggerV2Adapter();
+        openApiModelMapper = new OpenApiModelMapper();
+    }
+
+    @Test
+    void testDirectMappingMatchesConvertedJson() throws Exception {
+        String content = loadResource("simple-api-swagger-2.0.json");
+
+        ApiSpec converted = openApiModelMapper.map(adapter.convert(content).orElseThrow());
+        ApiSpec direct = adapter.toApiSpec(content).orElseThrow();
+
+        assertThat(direct).isEqualTo(converted);
+    }
+
+    @Test
+    void testDirectMappingMatchesConvertedYaml() throws Exception {
+        String content = loadResource("legacy-swagger-2.0.yaml");
+
+        ApiSpec converted = openApiModelMapper.map(adapter.convert(content).orElseThrow());
+        ApiSpec direct = adapter.toApiSpec(content).orElseThrow();
+
+        assertThat(direct).isEqualTo(converted);
+    }
+
+    @Test
+    void testResolvesParameterAndResponseReferences() throws Exception {
+        ApiSpec spec = adapter.toApiSpec(loadResource("legacy-swagger-2.0.yaml")).orElseThrow();
+
+        Endpoint listOrders = endpoint(spec, "/orders", HttpMethod.GET);
+        assertThat(listOrders.getParameters())
+                .extracting(p -> p.getName() + ":" + p.getLocation() + ":" + p.getType())
+                .containsExactly("X-Tenant:HEADER:string", "limit:QUERY:integer", "status:QUERY:array");
+        assertThat(listOrders.getParameters().get(1).getDefaultValue()).isEqualTo("20");
+
+        Endpoint createOrder = endpoint(spec, "/orders", HttpMethod.POST);
+        assertThat(createOrder.getRequestBody().getContentType()).isEqualTo("application/json");
+        assertThat(createOrder.getRequestBody().getSchemaRef()).isEqualTo("Order");
+        assertThat(createOrder.getResponses())
+                .extracting(r -> r.getStatusCode() + ":" + r.getDescription() + ":" + r.getSchemaRef())
+                .containsExactly("201:Created:Order", "404:Resource not found:Error");
+    }
+
+    @Test
+    void testMapsFormDataToRequestBody() throws Exception {
+        ApiSpec spec = adapter.toApiSpec(loadResource("legacy-swagger-2.0.yaml")).orElseThrow();
+
+        Endpoint upload = endpoint(spec, "/orders/{orderId}/attachments", HttpMethod.POST);
+        assertThat(upload.getParameters()).extracting(p -> p.getLocation()).containsExactly(ParameterLocation.PATH);
+        assertThat(upload.getRequestBody().getContentType()).isEqualTo("multipart/form-data");
+        assertThat(upload.getRequestBody().getSchemaRef()).isEqualTo("object");
+        assertThat(upload.getRequestBody().isRequired()).isTrue();
+    }
+
+    @Test
+    void testOperationParametersOverridePathParameters() {
+        String content = """
+                swagger: '2.0'
+                info:
+                  title: Users
+                  version: 1.0.0
+                paths:
+                  /users/{id}:
+                    parameters:
+                      - name: id
+                        in: path
+                        required: true
+                        type: string
+                      - name: fields
+                        in: query
+                        type: string
+                    get:
+                      parameters:
+                        - name: fields
+                          in: query
+                          required: true
+                          type: integer
+                        - name: fields
+                          in: header
+                          type: string
+                      responses:
+                        '200':
+                          description: OK
+                """;
+
+        ApiSpec direct = adapter.toApiSpec(content).orElseThrow();
+        ApiSpec converted = openApiModelMapper.map(adapter.convert(content).orElseThrow());
+
+        Endpoint getUser = endpoint(direct, "/users/{id}", HttpMethod.GET);
+        assertThat(getUser.getParameters())
+                .extracting(p -> p.getName() + ":" + p.getLocation() + ":" + p.getType() + ":" + p.isRequired())
+                .containsExactly("id:PATH:string:true", "fields:QUERY:integer:true", "fields:HEADER:string:false");
+        assertThat(direct).isEqualTo(converted);
+    }
+
+    @Test
+    void testRejectsNonSwaggerContent() {
+        assertThat(adapter.toApiSpec("openapi: 3.0.0\ninfo:\n  title: Test")).isEmpty();
+        assertThat(adapter.toApiSpec("{ not json")).isEmpty();
+    }
+
+    private Endpoint endpoint(ApiSpec spec, String path, HttpMethod method) {
+        return spec.getEndpoints().stream()
+                .filter(e -> e.getPath().equals(path) && e.getMethod() == method)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String loadResource(String resourceName) throws IOException {
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourceName)) {
+            if (is == null) {
+                throw new IOException("Resource not found: " + resourceName);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
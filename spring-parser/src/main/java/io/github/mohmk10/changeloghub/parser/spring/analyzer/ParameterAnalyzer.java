@@ -29,6 +29,12 @@ public class ParameterAnalyzer {
         return result;
     }
 
+    public Optional<Parameter> getRequestBodyParameter(MethodDeclaration method) {
+        return method.getParameters().stream()
+                .filter(param -> annotationExtractor.hasAnnotation(param, SpringAnnotations.REQUEST_BODY))
+                .findFirst();
+    }
+
     public Optional<SpringParameter> analyzeParameter(Parameter param) {
         SpringParameter.Location location = getLocation(param);
 
@@ -73,6 +73,10 @@ public class ResponseAnalyzer {
         return typeString;
     }
 
+    public Type getActualReturnAstType(MethodDeclaration method) {
+        return typeExtractor.unwrapResponseType(method.getType());
+    }
+
     public String getReturnApiType(MethodDeclaration method) {
         String actualType = getActualReturnType(method);
         return typeExtractor.javaTypeToApiType(actualType);
@@ -138,6 +138,24 @@ public class TypeExtractor {
         return getSimpleTypeName(typeName).equals("ResponseEntity");
     }
 
+    public Type unwrapResponseType(Type javaType) {
+        Type current = javaType;
+        while (current != null && current.isClassOrInterfaceType()) {
+            ClassOrInterfaceType type = current.asClassOrInterfaceType();
+            String typeName = type.getNameAsString();
+            if (!"ResponseEntity".equals(typeName) && !"Optional".equals(typeName)) {
+                break;
+            }
+            Optional<Type> argument = type.getTypeArguments()
+                    .flatMap(args -> args.isEmpty() ? Optional.empty() : Optional.of(args.get(0)));
+            if (argument.isEmpty()) {
+                break;
+            }
+            current = argument.get();
+        }
+        return current;
+    }
+
     public String getSimpleTypeName(String fullTypeName) {
         if (fullTypeName == null) {
             return "";
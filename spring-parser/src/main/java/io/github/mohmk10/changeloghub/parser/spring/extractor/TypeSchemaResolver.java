@@ -0,0 +1,336 @@
+package io.github.mohmk10.changeloghub.parser.spring.extractor;
+
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedEnumConstantDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedFieldDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+import com.github.javaparser.resolution.types.ResolvedReferenceType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.cache.NoCache;
+import com.github.javaparser.symbolsolver.javaparsermodel.JavaParserFacade;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class TypeSchemaResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypeSchemaResolver.class);
+
+    public static final int DEFAULT_MAX_DEPTH = 3;
+
+    private static final Pattern PACKAGE_DECLARATION = Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;");
+    private static final Pattern TYPE_DECLARATION =
+            Pattern.compile("^\\s*(import|public|class|interface|enum|record|@)");
+
+    private final TypeExtractor typeExtractor;
+    private final ParserConfiguration parserConfiguration;
+    private final CombinedTypeSolver combinedSolver;
+    private final MemoizingTypeSolver typeSolver;
+    private final Set<Path> sourceRoots = new HashSet<>();
+    private final Map<String, TypeShape> shapes = new ConcurrentHashMap<>();
+    private final int maxDepth;
+
+    public TypeSchemaResolver() {
+        this(List.of());
+    }
+
+    public TypeSchemaResolver(Collection<Path> sourceRoots) {
+        this(sourceRoots, DEFAULT_MAX_DEPTH);
+    }
+
+    public TypeSchemaResolver(Collection<Path> sourceRoots, int maxDepth) {
+        this.typeExtractor = new TypeExtractor();
+        this.parserConfiguration = new ParserConfiguration();
+        this.parserConfiguration.setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
+        this.combinedSolver = new CombinedTypeSolver(CombinedTypeSolver.ExceptionHandlers.IGNORE_NONE,
+                List.of(new ReflectionTypeSolver()), NoCache.create());
+        this.typeSolver = new MemoizingTypeSolver(combinedSolver);
+        this.combinedSolver.setParent(typeSolver);
+        this.maxDepth = Math.max(1, maxDepth);
+        sourceRoots.forEach(this::addSourceRoot);
+    }
+
+    public synchronized void addSourceRoot(Path root) {
+        Path normalized = root.toAbsolutePath().normalize();
+        if (Files.isDirectory(normalized) && sourceRoots.add(normalized)) {
+            combinedSolver.add(new JavaParserTypeSolver(normalized, parserConfiguration));
+            typeSolver.forgetUnsolved();
+        }
+    }
+
+    public Optional<TypeSchema> resolve(Type type) {
+        if (type == null || type.isPrimitiveType() || type.isVoidType()) {
+            return Optional.empty();
+        }
+
+        try {
+            ResolvedType resolved = JavaParserFacade.get(typeSolver).convertToUsage(type);
+            Set<String> sourceFiles = new TreeSet<>();
+            boolean[] structured = new boolean[1];
+            String signature = describe(resolved, 0, new HashSet<>(), sourceFiles, structured);
+            return structured[0] ? Optional.of(new TypeSchema(signature, sourceFiles)) : Optional.empty();
+        } catch (RuntimeException e) {
+            logger.debug("Could not resolve type {}: {}", type, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public synchronized Set<Path> getSourceRoots() {
+        return Collections.unmodifiableSet(new HashSet<>(sourceRoots));
+    }
+
+    public int getResolvedTypeCount() {
+        return shapes.size();
+    }
+
+    public long getSolverHits() {
+        return typeSolver.hits.get();
+    }
+
+    public long getSolverMisses() {
+        return typeSolver.misses.get();
+    }
+
+    public static Set<Path> sourceRootsOf(Collection<Path> javaFiles) {
+        Map<Path, Path> samples = new LinkedHashMap<>();
+        for (Path javaFile : javaFiles) {
+            Path normalized = javaFile.toAbsolutePath().normalize();
+            if (normalized.getParent() != null) {
+                samples.putIfAbsent(normalized.getParent(), normalized);
+            }
+        }
+
+        Set<Path> roots = new LinkedHashSet<>();
+        for (Path javaFile : samples.values()) {
+            sourceRootOf(javaFile, readPackageName(javaFile)).ifPresent(roots::add);
+        }
+        return roots;
+    }
+
+    public static Optional<Path> sourceRootOf(Path javaFile, String packageName) {
+        Path directory = javaFile.toAbsolutePath().normalize().getParent();
+        if (directory == null) {
+            return Optional.empty();
+        }
+        if (packageName == null || packageName.isEmpty()) {
+            return Optional.of(directory);
+        }
+
+        String[] segments = packageName.split("\\.");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (directory == null || directory.getFileName() == null
+                    || !directory.getFileName().toString().equals(segments[i])) {
+                return Optional.empty();
+            }
+            directory = directory.getParent();
+        }
+        return Optional.ofNullable(directory);
+    }
+
+    private static String readPackageName(Path javaFile) {
+        try (BufferedReader reader = Files.newBufferedReader(javaFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = PACKAGE_DECLARATION.matcher(line);
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+                if (TYPE_DECLARATION.matcher(line).find()) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not read package of {}: {}", javaFile, e.getMessage());
+        }
+        return "";
+    }
+
+    private String describe(ResolvedType type, int depth, Set<String> visiting, Set<String> sourceFiles,
+                            boolean[] structured) {
+        if (type.isArray()) {
+            return "array<" + describe(type.asArrayType().getComponentType(), depth, visiting, sourceFiles, structured) + ">";
+        }
+        if (type.isPrimitive()) {
+            return typeExtractor.javaTypeToApiType(type.describe());
+        }
+        if (!type.isReferenceType()) {
+            return "object";
+        }
+
+        ResolvedReferenceType reference = type.asReferenceType();
+        String qualifiedName = reference.getQualifiedName();
+        String simpleName = typeExtractor.getSimpleTypeName(qualifiedName);
+        List<ResolvedType> typeArguments = reference.typeParametersValues();
+
+        if (typeExtractor.isOptionalType(simpleName) || typeExtractor.isResponseEntityType(simpleName)) {
+            return typeArguments.isEmpty() ? "object"
+                    : describe(typeArguments.get(0), depth, visiting, sourceFiles, structured);
+        }
+        if (typeExtractor.isCollectionType(simpleName)) {
+            return "array<" + (typeArguments.isEmpty() ? "object"
+                    : describe(typeArguments.get(0), depth, visiting, sourceFiles, structured)) + ">";
+        }
+
+        String apiType = typeExtractor.javaTypeToApiType(qualifiedName);
+        if (!"object".equals(apiType) || qualifiedName.startsWith("java.") || qualifiedName.startsWith("javax.")) {
+            return apiType;
+        }
+        if (depth >= maxDepth || visiting.contains(qualifiedName)) {
+            return simpleName;
+        }
+
+        Optional<ResolvedReferenceTypeDeclaration> declaration = reference.getTypeDeclaration();
+        if (declaration.isEmpty()) {
+            return simpleName;
+        }
+
+        TypeShape shape = shapeOf(qualifiedName, declaration.get());
+        shape.sourceFile.ifPresent(sourceFiles::add);
+        structured[0] = true;
+
+        if (shape.enumConstants != null) {
+            return simpleName + "(" + String.join("|", shape.enumConstants) + ")";
+        }
+
+        visiting.add(qualifiedName);
+        StringJoiner fields = new StringJoiner(",", simpleName + "{", "}");
+        for (Map.Entry<String, ResolvedType> field : shape.fields.entrySet()) {
+            fields.add(field.getKey() + ":" + describe(field.getValue(), depth + 1, visiting, sourceFiles, structured));
+        }
+        visiting.remove(qualifiedName);
+        return fields.toString();
+    }
+
+    private TypeShape shapeOf(String qualifiedName, ResolvedReferenceTypeDeclaration declaration) {
+        TypeShape shape = shapes.get(qualifiedName);
+        if (shape != null) {
+            return shape;
+        }
+
+        shape = buildShape(qualifiedName, declaration);
+        TypeShape existing = shapes.putIfAbsent(qualifiedName, shape);
+        return existing != null ? existing : shape;
+    }
+
+    private TypeShape buildShape(String qualifiedName, ResolvedReferenceTypeDeclaration declaration) {
+        Optional<String> sourceFile = declaration.toAst()
+                .flatMap(Node::findCompilationUnit)
+                .flatMap(CompilationUnit::getStorage)
+                .map(storage -> storage.getPath().toAbsolutePath().normalize().toString());
+
+        if (declaration.isEnum()) {
+            List<String> constants = declaration.asEnum().getEnumConstants().stream()
+                    .map(ResolvedEnumConstantDeclaration::getName)
+                    .collect(Collectors.toList());
+            return new TypeShape(Map.of(), constants, sourceFile);
+        }
+
+        Map<String, ResolvedType> fields = new TreeMap<>();
+        for (ResolvedFieldDeclaration field : fieldsOf(declaration)) {
+            try {
+                fields.put(field.getName(), field.getType());
+            } catch (RuntimeException e) {
+                logger.debug("Could not resolve field {}.{}: {}", qualifiedName, field.getName(), e.getMessage());
+            }
+        }
+        return new TypeShape(fields, null, sourceFile);
+    }
+
+    private List<ResolvedFieldDeclaration> fieldsOf(ResolvedReferenceTypeDeclaration declaration) {
+        try {
+            return declaration.getAllNonStaticFields();
+        } catch (RuntimeException e) {
+            return declaration.getDeclaredFields().stream()
+                    .filter(field -> !field.isStatic())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    public static final class TypeSchema {
+        private final String signature;
+        private final Set<String> sourceFiles;
+
+        private TypeSchema(String signature, Set<String> sourceFiles) {
+            this.signature = signature;
+            this.sourceFiles = Collections.unmodifiableSet(sourceFiles);
+        }
+
+        public String getSignature() {
+            return signature;
+        }
+
+        public Set<String> getSourceFiles() {
+            return sourceFiles;
+        }
+    }
+
+    private static final class TypeShape {
+        private final Map<String, ResolvedType> fields;
+        private final List<String> enumConstants;
+        private final Optional<String> sourceFile;
+
+        private TypeShape(Map<String, ResolvedType> fields, List<String> enumConstants, Optional<String> sourceFile) {
+            this.fields = fields;
+            this.enumConstants = enumConstants;
+            this.sourceFile = sourceFile;
+        }
+    }
+
+    private static final class MemoizingTypeSolver implements TypeSolver {
+        private final TypeSolver delegate;
+        private final Map<String, SymbolReference<ResolvedReferenceTypeDeclaration>> solved = new ConcurrentHashMap<>();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private volatile TypeSolver parent;
+
+        private MemoizingTypeSolver(TypeSolver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TypeSolver getParent() {
+            return parent;
+        }
+
+        @Override
+        public void setParent(TypeSolver parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+            SymbolReference<ResolvedReferenceTypeDeclaration> reference = solved.get(name);
+            if (reference != null) {
+                hits.incrementAndGet();
+                return reference;
+            }
+            misses.incrementAndGet();
+            reference = delegate.tryToSolveType(name);
+            SymbolReference<ResolvedReferenceTypeDeclaration> existing = solved.putIfAbsent(name, reference);
+            return existing != null ? existing : reference;
+        }
+
+        private void forgetUnsolved() {
+            solved.values().removeIf(reference -> !reference.isSolved());
+        }
+    }
+}
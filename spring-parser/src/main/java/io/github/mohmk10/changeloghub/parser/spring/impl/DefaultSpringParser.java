@@ -7,25 +7,32 @@ import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.utils.SourceRoot;
 import io.github.mohmk10.changeloghub.core.model.ApiSpec;
+import io.github.mohmk10.changeloghub.core.parser.WorkerPools;
 import io.github.mohmk10.changeloghub.parser.spring.SpringParser;
 import io.github.mohmk10.changeloghub.parser.spring.analyzer.ControllerAnalyzer;
 import io.github.mohmk10.changeloghub.parser.spring.analyzer.ParameterAnalyzer;
 import io.github.mohmk10.changeloghub.parser.spring.analyzer.RequestMappingAnalyzer;
 import io.github.mohmk10.changeloghub.parser.spring.analyzer.ResponseAnalyzer;
 import io.github.mohmk10.changeloghub.parser.spring.exception.SpringParseException;
+import io.github.mohmk10.changeloghub.parser.spring.extractor.TypeSchemaResolver;
 import io.github.mohmk10.changeloghub.parser.spring.mapper.SpringModelMapper;
 import io.github.mohmk10.changeloghub.parser.spring.model.SpringController;
 import io.github.mohmk10.changeloghub.parser.spring.model.SpringMethod;
 import io.github.mohmk10.changeloghub.parser.spring.model.SpringParameter;
+import io.github.mohmk10.changeloghub.parser.spring.util.SpringControllerCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,14 +40,31 @@ public class DefaultSpringParser implements SpringParser {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultSpringParser.class);
 
+    private static final byte[][] CONTROLLER_MARKERS = {
+            "RestController".getBytes(StandardCharsets.US_ASCII),
+            "@Controller".getBytes(StandardCharsets.US_ASCII),
+            "stereotype.Controller".getBytes(StandardCharsets.US_ASCII),
+            "RequestMapping".getBytes(StandardCharsets.US_ASCII)
+    };
+
     private final ControllerAnalyzer controllerAnalyzer;
     private final RequestMappingAnalyzer requestMappingAnalyzer;
     private final ParameterAnalyzer parameterAnalyzer;
     private final ResponseAnalyzer responseAnalyzer;
     private final SpringModelMapper modelMapper;
-    private final com.github.javaparser.JavaParser javaParser;
+    private final ThreadLocal<com.github.javaparser.JavaParser> javaParsers;
+    private final SpringControllerCache controllerCache;
+    private final int parallelism;
 
     public DefaultSpringParser() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public DefaultSpringParser(int parallelism) {
+        this(parallelism, new SpringControllerCache());
+    }
+
+    public DefaultSpringParser(int parallelism, SpringControllerCache controllerCache) {
         this.controllerAnalyzer = new ControllerAnalyzer();
         this.requestMappingAnalyzer = new RequestMappingAnalyzer();
         this.parameterAnalyzer = new ParameterAnalyzer();
@@ -49,7 +73,17 @@ public class DefaultSpringParser implements SpringParser {
 
         ParserConfiguration config = new ParserConfiguration();
         config.setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
-        this.javaParser = new com.github.javaparser.JavaParser(config);
+        this.javaParsers = ThreadLocal.withInitial(() -> new com.github.javaparser.JavaParser(config));
+        this.parallelism = Math.max(1, parallelism);
+        this.controllerCache = controllerCache;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public SpringControllerCache getControllerCache() {
+        return controllerCache;
     }
 
     @Override
@@ -72,6 +106,7 @@ public class DefaultSpringParser implements SpringParser {
         List<Path> javaFiles = findJavaFiles(sourceDirectory);
         logger.debug("Found {} Java files", javaFiles.size());
 
+        controllerCache.retain(sourceDirectory, javaFiles);
         List<SpringController> controllers = parseControllers(javaFiles);
         logger.info("Found {} Spring controllers", controllers.size());
 
@@ -90,13 +125,16 @@ public class DefaultSpringParser implements SpringParser {
             throw SpringParseException.fileNotFound(javaFile.toString());
         }
 
-        Optional<SpringController> controller = parseController(javaFile);
+        List<SpringController> controllers = parseControllers(javaFile);
 
-        if (controller.isEmpty()) {
+        if (controllers.isEmpty()) {
             throw new SpringParseException("No Spring controller found in file: " + javaFile);
         }
 
-        return modelMapper.mapToApiSpec(controller.get());
+        if (controllers.size() == 1) {
+            return modelMapper.mapToApiSpec(controllers.get(0));
+        }
+        return modelMapper.mapToApiSpec(controllers, controllers.get(0).getClassName(), "1.0.0");
     }
 
     @Override
@@ -120,6 +158,7 @@ public class DefaultSpringParser implements SpringParser {
             return paths
                     .filter(Files::isRegularFile)
                     .filter(p -> p.toString().endsWith(".java"))
+                    .sorted()
                     .collect(Collectors.toList());
         } catch (IOException e) {
             throw new SpringParseException("Failed to scan directory: " + directory, e);
@@ -128,43 +167,91 @@ public class DefaultSpringParser implements SpringParser {
 
     private List<SpringController> parseControllers(List<Path> javaFiles) throws SpringParseException {
         List<SpringController> controllers = new ArrayList<>();
+        if (javaFiles.isEmpty()) {
+            return controllers;
+        }
+
+        TypeSchemaResolver typeResolver = new TypeSchemaResolver(TypeSchemaResolver.sourceRootsOf(javaFiles));
+        if (Math.min(parallelism, javaFiles.size()) <= 1) {
+            for (Path file : javaFiles) {
+                controllers.addAll(parseOrSkip(file, typeResolver));
+            }
+        } else {
+            List<Callable<List<SpringController>>> tasks = new ArrayList<>(javaFiles.size());
+            for (Path file : javaFiles) {
+                tasks.add(() -> parseOrSkip(file, typeResolver));
+            }
 
-        for (Path file : javaFiles) {
             try {
-                Optional<SpringController> controller = parseController(file);
-                controller.ifPresent(controllers::add);
-            } catch (Exception e) {
-                logger.warn("Failed to parse file: {}", file, e);
-                
+                for (Future<List<SpringController>> future : WorkerPools.forParallelism(parallelism).invokeAll(tasks)) {
+                    controllers.addAll(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SpringParseException("Interrupted while parsing Java files", e);
+            } catch (ExecutionException e) {
+                throw new SpringParseException("Failed to parse Java files", e.getCause());
             }
         }
 
+        controllerCache.save();
+        logger.debug("Spring controller cache: {} hits, {} misses; {} DTO types resolved",
+                controllerCache.getHits(), controllerCache.getMisses(), typeResolver.getResolvedTypeCount());
         return controllers;
     }
 
-    private Optional<SpringController> parseController(Path javaFile) throws SpringParseException {
-        Optional<CompilationUnit> cuOpt = parseJavaFile(javaFile);
+    private List<SpringController> parseOrSkip(Path file, TypeSchemaResolver typeResolver) {
+        try {
+            return parseCachedControllers(file, typeResolver);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to parse file: {}", file, e);
+            return List.of();
+        }
+    }
 
-        if (cuOpt.isEmpty()) {
-            return Optional.empty();
+    private List<SpringController> parseCachedControllers(Path javaFile, TypeSchemaResolver typeResolver)
+            throws SpringParseException {
+        try {
+            return controllerCache.getOrParse(javaFile, content -> parseControllers(javaFile, content, typeResolver));
+        } catch (IOException e) {
+            throw SpringParseException.parseError(javaFile.toString(), e);
         }
+    }
 
-        CompilationUnit cu = cuOpt.get();
+    private List<SpringController> parseControllers(Path javaFile) throws SpringParseException {
+        try {
+            return parseControllers(javaFile, Files.readAllBytes(javaFile),
+                    new TypeSchemaResolver(TypeSchemaResolver.sourceRootsOf(List.of(javaFile))));
+        } catch (IOException e) {
+            throw SpringParseException.parseError(javaFile.toString(), e);
+        }
+    }
 
-        List<ClassOrInterfaceDeclaration> controllerClasses = cu.findAll(ClassOrInterfaceDeclaration.class)
-                .stream()
-                .filter(controllerAnalyzer::isController)
-                .collect(Collectors.toList());
+    private List<SpringController> parseControllers(Path javaFile, byte[] content, TypeSchemaResolver typeResolver)
+            throws SpringParseException {
+        Optional<CompilationUnit> cuOpt = parseJavaFile(javaFile, content);
 
-        if (controllerClasses.isEmpty()) {
-            return Optional.empty();
+        if (cuOpt.isEmpty()) {
+            return List.of();
         }
 
-        ClassOrInterfaceDeclaration clazz = controllerClasses.get(0);
+        CompilationUnit cu = cuOpt.get();
+        String packageName = cu.getPackageDeclaration().map(pd -> pd.getNameAsString()).orElse("");
+
+        List<SpringController> controllers = new ArrayList<>();
+        for (ClassOrInterfaceDeclaration clazz : cu.findAll(ClassOrInterfaceDeclaration.class)) {
+            if (controllerAnalyzer.isController(clazz)) {
+                controllers.add(parseController(clazz, packageName, typeResolver));
+            }
+        }
+        return controllers;
+    }
 
+    private SpringController parseController(ClassOrInterfaceDeclaration clazz, String packageName,
+                                             TypeSchemaResolver typeResolver) {
         SpringController controller = new SpringController();
         controller.setClassName(controllerAnalyzer.getClassName(clazz));
-        controller.setPackageName(cu.getPackageDeclaration().map(pd -> pd.getNameAsString()).orElse(""));
+        controller.setPackageName(packageName);
         controller.setBasePath(controllerAnalyzer.getBasePath(clazz));
         controller.setDeprecated(controllerAnalyzer.isDeprecated(clazz));
         controller.setProduces(controllerAnalyzer.getProduces(clazz));
@@ -172,16 +259,17 @@ public class DefaultSpringParser implements SpringParser {
 
         List<MethodDeclaration> endpointMethods = controllerAnalyzer.getEndpointMethods(clazz);
         for (MethodDeclaration method : endpointMethods) {
-            SpringMethod springMethod = parseMethod(method, controller);
+            SpringMethod springMethod = parseMethod(method, controller, typeResolver);
             controller.addMethod(springMethod);
         }
 
         logger.debug("Parsed controller: {} with {} endpoints", controller.getClassName(), controller.getMethods().size());
 
-        return Optional.of(controller);
+        return controller;
     }
 
-    private SpringMethod parseMethod(MethodDeclaration method, SpringController controller) {
+    private SpringMethod parseMethod(MethodDeclaration method, SpringController controller,
+                                     TypeSchemaResolver typeResolver) {
         SpringMethod springMethod = new SpringMethod();
 
         springMethod.setMethodName(requestMappingAnalyzer.getOperationId(method));
@@ -202,24 +290,73 @@ public class DefaultSpringParser implements SpringParser {
         List<SpringParameter> parameters = parameterAnalyzer.analyzeParameters(method);
         springMethod.setParameters(parameters);
 
+        typeResolver.resolve(responseAnalyzer.getActualReturnAstType(method)).ifPresent(schema -> {
+            springMethod.setReturnSchema(schema.getSignature());
+            controller.addTypeDependencies(schema.getSourceFiles());
+        });
+
+        parameterAnalyzer.getRequestBodyParameter(method)
+                .flatMap(param -> typeResolver.resolve(param.getType()))
+                .ifPresent(schema -> {
+                    parameters.stream()
+                            .filter(param -> param.getLocation() == SpringParameter.Location.BODY)
+                            .findFirst()
+                            .ifPresent(param -> param.setSchema(schema.getSignature()));
+                    controller.addTypeDependencies(schema.getSourceFiles());
+                });
+
         return springMethod;
     }
 
     private Optional<CompilationUnit> parseJavaFile(Path javaFile) throws SpringParseException {
         try {
-            ParseResult<CompilationUnit> result = javaParser.parse(javaFile);
+            return parseJavaFile(javaFile, Files.readAllBytes(javaFile));
+        } catch (IOException e) {
+            throw SpringParseException.parseError(javaFile.toString(), e);
+        }
+    }
 
-            if (result.isSuccessful() && result.getResult().isPresent()) {
-                return result.getResult();
-            }
+    private Optional<CompilationUnit> parseJavaFile(Path javaFile, byte[] content) {
+        if (!mayContainController(content)) {
+            return Optional.empty();
+        }
+
+        ParseResult<CompilationUnit> result = javaParsers.get().parse(new String(content, StandardCharsets.UTF_8));
+
+        if (result.isSuccessful() && result.getResult().isPresent()) {
+            return result.getResult();
+        }
+
+        if (!result.getProblems().isEmpty()) {
+            logger.debug("Parse problems in {}: {}", javaFile, result.getProblems());
+        }
+
+        return Optional.empty();
+    }
 
-            if (!result.getProblems().isEmpty()) {
-                logger.debug("Parse problems in {}: {}", javaFile, result.getProblems());
+    static boolean mayContainController(byte[] content) {
+        for (byte[] marker : CONTROLLER_MARKERS) {
+            if (indexOf(content, marker) >= 0) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            return Optional.empty();
-        } catch (IOException e) {
-            throw SpringParseException.parseError(javaFile.toString(), e);
+    private static int indexOf(byte[] content, byte[] marker) {
+        int last = content.length - marker.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            if (content[i] != marker[0]) {
+                continue;
+            }
+            for (int j = 1; j < marker.length; j++) {
+                if (content[i + j] != marker[j]) {
+                    continue outer;
+                }
+            }
+            return i;
         }
+        return -1;
     }
 }
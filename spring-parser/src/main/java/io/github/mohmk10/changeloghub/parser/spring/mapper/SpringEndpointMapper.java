@@ -106,8 +106,11 @@ public class SpringEndpointMapper {
             requestBody.setContentType("application/json");
         }
 
-        String apiType = typeExtractor.javaTypeToApiType(bodyParam.getJavaType());
-        requestBody.setSchemaRef(apiType);
+        if (bodyParam.getSchema() != null) {
+            requestBody.setSchemaRef(bodyParam.getSchema());
+        } else {
+            requestBody.setSchemaRef(typeExtractor.javaTypeToApiType(bodyParam.getJavaType()));
+        }
 
         return requestBody;
     }
@@ -42,7 +42,9 @@ public class SpringResponseMapper {
         }
 
         String returnType = springMethod.getReturnType();
-        if (returnType != null && !"void".equals(returnType)) {
+        if (springMethod.getReturnSchema() != null) {
+            response.setSchemaRef(springMethod.getReturnSchema());
+        } else if (returnType != null && !"void".equals(returnType)) {
             String apiType = typeExtractor.javaTypeToApiType(returnType);
             response.setSchemaRef(apiType);
         }
@@ -1,7 +1,10 @@
 package io.github.mohmk10.changeloghub.parser.spring.model;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class SpringController {
 
@@ -12,11 +15,13 @@ public class SpringController {
     private List<SpringMethod> methods;
     private List<String> produces;
     private List<String> consumes;
+    private Set<String> typeDependencies;
 
     public SpringController() {
         this.methods = new ArrayList<>();
         this.produces = new ArrayList<>();
         this.consumes = new ArrayList<>();
+        this.typeDependencies = new TreeSet<>();
         this.basePath = "";
     }
 
@@ -87,6 +92,18 @@ public class SpringController {
         this.consumes = consumes != null ? consumes : new ArrayList<>();
     }
 
+    public Set<String> getTypeDependencies() {
+        return typeDependencies;
+    }
+
+    public void setTypeDependencies(Set<String> typeDependencies) {
+        this.typeDependencies = typeDependencies != null ? new TreeSet<>(typeDependencies) : new TreeSet<>();
+    }
+
+    public void addTypeDependencies(Collection<String> files) {
+        this.typeDependencies.addAll(files);
+    }
+
     @Override
     public String toString() {
         return "SpringController{" +
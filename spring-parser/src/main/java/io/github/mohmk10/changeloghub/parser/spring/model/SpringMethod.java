@@ -12,6 +12,7 @@ public class SpringMethod {
     private boolean deprecated;
     private String responseStatus;
     private String returnType;
+    private String returnSchema;
     private List<SpringParameter> parameters;
     private List<String> produces;
     private List<String> consumes;
@@ -79,6 +80,14 @@ public class SpringMethod {
         this.returnType = returnType;
     }
 
+    public String getReturnSchema() {
+        return returnSchema;
+    }
+
+    public void setReturnSchema(String returnSchema) {
+        this.returnSchema = returnSchema;
+    }
+
     public List<SpringParameter> getParameters() {
         return parameters;
     }
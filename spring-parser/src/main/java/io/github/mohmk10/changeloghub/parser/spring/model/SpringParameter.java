@@ -12,6 +12,7 @@ public class SpringParameter {
 
     private String name;
     private String javaType;
+    private String schema;
     private Location location;
     private boolean required;
     private String defaultValue;
@@ -37,6 +38,14 @@ public class SpringParameter {
         this.javaType = javaType;
     }
 
+    public String getSchema() {
+        return schema;
+    }
+
+    public void setSchema(String schema) {
+        this.schema = schema;
+    }
+
     public Location getLocation() {
         return location;
     }
@@ -0,0 +1,240 @@
+package io.github.mohmk10.changeloghub.parser.spring.util;
+
+import io.github.mohmk10.changeloghub.parser.spring.model.SpringController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class SpringControllerCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpringControllerCache.class);
+
+    public static final String CACHE_FILE_NAME = "spring-controllers.cache";
+
+    private static final String CACHE_FORMAT_VERSION = "3";
+
+    private final Path directory;
+    private final String parserVersion;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile boolean dirty;
+
+    public SpringControllerCache() {
+        this(null);
+    }
+
+    public SpringControllerCache(Path directory) {
+        this.directory = directory;
+        this.parserVersion = CACHE_FORMAT_VERSION + ":"
+                + SpringControllerCache.class.getPackage().getImplementationVersion() + ":"
+                + com.github.javaparser.JavaParser.class.getPackage().getImplementationVersion();
+        readFromDisk();
+    }
+
+    public List<SpringController> getOrParse(Path file, Function<byte[], List<SpringController>> extractor)
+            throws IOException {
+        String key = keyOf(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long size = Files.size(file);
+
+        Entry entry = entries.get(key);
+        if (entry != null && !dependenciesUnchanged(entry)) {
+            entry = null;
+        }
+        if (entry != null && entry.lastModified == lastModified && entry.size == size) {
+            hits.incrementAndGet();
+            return entry.controllers;
+        }
+
+        byte[] content = Files.readAllBytes(file);
+        String hash = hash(content);
+        if (entry != null && entry.hash.equals(hash)) {
+            hits.incrementAndGet();
+            entries.put(key, new Entry(lastModified, size, hash, entry.controllers, entry.dependencies));
+            dirty = true;
+            return entry.controllers;
+        }
+
+        misses.incrementAndGet();
+        List<SpringController> controllers = new ArrayList<>(extractor.apply(content));
+        entries.put(key, new Entry(lastModified, size, hash, controllers, dependencyStamps(controllers)));
+        dirty = true;
+        return controllers;
+    }
+
+    public void retain(Path root, Collection<Path> files) {
+        String prefix = keyOf(root) + File.separator;
+        Set<String> keep = new HashSet<>();
+        for (Path file : files) {
+            keep.add(keyOf(file));
+        }
+        if (entries.keySet().removeIf(key -> key.startsWith(prefix) && !keep.contains(key))) {
+            dirty = true;
+        }
+    }
+
+    public boolean contains(Path file) {
+        return entries.containsKey(keyOf(file));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void clear() {
+        entries.clear();
+        hits.set(0);
+        misses.set(0);
+        dirty = true;
+    }
+
+    public synchronized void save() {
+        if (directory == null || !dirty) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(CACHE_FILE_NAME);
+            Path temp = Files.createTempFile(directory, CACHE_FILE_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeUTF(parserVersion);
+                Map<String, Entry> snapshot = new TreeMap<>(entries);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+                    SpringControllerCodec.writeString(out, entry.getKey());
+                    entry.getValue().write(out);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn("Failed to write Spring controller cache to {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private static boolean dependenciesUnchanged(Entry entry) {
+        for (Map.Entry<String, Long> dependency : entry.dependencies.entrySet()) {
+            if (stampOf(Path.of(dependency.getKey())) != dependency.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, Long> dependencyStamps(List<SpringController> controllers) {
+        Map<String, Long> stamps = new HashMap<>();
+        for (SpringController controller : controllers) {
+            for (String dependency : controller.getTypeDependencies()) {
+                stamps.put(dependency, stampOf(Path.of(dependency)));
+            }
+        }
+        return stamps;
+    }
+
+    private static long stampOf(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis() * 31 + Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private void readFromDisk() {
+        if (directory == null) {
+            return;
+        }
+        Path file = directory.resolve(CACHE_FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!parserVersion.equals(in.readUTF())) {
+                logger.debug("Discarding Spring controller cache {} written by another parser version", file);
+                dirty = true;
+                return;
+            }
+            int count = SpringControllerCodec.readCount(in);
+            Map<String, Entry> loaded = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                loaded.put(SpringControllerCodec.readString(in), Entry.read(in));
+            }
+            entries.putAll(loaded);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Discarding unreadable Spring controller cache {}: {}", file, e.getMessage());
+            entries.clear();
+            dirty = true;
+        }
+    }
+
+    private static String keyOf(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final long lastModified;
+        private final long size;
+        private final String hash;
+        private final List<SpringController> controllers;
+        private final Map<String, Long> dependencies;
+
+        private Entry(long lastModified, long size, String hash, List<SpringController> controllers,
+                      Map<String, Long> dependencies) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.hash = hash;
+            this.controllers = controllers;
+            this.dependencies = dependencies;
+        }
+
+        private void write(DataOutput out) throws IOException {
+            out.writeLong(lastModified);
+            out.writeLong(size);
+            SpringControllerCodec.writeString(out, hash);
+            SpringControllerCodec.writeStamps(out, dependencies);
+            SpringControllerCodec.writeControllers(out, controllers);
+        }
+
+        private static Entry read(DataInput in) throws IOException {
+            long lastModified = in.readLong();
+            long size = in.readLong();
+            String hash = SpringControllerCodec.readString(in);
+            if (hash == null) {
+                throw new IOException("Missing content hash");
+            }
+            Map<String, Long> dependencies = SpringControllerCodec.readStamps(in);
+            return new Entry(lastModified, size, hash, SpringControllerCodec.readControllers(in), dependencies);
+        }
+    }
+}
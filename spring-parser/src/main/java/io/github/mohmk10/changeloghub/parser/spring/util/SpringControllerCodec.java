@@ -0,0 +1,197 @@
+package io.github.mohmk10.changeloghub.parser.spring.util;
+
+import io.github.mohmk10.changeloghub.parser.spring.model.SpringController;
+import io.github.mohmk10.changeloghub.parser.spring.model.SpringMethod;
+import io.github.mohmk10.changeloghub.parser.spring.model.SpringParameter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+final class SpringControllerCodec {
+
+    private static final int MAX_STRING_BYTES = 16 * 1024 * 1024;
+
+    private SpringControllerCodec() {
+    }
+
+    static void writeControllers(DataOutput out, List<SpringController> controllers) throws IOException {
+        out.writeInt(controllers.size());
+        for (SpringController controller : controllers) {
+            writeController(out, controller);
+        }
+    }
+
+    static List<SpringController> readControllers(DataInput in) throws IOException {
+        int count = readCount(in);
+        List<SpringController> controllers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            controllers.add(readController(in));
+        }
+        return controllers;
+    }
+
+    static void writeStamps(DataOutput out, Map<String, Long> stamps) throws IOException {
+        out.writeInt(stamps.size());
+        for (Map.Entry<String, Long> stamp : new TreeMap<>(stamps).entrySet()) {
+            writeString(out, stamp.getKey());
+            out.writeLong(stamp.getValue());
+        }
+    }
+
+    static Map<String, Long> readStamps(DataInput in) throws IOException {
+        int count = readCount(in);
+        Map<String, Long> stamps = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            stamps.put(readString(in), in.readLong());
+        }
+        return stamps;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    static String readString(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int readCount(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid element count: " + count);
+        }
+        return count;
+    }
+
+    private static void writeController(DataOutput out, SpringController controller) throws IOException {
+        writeString(out, controller.getClassName());
+        writeString(out, controller.getPackageName());
+        writeString(out, controller.getBasePath());
+        out.writeBoolean(controller.isDeprecated());
+        writeStrings(out, controller.getProduces());
+        writeStrings(out, controller.getConsumes());
+        writeStrings(out, controller.getTypeDependencies());
+
+        out.writeInt(controller.getMethods().size());
+        for (SpringMethod method : controller.getMethods()) {
+            writeMethod(out, method);
+        }
+    }
+
+    private static SpringController readController(DataInput in) throws IOException {
+        SpringController controller = new SpringController();
+        controller.setClassName(readString(in));
+        controller.setPackageName(readString(in));
+        controller.setBasePath(readString(in));
+        controller.setDeprecated(in.readBoolean());
+        controller.setProduces(readStrings(in));
+        controller.setConsumes(readStrings(in));
+        controller.setTypeDependencies(new TreeSet<>(readStrings(in)));
+
+        int methodCount = readCount(in);
+        for (int i = 0; i < methodCount; i++) {
+            controller.addMethod(readMethod(in));
+        }
+        return controller;
+    }
+
+    private static void writeMethod(DataOutput out, SpringMethod method) throws IOException {
+        writeString(out, method.getMethodName());
+        writeString(out, method.getHttpMethod());
+        writeString(out, method.getPath());
+        writeString(out, method.getSummary());
+        out.writeBoolean(method.isDeprecated());
+        writeString(out, method.getResponseStatus());
+        writeString(out, method.getReturnType());
+        writeString(out, method.getReturnSchema());
+        writeStrings(out, method.getProduces());
+        writeStrings(out, method.getConsumes());
+
+        out.writeInt(method.getParameters().size());
+        for (SpringParameter parameter : method.getParameters()) {
+            writeParameter(out, parameter);
+        }
+    }
+
+    private static SpringMethod readMethod(DataInput in) throws IOException {
+        SpringMethod method = new SpringMethod();
+        method.setMethodName(readString(in));
+        method.setHttpMethod(readString(in));
+        method.setPath(readString(in));
+        method.setSummary(readString(in));
+        method.setDeprecated(in.readBoolean());
+        method.setResponseStatus(readString(in));
+        method.setReturnType(readString(in));
+        method.setReturnSchema(readString(in));
+        method.setProduces(readStrings(in));
+        method.setConsumes(readStrings(in));
+
+        int parameterCount = readCount(in);
+        for (int i = 0; i < parameterCount; i++) {
+            method.addParameter(readParameter(in));
+        }
+        return method;
+    }
+
+    private static void writeParameter(DataOutput out, SpringParameter parameter) throws IOException {
+        writeString(out, parameter.getName());
+        writeString(out, parameter.getJavaType());
+        writeString(out, parameter.getSchema());
+        writeString(out, parameter.getLocation() != null ? parameter.getLocation().name() : null);
+        out.writeBoolean(parameter.isRequired());
+        writeString(out, parameter.getDefaultValue());
+        writeString(out, parameter.getDescription());
+    }
+
+    private static SpringParameter readParameter(DataInput in) throws IOException {
+        SpringParameter parameter = new SpringParameter();
+        parameter.setName(readString(in));
+        parameter.setJavaType(readString(in));
+        parameter.setSchema(readString(in));
+        String location = readString(in);
+        if (location != null) {
+            try {
+                parameter.setLocation(SpringParameter.Location.valueOf(location));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown parameter location: " + location, e);
+            }
+        }
+        parameter.setRequired(in.readBoolean());
+        parameter.setDefaultValue(readString(in));
+        parameter.setDescription(readString(in));
+        return parameter;
+    }
+
+    private static void writeStrings(DataOutput out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int count = readCount(in);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
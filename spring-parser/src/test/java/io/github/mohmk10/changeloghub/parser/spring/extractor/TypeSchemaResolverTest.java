@@ -0,0 +1,160 @@
+package io.github.mohmk10.changeloghub.parser.spring.extractor;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TypeSchemaResolverTest {
+
+    @TempDir
+    Path sourceRoot;
+
+    private TypeSchemaResolver resolver;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path dto = sourceRoot.resolve("com/example/dto");
+        Files.createDirectories(dto);
+        Files.writeString(dto.resolve("UserDto.java"), """
+                package com.example.dto;
+
+                import java.util.List;
+
+                public class UserDto {
+                    public static final String TYPE = "user";
+                    private Long id;
+                    private String name;
+                    private Status status;
+                    private List<AddressDto> addresses;
+                    private UserDto manager;
+                }
+                """);
+        Files.writeString(dto.resolve("AddressDto.java"), """
+                package com.example.dto;
+
+                public class AddressDto {
+                    private String city;
+                    private int zip;
+                }
+                """);
+        Files.writeString(dto.resolve("Status.java"), """
+                package com.example.dto;
+
+                public enum Status { ACTIVE, BLOCKED }
+                """);
+
+        resolver = new TypeSchemaResolver(java.util.List.of(sourceRoot));
+    }
+
+    @Test
+    void testResolveDtoFromSourceRoot() {
+        Optional<TypeSchemaResolver.TypeSchema> schema = resolver.resolve(returnTypeOf("UserDto get()"));
+
+        assertThat(schema).isPresent();
+        assertThat(schema.get().getSignature()).isEqualTo(
+                "UserDto{addresses:array<AddressDto{city:string,zip:integer}>,id:integer,manager:UserDto,"
+                        + "name:string,status:Status(ACTIVE|BLOCKED)}");
+        assertThat(schema.get().getSourceFiles()).hasSize(3)
+                .allMatch(file -> file.startsWith(sourceRoot.toAbsolutePath().normalize().toString()));
+    }
+
+    @Test
+    void testResolveCollectionOfDtos() {
+        Optional<TypeSchemaResolver.TypeSchema> schema = resolver.resolve(returnTypeOf("List<AddressDto> list()"));
+
+        assertThat(schema).map(TypeSchemaResolver.TypeSchema::getSignature)
+                .contains("array<AddressDto{city:string,zip:integer}>");
+    }
+
+    @Test
+    void testSkipPlainTypes() {
+        assertThat(resolver.resolve(returnTypeOf("String name()"))).isEmpty();
+        assertThat(resolver.resolve(returnTypeOf("List<Long> ids()"))).isEmpty();
+        assertThat(resolver.resolve(returnTypeOf("int count()"))).isEmpty();
+        assertThat(resolver.resolve(returnTypeOf("Unknown missing()"))).isEmpty();
+    }
+
+    @Test
+    void testResolveTypeDeclaredInSameFile() {
+        CompilationUnit cu = StaticJavaParser.parse("""
+                package com.example.web;
+
+                class Api {
+                    Local get() { return null; }
+                }
+
+                class Local {
+                    private boolean active;
+                }
+                """);
+
+        Optional<TypeSchemaResolver.TypeSchema> schema = resolver.resolve(
+                cu.findFirst(MethodDeclaration.class).orElseThrow().getType());
+
+        assertThat(schema).map(TypeSchemaResolver.TypeSchema::getSignature).contains("Local{active:boolean}");
+        assertThat(schema.get().getSourceFiles()).isEmpty();
+    }
+
+    @Test
+    void testEachDtoResolvedOnce() {
+        for (int i = 0; i < 50; i++) {
+            resolver.resolve(returnTypeOf("UserDto get" + i + "()"));
+            resolver.resolve(returnTypeOf("List<AddressDto> list" + i + "()"));
+        }
+
+        assertThat(resolver.getResolvedTypeCount()).isEqualTo(3);
+        assertThat(resolver.getSolverHits()).isGreaterThan(resolver.getSolverMisses());
+    }
+
+    @Test
+    void testSourceRootOf() {
+        Path file = sourceRoot.resolve("com/example/dto/UserDto.java");
+
+        assertThat(TypeSchemaResolver.sourceRootOf(file, "com.example.dto"))
+                .contains(sourceRoot.toAbsolutePath().normalize());
+        assertThat(TypeSchemaResolver.sourceRootOf(file, "org.other")).isEmpty();
+        assertThat(TypeSchemaResolver.sourceRootOf(file, "")).contains(file.toAbsolutePath().normalize().getParent());
+    }
+
+    @Test
+    void testSourceRootsOfFiles() throws IOException {
+        Path other = sourceRoot.resolve("other/src/org/other");
+        Files.createDirectories(other);
+        Path otherFile = other.resolve("Other.java");
+        Files.writeString(otherFile, "// header\npackage org.other;\n\npublic class Other { }\n");
+        Path defaultPackage = sourceRoot.resolve("Plain.java");
+        Files.writeString(defaultPackage, "public class Plain { }\n");
+
+        assertThat(TypeSchemaResolver.sourceRootsOf(java.util.List.of(
+                sourceRoot.resolve("com/example/dto/UserDto.java"),
+                sourceRoot.resolve("com/example/dto/AddressDto.java"),
+                otherFile,
+                defaultPackage)))
+                .containsExactly(sourceRoot.toAbsolutePath().normalize(),
+                        sourceRoot.resolve("other/src").toAbsolutePath().normalize());
+    }
+
+    private com.github.javaparser.ast.type.Type returnTypeOf(String method) {
+        CompilationUnit cu = StaticJavaParser.parse("""
+                package com.example.web;
+
+                import com.example.dto.*;
+                import java.util.List;
+
+                class Api {
+                    %s { return null; }
+                }
+                """.formatted(method));
+        return cu.findFirst(MethodDeclaration.class).orElseThrow().getType();
+    }
+}
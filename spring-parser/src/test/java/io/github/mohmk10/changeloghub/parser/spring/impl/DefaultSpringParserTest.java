@@ -5,13 +5,16 @@ import io.github.mohmk10.changeloghub.core.model.Endpoint;
 import io.github.mohmk10.changeloghub.core.model.HttpMethod;
 import io.github.mohmk10.changeloghub.parser.spring.SpringParser;
 import io.github.mohmk10.changeloghub.parser.spring.exception.SpringParseException;
+import io.github.mohmk10.changeloghub.parser.spring.util.SpringControllerCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -163,6 +166,246 @@ class DefaultSpringParserTest {
         assertThat(apiSpec.getEndpoints()).isEmpty();
     }
 
+    @Test
+    void testParseFileWithMultipleControllers() throws Exception {
+        Path file = tempDir.resolve("Controllers.java");
+        Files.writeString(file, """
+                package com.example;
+
+                import org.springframework.web.bind.annotation.*;
+
+                @RestController
+                @RequestMapping("/api/a")
+                class AController {
+                    @GetMapping
+                    public String list() { return ""; }
+                }
+
+                @RestController
+                @RequestMapping("/api/b")
+                class BController {
+                    @GetMapping("/{id}")
+                    public String get(@PathVariable String id) { return id; }
+
+                    @DeleteMapping("/{id}")
+                    public void delete(@PathVariable String id) { }
+                }
+                """);
+
+        ApiSpec apiSpec = parser.parseFile(file);
+
+        assertThat(apiSpec.getEndpoints()).extracting(Endpoint::getPath)
+                .containsExactlyInAnyOrder("/api/a", "/api/b/{id}", "/api/b/{id}");
+        assertThat(parser.parse(tempDir).getEndpoints()).hasSize(3);
+    }
+
+    @Test
+    void testPreFilterSkipsFilesWithoutControllerAnnotations() {
+        assertThat(DefaultSpringParser.mayContainController(
+                "class Plain { void run() {} }".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(DefaultSpringParser.mayContainController(
+                "@RestController class A {}".getBytes(StandardCharsets.UTF_8))).isTrue();
+        assertThat(DefaultSpringParser.mayContainController(
+                "@org.springframework.stereotype.Controller class A {}".getBytes(StandardCharsets.UTF_8))).isTrue();
+        assertThat(DefaultSpringParser.mayContainController(new byte[0])).isFalse();
+    }
+
+    @Test
+    void testParallelParsingMatchesSequential() throws Exception {
+        Path controllersDir = getControllersDirectory();
+
+        List<String> sequential = new DefaultSpringParser(1).parse(controllersDir).getEndpoints().stream()
+                .map(e -> e.getMethod() + " " + e.getPath())
+                .toList();
+        List<String> parallel = new DefaultSpringParser(4).parse(controllersDir).getEndpoints().stream()
+                .map(e -> e.getMethod() + " " + e.getPath())
+                .toList();
+
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void testRescanReparsesOnlyChangedFiles() throws Exception {
+        Path sources = tempDir.resolve("src");
+        Files.createDirectories(sources);
+        Path users = writeController(sources, "UserApi", "/api/users");
+        writeController(sources, "OrderApi", "/api/orders");
+        Files.writeString(sources.resolve("Plain.java"), "class Plain {}");
+
+        DefaultSpringParser springParser = new DefaultSpringParser(2);
+        springParser.parse(sources);
+        SpringControllerCache cache = springParser.getControllerCache();
+        assertThat(cache.getMisses()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+
+        Files.writeString(users, Files.readString(users).replace("/api/users", "/api/members"));
+        Files.setLastModifiedTime(users, FileTime.fromMillis(Files.getLastModifiedTime(users).toMillis() + 2000));
+        Files.delete(sources.resolve("Plain.java"));
+
+        ApiSpec rescanned = springParser.parse(sources);
+
+        assertThat(cache.getMisses()).isEqualTo(4);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(rescanned.getEndpoints()).extracting(Endpoint::getPath)
+                .containsExactly("/api/orders", "/api/members");
+    }
+
+    @Test
+    void testControllerCachePersistsAcrossParsers() throws Exception {
+        Path sources = tempDir.resolve("src");
+        Path cacheDir = tempDir.resolve("cache");
+        Files.createDirectories(sources);
+        writeController(sources, "UserApi", "/api/users");
+
+        ApiSpec first = new DefaultSpringParser(1, new SpringControllerCache(cacheDir)).parse(sources);
+        assertThat(cacheDir.resolve(SpringControllerCache.CACHE_FILE_NAME)).exists();
+
+        SpringControllerCache reloaded = new SpringControllerCache(cacheDir);
+        ApiSpec second = new DefaultSpringParser(1, reloaded).parse(sources);
+
+        assertThat(reloaded.getMisses()).isZero();
+        assertThat(reloaded.getHits()).isEqualTo(1);
+        assertThat(second.getEndpoints()).extracting(Endpoint::getPath)
+                .isEqualTo(first.getEndpoints().stream().map(Endpoint::getPath).toList());
+    }
+
+    @Test
+    void testControllerCacheRoundTripsParsedControllers() throws Exception {
+        Path cacheDir = tempDir.resolve("cache");
+        SpringControllerCache cache = new SpringControllerCache(cacheDir);
+        ApiSpec first = new DefaultSpringParser(1, cache).parse(getControllersDirectory());
+        cache.save();
+
+        SpringControllerCache reloaded = new SpringControllerCache(cacheDir);
+        ApiSpec second = new DefaultSpringParser(1, reloaded).parse(getControllersDirectory());
+
+        assertThat(reloaded.getMisses()).isZero();
+        assertThat(second.getEndpoints()).isNotEmpty().isEqualTo(first.getEndpoints());
+    }
+
+    @Test
+    void testCorruptControllerCacheIsDiscarded() throws Exception {
+        Path cacheDir = tempDir.resolve("cache");
+        Files.createDirectories(cacheDir);
+        Files.writeString(cacheDir.resolve(SpringControllerCache.CACHE_FILE_NAME), "not a cache");
+
+        SpringControllerCache cache = new SpringControllerCache(cacheDir);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testDtoFieldsExposedInSchemas() throws Exception {
+        ApiSpec apiSpec = parser.parseFile(getControllersDirectory().resolve("UserController.java"));
+
+        Endpoint create = apiSpec.getEndpoints().stream()
+                .filter(e -> e.getMethod() == HttpMethod.POST)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(create.getRequestBody().getSchemaRef()).isEqualTo("UserCreateRequest{email:string,name:string}");
+        assertThat(create.getResponses().get(0).getSchemaRef()).isEqualTo("User{email:string,id:integer,name:string}");
+        assertThat(apiSpec.getEndpoints())
+                .filteredOn(e -> e.getPath().equals("/api/users") && e.getMethod() == HttpMethod.GET)
+                .singleElement()
+                .satisfies(e -> assertThat(e.getResponses().get(0).getSchemaRef())
+                        .isEqualTo("array<User{email:string,id:integer,name:string}>"));
+    }
+
+    @Test
+    void testDtoChangeInvalidatesCachedController() throws Exception {
+        Path sources = tempDir.resolve("src");
+        Path web = sources.resolve("com/example/web");
+        Path dto = sources.resolve("com/example/dto");
+        Files.createDirectories(web);
+        Files.createDirectories(dto);
+        Files.writeString(web.resolve("AccountController.java"), """
+                package com.example.web;
+
+                import com.example.dto.AccountDto;
+                import org.springframework.web.bind.annotation.*;
+
+                @RestController
+                @RequestMapping("/api/accounts")
+                public class AccountController {
+                    @GetMapping("/{id}")
+                    public AccountDto get(@PathVariable Long id) { return null; }
+
+                    @PutMapping("/{id}")
+                    public void update(@PathVariable Long id, @RequestBody AccountDto account) { }
+                }
+                """);
+        Path account = dto.resolve("AccountDto.java");
+        Files.writeString(account, "package com.example.dto;\npublic class AccountDto { private String owner; }\n");
+
+        DefaultSpringParser springParser = new DefaultSpringParser(2);
+        ApiSpec before = springParser.parse(sources);
+        assertThat(before.getEndpoints()).extracting(e -> e.getResponses().get(0).getSchemaRef())
+                .contains("AccountDto{owner:string}");
+
+        Files.writeString(account, "package com.example.dto;\npublic class AccountDto { private String owner; private long balance; }\n");
+        Files.setLastModifiedTime(account, FileTime.fromMillis(Files.getLastModifiedTime(account).toMillis() + 2000));
+
+        ApiSpec after = springParser.parse(sources);
+
+        assertThat(springParser.getControllerCache().getMisses()).isEqualTo(4);
+        Endpoint update = after.getEndpoints().stream()
+                .filter(e -> e.getMethod() == HttpMethod.PUT)
+                .findFirst()
+                .orElseThrow();
+        assertThat(update.getRequestBody().getSchemaRef()).isEqualTo("AccountDto{balance:integer,owner:string}");
+    }
+
+    @Test
+    void testDtoInModuleWithoutControllersResolves() throws Exception {
+        Path sources = tempDir.resolve("modules");
+        Path web = sources.resolve("api/src/main/java/com/example/web");
+        Path model = sources.resolve("model/src/main/java/com/example/model");
+        Files.createDirectories(web);
+        Files.createDirectories(model);
+        for (int i = 0; i < 4; i++) {
+            Files.writeString(web.resolve("OrderController" + i + ".java"), """
+                    package com.example.web;
+
+                    import com.example.model.OrderDto;
+                    import org.springframework.web.bind.annotation.*;
+
+                    @RestController
+                    @RequestMapping("/api/orders%d")
+                    public class OrderController%d {
+                        @GetMapping("/{id}")
+                        public OrderDto get(@PathVariable Long id) { return null; }
+                    }
+                    """.formatted(i, i));
+        }
+        Files.writeString(model.resolve("OrderDto.java"),
+                "package com.example.model;\npublic class OrderDto { private String reference; }\n");
+
+        ApiSpec apiSpec = new DefaultSpringParser(4).parse(sources);
+
+        assertThat(apiSpec.getEndpoints()).hasSize(4)
+                .extracting(e -> e.getResponses().get(0).getSchemaRef())
+                .containsOnly("OrderDto{reference:string}");
+    }
+
+    private Path writeController(Path directory, String name, String basePath) throws IOException {
+        Path file = directory.resolve(name + ".java");
+        Files.writeString(file, """
+                package com.example;
+
+                import org.springframework.web.bind.annotation.*;
+
+                @RestController
+                @RequestMapping("%s")
+                public class %s {
+                    @GetMapping
+                    public String list() { return ""; }
+                }
+                """.formatted(basePath, name));
+        return file;
+    }
+
     private Path getControllersDirectory() {
         return Path.of("src/test/resources/controllers");
     }